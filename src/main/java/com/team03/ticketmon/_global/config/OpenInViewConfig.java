@@ -0,0 +1,47 @@
+package com.team03.ticketmon._global.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * ✅ Open-EntityManager-in-View 경로 제한 설정
+ * - spring.jpa.open-in-view=false 로 기본 OSIV(모든 요청)를 끄고, 좌석/대기열 핫 경로를 제외한 요청에만 다시 적용
+ * - 기존 화면/API의 지연 로딩 동작은 그대로 유지
+ *
+ * 📌 좌석 선점·해제·상태·폴링, 대기열 신청·상태, 입장 키 API는 Redis만 사용하므로
+ *    요청 동안 EntityManager/JDBC 커넥션을 잡지 않음 (예매 오픈 트래픽이 DB 풀을 고갈시키지 않도록)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class OpenInViewConfig implements WebMvcConfigurer {
+
+    /**
+     * OSIV를 적용하지 않는 Redis 전용 핫 경로
+     */
+    public static final String[] CONNECTION_FREE_PATHS = {
+            "/api/seats/**",
+            "/api/queue/**",
+            "/api/access-keys/**",
+            "/api/concerts/*/seat-layout/**"
+    };
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null) {
+            return; // JPA 미사용 컨텍스트 (슬라이스 테스트 등)
+        }
+
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(factory);
+        registry.addWebRequestInterceptor(interceptor)
+                .excludePathPatterns(CONNECTION_FREE_PATHS);
+    }
+}
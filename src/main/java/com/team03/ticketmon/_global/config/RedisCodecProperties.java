@@ -0,0 +1,24 @@
+package com.team03.ticketmon._global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 객체 종류별 Redis 값 저장 형식 설정 (redis.codec.*)
+ * - JSON: 전역 JsonJacksonCodec (클래스 메타데이터 포함)
+ * - COMPACT: 종류별 전용 압축 코덱 (읽기는 두 형식 모두 지원하므로 노드별로 순차 전환 가능)
+ *
+ * ✅ 좌석 상태는 COMPACT 가 기본 (좌석 Lua 스크립트와 코덱이 두 형식을 모두 읽음)
+ *    압축 코덱이 없는 이전 버전 노드는 압축 값을 읽지 못하므로, 그런 노드가 섞인 배포 중에는 JSON 으로 고정
+ */
+@ConfigurationProperties(prefix = "redis.codec")
+public record RedisCodecProperties(
+        @DefaultValue("COMPACT") Format seatStatus,
+        @DefaultValue("JSON") Format accessKey
+) {
+
+    public enum Format {
+        JSON,
+        COMPACT
+    }
+}
@@ -0,0 +1,44 @@
+package com.team03.ticketmon._global.config;
+
+import com.team03.ticketmon.queue.codec.AccessKeyCodec;
+import com.team03.ticketmon.seat.codec.SeatStatusCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.stereotype.Component;
+
+/**
+ * 객체 종류별 Redisson 코덱 모음
+ * - 전역 코덱(RedissonConfig 의 JsonJacksonCodec)을 이전 형식 읽기용으로 감싸 종류별 코덱을 만듦
+ * - 기록 형식은 redis.codec.* 설정으로 종류마다 선택 (RedisCodecProperties)
+ */
+@Slf4j
+@Component
+public class RedisCodecs {
+
+    private final SeatStatusCodec seatStatusCodec;
+    private final AccessKeyCodec accessKeyCodec;
+
+    public RedisCodecs(RedissonClient redissonClient, RedisCodecProperties properties) {
+        Codec jsonCodec = redissonClient.getConfig().getCodec();
+        this.seatStatusCodec = new SeatStatusCodec(jsonCodec,
+                properties.seatStatus() == RedisCodecProperties.Format.COMPACT);
+        this.accessKeyCodec = new AccessKeyCodec(jsonCodec,
+                properties.accessKey() == RedisCodecProperties.Format.COMPACT);
+        log.info("Redis 값 저장 형식: seatStatus={}, accessKey={}", properties.seatStatus(), properties.accessKey());
+    }
+
+    /**
+     * 좌석 상태 해시(seat:status:{concertId}) 코덱
+     */
+    public SeatStatusCodec seatStatus() {
+        return seatStatusCodec;
+    }
+
+    /**
+     * 대기열 입장 키/최종 만료 시각 버킷 코덱
+     */
+    public Codec accessKey() {
+        return accessKeyCodec;
+    }
+}
@@ -6,7 +6,10 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
+import org.redisson.config.BaseConfig;
+import org.redisson.config.ClusterServersConfig;
 import org.redisson.config.Config;
+import org.redisson.config.SentinelServersConfig;
 import org.redisson.config.SingleServerConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -15,19 +18,25 @@ import org.springframework.util.StringUtils;
 import org.redisson.codec.JsonJacksonCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.util.Arrays;
+
 /**
  * Redisson 설정 클래스
  * - Redis 분산 락, Pub/Sub, 캐시 기능을 위한 RedissonClient 설정
  * - Aiven Redis 서버 및 로컬 테스트 환경 연결 설정
+ * - spring.data.redis.cluster.nodes 가 있으면 Cluster 모드, spring.data.redis.sentinel.master 가 있으면 Sentinel 모드,
+ *   둘 다 없으면 단일 서버 모드 (Spring Data Redis(Lettuce)도 같은 속성으로 자동 구성됨)
+ * - Cluster 모드에서는 콘서트별 키가 해시 태그 {concertId}로 같은 슬롯에 모이므로 (RedisKeyGenerator 참고)
+ *   좌석 Lua 스크립트는 콘서트의 슬롯을 가진 노드 하나에서 실행됨
  */
 @Slf4j
 @Configuration
 public class RedissonConfig {
 
-    @Value("${spring.data.redis.host}")
+    @Value("${spring.data.redis.host:localhost}")
     private String redisHost;
 
-    @Value("${spring.data.redis.port}")
+    @Value("${spring.data.redis.port:6379}")
     private int redisPort;
 
     @Value("${spring.data.redis.username:#{null}}")
@@ -39,6 +48,17 @@ public class RedissonConfig {
     @Value("${spring.data.redis.ssl.enabled:false}")
     private boolean sslEnabled;
 
+    // 콤마로 구분된 host:port 목록 (예: node1:6379,node2:6379,node3:6379)
+    @Value("${spring.data.redis.cluster.nodes:}")
+    private String clusterNodes;
+
+    @Value("${spring.data.redis.sentinel.master:}")
+    private String sentinelMaster;
+
+    // 콤마로 구분된 host:port 목록
+    @Value("${spring.data.redis.sentinel.nodes:}")
+    private String sentinelNodes;
+
     /**
      * RedissonClient Bean 설정
      * - spring.data.redis.ssl.enabled 값에 따라 프로토콜(redis:// 또는 rediss://) 결정
@@ -55,16 +75,57 @@ public class RedissonConfig {
         // 필요에 따라 모듈 등록, 옵션 설정…
         config.setCodec(new JsonJacksonCodec(om));
 
+        // 2) Lua 스크립트 캐시 사용 (EVAL 대신 EVALSHA 전송, 좌석 선점 스크립트 등)
+        config.setUseScriptCache(true);
+
         String protocol = sslEnabled ? "rediss" : "redis";
-        String redisUrl = "%s://%s:%d".formatted(protocol, redisHost, redisPort);
 
-        log.debug("Redisson Client를 생성합니다. Address: {}", redisUrl);
+        if (StringUtils.hasText(clusterNodes)) {
+            // 클러스터 모드 설정 (슬롯 정보는 노드에서 주기적으로 갱신)
+            String[] addresses = toAddresses(protocol, clusterNodes);
+            log.debug("Redisson Client를 클러스터 모드로 생성합니다. Nodes: {}", Arrays.toString(addresses));
+
+            ClusterServersConfig clusterConfig = config.useClusterServers()
+                    .addNodeAddress(addresses)
+                    .setMasterConnectionMinimumIdleSize(1)  // 노드별 최소 유휴 연결 수
+                    .setMasterConnectionPoolSize(10)        // 노드별 연결 풀 크기
+                    .setScanInterval(2000);                 // 슬롯 정보 갱신 간격 (ms)
+            applyCommon(clusterConfig);
+
+        } else if (StringUtils.hasText(sentinelMaster)) {
+            // Sentinel 모드 설정 (마스터 장애 시 Sentinel이 승격한 새 마스터로 재연결)
+            String[] addresses = toAddresses(protocol, sentinelNodes);
+            log.debug("Redisson Client를 Sentinel 모드로 생성합니다. Master: {}, Sentinels: {}",
+                    sentinelMaster, Arrays.toString(addresses));
+
+            SentinelServersConfig sentinelConfig = config.useSentinelServers()
+                    .setMasterName(sentinelMaster)
+                    .addSentinelAddress(addresses)
+                    .setMasterConnectionMinimumIdleSize(1)
+                    .setMasterConnectionPoolSize(10)
+                    .setCheckSentinelsList(false);          // 관리형 Sentinel은 내부 주소를 알려줄 수 있으므로 목록 검사 생략
+            applyCommon(sentinelConfig);
+
+        } else {
+            String redisUrl = "%s://%s:%d".formatted(protocol, redisHost, redisPort);
+            log.debug("Redisson Client를 생성합니다. Address: {}", redisUrl);
+
+            // 단일 서버 모드 설정
+            SingleServerConfig serverConfig = config.useSingleServer()
+                    .setAddress(redisUrl)
+                    .setConnectionMinimumIdleSize(1)    // 최소 유휴 연결 수
+                    .setConnectionPoolSize(10);         // 연결 풀 크기
+            applyCommon(serverConfig);
+        }
 
-        // 단일 서버 모드 설정
-        SingleServerConfig serverConfig = config.useSingleServer()
-                .setAddress(redisUrl)
-                .setConnectionMinimumIdleSize(1)    // 최소 유휴 연결 수
-                .setConnectionPoolSize(10)          // 연결 풀 크기
+        return Redisson.create(config);
+    }
+
+    /**
+     * 모든 모드 공통 설정 (재시도, 타임아웃, 인증)
+     */
+    private void applyCommon(BaseConfig<?> serverConfig) {
+        serverConfig
                 .setRetryAttempts(3)                // 재시도 횟수
                 .setRetryInterval(1000)             // 재시도 간격 (ms)
                 .setTimeout(3000);                  // 타임아웃 (ms)
@@ -75,7 +136,16 @@ public class RedissonConfig {
         if (StringUtils.hasText(redisPassword)) {
             serverConfig.setPassword(redisPassword);
         }
+    }
 
-        return Redisson.create(config);
+    /**
+     * 콤마로 구분된 host:port 목록을 Redisson 주소 배열로 변환
+     */
+    private static String[] toAddresses(String protocol, String nodes) {
+        return Arrays.stream(StringUtils.commaDelimitedListToStringArray(nodes))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(node -> node.contains("://") ? node : protocol + "://" + node)
+                .toArray(String[]::new);
     }
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.team03.ticketmon._global.util;
 
 import org.springframework.stereotype.Component;
 
-import java.util.regex.Pattern;
 
 /**
  * ✅ RedisKeyGenerator: Redis 키 생성을 중앙에서 관리하는 유틸 클래스<br>
@@ -12,6 +11,8 @@ import java.util.regex.Pattern;
  *
  * 📌 키 구성 규칙:<br>
  * 접두사(prefix)를 통해 도메인 영역을 구분하고, 하위 리소스를 `:`로 연결합니다.<br>
+ * 콘서트별 키는 콘서트 ID를 해시 태그 `{concertId}`로 감싸 Redis Cluster에서 같은 슬롯에 배치합니다.<br>
+ * (해시 태그 안의 문자열만 슬롯 계산에 쓰이므로, 같은 콘서트의 키를 함께 쓰는 Lua 스크립트/트랜잭션이 CROSSSLOT 오류 없이 동작)<br>
  *
  * <ul>
  *     <li>waitqueue:concert:{concertId}         → 콘서트별 대기열 Sorted Set</li>
@@ -86,30 +87,84 @@ public class RedisKeyGenerator {
 //    public static final String CONSISTENCY_CHECK_LOCK_KEY = "lock:consistencyCheckScheduler";
     public static final String CONSISTENCY_CHECK_LOCK_KEY = "lock:queueScheduler";
 
+    /** 🔒 `lock:queueKeyMigration`<br>
+     * 해시 태그 도입 전 대기열/세션 키를 새 키로 옮기는 작업용 분산 락 키입니다.
+     */
+    public static final String QUEUE_KEY_MIGRATION_LOCK_KEY = "lock:queueKeyMigration";
+
     // --- 🪑 좌석 관리 관련 키 ---
 
     public static final String SEAT_STATUS_KEY_PREFIX = "seat:status:";
 
     public static final String SEAT_LOCK_KEY_PREFIX = "seat:lock:";
 
-    public static final String SEAT_TTL_KEY_PREFIX = "seat:expire:";
-
     public static final String SEAT_CHANNEL_PATTERN = "seat:status:update:*";
 
     public static final String SEAT_CHANNEL_PREFIX = "seat:status:update:";
 
     public static final String SEAT_LAST_UPDATE_KEY_PREFIX = "seat:last_update:";
 
+    // 사용자별 선점 좌석 인덱스 (Hash, field: userId, value: 콤마로 구분된 concertSeatId 목록)
+    public static final String SEAT_HOLDS_KEY_PREFIX = "seat:holds:";
+
+    // 압축 좌석 상태 저장소 (좌석 순번별 2비트 상태 / 선점 좌석 정보 / 좌석 ID→순번)
+    // seat:catalog 는 좌석 카탈로그(SeatCatalog) 통합 전 순번별 정적 좌석 정보 키 (더 이상 기록하지 않고 정리만 함)
+    public static final String SEAT_STATE_KEY_PREFIX = "seat:state:";
+    public static final String SEAT_HOLDERS_KEY_PREFIX = "seat:holders:";
+    public static final String SEAT_ORDINAL_KEY_PREFIX = "seat:ordinal:";
+    public static final String SEAT_CATALOG_KEY_PREFIX = "seat:catalog:";
+
+    // 좌석 수 집계 (Hash, field: status:{상태} / section:{구역}:{상태} / grade:{등급}:{상태}) / 좌석 ID→'구역|등급'
+    public static final String SEAT_COUNTS_KEY_PREFIX = "seat:counts:";
+    public static final String SEAT_GROUPS_KEY_PREFIX = "seat:groups:";
+
+    // 선점 만료 휠 (Sorted Set, member: concertSeatId, score: 만료 시각 epoch ms) / 만료 휠을 쓰는 콘서트 목록 (Set)
+    // 콘서트 목록은 콘서트에 속하지 않는 전역 키이므로 고정 해시 태그로 슬롯을 명시 (해시 태그 도입 전 키는 LEGACY, 이전 후 삭제)
+    public static final String SEAT_EXPIRY_KEY_PREFIX = "seat:expiry:";
+    public static final String SEAT_EXPIRY_CONCERTS_KEY = "seat:{expiry_concerts}";
+    public static final String LEGACY_SEAT_EXPIRY_CONCERTS_KEY = "seat:expiry_concerts";
+
+    // 좌석 변경 로그 (콘서트별 변경 순번 / 순번을 엔트리 ID로 쓰는 Stream)
+    public static final String SEAT_SEQ_KEY_PREFIX = "seat:seq:";
+    public static final String SEAT_CHANGES_KEY_PREFIX = "seat:changes:";
+
+    // 콘서트별 고정 샤드 수 (String, 캐시 초기화 시 기록 / 캐시 삭제 시 제거)
+    public static final String SEAT_SHARDS_KEY_PREFIX = "seat:shards:";
+
+    // 좌석 캐시 초기화 완료 표시 (String, 마지막 샤드 교체와 선점 복원이 끝난 뒤 기록 / 캐시 삭제 시 제거)
+    public static final String SEAT_READY_KEY_PREFIX = "seat:ready:";
+
+    // 정적 좌석 배치도 (직렬화된 JSON 바이트)
+    public static final String SEAT_LAYOUT_KEY_PREFIX = "seat:layout:";
+
     // --- 🪑 Warm-up ---
 
     public static final String WARMUP_LOCK_KEY = "lock:seat:cache:warmup";
 
     public static final String SEAT_PROCESSED_CONCERT_KEY_PREFIX = "processed:warmup:concert:";
 
-    // --- 🪑 keyspace-event ---
+    // Warm-up 진행 상황 (최근 실행 대상 목록 / 콘서트별 진행 해시)
+    public static final String SEAT_WARMUP_RUN_KEY = "seat:warmup:run";
+    public static final String SEAT_WARMUP_PROGRESS_KEY_PREFIX = "seat:warmup:progress:";
+
+    // 캐시 미스 초기화 단일 실행용 분산 임대 (콘서트별)
+    public static final String SEAT_CACHE_INIT_LOCK_KEY_PREFIX = "lock:seat:cache:init:";
+
+    // --- 🪑 선점 만료 스위퍼 ---
+
+    public static final String SEAT_EXPIRY_SWEEP_LOCK_KEY = "lock:seat:expiry:sweep";
 
-    public static final String SEAT_EXPIRE_KEY_PATTERN = "seat:expire:*";
-    public static final Pattern SEAT_KEY_REGEX = Pattern.compile("seat:expire:(\\d+):(\\d+)");
+    // --- 🪑 단일 기록자 좌석 엔진 ---
+
+    // 콘서트 소유 노드 락 (소유 노드의 기록 스레드가 보유) / 소유 노드 ID (요청 전달 대상, 소유 노드가 주기적으로 갱신)
+    public static final String SEAT_ENGINE_LOCK_KEY_PREFIX = "lock:seat:engine:";
+    public static final String SEAT_ENGINE_OWNER_KEY_PREFIX = "seat:engine:owner:";
+
+    // 기록 펜싱 토큰 (샤드별 String, 소유권을 얻은 엔진이 새 토큰을 기록하고 좌석 상태 저장 스크립트가 일치 여부 확인)
+    public static final String SEAT_ENGINE_FENCE_KEY_PREFIX = "seat:engine:fence:";
+
+    // 노드별 명령 수신 원격 서비스 이름 (접두사 + 노드 ID)
+    public static final String SEAT_ENGINE_SERVICE_PREFIX = "seat:engine:node:";
 
     // --- Pub/Sub 토픽 관련 키 ---
 
@@ -126,13 +181,49 @@ public class RedisKeyGenerator {
      */
     public static final String RANK_UPDATE_TOPIC = "rank-update-channel";
 
+    /**
+     * 📣 `seat:catalog:invalidate`<br>
+     * 좌석 카탈로그(노드별 불변 좌석 정보) 무효화 이벤트 채널 이름입니다.<br>
+     * 메시지는 콘서트 ID 이며, 각 노드는 수신 시 해당 콘서트 카탈로그를 버립니다.
+     */
+    public static final String SEAT_CATALOG_INVALIDATE_TOPIC = "seat:catalog:invalidate";
+
+    /**
+     * 🏷️ 콘서트 해시 태그 생성
+     * @param concertId 콘서트 ID
+     * @return `{concertId}` (Redis Cluster 슬롯 계산 대상)
+     */
+    public static String concertTag(Object concertId) {
+        return "{" + concertId + "}";
+    }
+
+    /**
+     * 🏷️ 콘서트별 키 생성 (접두사 + 해시 태그)
+     * @param prefix 키 접두사 (예: `seat:status:`)
+     * @param concertId 콘서트 ID
+     * @return Redis 키: `{prefix}{concertId}` 형태, 예) `seat:status:{42}`
+     */
+    public static String concertKey(String prefix, Object concertId) {
+        return prefix + concertTag(concertId);
+    }
+
+    /**
+     * 🏷️ 좌석 샤드 해시 태그 생성 (seat.shard 설정으로 샤딩한 콘서트 전용)
+     * @param concertId 콘서트 ID
+     * @param shard 샤드 번호 (0부터)
+     * @return `{concertId:shard}` (샤드마다 다른 슬롯에 배치)
+     */
+    public static String shardTag(Object concertId, int shard) {
+        return "{" + concertId + ":" + shard + "}";
+    }
+
     /**
      * 🎯 콘서트별 대기열 키 생성
      * @param concertId 콘서트 ID
      * @return Redis 키: `waitqueue:concert:{concertId}`
      */
     public String getWaitQueueKey(Long concertId) {
-        return WAIT_QUEUE_KEY_PREFIX + CONCERT_PREFIX + concertId;
+        return WAIT_QUEUE_KEY_PREFIX + CONCERT_PREFIX + concertTag(concertId);
     }
 
     /**
@@ -141,7 +232,7 @@ public class RedisKeyGenerator {
      * @return Redis 키: `active_sessions:concert:{concertId}`
      */
     public String getActiveSessionsKey(Long concertId) {
-        return ACTIVE_SESSIONS_KEY_PREFIX + CONCERT_PREFIX + concertId;
+        return ACTIVE_SESSIONS_KEY_PREFIX + CONCERT_PREFIX + concertTag(concertId);
     }
 
     /**
@@ -150,7 +241,7 @@ public class RedisKeyGenerator {
      * @return Redis 키: `active_users_count:concert:{concertId}`
      */
     public String getActiveUsersCountKey(Long concertId) {
-        return ACTIVE_USERS_COUNT_KEY_PREFIX + CONCERT_PREFIX + concertId;
+        return ACTIVE_USERS_COUNT_KEY_PREFIX + CONCERT_PREFIX + concertTag(concertId);
     }
 
     /**
@@ -160,7 +251,7 @@ public class RedisKeyGenerator {
      * @return Redis 키: `accesskey:concert:{concertId}:user:{userId}`
      */
     public String getAccessKey(Long concertId, Long userId) {
-        return ACCESS_KEY_PREFIX + CONCERT_PREFIX + concertId + ":" + USER_PREFIX + userId;
+        return ACCESS_KEY_PREFIX + CONCERT_PREFIX + concertTag(concertId) + ":" + USER_PREFIX + userId;
     }
 
     /**
@@ -170,6 +261,6 @@ public class RedisKeyGenerator {
      * @return Redis 키: `final_expiry:concert:{concertId}:user:{userId}`
      */
     public String getFinalExpiryKey(Long concertId, Long userId) {
-        return FINAL_EXPIRY_KEY_PREFIX + CONCERT_PREFIX + concertId + ":" + USER_PREFIX + userId;
+        return FINAL_EXPIRY_KEY_PREFIX + CONCERT_PREFIX + concertTag(concertId) + ":" + USER_PREFIX + userId;
     }
 }
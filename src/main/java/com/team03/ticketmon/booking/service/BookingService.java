@@ -10,7 +10,6 @@ import com.team03.ticketmon.concert.domain.Concert;
 import com.team03.ticketmon.concert.domain.ConcertSeat;
 import com.team03.ticketmon.concert.repository.ConcertRepository;
 import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
-import com.team03.ticketmon.seat.exception.SeatReservationException;
 import com.team03.ticketmon.seat.service.SeatStatusService;
 import com.team03.ticketmon.user.repository.UserRepository;
 import jakarta.persistence.EntityManager;
@@ -117,16 +116,14 @@ public class BookingService {
 
         // 이제 tickets 컬렉션이 session 안에서 안전하게 초기화됩니다.
         // [좌석 반환] 예매된 좌석들을 다시 'AVAILABLE' 상태로 변경하는 로직 추가
-        booking.getTickets().forEach(ticket -> {
-            try {
-                Long seatId = ticket.getConcertSeat().getConcertSeatId();
-                seatStatusService.releaseSeat(concertId, seatId, booking.getUserId());
-            } catch (SeatReservationException e) {
-                log.warn("[Cancel] 좌석 해제 스킵: seatId={}, 이유={}",
-                        ticket.getConcertSeat().getConcertSeatId(),
-                        e.getMessage());
-            }
-        });
+        // 모든 좌석을 한 번의 전이 호출로 해제하고, 해제할 수 없는 좌석은 건너뜀
+        List<Long> seatIds = booking.getTickets().stream()
+                .map(ticket -> ticket.getConcertSeat().getConcertSeatId())
+                .toList();
+
+        seatStatusService.cancelSeats(concertId, seatIds, booking.getUserId())
+                .forEach(skipped -> log.warn("[Cancel] 좌석 해제 스킵: seatId={}, 이유={}",
+                        skipped.seatId(), skipped.code()));
 
         // 예약 상태를 반드시 CANCELED로 변경하고 저장
         booking.cancel();
@@ -222,10 +219,10 @@ public class BookingService {
         for (Booking booking : expiredBookings) {
             // Redis 좌석 해제
             Long concertId = booking.getConcert().getConcertId();
-            booking.getTickets().forEach(ticket -> {
-                Long concertSeatId = ticket.getConcertSeat().getConcertSeatId();
-                seatStatusService.forceReleaseSeat(concertId, concertSeatId);
-            });
+            List<Long> concertSeatIds = booking.getTickets().stream()
+                    .map(ticket -> ticket.getConcertSeat().getConcertSeatId())
+                    .toList();
+            seatStatusService.forceReleaseSeats(concertId, concertSeatIds);
 
             // 아카이빙 스텁 (추후 구현)
             archiveBookingAndTickets(booking);
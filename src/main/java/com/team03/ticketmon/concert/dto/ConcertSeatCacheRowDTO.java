@@ -0,0 +1,20 @@
+package com.team03.ticketmon.concert.dto;
+
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+
+import java.math.BigDecimal;
+
+/**
+ * 좌석 캐시 초기화용 콘서트 좌석 조회 결과 (프로젝션)
+ * - 엔티티 대신 캐시 구성에 필요한 컬럼만 조회하여 영속성 컨텍스트에 쌓이지 않도록 함
+ */
+public record ConcertSeatCacheRowDTO(
+		Long concertSeatId,
+		String section,
+		String seatRow,
+		Integer seatNumber,
+		SeatGrade grade,
+		BigDecimal price,
+		boolean booked
+) {
+}
@@ -1,6 +1,8 @@
 package com.team03.ticketmon.concert.repository;
 
 import com.team03.ticketmon.concert.domain.ConcertSeat;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -39,6 +41,33 @@ public interface ConcertSeatRepository extends JpaRepository<ConcertSeat, Long>
 			"ORDER BY s.section, s.seatRow, s.seatNumber")
 	List<ConcertSeat> findByConcertIdWithDetails(@Param("concertId") Long concertId);
 
+	/**
+	 * 좌석 캐시 초기화용 프로젝션 조회 (concertSeatId 기준 키셋 페이지네이션)
+	 * - afterConcertSeatId 보다 큰 좌석을 concertSeatId 오름차순으로 Pageable 크기만큼 조회
+	 * - 필요한 컬럼만 읽으므로 좌석 수가 많아도 청크 단위로 일정한 메모리만 사용
+	 */
+	@Query("SELECT new com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO(" +
+			"cs.concertSeatId, s.section, s.seatRow, s.seatNumber, cs.grade, cs.price, " +
+			"CASE WHEN t.ticketId IS NULL THEN false ELSE true END) " +
+			"FROM ConcertSeat cs " +
+			"JOIN cs.seat s " +
+			"LEFT JOIN cs.ticket t " +
+			"WHERE cs.concert.concertId = :concertId " +
+			"AND cs.concertSeatId > :afterConcertSeatId " +
+			"ORDER BY cs.concertSeatId")
+	List<ConcertSeatCacheRowDTO> findCacheRowsAfter(@Param("concertId") Long concertId,
+													@Param("afterConcertSeatId") Long afterConcertSeatId,
+													Pageable pageable);
+
+	/**
+	 * 특정 콘서트의 예매 완료 좌석 ID 조회 (Ticket 존재 여부 기준)
+	 * 좌석 스냅샷 복원 시 예매 상태를 DB 기준으로 맞추는 용도
+	 */
+	@Query("SELECT cs.concertSeatId FROM ConcertSeat cs " +
+			"JOIN cs.ticket t " +
+			"WHERE cs.concert.concertId = :concertId")
+	List<Long> findBookedConcertSeatIds(@Param("concertId") Long concertId);
+
 	/**
 	 * 특정 콘서트의 특정 좌석만 조회 (성능 최적화)
 	 * SeatInfoHelper에서 사용
@@ -9,6 +9,8 @@ import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
 import com.team03.ticketmon.concert.repository.SellerConcertRepository;
 import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon.seat.service.SeatCatalog;
+import com.team03.ticketmon.seat.service.SeatLayoutCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,6 +18,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -35,6 +39,8 @@ public class SellerConcertService {
 	private final StorageUploader storageUploader;
 	private final StoragePathProvider storagePathProvider;
 	private final UrlConversionService urlConversionService;
+	private final SeatLayoutCache seatLayoutCache;
+	private final SeatCatalog seatCatalog;
 
 	/**
 	 * 판매자 콘서트 목록 조회 (페이징)
@@ -170,6 +176,7 @@ public class SellerConcertService {
 
 			// 캐시 무효화
 			concertService.evictConcertDetailCache(concertId);
+			evictSeatLayoutAfterCommit(concertId);
 
 			if (updateDTO.getTitle() != null || updateDTO.getArtist() != null) {
 				concertService.evictSearchCache();
@@ -287,6 +294,34 @@ public class SellerConcertService {
 		log.info("✅ 콘서트 취소 완료 및 모든 캐시 무효화 - concertId: {}", concertId);
 	}
 
+	/**
+	 * 정적 좌석 배치도 + 노드별 좌석 카탈로그 무효화 (다른 노드에는 무효화 토픽으로 알림)
+	 * - 배치도에 공연장 정보가 들어 있으므로 판매자 수정마다 수행
+	 * - 커밋 전에 지우면 다른 노드가 이전 데이터로 다시 만들 수 있어 커밋 후에 실행 (트랜잭션이 없으면 즉시)
+	 */
+	private void evictSeatLayoutAfterCommit(Long concertId) {
+		Runnable evict = () -> {
+			try {
+				seatLayoutCache.evict(concertId);
+				seatCatalog.evict(concertId);
+				log.info("✅ 정적 좌석 배치도/좌석 카탈로그 무효화 - concertId: {}", concertId);
+			} catch (Exception e) {
+				log.warn("❌ 정적 좌석 배치도 무효화 실패 - concertId: {}", concertId, e);
+			}
+		};
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evict.run();
+			}
+		});
+	}
+
 	/**
 	 * 판매자 콘서트 개수 조회
 	 */
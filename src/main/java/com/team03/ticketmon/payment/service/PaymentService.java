@@ -16,6 +16,7 @@ import com.team03.ticketmon.payment.dto.PaymentExecutionResponse;
 import com.team03.ticketmon.payment.dto.PaymentHistoryDto;
 import com.team03.ticketmon.payment.repository.PaymentCancelHistoryRepository;
 import com.team03.ticketmon.payment.repository.PaymentRepository;
+import com.team03.ticketmon.seat.script.SeatTransitionResult;
 import com.team03.ticketmon.seat.service.SeatStatusService;
 import com.team03.ticketmon.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -179,22 +180,25 @@ public class PaymentService {
                                 booking.confirm();
                                 bookingRepository.save(booking);
 
-                                // 좌석 정보도 BOOKED로 최종 변경
+                                // 좌석 정보도 BOOKED로 최종 변경 (전체 좌석을 한 번에 처리, 하나라도 실패하면 변경 없음)
                                 Long concertId = booking.getConcert().getConcertId();
-                                List<Long> failedSeats = new ArrayList<>();
-                                booking.getTickets().forEach(ticket -> {
-                                    try {
-                                        seatStatusService.bookSeat(
-                                                concertId,
-                                                ticket.getConcertSeat().getConcertSeatId()
-                                        );
-                                    } catch (Exception e) {
-                                        log.error("좌석 BOOKED 처리 실패: ticketId={}, error={}",
-                                                ticket.getTicketId(), e.getMessage(), e);
-                                        failedSeats.add(ticket.getConcertSeat().getConcertSeatId());
-                                    }
-                                });
+                                List<Long> seatIds = booking.getTickets().stream()
+                                        .map(ticket -> ticket.getConcertSeat().getConcertSeatId())
+                                        .toList();
+                                List<Long> failedSeats;
+                                try {
+                                    failedSeats = seatStatusService.bookSeats(concertId, seatIds, booking.getUserId())
+                                            .stream()
+                                            .map(SeatTransitionResult.SeatOutcome::seatId)
+                                            .toList();
+                                } catch (Exception e) {
+                                    log.error("좌석 BOOKED 처리 실패: bookingId={}, seatIds={}, error={}",
+                                            bookingId, seatIds, e.getMessage(), e);
+                                    throw new BusinessException(ErrorCode.SEAT_BOOKING_FAILED,
+                                            "좌석 예약 처리 중 오류가 발생했습니다: " + seatIds);
+                                }
                                 if (!failedSeats.isEmpty()) {
+                                    log.error("좌석 BOOKED 처리 실패: bookingId={}, failedSeats={}", bookingId, failedSeats);
                                     throw new BusinessException(ErrorCode.SEAT_BOOKING_FAILED,
                                             "일부 좌석 예약에 실패했습니다: " + failedSeats);
                                 }
@@ -303,21 +307,23 @@ public class PaymentService {
                 if (payment.getStatus() == PaymentStatus.PENDING) {
                     payment.complete(payment.getPaymentKey(), LocalDateTime.now());
                     payment.getBooking().confirm();
-                    payment.getBooking().getTickets().forEach(ticket -> {
-                        try {
-                            seatStatusService.bookSeat(
-                                    payment.getBooking().getConcert().getConcertId(),
-                                    ticket.getConcertSeat().getConcertSeatId()
-                            );
-                            log.debug("웹훅: 좌석 상태 BOOKED로 변경 완료: concertId={}, seatId={}",
-                                    payment.getBooking().getConcert().getConcertId(),
-                                    ticket.getConcertSeat().getConcertSeatId());
-                        } catch (Exception e) {
-                            log.error("웹훅: 좌석 상태 BOOKED 변경 실패: concertId={}, seatId={}, error={}",
-                                    payment.getBooking().getConcert().getConcertId(),
-                                    ticket.getConcertSeat().getConcertSeatId(), e.getMessage());
-                        }
-                    });
+                    Long concertId = payment.getBooking().getConcert().getConcertId();
+                    List<Long> seatIds = payment.getBooking().getTickets().stream()
+                            .map(ticket -> ticket.getConcertSeat().getConcertSeatId())
+                            .toList();
+                    // 결제는 이미 완료되었으므로 좌석별 Best-Effort로 BOOKED 처리 (실패 좌석만 기록)
+                    try {
+                        List<SeatTransitionResult.SeatOutcome> failures = seatStatusService.bookSeatsBestEffort(
+                                concertId, seatIds, payment.getBooking().getUserId());
+                        failures.forEach(failure ->
+                                log.error("웹훅: 좌석 상태 BOOKED 변경 실패: concertId={}, seatId={}, reason={}",
+                                        concertId, failure.seatId(), failure.code()));
+                        log.debug("웹훅: 좌석 상태 BOOKED로 변경 완료: concertId={}, seatIds={}, failed={}",
+                                concertId, seatIds, failures.size());
+                    } catch (Exception e) {
+                        log.error("웹훅: 좌석 상태 BOOKED 변경 실패: concertId={}, seatIds={}, error={}",
+                                concertId, seatIds, e.getMessage());
+                    }
                     log.info("웹훅: 결제 {} 상태 PENDING -> DONE 업데이트 완료", orderId);
                 } else {
                     log.warn("웹훅: 잘못된 상태 전이 시도(DONE). orderId={}, 현재상태={}", orderId, payment.getStatus());
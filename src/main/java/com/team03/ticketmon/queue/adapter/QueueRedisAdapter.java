@@ -1,5 +1,6 @@
 package com.team03.ticketmon.queue.adapter;
 
+import com.team03.ticketmon._global.config.RedisCodecs;
 import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.ErrorCode;
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
@@ -22,6 +23,7 @@ import java.time.Duration;
 public class QueueRedisAdapter {
     private final RedissonClient redissonClient;
     private final RedisKeyGenerator keyGenerator;
+    private final RedisCodecs redisCodecs;
 
     private static final String SEQUENCE_KEY_SUFFIX = ":seq:";
     private static final int SEQUENCE_BITS = 21;
@@ -86,7 +88,7 @@ public class QueueRedisAdapter {
      */
     public RBucket<String> getAccessKeyBucket(Long concertId, Long userId) {
         String accessKey = keyGenerator.getAccessKey(concertId, userId);
-        return redissonClient.getBucket(accessKey);
+        return redissonClient.getBucket(accessKey, redisCodecs.accessKey());
     }
 
     /**
@@ -97,7 +99,7 @@ public class QueueRedisAdapter {
      */
     public RBucket<Long> getFinalExpiryBucket(Long concertId, Long userId) {
         String finalExpiryKey = keyGenerator.getFinalExpiryKey(concertId, userId);
-        return redissonClient.getBucket(finalExpiryKey);
+        return redissonClient.getBucket(finalExpiryKey, redisCodecs.accessKey());
     }
 
     public RLock getAdmissionSchedulerLock() {
@@ -0,0 +1,114 @@
+package com.team03.ticketmon.queue.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 대기열 입장 키 값(accesskey / 최종 만료 시각) 전용 Redisson 바이너리 코덱
+ * - UUID 형식 입장 키: 태그 1바이트 + 16바이트 (JSON 문자열 38바이트 대비)
+ * - 그 외 문자열: 태그 1바이트 + UTF-8
+ * - Long(최종 만료 시각): 태그 1바이트 + 8바이트
+ *
+ * ✅ 태그 바이트(0x01~0x03)는 JSON 값의 첫 글자로 나올 수 없으므로, 태그가 없는 값은 기존 JSON 으로 보고
+ *    전역 코덱으로 역직렬화 (전환 전에 발급된 입장 키도 만료 전까지 그대로 검증됨)
+ * ✅ 기록 형식과 관계없이 두 형식을 모두 읽으므로 JSON 으로 되돌려도 이미 발급된 바이너리 입장 키를 읽을 수 있음
+ */
+public class AccessKeyCodec extends BaseCodec {
+
+    private static final byte TAG_UUID = 0x01;
+    private static final byte TAG_STRING = 0x02;
+    private static final byte TAG_LONG = 0x03;
+
+    private final Codec jsonCodec;
+    private final boolean compactWrites;
+
+    private final Encoder encoder;
+    private final Decoder<Object> decoder;
+
+    /**
+     * @param jsonCodec     기존 형식(JSON) 코덱, 이전 값 읽기와 JSON 모드 기록에 사용
+     * @param compactWrites true 면 바이너리 형식으로 기록
+     */
+    public AccessKeyCodec(Codec jsonCodec, boolean compactWrites) {
+        this.jsonCodec = jsonCodec;
+        this.compactWrites = compactWrites;
+
+        this.encoder = in -> {
+            if (in instanceof Long value) {
+                return ByteBufAllocator.DEFAULT.buffer(9).writeByte(TAG_LONG).writeLong(value);
+            }
+            if (in instanceof String value) {
+                UUID uuid = parseUuid(value);
+                if (uuid != null) {
+                    return ByteBufAllocator.DEFAULT.buffer(17).writeByte(TAG_UUID)
+                            .writeLong(uuid.getMostSignificantBits())
+                            .writeLong(uuid.getLeastSignificantBits());
+                }
+                ByteBuf out = ByteBufAllocator.DEFAULT.buffer(1 + value.length()).writeByte(TAG_STRING);
+                out.writeCharSequence(value, StandardCharsets.UTF_8);
+                return out;
+            }
+            return jsonCodec.getValueEncoder().encode(in);
+        };
+
+        this.decoder = (buf, state) -> {
+            if (!buf.isReadable()) {
+                return jsonCodec.getValueDecoder().decode(buf, state);
+            }
+            switch (buf.getByte(buf.readerIndex())) {
+                case TAG_UUID -> {
+                    buf.skipBytes(1);
+                    return new UUID(buf.readLong(), buf.readLong()).toString();
+                }
+                case TAG_STRING -> {
+                    buf.skipBytes(1);
+                    String value = buf.toString(StandardCharsets.UTF_8);
+                    buf.readerIndex(buf.writerIndex());
+                    return value;
+                }
+                case TAG_LONG -> {
+                    buf.skipBytes(1);
+                    return buf.readLong();
+                }
+                default -> {
+                    return jsonCodec.getValueDecoder().decode(buf, state);
+                }
+            }
+        };
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return compactWrites ? encoder : jsonCodec.getValueEncoder();
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return jsonCodec.getClassLoader();
+    }
+
+    // UUID.toString() 형식(소문자 36자)일 때만 16바이트로 기록 (되읽었을 때 같은 문자열이어야 함)
+    private static UUID parseUuid(String value) {
+        if (value.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.team03.ticketmon.queue.scheduler;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.service.SeatCacheInitCoordinator;
+import com.team03.ticketmon.seat.service.SeatCacheInitService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.options.KeysScanOptions;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 해시 태그 도입 전 대기열/세션/좌석 키 이전 스케줄러
+ * - 콘서트 ID를 `{concertId}` 해시 태그로 감싸기 전의 키(waitqueue:concert:42 등)가 남아 있으면 새 키로 옮기고 삭제
+ *   · 대기열 / 활성 세션 Sorted Set: 새 키에 합침 (같은 사용자가 양쪽에 있으면 대기열은 더 이른 순번, 세션은 더 늦은 만료 시각 유지)
+ *   · 활성 사용자 수: 새 카운터에 더함
+ *   · AccessKey / 최종 만료 시각: 남은 TTL 그대로 새 키가 없을 때만 복사 (값은 바이트 그대로 옮겨 저장 형식 유지)
+ *   · 만료 휠 콘서트 목록(seat:expiry_concerts): 새 키에 합침
+ *   · 좌석 상태 해시(seat:status:42 등): 새 캐시가 없으면 캐시 미스 초기화로 만들고, 옛 해시의 선점/예매 불가 좌석을
+ *     새 캐시에 다시 기록한 뒤 옛 좌석 키(seat:last_update:42 등 포함)를 삭제 (SeatCacheInitService.carryLegacySeats)
+ * - 배포 직후 이전 버전 노드가 아직 옛 키에 기록할 수 있으므로, 기동 후 DRAIN_DURATION 동안 주기적으로 반복
+ *
+ * ✅ 분산 락으로 한 인스턴스만 실행하고, 옛 키는 SCAN 으로 찾으므로 키가 없으면 비용이 거의 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueKeyMigrationScheduler {
+
+    private static final Duration DRAIN_DURATION = Duration.ofMinutes(30);
+    private static final int SCAN_CHUNK_SIZE = 500;
+
+    // 해시 태그 없는 옛 키 (콘서트 ID / 사용자 ID 가 숫자 그대로 들어간 형태만)
+    private static final Pattern LEGACY_WAIT_QUEUE = Pattern.compile("^waitqueue:concert:(\\d+)$");
+    private static final Pattern LEGACY_ACTIVE_SESSIONS = Pattern.compile("^active_sessions:concert:(\\d+)$");
+    private static final Pattern LEGACY_ACTIVE_USERS_COUNT = Pattern.compile("^active_users_count:concert:(\\d+)$");
+    private static final Pattern LEGACY_ACCESS_KEY = Pattern.compile("^accesskey:concert:(\\d+):user:(\\d+)$");
+    private static final Pattern LEGACY_FINAL_EXPIRY = Pattern.compile("^final_expiry:concert:(\\d+):user:(\\d+)$");
+    private static final Pattern LEGACY_SEAT_KEY = Pattern.compile("^(" + SeatCacheInitService.LEGACY_SEAT_KEY_PREFIXES.stream()
+            .map(Pattern::quote)
+            .collect(Collectors.joining("|")) + ")(\\d+)$");
+
+    private final RedissonClient redissonClient;
+    private final RedisKeyGenerator keyGenerator;
+    private final SeatCacheInitService seatCacheInitService;
+    private final SeatCacheInitCoordinator seatCacheInitCoordinator;
+
+    private final long startedAtMillis = System.currentTimeMillis();
+
+    @Scheduled(initialDelay = 0, fixedDelay = 60000)
+    public void migrateLegacyKeys() {
+        if (System.currentTimeMillis() - startedAtMillis > DRAIN_DURATION.toMillis()) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(RedisKeyGenerator.QUEUE_KEY_MIGRATION_LOCK_KEY);
+        try {
+            if (!lock.tryLock(0, -1, TimeUnit.SECONDS)) {
+                log.debug("===== 다른 인스턴스에서 대기열 키 이전 작업이 실행 중이므로 건너뜁니다.");
+                return;
+            }
+
+            int migrated = migrate("waitqueue:concert:*", LEGACY_WAIT_QUEUE, (legacyKey, ids) ->
+                    mergeSortedSet(legacyKey, keyGenerator.getWaitQueueKey(ids[0]), true));
+            migrated += migrate("active_sessions:concert:*", LEGACY_ACTIVE_SESSIONS, (legacyKey, ids) ->
+                    mergeSortedSet(legacyKey, keyGenerator.getActiveSessionsKey(ids[0]), false));
+            migrated += migrate("active_users_count:concert:*", LEGACY_ACTIVE_USERS_COUNT, (legacyKey, ids) ->
+                    mergeCounter(legacyKey, keyGenerator.getActiveUsersCountKey(ids[0])));
+            migrated += migrate("accesskey:concert:*", LEGACY_ACCESS_KEY, (legacyKey, ids) ->
+                    moveBucket(legacyKey, keyGenerator.getAccessKey(ids[0], ids[1])));
+            migrated += migrate("final_expiry:concert:*", LEGACY_FINAL_EXPIRY, (legacyKey, ids) ->
+                    moveBucket(legacyKey, keyGenerator.getFinalExpiryKey(ids[0], ids[1])));
+            migrated += mergeExpiryConcerts();
+            migrated += migrateSeatKeys();
+
+            if (migrated > 0) {
+                log.info("===== 해시 태그 도입 전 대기열/세션 키 이전 완료: {}개", migrated);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("===== 대기열 키 이전 분산 락을 획득하는 동안 인터럽트 발생", e);
+        } catch (Exception e) {
+            log.error("===== 대기열 키 이전 중 오류 발생", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 패턴에 맞는 옛 키를 찾아 이전 (정규식 그룹의 숫자를 ID 배열로 전달)
+     *
+     * @return 이전한 키 수
+     */
+    private int migrate(String scanPattern, Pattern legacyPattern, BiConsumer<String, Long[]> mover) {
+        List<String> legacyKeys = new ArrayList<>();
+        for (String key : redissonClient.getKeys().getKeys(
+                KeysScanOptions.defaults().pattern(scanPattern).chunkSize(SCAN_CHUNK_SIZE))) {
+            if (legacyPattern.matcher(key).matches()) {
+                legacyKeys.add(key);
+            }
+        }
+
+        int migrated = 0;
+        for (String legacyKey : legacyKeys) {
+            Matcher matcher = legacyPattern.matcher(legacyKey);
+            if (!matcher.matches()) {
+                continue;
+            }
+            Long[] ids = new Long[matcher.groupCount()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = Long.valueOf(matcher.group(i + 1));
+            }
+            try {
+                mover.accept(legacyKey, ids);
+                migrated++;
+            } catch (Exception e) {
+                log.warn("===== 대기열 키 이전 실패: key={}, error={}", legacyKey, e.getMessage());
+            }
+        }
+        return migrated;
+    }
+
+    private void mergeSortedSet(String legacyKey, String newKey, boolean keepLowerScore) {
+        RScoredSortedSet<Long> legacy = redissonClient.getScoredSortedSet(legacyKey, LongCodec.INSTANCE);
+        Collection<ScoredEntry<Long>> entries = legacy.entryRange(0, -1);
+        if (!entries.isEmpty()) {
+            Map<Long, Double> scores = new LinkedHashMap<>(entries.size() * 2);
+            entries.forEach(entry -> scores.put(entry.getValue(), entry.getScore()));
+
+            RScoredSortedSet<Long> target = redissonClient.getScoredSortedSet(newKey, LongCodec.INSTANCE);
+            // ZADD LT/GT: 새 멤버는 추가하고, 이미 있는 멤버는 조건을 만족할 때만 점수 갱신
+            if (keepLowerScore) {
+                target.addAllIfLess(scores);
+            } else {
+                target.addAllIfGreater(scores);
+            }
+        }
+        legacy.delete();
+    }
+
+    private void mergeCounter(String legacyKey, String newKey) {
+        RAtomicLong legacy = redissonClient.getAtomicLong(legacyKey);
+        long count = legacy.getAndDelete();
+        if (count != 0) {
+            redissonClient.getAtomicLong(newKey).addAndGet(count);
+        }
+    }
+
+    private void moveBucket(String legacyKey, String newKey) {
+        RBucket<byte[]> legacy = redissonClient.getBucket(legacyKey, ByteArrayCodec.INSTANCE);
+        long ttlMillis = legacy.remainTimeToLive();
+        byte[] value = legacy.get();
+        if (value != null && ttlMillis != -2) {
+            RBucket<byte[]> target = redissonClient.getBucket(newKey, ByteArrayCodec.INSTANCE);
+            if (ttlMillis > 0) {
+                target.setIfAbsent(value, Duration.ofMillis(ttlMillis));
+            } else {
+                target.setIfAbsent(value);
+            }
+        }
+        legacy.delete();
+    }
+
+    /**
+     * 해시 태그 없는 좌석 키 이전 (콘서트 단위)
+     * - 옛 좌석 상태 해시가 있는데 새 캐시가 없으면 먼저 캐시 미스 초기화 (초기화가 옛 해시의 선점을 이어 붙이고 옛 키를 삭제)
+     * - 새 캐시가 이미 있으면 옛 해시의 선점/예매 불가 좌석만 다시 기록하고 옛 키 삭제
+     *
+     * @return 이전한 콘서트 수
+     */
+    private int migrateSeatKeys() {
+        Set<Long> concertIds = new TreeSet<>();
+        for (String key : redissonClient.getKeys().getKeys(
+                KeysScanOptions.defaults().pattern("seat:*").chunkSize(SCAN_CHUNK_SIZE))) {
+            Matcher matcher = LEGACY_SEAT_KEY.matcher(key);
+            if (matcher.matches()) {
+                concertIds.add(Long.valueOf(matcher.group(2)));
+            }
+        }
+
+        int migrated = 0;
+        for (Long concertId : concertIds) {
+            try {
+                boolean legacyStatus = redissonClient.getKeys().countExists(
+                        RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX + concertId) > 0;
+                if (legacyStatus && !seatCacheInitService.isCacheReady(concertId)
+                        && !seatCacheInitCoordinator.initializeOnCacheMiss(concertId)) {
+                    log.warn("===== 좌석 캐시 초기화 실패로 옛 좌석 키 이전 보류 (다음 주기에 재시도): concertId={}", concertId);
+                    continue;
+                }
+                seatCacheInitService.carryLegacySeats(concertId);
+                migrated++;
+            } catch (Exception e) {
+                log.warn("===== 좌석 키 이전 실패: concertId={}, error={}", concertId, e.getMessage());
+            }
+        }
+        return migrated;
+    }
+
+    private int mergeExpiryConcerts() {
+        RSet<String> legacy = redissonClient.getSet(RedisKeyGenerator.LEGACY_SEAT_EXPIRY_CONCERTS_KEY, StringCodec.INSTANCE);
+        Set<String> concertIds = legacy.readAll();
+        if (concertIds.isEmpty()) {
+            return 0;
+        }
+        redissonClient.<String>getSet(RedisKeyGenerator.SEAT_EXPIRY_CONCERTS_KEY, StringCodec.INSTANCE).addAll(concertIds);
+        legacy.delete();
+        return 1;
+    }
+}
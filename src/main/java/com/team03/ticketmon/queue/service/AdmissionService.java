@@ -1,5 +1,6 @@
 package com.team03.ticketmon.queue.service;
 
+import com.team03.ticketmon._global.config.RedisCodecs;
 import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.ErrorCode;
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
@@ -33,6 +34,7 @@ public class AdmissionService {
     private final RedisKeyGenerator keyGenerator;
     private final NotificationService notificationService;
     private final QueueRedisAdapter queueRedisAdapter;
+    private final RedisCodecs redisCodecs;
 
     @Value("${app.queue.access-key-max-ttl-seconds}") // 예: 600 (10분)
     private long accessKeyMaxTtlSeconds;
@@ -88,14 +90,14 @@ public class AdmissionService {
 
             // 1. AccessKey 저장
             String accessKeyRedisKey = keyGenerator.getAccessKey(concertId, userId);
-            batch.getBucket(accessKeyRedisKey).setAsync(accessKey, ttl);
+            batch.getBucket(accessKeyRedisKey, redisCodecs.accessKey()).setAsync(accessKey, ttl);
 
             // 2. 만료 시간 관리를 위해 active_sessions Sorted Set에 추가 (Score: 만료시간, Value: userId)
             batch.getScoredSortedSet(activeSessionsKey, LongCodec.INSTANCE).addAsync(expiryTimestamp, userId);
 
             String finalExpiryKey = keyGenerator.getFinalExpiryKey(concertId, userId);
             Duration finalKeyTtl = Duration.ofSeconds(finalExpiryTimestamp + 60);
-            batch.getBucket(finalExpiryKey).setAsync(finalExpiryTimestamp, finalKeyTtl);
+            batch.getBucket(finalExpiryKey, redisCodecs.accessKey()).setAsync(finalExpiryTimestamp, finalKeyTtl);
 
 
             // 3. 알림이 필요한 경우 (스케줄러에 의해 호출될 때) 알림 전송
@@ -0,0 +1,185 @@
+package com.team03.ticketmon.seat.codec;
+
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 좌석 상태 해시(seat:status:{concertId}) 전용 Redisson 코덱
+ * - COMPACT: 클래스 메타데이터 없는 구분자 레코드로 기록
+ *   'S1|{상태 순번}|{concertId}|{seatId}|{userId}|{reservedAt}|{expiresAt}|{seatInfo}'
+ *   (빈 필드는 null, seatInfo 는 마지막 필드라 '|' 를 포함해도 됨, 시각은 ISO_LOCAL_DATE_TIME)
+ * - JSON: 기존 전역 코덱(JsonJacksonCodec)에 그대로 위임
+ *
+ * ✅ 읽기는 형식과 관계없이 가능: 'S1|' 로 시작하지 않는 값은 기존 JSON 으로 보고 전역 코덱으로 역직렬화
+ *    (전환 직후 남아 있는 JSON 값은 다음 기록 또는 캐시 재초기화 때 압축 형식으로 바뀜)
+ * ✅ 좌석 Lua 스크립트(common.lua decodeSeat)도 두 형식을 모두 읽고, 읽은 값과 같은 형식으로 다시 기록
+ * ✅ 해시 필드(좌석 ID)는 형식과 관계없이 따옴표 없는 문자열로 기록 (스크립트가 ARGV 로 읽고 쓰는 필드와 같은 형태)
+ *    이전 JSON 코덱으로 기록된 따옴표 필드("123")도 같은 좌석 ID 로 읽지만, 스크립트는 찾지 못하므로 캐시 재초기화로 다시 기록
+ */
+public class SeatStatusCodec extends BaseCodec {
+
+    public static final String PREFIX = "S1|";
+    private static final char DELIMITER = '|';
+    private static final int FIELD_COUNT = 7;
+    private static final SeatStatusEnum[] STATUSES = SeatStatusEnum.values();
+
+    private final Codec jsonCodec;
+    private final boolean compactWrites;
+
+    private final Encoder valueEncoder;
+    private final Decoder<Object> valueDecoder;
+    private final Decoder<Object> keyDecoder;
+
+    /**
+     * @param jsonCodec     기존 형식(JSON) 코덱, 이전 값 읽기와 JSON 모드 기록에 사용
+     * @param compactWrites true 면 압축 형식으로 기록
+     */
+    public SeatStatusCodec(Codec jsonCodec, boolean compactWrites) {
+        this.jsonCodec = jsonCodec;
+        this.compactWrites = compactWrites;
+
+        this.valueEncoder = in -> {
+            if (!(in instanceof SeatStatus seatStatus)) {
+                return jsonCodec.getValueEncoder().encode(in);
+            }
+            ByteBuf out = ByteBufAllocator.DEFAULT.buffer(96);
+            out.writeCharSequence(encode(seatStatus), StandardCharsets.UTF_8);
+            return out;
+        };
+
+        this.valueDecoder = (buf, state) -> isCompact(buf)
+                ? decode(readString(buf))
+                : jsonCodec.getValueDecoder().decode(buf, state);
+
+        // 이전 JSON 코덱으로 기록된 필드("123")도 같은 좌석 ID 로 읽음
+        this.keyDecoder = (buf, state) -> {
+            String field = readString(buf);
+            return field.length() >= 2 && field.charAt(0) == '"' && field.charAt(field.length() - 1) == '"'
+                    ? field.substring(1, field.length() - 1)
+                    : field;
+        };
+    }
+
+    public boolean isCompactWrites() {
+        return compactWrites;
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return valueDecoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return compactWrites ? valueEncoder : jsonCodec.getValueEncoder();
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return keyDecoder;
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return StringCodec.INSTANCE.getValueEncoder();
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return jsonCodec.getClassLoader();
+    }
+
+    // ========== 압축 형식 ==========
+
+    /**
+     * SeatStatus → 압축 레코드 문자열
+     */
+    public static String encode(SeatStatus seatStatus) {
+        StringBuilder sb = new StringBuilder(96).append(PREFIX);
+        sb.append(seatStatus.getStatus().ordinal()).append(DELIMITER);
+        appendNullable(sb, seatStatus.getConcertId()).append(DELIMITER);
+        appendNullable(sb, seatStatus.getSeatId()).append(DELIMITER);
+        appendNullable(sb, seatStatus.getUserId()).append(DELIMITER);
+        appendTime(sb, seatStatus.getReservedAt()).append(DELIMITER);
+        appendTime(sb, seatStatus.getExpiresAt()).append(DELIMITER);
+        if (seatStatus.getSeatInfo() != null) {
+            sb.append(seatStatus.getSeatInfo());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 압축 레코드 문자열 → SeatStatus
+     */
+    public static SeatStatus decode(String raw) {
+        if (!raw.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("압축 좌석 상태 형식이 아닙니다: " + raw);
+        }
+
+        String[] fields = new String[FIELD_COUNT];
+        int start = PREFIX.length();
+        for (int i = 0; i < FIELD_COUNT - 1; i++) {
+            int end = raw.indexOf(DELIMITER, start);
+            if (end < 0) {
+                throw new IllegalArgumentException("압축 좌석 상태 필드가 부족합니다: " + raw);
+            }
+            fields[i] = raw.substring(start, end);
+            start = end + 1;
+        }
+        fields[FIELD_COUNT - 1] = raw.substring(start);
+
+        Long concertId = parseLong(fields[1]);
+        Long seatId = parseLong(fields[2]);
+        return SeatStatus.builder()
+                .id(concertId + "-" + seatId)
+                .concertId(concertId)
+                .seatId(seatId)
+                .status(STATUSES[Integer.parseInt(fields[0])])
+                .userId(parseLong(fields[3]))
+                .reservedAt(parseTime(fields[4]))
+                .expiresAt(parseTime(fields[5]))
+                .seatInfo(fields[6].isEmpty() ? null : fields[6])
+                .build();
+    }
+
+    private static boolean isCompact(ByteBuf buf) {
+        int index = buf.readerIndex();
+        return buf.readableBytes() >= PREFIX.length()
+                && buf.getByte(index) == 'S'
+                && buf.getByte(index + 1) == '1'
+                && buf.getByte(index + 2) == DELIMITER;
+    }
+
+    private static String readString(ByteBuf buf) {
+        String value = buf.toString(StandardCharsets.UTF_8);
+        buf.readerIndex(buf.writerIndex());
+        return value;
+    }
+
+    private static StringBuilder appendNullable(StringBuilder sb, Long value) {
+        return value != null ? sb.append(value.longValue()) : sb;
+    }
+
+    private static StringBuilder appendTime(StringBuilder sb, LocalDateTime time) {
+        return time != null ? sb.append(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(time)) : sb;
+    }
+
+    private static Long parseLong(String value) {
+        return value.isEmpty() ? null : Long.valueOf(value);
+    }
+
+    private static LocalDateTime parseTime(String value) {
+        return value.isEmpty() ? null : LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+}
@@ -5,6 +5,11 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * 좌석 관리 시스템 설정값 관리
  * - 하드코딩된 설정값들을 외부 설정으로 분리
@@ -41,6 +46,56 @@ public class SeatProperties {
      */
     private Cache cache = new Cache();
 
+    /**
+     * 좌석 상태 저장소 설정
+     */
+    private Storage storage = new Storage();
+
+    /**
+     * 선점 만료 처리 설정
+     */
+    private Expiry expiry = new Expiry();
+
+    /**
+     * 좌석 변경 로그 설정
+     */
+    private ChangeLog changeLog = new ChangeLog();
+
+    /**
+     * 정적 좌석 배치도 캐시 설정
+     */
+    private Layout layout = new Layout();
+
+    /**
+     * 좌석 상태 샤딩 설정
+     */
+    private Shard shard = new Shard();
+
+    /**
+     * 좌석 선점 저널(write-behind) 설정
+     */
+    private Journal journal = new Journal();
+
+    /**
+     * 좌석 맵 로컬 스냅샷 설정
+     */
+    private Snapshot snapshot = new Snapshot();
+
+    /**
+     * 좌석 자동 배정 설정
+     */
+    private Allocation allocation = new Allocation();
+
+    /**
+     * 단일 기록자 좌석 엔진 설정
+     */
+    private Engine engine = new Engine();
+
+    /**
+     * 공유 좌석 상태 응답 스냅샷 설정
+     */
+    private StatusSnapshot statusSnapshot = new StatusSnapshot();
+
     @Getter
     @Setter
     public static class Reservation {
@@ -58,6 +113,21 @@ public class SeatProperties {
          * 마지막 업데이트 시간 캐시 TTL (시간)
          */
         private long lastUpdateTtlHours = 1;
+
+        /**
+         * 좌석 선점 처리 방식
+         * - LOCK: Redisson 분산 락 획득 후 개별 명령으로 처리 (기존 방식)
+         * - SCRIPT: Lua 스크립트 1회 호출로 검증/저장/만료 등록을 원자적으로 처리
+         */
+        private ReservationMode mode = ReservationMode.LOCK;
+    }
+
+    /**
+     * 좌석 선점 처리 방식
+     */
+    public enum ReservationMode {
+        LOCK,
+        SCRIPT
     }
 
     @Getter
@@ -114,5 +184,229 @@ public class SeatProperties {
          * 캐시 워밍업 시작 시간 (분 전)
          */
         private long warmupMinutesBefore = 10;
+
+        /**
+         * 캐시 초기화 시 한 번에 조회/기록할 좌석 수
+         */
+        private int initChunkSize = 1000;
+
+        /**
+         * 캐시 미스 초기화를 다른 요청/인스턴스가 진행 중일 때 기다리는 최대 시간 (ms)
+         * - 넘기면 준비 중으로 응답
+         */
+        private long initWaitMillis = 3000;
+
+        /**
+         * Warm-up 시 동시에 초기화할 콘서트 수
+         */
+        private int warmupParallelism = 4;
+
+        /**
+         * Warm-up 한 번의 전체 대기 시간 (초) - 락 유지 시간으로도 사용
+         */
+        private long warmupTimeoutSeconds = 240;
+    }
+
+    @Getter
+    @Setter
+    public static class Storage {
+        /**
+         * 전체 좌석 조회 시 사용할 저장소
+         * - JSON: seat:status:{concertId} 해시 전체를 읽어 SeatStatus JSON 역직렬화 (기존 방식)
+         * - COMPACT: 좌석당 2비트 상태 문자열 + 선점 좌석 정보만 읽어 복원
+         * 압축 저장소는 모드와 관계없이 좌석 상태 변경 시 항상 함께 갱신된다.
+         */
+        private StorageMode mode = StorageMode.JSON;
+    }
+
+    @Getter
+    @Setter
+    public static class Expiry {
+        /**
+         * 만료 스위퍼 실행 간격 (ms)
+         */
+        private long sweepIntervalMs = 1000;
+
+        /**
+         * 한 번의 EXPIRE 전이로 해제할 최대 좌석 수
+         */
+        private int sweepBatchSize = 200;
+
+        /**
+         * 스위퍼 분산 락 보유 시간 (초)
+         */
+        private long lockLeaseSeconds = 30;
+    }
+
+    @Getter
+    @Setter
+    public static class ChangeLog {
+        /**
+         * 콘서트별 변경 로그 최대 길이 (근사치, 이보다 오래된 변경은 잘려 나가 스냅샷으로 대체)
+         */
+        private long maxLength = 10000;
+
+        /**
+         * 변경분 조회 시 한 번에 반환할 최대 변경 수
+         */
+        private int readLimit = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Layout {
+        /**
+         * 노드별 로컬 배치도 캐시를 Redis와 다시 맞추는 간격 (초)
+         */
+        private long localTtlSeconds = 60;
+
+        /**
+         * Redis에 보관하는 직렬화된 배치도 유지 시간 (시간)
+         */
+        private long redisTtlHours = 24;
+    }
+
+    @Getter
+    @Setter
+    public static class Shard {
+        /**
+         * 기본 샤드 수 (1이면 콘서트 키 하나에 모든 좌석 저장)
+         */
+        private int defaultCount = 1;
+
+        /**
+         * 콘서트별 샤드 수 (초대형 공연만 지정)
+         * - 캐시 초기화 시 seat:shards:{concertId} 에 고정되므로, 변경은 해당 콘서트 좌석 캐시를 삭제한 뒤 다시 초기화할 때부터 적용
+         */
+        private Map<Long, Integer> counts = new HashMap<>();
+    }
+
+    /**
+     * 전체 좌석 조회 저장소 방식
+     */
+    public enum StorageMode {
+        JSON,
+        COMPACT
+    }
+
+    @Getter
+    @Setter
+    public static class Journal {
+        /**
+         * 좌석 상태 변경을 DB 저널에 기록할지 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 메모리 대기열 최대 크기 (가득 차면 요청을 기다리게 하지 않고 버린 뒤 건수만 집계)
+         */
+        private int queueCapacity = 100000;
+
+        /**
+         * 대기열을 DB로 내보내는 간격 (ms)
+         */
+        private long flushIntervalMs = 200;
+
+        /**
+         * 한 번의 배치 INSERT로 기록할 최대 건수
+         */
+        private int flushBatchSize = 500;
+
+        /**
+         * 저널 보관 시간 (시간) - 복원 시 이 시간 안의 기록만 읽고, 지난 기록은 주기적으로 삭제
+         */
+        private long retentionHours = 24;
+
+        /**
+         * 좌석 캐시를 DB에서 다시 초기화할 때 저널의 유효한 선점을 함께 복원할지 여부
+         * (운영 캐시가 남아 있던 재초기화는 운영 캐시의 선점을 이어 붙이므로 복원하지 않음)
+         */
+        private boolean restoreOnInit = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+        /**
+         * 주기적 스냅샷 기록 여부 (스냅샷을 남길 노드에서만 켬)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 스냅샷 기록 간격 (ms)
+         */
+        private long intervalMs = 60000;
+
+        /**
+         * 스냅샷 파일을 둘 로컬 디렉터리
+         */
+        private String directory = "./data/seat-snapshots";
+
+        /**
+         * 콘서트별로 남겨 둘 최근 스냅샷 파일 수
+         */
+        private int retain = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class Allocation {
+        /**
+         * 배정한 좌석을 다른 사용자가 먼저 선점했을 때 다른 좌석으로 다시 시도할 최대 횟수 (첫 시도 포함)
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 가장 좋은 후보 몇 개 중에서 무작위로 고를지 (동시 요청이 같은 좌석에 몰리지 않도록 분산)
+         */
+        private int candidateSpread = 8;
+    }
+
+    @Getter
+    @Setter
+    public static class Engine {
+        /**
+         * 단일 기록자 엔진으로 처리할 콘서트 ID 목록 (그 외 콘서트는 seat.reservation.mode 방식)
+         */
+        private Set<Long> singleWriterConcerts = new HashSet<>();
+
+        /**
+         * 소유 노드 ID 유지 시간 (초) - 소유 노드가 내려가면 이 시간 안에 다른 노드가 넘겨받음
+         */
+        private long ownerLeaseSeconds = 30;
+
+        /**
+         * 소유 노드 ID 갱신 간격 (ms)
+         */
+        private long ownerRefreshMs = 10000;
+
+        /**
+         * 명령 처리 대기 시간 (ms) - 로컬 기록 스레드와 다른 노드로 전달한 명령 모두 적용
+         */
+        private long commandTimeoutMillis = 3000;
+
+        /**
+         * 다른 노드에서 전달된 명령을 받는 작업자 수
+         */
+        private int remoteWorkers = 8;
+    }
+
+    @Getter
+    @Setter
+    public static class StatusSnapshot {
+        /**
+         * 스냅샷 최소 갱신 간격 (ms) - 이 시간 안의 요청은 좌석 변경이 있어도 같은 바이트로 응답
+         */
+        private long refreshIntervalMs = 200;
+
+        /**
+         * 좌석 변경이 없을 때의 최대 유지 시간 (ms) - 선점 남은 시간 등 시간 값을 맞추기 위해 다시 만듦
+         */
+        private long maxAgeMs = 1000;
+
+        /**
+         * 이 시간 동안 조회가 없는 콘서트 스냅샷은 정리 (초)
+         */
+        private long idleEvictSeconds = 60;
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,17 @@
 package com.team03.ticketmon.seat.controller;
 
 import com.team03.ticketmon._global.exception.SuccessResponse;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
 import com.team03.ticketmon.concert.domain.Concert;
 import com.team03.ticketmon.concert.repository.ConcertRepository;
 import com.team03.ticketmon.seat.scheduler.SeatCacheWarmupScheduler;
+import com.team03.ticketmon.seat.service.SeatCacheInitCoordinator;
 import com.team03.ticketmon.seat.service.SeatCacheInitService;
+import com.team03.ticketmon.seat.service.SeatHoldJournal;
+import com.team03.ticketmon.seat.service.SeatSnapshotService;
 import com.team03.ticketmon.seat.service.SeatStatusService;
+import com.team03.ticketmon.seat.service.SeatWarmupProgressStore;
+import com.team03.ticketmon.seat.service.SeatWriterRouter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -34,8 +40,13 @@ import java.util.*;
 public class SeatAdminController {
 
     private final SeatCacheInitService seatCacheInitService;
+    private final SeatCacheInitCoordinator seatCacheInitCoordinator;
     private final SeatStatusService seatStatusService;
+    private final SeatHoldJournal seatHoldJournal;
+    private final SeatSnapshotService seatSnapshotService;
     private final SeatCacheWarmupScheduler seatCacheWarmupScheduler;
+    private final SeatWarmupProgressStore seatWarmupProgressStore;
+    private final SeatWriterRouter seatWriterRouter;
     private final RedissonClient redissonClient;
     private final ConcertRepository concertRepository;
 
@@ -85,6 +96,103 @@ public class SeatAdminController {
         }
     }
 
+    /**
+     * 캐시 미스 초기화 통계 조회
+     * - 진행 중 초기화 수, 실제 DB 초기화/합류/준비 중 응답 횟수 (현재 인스턴스 기준)
+     */
+    @Operation(summary = "캐시 미스 초기화 통계 조회", description = "현재 인스턴스의 좌석 캐시 미스 초기화(단일 실행) 통계를 조회합니다")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/cache/init-stats")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> getCacheInitStats() {
+        return ResponseEntity.ok(SuccessResponse.of("캐시 미스 초기화 통계 조회 성공", seatCacheInitCoordinator.getInitStats()));
+    }
+
+    /**
+     * 좌석 저널 통계 조회
+     * - DB 기록 대기 건수와 기록 지연(lagMillis), 기록/버림/실패 건수 (현재 인스턴스 기준)
+     */
+    @Operation(summary = "좌석 저널 통계 조회", description = "현재 인스턴스의 좌석 선점 저널(write-behind) 대기/지연/기록 통계를 조회합니다")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/journal/stats")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> getJournalStats() {
+        return ResponseEntity.ok(SuccessResponse.of("좌석 저널 통계 조회 성공", seatHoldJournal.getJournalStats()));
+    }
+
+    /**
+     * 저널 기반 선점 복원
+     * - 좌석 캐시가 이미 초기화된 상태에서 저널의 유효한 선점만 Redis에 다시 선점
+     * - 저널은 인스턴스별 기록 주기만큼 늦으므로 Redis 유실 후 캐시를 다시 만든 직후에만 사용
+     */
+    @Operation(summary = "저널 기반 선점 복원",
+            description = "seat_hold_journal 에 남아 있는 만료되지 않은 선점을 좌석 캐시에 다시 선점합니다. 예매 완료/다른 사용자 선점 좌석은 건너뜁니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/concerts/{concertId}/journal/restore")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> restoreHoldsFromJournal(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId) {
+
+        int restored = seatHoldJournal.restoreActiveHolds(concertId);
+        log.info("저널 기반 선점 복원 요청 처리: concertId={}, restored={}", concertId, restored);
+        return ResponseEntity.ok(SuccessResponse.of("저널 기반 선점 복원 완료",
+                Map.of("concertId", concertId, "restoredSeats", restored)));
+    }
+
+    /**
+     * 좌석 맵 스냅샷 기록
+     * - 현재 좌석 캐시(선점 포함)를 이 인스턴스의 로컬 스냅샷 파일로 기록
+     */
+    @Operation(summary = "좌석 맵 스냅샷 기록", description = "현재 좌석 캐시를 이 인스턴스의 로컬 메모리 매핑 스냅샷 파일로 기록합니다")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/concerts/{concertId}/snapshot")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> writeSnapshot(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId) {
+
+        return ResponseEntity.ok(SuccessResponse.of("좌석 맵 스냅샷 기록 완료", seatSnapshotService.snapshot(concertId)));
+    }
+
+    /**
+     * 좌석 맵 스냅샷 현황 조회
+     * - 최신 스냅샷의 경과 시간(ageMillis)과 크기, 보관 중인 스냅샷 목록
+     */
+    @Operation(summary = "좌석 맵 스냅샷 현황 조회", description = "이 인스턴스에 보관 중인 콘서트 좌석 스냅샷의 경과 시간과 크기를 조회합니다")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/concerts/{concertId}/snapshot")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> getSnapshotInfo(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId) {
+
+        return ResponseEntity.ok(SuccessResponse.of("좌석 맵 스냅샷 현황 조회 성공", seatSnapshotService.getSnapshotInfo(concertId)));
+    }
+
+    /**
+     * 스냅샷 기반 좌석 캐시 복원
+     * - 최신 스냅샷으로 좌석 캐시를 다시 적재하고 스냅샷 시점의 선점을 유지 (DB 조회 없음)
+     */
+    @Operation(summary = "스냅샷 기반 좌석 캐시 복원",
+            description = "이 인스턴스의 최신 좌석 스냅샷으로 좌석 캐시를 한 번에 다시 적재합니다. 스냅샷 시점의 선점은 유지되고, 스냅샷 이후 변경은 반영되지 않습니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/concerts/{concertId}/snapshot/restore")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> restoreFromSnapshot(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId) {
+
+        Map<String, Object> result = seatSnapshotService.restore(concertId);
+        log.info("스냅샷 기반 좌석 캐시 복원 요청 처리: {}", result);
+        return ResponseEntity.ok(SuccessResponse.of("스냅샷 기반 좌석 캐시 복원 완료", result));
+    }
+
+    /**
+     * 단일 기록자 좌석 엔진 현황 조회
+     * - 이 인스턴스의 노드 ID와 소유 중인 콘서트 엔진별 처리 명령 수
+     */
+    @Operation(summary = "단일 기록자 좌석 엔진 현황 조회", description = "이 인스턴스가 소유한 단일 기록자 좌석 엔진과 처리 명령 수를 조회합니다")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/engine/stats")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> getEngineStats() {
+        return ResponseEntity.ok(SuccessResponse.of("단일 기록자 좌석 엔진 현황 조회 성공", seatWriterRouter.getEngineStats()));
+    }
+
     /**
      * 좌석 캐시 삭제 - 기존 API
      */
@@ -117,9 +225,9 @@ public class SeatAdminController {
             @PathVariable Long concertId) {
 
         try {
-            seatStatusService.cleanupExpiredReservations(concertId);
+            int released = seatStatusService.cleanupExpiredReservations(concertId);
 
-            log.info("만료된 선점 좌석 정리 완료: concertId={}", concertId);
+            log.info("만료된 선점 좌석 정리 완료: concertId={}, released={}", concertId, released);
             return ResponseEntity.ok(SuccessResponse.of("만료된 선점 좌석 정리 완료", "SUCCESS"));
 
         } catch (Exception e) {
@@ -150,6 +258,7 @@ public class SeatAdminController {
             result.put("message", "수동 캐시 Warm-up 실행 완료");
             result.put("executionTimeMs", executionTime);
             result.put("timestamp", LocalDateTime.now());
+            result.put("concerts", seatWarmupProgressStore.readLatestRun());
 
             return ResponseEntity.ok(SuccessResponse.of("수동 캐시 Warm-up 성공", result));
 
@@ -209,6 +318,37 @@ public class SeatAdminController {
         }
     }
 
+    /**
+     * 최근 캐시 Warm-up 실행의 콘서트별 진행 상황 조회
+     * - 상태(QUEUED/RUNNING/DONE/FAILED/SKIPPED), 적재 좌석 수, 소요 시간, 오류 메시지
+     */
+    @Operation(summary = "캐시 Warm-up 진행 상황 조회",
+            description = "가장 최근 캐시 Warm-up 실행의 콘서트별 진행 상황(적재 좌석 수, 소요 시간, 실패 여부)을 조회합니다.")
+    @GetMapping("/cache/warmup/progress")
+    public ResponseEntity<SuccessResponse<Map<String, Object>>> getWarmupProgress() {
+        try {
+            List<Map<String, String>> concerts = seatWarmupProgressStore.readLatestRun();
+
+            Map<String, Long> stateCounts = new HashMap<>();
+            for (Map<String, String> concert : concerts) {
+                stateCounts.merge(concert.getOrDefault("state", "UNKNOWN"), 1L, Long::sum);
+            }
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("concerts", concerts);
+            result.put("stateCounts", stateCounts);
+            result.put("totalCount", concerts.size());
+            result.put("checkTime", LocalDateTime.now());
+
+            return ResponseEntity.ok(SuccessResponse.of("Warm-up 진행 상황 조회 성공", result));
+
+        } catch (Exception e) {
+            log.error("Warm-up 진행 상황 조회 중 오류", e);
+            return ResponseEntity.status(500)
+                    .body(SuccessResponse.of("Warm-up 진행 상황 조회 중 오류가 발생했습니다.", null));
+        }
+    }
+
     /**
      * ✅ 수정된 캐시 Warm-up 처리 이력 조회 (간단한 버전)
      * Redis에서 처리 완료된 콘서트들의 상태를 확인
@@ -225,7 +365,8 @@ public class SeatAdminController {
             List<Concert> recentConcerts = concertRepository.findAll(); // 또는 최근 콘서트만 조회
 
             for (Concert concert : recentConcerts) {
-                String processedKey = "processed:warmup:concert:" + concert.getConcertId();
+                String processedKey = RedisKeyGenerator.concertKey(
+                        RedisKeyGenerator.SEAT_PROCESSED_CONCERT_KEY_PREFIX, concert.getConcertId());
                 boolean isProcessed = redissonClient.getBucket(processedKey).isExists();
 
                 if (isProcessed) {
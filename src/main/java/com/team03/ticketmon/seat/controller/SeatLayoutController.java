@@ -1,9 +1,13 @@
 package com.team03.ticketmon.seat.controller;
 
 import com.team03.ticketmon._global.exception.SuccessResponse;
+import com.team03.ticketmon.seat.dto.SeatCountsDTO;
+import com.team03.ticketmon.seat.dto.SeatLayoutColumnarDTO;
 import com.team03.ticketmon.seat.dto.SeatLayoutResponseDTO;
 import com.team03.ticketmon.seat.dto.SectionLayoutResponseDTO;
+import com.team03.ticketmon.seat.service.SeatLayoutCache;
 import com.team03.ticketmon.seat.service.SeatLayoutService;
+import com.team03.ticketmon.seat.service.SeatStatusService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,6 +17,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,6 +36,7 @@ import org.springframework.web.bind.annotation.*;
 public class SeatLayoutController {
 
     private final SeatLayoutService seatLayoutService;
+    private final SeatStatusService seatStatusService;
 
     /**
      * 콘서트 전체 좌석 배치도 조회
@@ -49,6 +58,11 @@ public class SeatLayoutController {
             - Venue, Seat, ConcertSeat 엔티티 기반
             - 예매 완료된 좌석은 isAvailable=false로 표시
             - Fetch Join으로 성능 최적화
+            
+            **열 기반 형식 (대형 공연장용):**
+            - Accept: application/vnd.ticketmon.seat-layout.columnar+json 으로 요청하면
+              좌석별 객체 대신 병렬 배열 + 구역/등급/가격/상태 사전 인코딩 형식(SeatLayoutColumnarDTO)으로 응답
+            - Accept-Encoding: gzip 이면 미리 압축된 본문 전송, ETag/If-None-Match 지원
             """
     )
     @ApiResponses({
@@ -142,9 +156,17 @@ public class SeatLayoutController {
             )
     })
     @GetMapping("/{concertId}/seat-layout")
-    public ResponseEntity<SuccessResponse<SeatLayoutResponseDTO>> getSeatLayout(
+    public ResponseEntity<?> getSeatLayout(
             @Parameter(description = "콘서트 ID", example = "1")
-            @PathVariable Long concertId) {
+            @PathVariable Long concertId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // 열 기반 형식은 명시적으로 요청한 경우에만 사용 (기본은 기존 JSON)
+        if (accept != null && accept.contains(SeatLayoutColumnarDTO.MEDIA_TYPE)) {
+            return getColumnarSeatLayout(concertId, acceptEncoding, ifNoneMatch);
+        }
 
         try {
             log.info("좌석 배치도 조회 요청: concertId={}", concertId);
@@ -165,6 +187,70 @@ public class SeatLayoutController {
         }
     }
 
+    /**
+     * 열 기반 좌석 배치도 응답 (Accept: application/vnd.ticketmon.seat-layout.columnar+json)
+     * - 미리 직렬화/압축해 둔 바이트를 그대로 응답, 클라이언트가 gzip을 받으면 압축본 전송
+     * - ETag는 정적 배치도 버전 + 좌석 변경 순번
+     */
+    private ResponseEntity<byte[]> getColumnarSeatLayout(Long concertId, String acceptEncoding, String ifNoneMatch) {
+        SeatLayoutService.ColumnarLayout layout = seatLayoutService.getColumnarLayout(concertId);
+
+        if (layout.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(layout.etag())
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(layout.etag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.parseMediaType(SeatLayoutColumnarDTO.MEDIA_TYPE));
+
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(layout.gzip());
+        }
+        return response.body(layout.json());
+    }
+
+    /**
+     * 정적 좌석 배치도 조회 (ETag 지원)
+     * 좌석 위치/등급/가격만 담은 배치도를 미리 직렬화된 바이트로 그대로 응답
+     */
+    @Operation(
+            summary = "정적 좌석 배치도 조회",
+            description = """
+            예매 상태를 제외한 정적 좌석 배치도(좌석 위치, 등급, 가격)를 조회합니다.
+            
+            **캐시:**
+            - 콘서트별로 한 번만 생성되며, 응답의 ETag는 배치도 내용의 버전입니다.
+            - If-None-Match 헤더에 이전 ETag를 보내면 변경이 없을 때 304를 반환합니다.
+            
+            **실시간 상태:**
+            - 좌석별 상태는 concertSeatId 기준으로 GET /api/seats/concerts/{concertId}/changes 에서 받아 덮어씁니다.
+            """
+    )
+    @GetMapping("/{concertId}/seat-layout/static")
+    public ResponseEntity<byte[]> getStaticSeatLayout(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        SeatLayoutCache.StaticLayout layout = seatLayoutService.getStaticLayout(concertId);
+
+        if (layout.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(layout.etag())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(layout.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(layout.bytes());
+    }
+
     /**
      * 특정 구역의 좌석 배치 조회
      * 구역별 상세 정보가 필요한 경우 사용
@@ -294,7 +380,7 @@ public class SeatLayoutController {
             
             **제공 정보:**
             - 공연장 기본 정보
-            - 전체 좌석 통계
+            - 전체 좌석 통계 (실시간 좌석 수 집계 기반, 임시 선점 좌석은 예매 가능에서 제외)
             - 구역별 요약 (상세 좌석 정보 제외)
             """
     )
@@ -306,8 +392,7 @@ public class SeatLayoutController {
         try {
             log.info("좌석 배치도 요약 조회 요청: concertId={}", concertId);
 
-            SeatLayoutResponseDTO fullLayout = seatLayoutService.getSeatLayout(concertId);
-            SeatLayoutResponseDTO.SeatStatistics summary = fullLayout.statistics();
+            SeatLayoutResponseDTO.SeatStatistics summary = seatLayoutService.getSeatLayoutSummary(concertId);
 
             log.info("좌석 배치도 요약 조회 성공: concertId={}, 예매가능률={}%",
                     concertId, summary.availabilityRate());
@@ -320,4 +405,39 @@ public class SeatLayoutController {
                     .body(SuccessResponse.of("좌석 배치도 요약 조회 중 오류가 발생했습니다", null));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 상태별/구역별/등급별 잔여 좌석 수 조회
+     * 좌석 상태 변경 시 함께 갱신되는 집계 카운터를 읽으므로 좌석 수와 무관하게 빠르게 응답
+     */
+    @Operation(
+            summary = "잔여 좌석 수 조회",
+            description = """
+            콘서트의 좌석 수를 상태별, 구역별, 등급별로 조회합니다.
+            
+            **사용 사례:**
+            - "VIP 잔여 N석" 같은 실시간 잔여 좌석 표시
+            - 오픈 직후 다수 사용자가 반복 조회하는 경우
+            
+            **제공 정보:**
+            - 상태별 좌석 수 (AVAILABLE, RESERVED, BOOKED, UNAVAILABLE)
+            - 구역별/등급별 상태별 좌석 수
+            - 전체 가격 범위
+            """
+    )
+    @GetMapping("/{concertId}/seat-layout/availability")
+    public ResponseEntity<SuccessResponse<SeatCountsDTO>> getSeatAvailability(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId) {
+
+        try {
+            SeatCountsDTO counts = seatStatusService.getSeatCounts(concertId);
+            return ResponseEntity.ok(SuccessResponse.of("잔여 좌석 수 조회 성공", counts));
+
+        } catch (Exception e) {
+            log.error("잔여 좌석 수 조회 중 오류: concertId={}", concertId, e);
+            return ResponseEntity.status(500)
+                    .body(SuccessResponse.of("잔여 좌석 수 조회 중 오류가 발생했습니다", null));
+        }
+    }
+}
@@ -3,14 +3,17 @@ package com.team03.ticketmon.seat.controller;
 import com.team03.ticketmon._global.exception.SuccessResponse;
 import com.team03.ticketmon.auth.jwt.JwtTokenProvider;
 import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.dto.SeatChangesDTO;
 import com.team03.ticketmon.seat.service.SeatPollingSessionManager;
 import com.team03.ticketmon.seat.service.SeatStatusService;
+import com.team03.ticketmon.seat.service.SeatStatusSnapshotCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.async.DeferredResult;
@@ -35,6 +38,7 @@ public class SeatPollingController {
 
     private final SeatPollingSessionManager sessionManager;
     private final SeatStatusService seatStatusService;
+    private final SeatStatusSnapshotCache seatStatusSnapshotCache; // 노드 공유 즉시 응답 스냅샷
     private final SeatProperties seatProperties;
     private final JwtTokenProvider jwtTokenProvider;
 
@@ -45,6 +49,8 @@ public class SeatPollingController {
      *
      * @param concertId 콘서트 ID
      * @param lastUpdateTime 클라이언트가 마지막으로 받은 업데이트 시간 (선택적)
+     * @param sinceSeq 클라이언트가 마지막으로 받은 좌석 변경 순번 (선택적, 있으면 변경분으로 즉시 응답)
+     * @param cursor 클라이언트가 마지막으로 받은 샤드별 순번 커서 (샤딩한 콘서트만)
      * @param timeout 폴링 타임아웃 (ms, 기본 30초)
      * @param request HTTP 요청 (User-Agent 등 추출용)
      * @return DeferredResult로 비동기 응답
@@ -60,6 +66,12 @@ public class SeatPollingController {
             @Parameter(description = "마지막 업데이트 시간 (ISO 형식)", example = "2025-06-27T10:30:00")
             @RequestParam(required = false) String lastUpdateTime,
 
+            @Parameter(description = "마지막으로 받은 좌석 변경 순번", example = "120")
+            @RequestParam(required = false) Long sinceSeq,
+
+            @Parameter(description = "마지막으로 받은 샤드별 순번 커서 (샤딩한 콘서트만)", example = "40.38.57")
+            @RequestParam(required = false) String cursor,
+
             @Parameter(description = "폴링 타임아웃 (밀리초)", example = "30000")
             @RequestParam(defaultValue = "30000") long timeout,
 
@@ -142,12 +154,42 @@ public class SeatPollingController {
                 return deferredResult;
             }
 
+            // 순번 기반 클라이언트: 놓친 변경분이 있으면 변경분만 즉시 응답
+            if (sinceSeq != null) {
+                SeatChangesDTO changes = seatStatusService.getSeatChangesSince(concertId, sinceSeq, cursor);
+                if (changes.snapshot() || !changes.changes().isEmpty()) {
+                    deferredResult.setResult(ResponseEntity.ok(SuccessResponse.of("즉시 응답", Map.of(
+                            "hasUpdate", true,
+                            "concertId", concertId,
+                            "changes", changes
+                    ))));
+
+                    log.debug("변경분 즉시 응답: concertId={}, userId={}, sinceSeq={}, lastSeq={}, snapshot={}",
+                            concertId, userId, sinceSeq, changes.lastSeq(), changes.snapshot());
+                    return deferredResult;
+                }
+            }
+
             // ✅ 개선: 최근 업데이트 시간 파싱 및 즉시 응답 여부 확인
             LocalDateTime lastUpdate = parseLastUpdateTime(lastUpdateTime);
             if (lastUpdate != null && hasRecentUpdates(concertId, lastUpdate)) {
-                // 최근 변경사항이 있으면 즉시 현재 상태 응답
-                Map<String, Object> immediateResponse = getCurrentSeatStatusResponse(concertId);
-                deferredResult.setResult(ResponseEntity.ok(SuccessResponse.of("즉시 응답", immediateResponse)));
+                // 최근 변경사항이 있으면 즉시 현재 상태 응답 (노드 공유 스냅샷 바이트 그대로 전송)
+                try {
+                    SeatStatusSnapshotCache.Snapshot immediateResponse =
+                            seatStatusSnapshotCache.getPollingSummary(concertId, userId);
+                    deferredResult.setResult(immediateResponse.toResponse(request.getHeader(HttpHeaders.ACCEPT_ENCODING)));
+                } catch (Exception e) {
+                    // 실패 응답은 스냅샷에 저장하지 않고 이번 요청에만 응답
+                    log.warn("현재 좌석 상태 조회 중 오류: concertId={}", concertId, e);
+                    deferredResult.setResult(ResponseEntity.ok(SuccessResponse.of("즉시 응답", Map.of(
+                            "hasUpdate", false,
+                            "updateTime", LocalDateTime.now(),
+                            "seatUpdates", Map.of(),
+                            "message", "상태 조회 실패",
+                            "concertId", concertId
+                    ))));
+                    return deferredResult;
+                }
 
                 log.debug("즉시 응답 제공: concertId={}, userId={}, lastUpdate={}",
                         concertId, userId, lastUpdate);
@@ -231,6 +273,28 @@ public class SeatPollingController {
         return deferredResult;
     }
 
+    /**
+     * 좌석 변경분 조회 API
+     * - sinceSeq 이후 변경된 좌석만 순번 오름차순으로 반환
+     * - 변경 로그 보관 범위를 벗어난 순번이면 전체 좌석 상태(snapshot=true)를 반환
+     */
+    @Operation(summary = "좌석 변경분 조회",
+            description = "마지막으로 받은 순번 이후의 좌석 변경만 반환합니다. 보관 범위를 벗어나면 전체 스냅샷을 반환합니다.")
+    @GetMapping("/concerts/{concertId}/changes")
+    public ResponseEntity<SuccessResponse<SeatChangesDTO>> getSeatChanges(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId,
+
+            @Parameter(description = "마지막으로 받은 좌석 변경 순번 (처음이면 0)", example = "120")
+            @RequestParam(defaultValue = "0") long sinceSeq,
+
+            @Parameter(description = "마지막으로 받은 샤드별 순번 커서 (샤딩한 콘서트만, 응답의 cursor)", example = "40.38.57")
+            @RequestParam(required = false) String cursor) {
+
+        SeatChangesDTO changes = seatStatusService.getSeatChangesSince(concertId, sinceSeq, cursor);
+        return ResponseEntity.ok(SuccessResponse.of("좌석 변경분 조회 성공", changes));
+    }
+
     /**
      * 폴링 시스템 상태 조회 (디버깅/모니터링용) - 개선된 버전
      */
@@ -329,34 +393,6 @@ public class SeatPollingController {
         }
     }
 
-    /**
-     * 현재 좌석 상태 응답 생성 (SeatStatusService 연동)
-     */
-    private Map<String, Object> getCurrentSeatStatusResponse(Long concertId) {
-        try {
-            // SeatStatusService를 통해 현재 좌석 상태 조회
-            Map<String, Object> seatStatus = seatStatusService.getCurrentSeatStatus(concertId);
-            LocalDateTime lastUpdateTime = seatStatusService.getLastUpdateTime(concertId);
-            
-            return Map.of(
-                    "hasUpdate", true,
-                    "updateTime", lastUpdateTime != null ? lastUpdateTime : LocalDateTime.now(),
-                    "seatUpdates", seatStatus,
-                    "message", "현재 상태 조회",
-                    "concertId", concertId
-            );
-        } catch (Exception e) {
-            log.warn("현재 좌석 상태 조회 중 오류: concertId={}", concertId, e);
-            return Map.of(
-                    "hasUpdate", false,
-                    "updateTime", LocalDateTime.now(),
-                    "seatUpdates", Map.of(),
-                    "message", "상태 조회 실패",
-                    "concertId", concertId
-            );
-        }
-    }
-
     /**
      * 클라이언트 IP 주소 추출 (프록시 고려)
      */
@@ -1,15 +1,18 @@
 package com.team03.ticketmon.seat.controller;
 
+import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.SuccessResponse;
 import com.team03.ticketmon.auth.jwt.CustomUserDetails;
 import com.team03.ticketmon.seat.domain.SeatStatus;
 import com.team03.ticketmon.seat.dto.SeatStatusResponseDTO;
 import com.team03.ticketmon.seat.service.SeatStatusService;
+import com.team03.ticketmon.seat.service.SeatStatusSnapshotCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -21,7 +24,8 @@ import java.util.stream.Collectors;
 
 /**
  * 좌석 상태 조회 컨트롤러 (읽기 전용)
- * - 콘서트 전체 좌석 상태 조회
+ * - 콘서트 전체 좌석 상태 조회 (노드 공유 스냅샷, 좌석을 선점 중인 사용자만 개별 응답)
+ * - 구역 단위 좌석 상태 조회
  * - 개별 좌석 상태 조회
  * - 사용자 선점 좌석 조회
  */
@@ -33,18 +37,26 @@ import java.util.stream.Collectors;
 public class SeatQueryController {
 
     private final SeatStatusService seatStatusService;
+    private final SeatStatusSnapshotCache seatStatusSnapshotCache;
 
     @Operation(summary = "콘서트 전체 좌석 상태 조회", description = "특정 콘서트의 모든 좌석 상태를 조회합니다")
     @GetMapping("/concerts/{concertId}/status")
-    public ResponseEntity<SuccessResponse<List<SeatStatusResponseDTO>>> getAllSeatStatus(
+    public ResponseEntity<?> getAllSeatStatus(
             @Parameter(description = "콘서트 ID", example = "1")
             @PathVariable Long concertId,
-            @AuthenticationPrincipal CustomUserDetails user) {
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
         Long userId = (user != null) ? user.getUserId() : null;
 
 
         try {
+            // 스냅샷에 선점 좌석이 없고 스냅샷 이후 좌석을 바꾸지도 않은 사용자는 공유 바이트로 응답
+            SeatStatusSnapshotCache.Snapshot snapshot = seatStatusSnapshotCache.getAllStatus(concertId);
+            if (seatStatusSnapshotCache.isSharedFor(concertId, userId, snapshot)) {
+                return snapshot.toResponse(acceptEncoding);
+            }
+
             Map<Long, SeatStatus> seatStatusMap = seatStatusService.getAllSeatStatus(concertId);
 
             List<SeatStatusResponseDTO> responses = seatStatusMap.values().stream()
@@ -68,6 +80,37 @@ public class SeatQueryController {
         }
     }
 
+    @Operation(summary = "구역 좌석 상태 조회",
+            description = "특정 구역(SectionLayoutResponseDTO의 sectionName 기준, 대소문자 무시) 좌석의 상태만 조회합니다")
+    @GetMapping("/concerts/{concertId}/sections/{sectionName}/status")
+    public ResponseEntity<SuccessResponse<List<SeatStatusResponseDTO>>> getSectionSeatStatus(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId,
+            @Parameter(description = "구역명", example = "A")
+            @PathVariable String sectionName,
+            @AuthenticationPrincipal CustomUserDetails user) {
+
+        Long userId = (user != null) ? user.getUserId() : null;
+
+        try {
+            List<SeatStatusResponseDTO> responses = seatStatusService.getSectionSeatStatus(concertId, sectionName).stream()
+                    .map(seat -> SeatStatusResponseDTO.from(seat, userId))
+                    .collect(Collectors.toList());
+
+            log.debug("구역 좌석 상태 조회 성공: concertId={}, section={}, seatCount={}", concertId, sectionName, responses.size());
+            return ResponseEntity.ok(SuccessResponse.of("구역 좌석 상태 조회 성공", responses));
+
+        } catch (BusinessException e) {
+            log.warn("구역 좌석 상태 조회 실패: concertId={}, section={}, error={}", concertId, sectionName, e.getMessage());
+            return ResponseEntity.status(e.getErrorCode().getStatus())
+                    .body(SuccessResponse.of(e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("구역 좌석 상태 조회 중 오류 발생: concertId={}, section={}", concertId, sectionName, e);
+            return ResponseEntity.status(500)
+                    .body(SuccessResponse.of("좌석 상태 조회 중 오류가 발생했습니다.", null));
+        }
+    }
+
     @Operation(summary = "특정 좌석 상태 조회", description = "특정 좌석의 상태를 조회합니다")
     @GetMapping("/concerts/{concertId}/seats/{seatId}/status")
     public ResponseEntity<SuccessResponse<SeatStatusResponseDTO>> getSeatStatus(
@@ -2,29 +2,34 @@ package com.team03.ticketmon.seat.controller;
 
 import com.team03.ticketmon._global.exception.SuccessResponse;
 import com.team03.ticketmon.auth.jwt.CustomUserDetails;
-import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
 import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.dto.SeatAutoReserveRequestDTO;
+import com.team03.ticketmon.seat.dto.SeatBatchReserveRequestDTO;
 import com.team03.ticketmon.seat.dto.SeatStatusResponseDTO;
 import com.team03.ticketmon.seat.exception.SeatReservationException;
+import com.team03.ticketmon.seat.service.SeatAllocationService;
+import com.team03.ticketmon.seat.service.SeatCatalog;
 import com.team03.ticketmon.seat.service.SeatInfoHelper;
 import com.team03.ticketmon.seat.service.SeatStatusService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * 좌석 예약 관리 컨트롤러
  * ✅ 수정사항:
- * - ConcertSeatRepository 의존성 추가
- * - DB 존재성 검증 로직 추가
- * - SeatInfoHelper 활용으로 실제 DB 조회
+ * - 좌석 존재성 검증/좌석 정보 조회는 노드별 좌석 카탈로그(SeatCatalog)에서 처리 (DB/Redis 조회 없음)
  * - 서비스 레이어에서 분산 락 처리
  */
 @Tag(name = "좌석 예약 관리", description = "좌석 선점/해제 API (분산 락 적용)")
@@ -35,8 +40,9 @@ import java.util.Optional;
 public class SeatReservationController {
 
     private final SeatStatusService seatStatusService;
+    private final SeatAllocationService seatAllocationService;
     private final SeatInfoHelper seatInfoHelper;
-    private final ConcertSeatRepository concertSeatRepository; // ✅ 추가: 존재성 검증용
+    private final SeatCatalog seatCatalog; // ✅ 존재성 검증용 (로컬 좌석 카탈로그)
 
     /**
      * ✅ 수정된 좌석 임시 선점 - 존재성 검증 추가
@@ -59,8 +65,8 @@ public class SeatReservationController {
             // 1. 현재 좌석 상태 확인 (빠른 검증)
             Optional<SeatStatus> currentStatus = seatStatusService.getSeatStatus(concertId, seatId);
 
-            // ✅ 1-1. DB에서 실제 좌석 존재 여부 확인 (ConcertSeat ID 기반)
-            if (!concertSeatRepository.existsByConcertIdAndConcertSeatId(concertId, seatId)) {
+            // ✅ 1-1. 좌석 카탈로그에서 좌석 존재 여부 확인 (ConcertSeat ID 기반)
+            if (!seatCatalog.contains(concertId, seatId)) {
                 log.warn("존재하지 않는 좌석 선점 시도: concertId={}, seatId={}, userId={}",
                         concertId, seatId, user.getUserId());
                 return ResponseEntity.badRequest()
@@ -126,6 +132,105 @@ public class SeatReservationController {
         }
     }
 
+    /**
+     * 다중 좌석 일괄 선점 (All-or-Nothing)
+     * - 좌석별로 요청을 나누지 않고 한 번의 요청/한 번의 Redis 호출로 처리
+     * - 하나라도 선점할 수 없으면 어떤 좌석도 선점되지 않음
+     * - 좌석 존재 여부는 DB 기반으로 초기화된 좌석 캐시에서 스크립트가 검증
+     */
+    @Operation(summary = "다중 좌석 일괄 선점", description = "여러 좌석을 한 번에 5분간 임시 선점합니다 (전체 성공 또는 전체 실패)")
+    @PostMapping("/concerts/{concertId}/seats/reserve")
+    public ResponseEntity<SuccessResponse<List<SeatStatusResponseDTO>>> reserveSeats(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId,
+            @Valid @RequestBody SeatBatchReserveRequestDTO request,
+            @AuthenticationPrincipal CustomUserDetails user) {
+
+        try {
+            log.info("다중 좌석 선점 요청: concertId={}, seatIds={}, userId={}",
+                    concertId, request.seatIds(), user.getUserId());
+
+            // 1. 좌석 정보 조회 (중복 좌석 ID 제거, 요청 순서 유지)
+            LinkedHashMap<Long, String> seatInfos = new LinkedHashMap<>();
+            for (Long seatId : request.seatIds()) {
+                if (seatId == null || seatInfos.containsKey(seatId)) {
+                    continue;
+                }
+                String seatInfo;
+                try {
+                    seatInfo = seatInfoHelper.getSeatInfoByConcertSeatId(concertId, seatId);
+                } catch (Exception e) {
+                    log.warn("DB 좌석 정보 조회 실패, 더미 데이터 사용: concertId={}, concertSeatId={}, error={}",
+                            concertId, seatId, e.getMessage());
+                    seatInfo = seatInfoHelper.generateDummySeatInfo(seatId.intValue());
+                }
+                seatInfos.put(seatId, seatInfo);
+            }
+
+            // 2. 서비스 레이어에서 일괄 선점 (단일 스크립트 호출)
+            List<SeatStatus> reservedSeats = seatStatusService.reserveSeats(concertId, seatInfos, user.getUserId());
+
+            List<SeatStatusResponseDTO> responses = reservedSeats.stream()
+                    .map(seat -> SeatStatusResponseDTO.from(seat, user.getUserId()))
+                    .collect(Collectors.toList());
+
+            log.info("다중 좌석 선점 성공: concertId={}, seatIds={}, userId={}",
+                    concertId, seatInfos.keySet(), user.getUserId());
+
+            return ResponseEntity.ok(SuccessResponse.of("다중 좌석 선점 성공", responses));
+
+        } catch (SeatReservationException e) {
+            log.warn("다중 좌석 선점 실패: concertId={}, seatIds={}, userId={}, message={}",
+                    concertId, request.seatIds(), user.getUserId(), e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(SuccessResponse.of(e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("다중 좌석 선점 처리 중 예기치 않은 오류: concertId={}, seatIds={}, userId={}",
+                    concertId, request.seatIds(), user.getUserId(), e);
+            return ResponseEntity.status(500)
+                    .body(SuccessResponse.of("좌석 선점 처리 중 오류가 발생했습니다.", null));
+        }
+    }
+
+    /**
+     * 좌석 자동 배정 선점 (best-available)
+     * - 등급/구역 조건에 맞는 같은 열의 연속된 빈 좌석 N개를 서버가 골라 한 번에 선점
+     * - 동시 요청은 상위 후보 좌석 중 무작위로 나뉘어 배정되고, 경합으로 실패하면 다른 좌석으로 재시도
+     */
+    @Operation(summary = "좌석 자동 배정 선점", description = "조건(등급/구역)에 맞는 인접 좌석 N개를 자동으로 골라 5분간 임시 선점합니다 (전체 성공 또는 전체 실패)")
+    @PostMapping("/concerts/{concertId}/seats/auto-reserve")
+    public ResponseEntity<SuccessResponse<List<SeatStatusResponseDTO>>> autoReserveSeats(
+            @Parameter(description = "콘서트 ID", example = "1")
+            @PathVariable Long concertId,
+            @Valid @RequestBody SeatAutoReserveRequestDTO request,
+            @AuthenticationPrincipal CustomUserDetails user) {
+
+        try {
+            log.info("좌석 자동 배정 요청: concertId={}, count={}, grade={}, section={}, userId={}",
+                    concertId, request.count(), request.grade(), request.section(), user.getUserId());
+
+            List<SeatStatus> reservedSeats = seatAllocationService.allocate(
+                    concertId, request.count(), request.grade(), request.section(), user.getUserId());
+
+            List<SeatStatusResponseDTO> responses = reservedSeats.stream()
+                    .map(seat -> SeatStatusResponseDTO.from(seat, user.getUserId()))
+                    .collect(Collectors.toList());
+
+            return ResponseEntity.ok(SuccessResponse.of("좌석 자동 배정 성공", responses));
+
+        } catch (SeatReservationException e) {
+            log.warn("좌석 자동 배정 실패: concertId={}, count={}, userId={}, message={}",
+                    concertId, request.count(), user.getUserId(), e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(SuccessResponse.of(e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("좌석 자동 배정 처리 중 예기치 않은 오류: concertId={}, count={}, userId={}",
+                    concertId, request.count(), user.getUserId(), e);
+            return ResponseEntity.status(500)
+                    .body(SuccessResponse.of("좌석 자동 배정 처리 중 오류가 발생했습니다.", null));
+        }
+    }
+
     /**
      * 좌석 선점 해제
      */
@@ -0,0 +1,70 @@
+package com.team03.ticketmon.seat.domain;
+
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌석 선점 저널 엔티티
+ * - Redis 좌석 상태가 바뀔 때마다 바뀐 뒤의 상태를 한 행씩 추가 기록 (append-only)
+ * - Redis 데이터 유실 후 캐시를 DB에서 다시 만들 때, 좌석별 마지막 기록이 아직 유효한 선점이면 복원
+ * - 기록은 SeatHoldJournal이 JDBC 배치 INSERT로 수행하므로 엔티티는 스키마 정의와 조회에만 사용
+ * - 좌석별 기록 순서는 seq(좌석 스크립트가 발급한 변경 로그 순번) 기준
+ *   (journal_id 는 노드별 대기열이 DB에 기록된 순서, recorded_at 은 노드별 시계이므로 보관 기간 판단에만 사용)
+ * - ddl-auto: validate 환경의 테이블/인덱스 생성 스크립트: resources/db/seat_hold_journal.sql
+ */
+@Entity
+@Table(name = "seat_hold_journal",
+        indexes = {
+                @Index(name = "idx_seat_hold_journal_concert_journal", columnList = "concert_id, journal_id"),
+                @Index(name = "idx_seat_hold_journal_recorded", columnList = "recorded_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SeatHoldJournalEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "journal_id")
+    private Long journalId;
+
+    @Column(name = "concert_id", nullable = false)
+    private Long concertId;
+
+    @Column(name = "concert_seat_id", nullable = false)
+    private Long concertSeatId;
+
+    @Column(name = "seq", nullable = false)
+    private long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private SeatStatusEnum status;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "reserved_at")
+    private LocalDateTime reservedAt;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "seat_info", length = 100)
+    private String seatInfo;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    /**
+     * 기록 시점 기준으로 아직 유효한 선점인지 (영구 선점은 만료 시각 없음)
+     */
+    public boolean isActiveHold(LocalDateTime now) {
+        return status == SeatStatusEnum.RESERVED && userId != null
+                && (expiresAt == null || expiresAt.isAfter(now));
+    }
+}
@@ -0,0 +1,20 @@
+package com.team03.ticketmon.seat.dto;
+
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 좌석 자동 배정 선점 요청 DTO
+ * - 조건(등급/구역)에 맞는 같은 열의 연속된 빈 좌석 N개를 서버가 골라 한 번에 선점
+ */
+public record SeatAutoReserveRequestDTO(
+        @NotNull(message = "좌석 수를 입력해야 합니다.")
+        @Min(value = 1, message = "좌석 수는 1 이상이어야 합니다.")
+        Integer count, // 선점할 좌석 수
+
+        SeatGrade grade, // 좌석 등급 (없으면 전체 등급)
+
+        String section // 구역명 (없으면 전체 구역)
+) {
+}
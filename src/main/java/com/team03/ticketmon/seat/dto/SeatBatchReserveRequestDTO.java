@@ -0,0 +1,15 @@
+package com.team03.ticketmon.seat.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * 다중 좌석 일괄 선점 요청 DTO
+ * - 요청한 좌석 전체가 선점되거나, 하나도 선점되지 않음 (All-or-Nothing)
+ */
+public record SeatBatchReserveRequestDTO(
+        @NotEmpty(message = "좌석을 하나 이상 선택해야 합니다.")
+        List<Long> seatIds // 선점할 좌석 ID 목록 (ConcertSeat ID)
+) {
+}
@@ -0,0 +1,57 @@
+package com.team03.ticketmon.seat.dto;
+
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 좌석 변경분 응답 DTO
+ * - 클라이언트가 마지막으로 받은 순번(sinceSeq) 이후의 좌석 변경을 순번 오름차순으로 담음
+ * - 변경 로그에서 이미 잘려 나간 구간이면 snapshot=true 로 전체 좌석 상태를 담아 반환
+ * - 클라이언트는 changes 를 순서대로 적용한 뒤 다음 요청에 lastSeq 를 sinceSeq 로 보냄
+ * - 샤딩한 콘서트는 cursor 도 함께 보내야 변경분만 받음 (샤딩하지 않은 콘서트는 cursor=null)
+ */
+@Schema(description = "좌석 변경분 (순번 기반)")
+public record SeatChangesDTO(
+
+        @Schema(description = "콘서트 ID", example = "1")
+        Long concertId,
+
+        @Schema(description = "요청한 기준 순번", example = "120")
+        long sinceSeq,
+
+        @Schema(description = "이번 응답까지 반영된 순번 (다음 요청의 sinceSeq)", example = "135")
+        long lastSeq,
+
+        @Schema(description = "샤드별 순번 커서 (샤딩한 콘서트만, 다음 요청의 cursor)", example = "40.38.57")
+        String cursor,
+
+        @Schema(description = "true면 changes가 변경분이 아닌 전체 좌석 상태 (기존 좌석 맵을 교체)", example = "false")
+        boolean snapshot,
+
+        @Schema(description = "조회 개수 제한으로 남은 변경분이 더 있는지 여부", example = "false")
+        boolean hasMore,
+
+        @Schema(description = "좌석 변경 목록 (순번 오름차순)")
+        List<Change> changes
+) {
+
+    /**
+     * 개별 좌석 변경
+     */
+    public record Change(
+            @Schema(description = "변경 순번 (스냅샷이면 스냅샷 기준 순번)", example = "121")
+            long seq,
+
+            @Schema(description = "좌석 ID", example = "15")
+            Long seatId,
+
+            @Schema(description = "변경된 좌석 상태", example = "RESERVED")
+            SeatStatusEnum status,
+
+            @Schema(description = "선점/예매 사용자 ID (AVAILABLE이면 null)", example = "42")
+            Long userId
+    ) {
+    }
+}
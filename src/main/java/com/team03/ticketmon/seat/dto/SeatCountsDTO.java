@@ -0,0 +1,67 @@
+package com.team03.ticketmon.seat.dto;
+
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 콘서트 좌석 수 집계 DTO
+ * - 좌석 상태 변경 시 Lua 스크립트에서 함께 갱신되는 카운터(seat:counts:{concertId})를 그대로 담음
+ * - 좌석 전체를 읽지 않고 한 번의 해시 조회로 "VIP 잔여 N석" 같은 정보를 제공
+ */
+@Schema(description = "좌석 수 집계 (상태별/구역별/등급별)")
+public record SeatCountsDTO(
+
+        @Schema(description = "콘서트 ID", example = "1")
+        Long concertId,
+
+        @Schema(description = "상태별 좌석 수", example = "{\"AVAILABLE\": 850, \"RESERVED\": 6, \"BOOKED\": 144}")
+        Map<SeatStatusEnum, Long> statusCounts,
+
+        @Schema(description = "구역별 상태별 좌석 수")
+        Map<String, Map<SeatStatusEnum, Long>> sectionCounts,
+
+        @Schema(description = "등급별 상태별 좌석 수")
+        Map<String, Map<SeatStatusEnum, Long>> gradeCounts,
+
+        @Schema(description = "최저 가격", example = "50000")
+        BigDecimal minPrice,
+
+        @Schema(description = "최고 가격", example = "200000")
+        BigDecimal maxPrice
+) {
+
+    /**
+     * 전체 좌석 수
+     */
+    public long totalSeats() {
+        return sum(statusCounts);
+    }
+
+    /**
+     * 특정 상태의 좌석 수
+     */
+    public long count(SeatStatusEnum status) {
+        return statusCounts.getOrDefault(status, 0L);
+    }
+
+    /**
+     * 특정 구역의 예매 가능 좌석 수
+     */
+    public long availableInSection(String section) {
+        return sectionCounts.getOrDefault(section, Map.of()).getOrDefault(SeatStatusEnum.AVAILABLE, 0L);
+    }
+
+    /**
+     * 특정 등급의 예매 가능 좌석 수
+     */
+    public long availableInGrade(String grade) {
+        return gradeCounts.getOrDefault(grade, Map.of()).getOrDefault(SeatStatusEnum.AVAILABLE, 0L);
+    }
+
+    private static long sum(Map<SeatStatusEnum, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,71 @@
+package com.team03.ticketmon.seat.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 열(column) 기반 좌석 배치도 응답 DTO (대형 공연장용)
+ * - 좌석마다 객체를 만들지 않고 같은 길이의 병렬 배열로 전달 (i번째 원소들이 i번째 좌석)
+ * - 구역/등급/가격/상태는 사전(dictionary) 배열의 인덱스로 인코딩
+ * - Accept: application/vnd.ticketmon.seat-layout.columnar+json 으로 요청할 때만 사용 (기본은 SeatLayoutResponseDTO)
+ * - seq 는 좌석 변경 로그 순번으로, 이후 변경분은 /api/seats/concerts/{concertId}/changes?sinceSeq={seq} 로 받음
+ */
+@Schema(description = "열 기반 좌석 배치도 (병렬 배열 + 사전 인코딩)")
+public record SeatLayoutColumnarDTO(
+
+        @Schema(description = "콘서트 ID", example = "1")
+        Long concertId,
+
+        @Schema(description = "정적 배치도 버전", example = "3f9a1c0b2d4e5f60")
+        String layoutVersion,
+
+        @Schema(description = "상태 기준 좌석 변경 순번", example = "135")
+        long seq,
+
+        @Schema(description = "공연장 정보")
+        SeatLayoutResponseDTO.VenueInfo venueInfo,
+
+        @Schema(description = "구역 사전 (sectionIndexes 값의 대상)")
+        List<String> sections,
+
+        @Schema(description = "등급 사전 (gradeIndexes 값의 대상)")
+        List<String> grades,
+
+        @Schema(description = "가격 사전 (priceIndexes 값의 대상)")
+        List<BigDecimal> prices,
+
+        @Schema(description = "상태 사전 (statusCodes 각 문자 '0'~'9' 가 가리키는 인덱스)")
+        List<String> statuses,
+
+        @Schema(description = "콘서트 좌석 ID (실시간 상태 조회 키)")
+        long[] concertSeatIds,
+
+        @Schema(description = "공연장 좌석 ID")
+        long[] seatIds,
+
+        @Schema(description = "구역 인덱스")
+        int[] sectionIndexes,
+
+        @Schema(description = "열")
+        String[] rows,
+
+        @Schema(description = "번호")
+        int[] numbers,
+
+        @Schema(description = "등급 인덱스")
+        int[] gradeIndexes,
+
+        @Schema(description = "가격 인덱스")
+        int[] priceIndexes,
+
+        @Schema(description = "좌석별 상태 코드 (좌석당 한 문자, statuses 인덱스)", example = "0012000")
+        String statusCodes
+) {
+
+    /**
+     * 열 기반 배치도 요청 미디어 타입
+     */
+    public static final String MEDIA_TYPE = "application/vnd.ticketmon.seat-layout.columnar+json";
+}
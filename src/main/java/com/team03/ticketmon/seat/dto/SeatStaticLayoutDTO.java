@@ -0,0 +1,92 @@
+package com.team03.ticketmon.seat.dto;
+
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 정적 좌석 배치도 DTO
+ * - 예매가 열린 뒤에는 바뀌지 않는 좌석 위치/등급/가격만 담음 (예매 상태 없음)
+ * - 콘서트별로 한 번 만들어 직렬화된 바이트로 캐시하고, 버전(내용 해시)을 ETag로 사용
+ * - 실시간 좌석 상태는 concertSeatId 기준으로 좌석 변경분 API(/api/seats/concerts/{concertId}/changes)에서 받아 덮어씀
+ */
+@Schema(description = "정적 좌석 배치도 (좌석 위치/등급/가격)")
+public record SeatStaticLayoutDTO(
+
+        @Schema(description = "콘서트 ID", example = "1")
+        Long concertId,
+
+        @Schema(description = "공연장 정보")
+        SeatLayoutResponseDTO.VenueInfo venueInfo,
+
+        @Schema(description = "구역별 좌석 배치 (구역명 순)")
+        List<Section> sections
+) {
+
+    /**
+     * 구역명으로 구역 찾기 (대소문자 무시)
+     */
+    public Optional<Section> findSection(String sectionName) {
+        return sections.stream()
+                .filter(section -> section.sectionName().equalsIgnoreCase(sectionName))
+                .findFirst();
+    }
+
+    /**
+     * 구역별 정적 좌석 배치
+     */
+    @Schema(description = "구역별 정적 좌석 배치")
+    public record Section(
+            @Schema(description = "구역명", example = "A")
+            String sectionName,
+
+            @Schema(description = "좌석 목록 (열/번호 순)")
+            List<Seat> seats
+    ) {
+
+        /**
+         * 구역 좌석의 콘서트 좌석 ID 목록 (실시간 상태 조회 키)
+         */
+        public List<Long> concertSeatIds() {
+            return seats.stream().map(Seat::concertSeatId).toList();
+        }
+    }
+
+    /**
+     * 개별 좌석 (정적 정보)
+     */
+    @Schema(description = "개별 좌석 정적 정보")
+    public record Seat(
+            @Schema(description = "콘서트 좌석 ID (실시간 상태 조회 키)", example = "15")
+            Long concertSeatId,
+
+            @Schema(description = "공연장 좌석 ID", example = "1")
+            Long seatId,
+
+            @Schema(description = "열", example = "1")
+            String seatRow,
+
+            @Schema(description = "번호", example = "1")
+            Integer seatNumber,
+
+            @Schema(description = "좌석 표시명", example = "A-1-1")
+            String seatLabel,
+
+            @Schema(description = "좌석 등급", example = "VIP")
+            SeatGrade grade,
+
+            @Schema(description = "가격", example = "150000")
+            BigDecimal price
+    ) {
+
+        /**
+         * 실시간 예매 가능 여부를 붙여 배치도 좌석 응답으로 변환
+         */
+        public SeatDetailResponseDTO toDetail(String section, boolean isAvailable) {
+            return new SeatDetailResponseDTO(seatId, section, seatRow, seatNumber, seatLabel, grade, price, isAvailable);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 좌석 상태 변경 이벤트 DTO
@@ -17,9 +18,21 @@ public record SeatUpdateEventDTO(
         SeatStatusEnum status, // 변경된 좌석 상태 (AVAILABLE, RESERVED, BOOKED)
         Long userId,           // 사용자 ID (AVAILABLE일 때는 null)
         String seatInfo,       // 좌석 정보 (A-1, B-25 등)
-        LocalDateTime timestamp // 이벤트 발생 시간
+        LocalDateTime timestamp, // 이벤트 발생 시간
+        List<SeatChange> seats // 다중 좌석 일괄 변경 시 전체 변경 좌석 (단일 변경 시 null)
 ) {
 
+    /**
+     * 일괄 변경 이벤트의 개별 좌석 변경 내용
+     */
+    public record SeatChange(
+            Long seatId,
+            SeatStatusEnum status,
+            Long userId,
+            String seatInfo
+    ) {
+    }
+
     /**
      * SeatStatus 도메인 객체로부터 이벤트 생성
      *
@@ -37,6 +50,42 @@ public record SeatUpdateEventDTO(
                 .build();
     }
 
+    /**
+     * 여러 좌석의 변경을 하나의 이벤트로 생성 (다중 좌석 일괄 선점 등)
+     * - 대표 필드(seatId, status, userId, seatInfo)는 첫 번째 좌석 기준으로 채워
+     *   단일 이벤트만 이해하는 구독자와도 호환
+     *
+     * @param seatStatuses 변경된 좌석 상태 목록 (비어있지 않아야 함)
+     * @return SeatUpdateEvent 객체
+     */
+    public static SeatUpdateEventDTO fromAll(List<com.team03.ticketmon.seat.domain.SeatStatus> seatStatuses) {
+        com.team03.ticketmon.seat.domain.SeatStatus first = seatStatuses.get(0);
+        List<SeatChange> seats = seatStatuses.stream()
+                .map(seat -> new SeatChange(seat.getSeatId(), seat.getStatus(), seat.getUserId(), seat.getSeatInfo()))
+                .toList();
+
+        return SeatUpdateEventDTO.builder()
+                .concertId(first.getConcertId())
+                .seatId(first.getSeatId())
+                .status(first.getStatus())
+                .userId(first.getUserId())
+                .seatInfo(first.getSeatInfo())
+                .timestamp(LocalDateTime.now())
+                .seats(seats)
+                .build();
+    }
+
+    /**
+     * 이벤트에 포함된 모든 좌석 변경 내용
+     * - 일괄 이벤트면 seats, 단일 이벤트면 대표 필드 하나
+     */
+    public List<SeatChange> seatChanges() {
+        if (seats != null && !seats.isEmpty()) {
+            return seats;
+        }
+        return List.of(new SeatChange(seatId, status, userId, seatInfo));
+    }
+
     /**
      * 개별 필드로부터 이벤트 생성
      *
@@ -0,0 +1,23 @@
+package com.team03.ticketmon.seat.repository;
+
+import com.team03.ticketmon.seat.domain.SeatHoldJournalEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 좌석 선점 저널 Repository
+ * - 기록은 JDBC 배치 INSERT(SeatHoldJournal)로 수행하고, 여기서는 복원용 조회만 담당
+ */
+@Repository
+public interface SeatHoldJournalRepository extends JpaRepository<SeatHoldJournalEntry, Long> {
+
+    /**
+     * 콘서트의 보관 기간 내 저널 (journal_id 순)
+     * - recorded_at 은 기록한 노드의 시계라 노드 간 순서를 보장하지 않으므로 정렬에는 쓰지 않음
+     */
+    List<SeatHoldJournalEntry> findByConcertIdAndRecordedAtAfterOrderByJournalIdAsc(
+            Long concertId, LocalDateTime recordedAfter);
+}
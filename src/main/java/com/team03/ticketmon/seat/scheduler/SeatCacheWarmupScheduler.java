@@ -4,7 +4,11 @@ import com.team03.ticketmon._global.util.RedisKeyGenerator;
 import com.team03.ticketmon.concert.domain.Concert;
 import com.team03.ticketmon.concert.repository.ConcertRepository;
 import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.service.SeatCacheInitCoordinator;
 import com.team03.ticketmon.seat.service.SeatCacheInitService;
+import com.team03.ticketmon.seat.service.SeatWarmupProgressStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
@@ -13,8 +17,14 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 좌석 캐시 자동 Warm-up 스케줄러
@@ -22,6 +32,11 @@ import java.util.concurrent.TimeUnit;
  * - 예매 시작 10분 전에 자동으로 좌석 캐시 초기화
  * - 분산 락을 사용하여 중복 실행 방지
  * - 실패한 경우 재시도 로직 포함
+ * - 대상 콘서트를 예매 시작 시각 순으로 제한된 스레드 풀에 넣어 동시에 초기화
+ *   (각 초기화는 청크 단위 배치로 Redis에 기록)
+ * - 콘서트별 진행 상황(적재 좌석 수, 소요 시간, 실패)을 SeatWarmupProgressStore에 기록
+ * - 콘서트별 초기화는 SeatCacheInitCoordinator 임대 아래에서 실행 (캐시 미스 초기화/스냅샷 복원과 겹치지 않음,
+ *   다른 초기화가 진행 중이면 이번 주기는 실패로 남기고 다음 주기에 다시 시도)
  *
  * 스케줄링 주기: 5분마다 실행
  */
@@ -32,13 +47,34 @@ public class SeatCacheWarmupScheduler {
 
     private final ConcertRepository concertRepository;
     private final SeatCacheInitService seatCacheInitService;
+    private final SeatCacheInitCoordinator seatCacheInitCoordinator;
+    private final SeatWarmupProgressStore seatWarmupProgressStore;
     private final RedissonClient redissonClient;
     private final SeatProperties seatProperties;
 
+    private ExecutorService warmupExecutor;
+
     // Redis 키 정의
     private static final String WARMUP_LOCK_KEY = RedisKeyGenerator.WARMUP_LOCK_KEY;
     private static final String SEAT_PROCESSED_CONCERT_KEY_PREFIX = RedisKeyGenerator.SEAT_PROCESSED_CONCERT_KEY_PREFIX;
 
+    @PostConstruct
+    void startExecutor() {
+        int parallelism = Math.max(1, seatProperties.getCache().getWarmupParallelism());
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 제출 순서(예매 시작 시각 순)대로 꺼내는 FIFO 큐 → 먼저 열리는 콘서트가 먼저 초기화됨
+        warmupExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "seat-warmup-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        warmupExecutor.shutdownNow();
+    }
+
     /**
      * 5분마다 실행되는 자동 캐시 Warm-up 스케줄러
      * fixedDelay = 300000ms (5분)
@@ -46,11 +82,12 @@ public class SeatCacheWarmupScheduler {
     @Scheduled(fixedDelay = 300000) // 5분마다 실행
     public void autoWarmupSeatCache() {
         RLock lock = redissonClient.getLock(WARMUP_LOCK_KEY);
+        long timeoutSeconds = seatProperties.getCache().getWarmupTimeoutSeconds();
 
         try {
-            // 분산 락 획득 시도
-            boolean isLocked = lock.tryLock(seatProperties.getLock().getWaitTimeSeconds(), 
-                                          seatProperties.getLock().getLeaseTimeSeconds(), TimeUnit.SECONDS);
+            // 분산 락 획득 시도 (동시 초기화가 모두 끝날 때까지 유지)
+            boolean isLocked = lock.tryLock(seatProperties.getLock().getWaitTimeSeconds(),
+                                          timeoutSeconds, TimeUnit.SECONDS);
 
             if (!isLocked) {
                 log.debug("다른 인스턴스에서 캐시 Warm-up이 실행 중입니다. 현재 스케줄러는 건너뜁니다.");
@@ -59,7 +96,7 @@ public class SeatCacheWarmupScheduler {
 
             log.info("===== 좌석 캐시 자동 Warm-up 스케줄러 시작 =====");
 
-            // 예매 시작이 임박한 콘서트들 조회
+            // 예매 시작이 임박한 콘서트들 조회 (예매 시작 시각 오름차순)
             LocalDateTime targetTime = LocalDateTime.now().plusMinutes(seatProperties.getCache().getWarmupMinutesBefore());
             List<Concert> upcomingConcerts = findUpcomingBookingStarts(targetTime);
 
@@ -70,47 +107,32 @@ public class SeatCacheWarmupScheduler {
                 return;
             }
 
-            // 각 콘서트별로 캐시 초기화 실행
-            int successCount = 0;
-            int failureCount = 0;
+            seatWarmupProgressStore.startRun(upcomingConcerts);
 
+            // 각 콘서트별로 캐시 초기화 실행 (예매 시작 시각 순으로 제출)
+            List<CompletableFuture<Boolean>> futures = new ArrayList<>(upcomingConcerts.size());
             for (Concert concert : upcomingConcerts) {
-                try {
-                    // 이미 처리된 콘서트인지 확인
-                    if (isAlreadyProcessed(concert.getConcertId())) {
-                        log.debug("이미 처리된 콘서트입니다. concertId={}", concert.getConcertId());
-                        continue;
-                    }
-
-                    // 기존 캐시가 존재하면 먼저 삭제
-                    if (isSeatCacheExists(concert.getConcertId())) {
-                        log.info("기존 좌석 캐시 발견. 삭제 후 재초기화 진행: concertId={}, title={}", 
-                                concert.getConcertId(), concert.getTitle());
-                        String deleteResult = seatCacheInitService.clearSeatCache(concert.getConcertId());
-                        log.info("기존 캐시 삭제 완료: concertId={}, 결과={}", concert.getConcertId(), deleteResult);
-                    } else {
-                        log.debug("기존 좌석 캐시 없음. 바로 초기화 진행: concertId={}", concert.getConcertId());
-                    }
-
-                    // 좌석 캐시 초기화 실행
-                    seatCacheInitService.initializeSeatCacheFromDB(concert.getConcertId());
-
-                    // 처리 완료 마킹
-                    markAsProcessed(concert.getConcertId());
-
-                    successCount++;
-                    log.info("좌석 캐시 Warm-up 성공: concertId={}, title={}, bookingStartDate={}",
-                            concert.getConcertId(), concert.getTitle(), concert.getBookingStartDate());
-
-                } catch (Exception e) {
-                    failureCount++;
-                    log.error("좌석 캐시 Warm-up 실패: concertId={}, title={}, error={}",
-                            concert.getConcertId(), concert.getTitle(), e.getMessage(), e);
+                // 이미 처리된 콘서트인지 확인
+                if (isAlreadyProcessed(concert.getConcertId())) {
+                    log.debug("이미 처리된 콘서트입니다. concertId={}", concert.getConcertId());
+                    seatWarmupProgressStore.markSkipped(concert.getConcertId());
+                    continue;
                 }
+                futures.add(CompletableFuture.supplyAsync(() -> warmupConcert(concert), warmupExecutor));
+            }
+
+            try {
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                        .get(timeoutSeconds, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                log.warn("좌석 캐시 Warm-up 대기 시간 초과. 남은 작업은 백그라운드에서 계속 진행: timeoutSeconds={}", timeoutSeconds);
             }
 
-            log.info("===== 좌석 캐시 자동 Warm-up 완료: 성공={}, 실패={} =====",
-                    successCount, failureCount);
+            long successCount = futures.stream().filter(f -> f.isDone() && f.join()).count();
+            long failureCount = futures.stream().filter(f -> f.isDone() && !f.join()).count();
+
+            log.info("===== 좌석 캐시 자동 Warm-up 완료: 성공={}, 실패={}, 진행 중={} =====",
+                    successCount, failureCount, futures.size() - successCount - failureCount);
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -126,6 +148,53 @@ public class SeatCacheWarmupScheduler {
         }
     }
 
+    /**
+     * 콘서트 하나의 좌석 캐시 초기화 (Warm-up 스레드 풀에서 실행)
+     *
+     * @return 성공 여부
+     */
+    private boolean warmupConcert(Concert concert) {
+        Long concertId = concert.getConcertId();
+        long startTime = System.currentTimeMillis();
+
+        try {
+            seatWarmupProgressStore.markRunning(concertId);
+
+            // 기존 캐시가 있어도 삭제하지 않음 (초기화가 새 캐시를 임시 키에 만든 뒤 원자적으로 교체)
+            if (seatCacheInitService.isCacheReady(concertId)) {
+                log.info("기존 좌석 캐시 발견. 새 캐시로 교체 진행: concertId={}, title={}",
+                        concertId, concert.getTitle());
+            } else {
+                log.debug("기존 좌석 캐시 없음. 바로 초기화 진행: concertId={}", concertId);
+            }
+
+            // 좌석 캐시 초기화 실행 (초기화 임대 아래에서, 청크마다 진행 상황 기록)
+            int seatsLoaded = seatCacheInitCoordinator.rebuild(concertId,
+                    () -> seatCacheInitService.initializeSeatCacheFromDB(concertId,
+                            loaded -> seatWarmupProgressStore.updateLoaded(concertId, loaded)));
+
+            // 처리 완료 마킹
+            markAsProcessed(concertId);
+
+            long durationMs = System.currentTimeMillis() - startTime;
+            seatWarmupProgressStore.markDone(concertId, seatsLoaded, durationMs);
+            log.info("좌석 캐시 Warm-up 성공: concertId={}, title={}, bookingStartDate={}, seats={}, durationMs={}",
+                    concertId, concert.getTitle(), concert.getBookingStartDate(), seatsLoaded, durationMs);
+            return true;
+
+        } catch (Exception e) {
+            long durationMs = System.currentTimeMillis() - startTime;
+            log.error("좌석 캐시 Warm-up 실패: concertId={}, title={}, error={}",
+                    concertId, concert.getTitle(), e.getMessage(), e);
+            try {
+                seatWarmupProgressStore.markFailed(concertId, durationMs, e.getMessage());
+            } catch (Exception progressError) {
+                log.warn("Warm-up 실패 기록 중 오류: concertId={}", concertId, progressError);
+            }
+            return false;
+        }
+    }
+
     /**
      * 예매 시작이 임박한 콘서트들을 조회합니다.
      *
@@ -146,28 +215,17 @@ public class SeatCacheWarmupScheduler {
      * @return 처리 여부
      */
     private boolean isAlreadyProcessed(Long concertId) {
-        String key = SEAT_PROCESSED_CONCERT_KEY_PREFIX + concertId;
+        String key = RedisKeyGenerator.concertKey(SEAT_PROCESSED_CONCERT_KEY_PREFIX, concertId);
         return redissonClient.getBucket(key).isExists();
     }
 
-    /**
-     * 좌석 캐시가 이미 존재하는지 확인
-     *
-     * @param concertId 콘서트 ID
-     * @return 캐시 존재 여부
-     */
-    private boolean isSeatCacheExists(Long concertId) {
-        String seatCacheKey = RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX + concertId;
-        return redissonClient.getMap(seatCacheKey).isExists() && !redissonClient.getMap(seatCacheKey).isEmpty();
-    }
-
     /**
      * 콘서트를 처리 완료로 마킹 (24시간 TTL)
      *
      * @param concertId 콘서트 ID
      */
     private void markAsProcessed(Long concertId) {
-        String key = RedisKeyGenerator.SEAT_PROCESSED_CONCERT_KEY_PREFIX + concertId;
+        String key = RedisKeyGenerator.concertKey(RedisKeyGenerator.SEAT_PROCESSED_CONCERT_KEY_PREFIX, concertId);
         // 24시간 후 자동 삭제 (중복 처리 방지용)
         redissonClient.getBucket(key).set("processed", 24, TimeUnit.HOURS);
     }
@@ -0,0 +1,137 @@
+package com.team03.ticketmon.seat.scheduler;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.script.SeatScriptExecutor;
+import com.team03.ticketmon.seat.service.SeatExpiryWheel;
+import com.team03.ticketmon.seat.service.SeatStatusService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.options.KeysScanOptions;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 좌석 선점 만료 스위퍼
+ * 기능:
+ * - 만료 휠(seat:expiry:{concertId})에서 만료 시각이 지난 좌석을 배치 단위로 잘라 EXPIRE 전이로 일괄 해제
+ * - 분산 락으로 한 인스턴스만 실행 (락을 얻지 못하면 대기하지 않고 건너뜀)
+ * - 처리 중 실패하거나 인스턴스가 내려가도 만료 휠에 남아 있으므로 다음 주기에 다시 처리
+ * - 기동 시 운영 중인 좌석 캐시의 선점(만료 시각 있음)을 만료 휠에 채워 넣음
+ *   (만료 휠 도입 전 TTL 키로만 추적되던 선점도 스위퍼가 해제하도록)
+ *
+ * 스케줄링 주기: seat.expiry.sweep-interval-ms (기본 1초)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatExpirySweeper {
+
+    private final SeatExpiryWheel seatExpiryWheel;
+    private final SeatStatusService seatStatusService;
+    private final SeatScriptExecutor seatScriptExecutor;
+    private final RedissonClient redissonClient;
+    private final SeatProperties seatProperties;
+
+    private static final String SEAT_EXPIRY_SWEEP_LOCK_KEY = RedisKeyGenerator.SEAT_EXPIRY_SWEEP_LOCK_KEY;
+
+    // 운영 좌석 상태 키 (seat:status:{concertId} 또는 샤드 키 seat:status:{concertId:shard})
+    private static final Pattern SEAT_STATUS_KEY = Pattern.compile(
+            "^" + Pattern.quote(RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX) + "\\{(\\d+)(?::\\d+)?}$");
+
+    @Scheduled(fixedDelayString = "${seat.expiry.sweep-interval-ms:1000}")
+    public void sweepExpiredReservations() {
+        RLock lock = redissonClient.getLock(SEAT_EXPIRY_SWEEP_LOCK_KEY);
+
+        try {
+            boolean isLocked = lock.tryLock(0, seatProperties.getExpiry().getLockLeaseSeconds(), TimeUnit.SECONDS);
+            if (!isLocked) {
+                log.debug("다른 인스턴스에서 선점 만료 스위퍼가 실행 중입니다. 현재 주기는 건너뜁니다.");
+                return;
+            }
+
+            List<Long> concertIds = seatExpiryWheel.findActiveConcertIds();
+            int releasedTotal = 0;
+
+            for (Long concertId : concertIds) {
+                try {
+                    releasedTotal += seatStatusService.cleanupExpiredReservations(concertId);
+                } catch (Exception e) {
+                    log.error("선점 만료 처리 실패: concertId={}, error={}", concertId, e.getMessage(), e);
+                }
+            }
+
+            if (releasedTotal > 0) {
+                log.info("선점 만료 스위퍼 완료: concerts={}, released={}", concertIds.size(), releasedTotal);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("선점 만료 스위퍼 실행 중 인터럽트 발생", e);
+        } catch (Exception e) {
+            log.error("선점 만료 스위퍼 실행 중 예외 발생", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 기동 시 만료 휠 보정
+     * - 운영 중인 좌석 캐시가 있는 콘서트마다 만료 시각이 있는 선점 좌석을 만료 휠에 등록 (이미 등록된 좌석은 유지)
+     * - 스위퍼와 같은 락으로 한 인스턴스만 실행 (다른 인스턴스가 스윕 중이면 건너뜀, 보정은 멱등)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillExpiryWheel() {
+        RLock lock = redissonClient.getLock(SEAT_EXPIRY_SWEEP_LOCK_KEY);
+
+        try {
+            if (!lock.tryLock(0, -1, TimeUnit.SECONDS)) {
+                log.debug("다른 인스턴스에서 선점 만료 스위퍼가 실행 중입니다. 만료 휠 보정은 건너뜁니다.");
+                return;
+            }
+
+            Set<Long> concertIds = new TreeSet<>();
+            for (String key : redissonClient.getKeys().getKeys(KeysScanOptions.defaults()
+                    .pattern(RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX + "{*}"))) {
+                Matcher matcher = SEAT_STATUS_KEY.matcher(key);
+                if (matcher.matches()) {
+                    concertIds.add(Long.valueOf(matcher.group(1)));
+                }
+            }
+
+            int backfilled = 0;
+            for (Long concertId : concertIds) {
+                try {
+                    backfilled += seatExpiryWheel.backfill(concertId, seatScriptExecutor.readAll(concertId));
+                } catch (Exception e) {
+                    log.warn("만료 휠 보정 실패: concertId={}, error={}", concertId, e.getMessage());
+                }
+            }
+
+            log.info("만료 휠 보정 완료: concerts={}, backfilled={}", concertIds.size(), backfilled);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("만료 휠 보정 중 인터럽트 발생", e);
+        } catch (Exception e) {
+            log.error("만료 휠 보정 중 예외 발생", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
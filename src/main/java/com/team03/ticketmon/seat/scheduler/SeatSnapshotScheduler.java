@@ -0,0 +1,55 @@
+package com.team03.ticketmon.seat.scheduler;
+
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.service.SeatExpiryWheel;
+import com.team03.ticketmon.seat.service.SeatSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 좌석 맵 로컬 스냅샷 스케줄러
+ * 기능:
+ * - 좌석 캐시가 초기화된 콘서트(만료 휠 등록 콘서트)마다 현재 좌석 맵을 로컬 스냅샷 파일로 기록
+ * - seat.snapshot.enabled=true 인 노드에서만 실행 (스냅샷 파일을 남길 노드를 지정하므로 분산 락 없음)
+ *
+ * 스케줄링 주기: seat.snapshot.interval-ms (기본 60초)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatSnapshotScheduler {
+
+    private final SeatExpiryWheel seatExpiryWheel;
+    private final SeatSnapshotService seatSnapshotService;
+    private final SeatProperties seatProperties;
+
+    @Scheduled(fixedDelayString = "${seat.snapshot.interval-ms:60000}")
+    public void writeSnapshots() {
+        if (!seatProperties.getSnapshot().isEnabled()) {
+            return;
+        }
+
+        try {
+            List<Long> concertIds = seatExpiryWheel.findActiveConcertIds();
+            int written = 0;
+
+            for (Long concertId : concertIds) {
+                try {
+                    seatSnapshotService.snapshot(concertId);
+                    written++;
+                } catch (Exception e) {
+                    log.warn("좌석 스냅샷 기록 실패: concertId={}, error={}", concertId, e.getMessage());
+                }
+            }
+
+            log.debug("좌석 스냅샷 스케줄러 완료: concerts={}, written={}", concertIds.size(), written);
+
+        } catch (Exception e) {
+            log.error("좌석 스냅샷 스케줄러 실행 중 예외 발생", e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.team03.ticketmon.seat.script;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 좌석 상태 Lua 스크립트 로더
+ * - classpath:scripts/seat/*.lua 파일을 애플리케이션 시작 시 한 번만 읽어 보관
+ * - 모든 스크립트 앞에 공통 함수(common.lua)를 붙여 하나의 스크립트로 구성
+ * - 실제 전송은 Redisson 스크립트 캐시(EVALSHA)를 통해 이루어짐
+ */
+@Slf4j
+@Component
+public class SeatLuaScripts {
+
+    private static final String SCRIPT_LOCATION = "scripts/seat/";
+
+    private final String reserve;
+    private final String reserveMany;
+    private final String put;
+    private final String transition;
+    private final String changesSince;
+    private final String swap;
+
+    public SeatLuaScripts() {
+        String common = load("common.lua");
+        this.reserve = common + "\n" + load("reserve.lua");
+        this.reserveMany = common + "\n" + load("reserve_many.lua");
+        this.put = common + "\n" + load("put.lua");
+        this.transition = common + "\n" + load("transition.lua");
+        this.changesSince = load("changes_since.lua");
+        this.swap = common + "\n" + load("swap.lua");
+        log.info("좌석 Lua 스크립트 로드 완료: location={}", SCRIPT_LOCATION);
+    }
+
+    /**
+     * 단일 좌석 임시 선점 스크립트
+     */
+    public String reserve() {
+        return reserve;
+    }
+
+    /**
+     * 다중 좌석 일괄 선점 스크립트 (All-or-Nothing)
+     */
+    public String reserveMany() {
+        return reserveMany;
+    }
+
+    /**
+     * 단일 좌석 상태 저장 스크립트 (선점 인덱스 동기화 포함)
+     */
+    public String put() {
+        return put;
+    }
+
+    /**
+     * 다중 좌석 상태 전이 스크립트 (해제/예매/강제 해제/만료/영구 선점/복원/취소)
+     */
+    public String transition() {
+        return transition;
+    }
+
+    /**
+     * 좌석 변경 로그 조회 스크립트 (순번 N 이후 변경분)
+     */
+    public String changesSince() {
+        return changesSince;
+    }
+
+    /**
+     * 좌석 캐시 교체 스크립트 (초기화 임시 키 → 운영 키 RENAME, 운영 캐시의 선점/예매 불가 좌석 이어 붙이기)
+     */
+    public String swap() {
+        return swap;
+    }
+
+    private static String load(String fileName) {
+        ClassPathResource resource = new ClassPathResource(SCRIPT_LOCATION + fileName);
+        try (InputStream in = resource.getInputStream()) {
+            return StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("좌석 Lua 스크립트를 읽을 수 없습니다: " + fileName, e);
+        }
+    }
+}
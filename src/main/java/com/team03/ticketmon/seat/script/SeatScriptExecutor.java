@@ -0,0 +1,731 @@
+package com.team03.ticketmon.seat.script;
+
+import com.team03.ticketmon._global.config.RedisCodecs;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.service.SeatCompactStateStore;
+import com.team03.ticketmon.seat.service.SeatExpiryWheel;
+import com.team03.ticketmon.seat.service.SeatShardRouter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.handler.State;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 좌석 상태 Lua 스크립트 실행기
+ * - 좌석 관련 키 구성과 스크립트 인자 직렬화를 한 곳에서 담당
+ * - SeatStatus 값은 좌석 상태 코덱(RedisCodecs.seatStatus)으로 직렬화하여 RMap과 동일한 형식으로 저장
+ * - 시각 인자는 ISO_LOCAL_DATE_TIME 문자열로 전달 (스크립트에서 사전순 비교)
+ * - 샤딩한 콘서트는 좌석이 속한 샤드의 키로 스크립트를 실행하고, 여러 샤드에 걸친 요청은 샤드별로 나눠 실행 후 결과 병합
+ *   (사용자별 선점 제한은 다른 샤드의 선점 수를 뺀 값으로 전달해 콘서트 전체 기준으로 적용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatScriptExecutor {
+
+    private static final String SEAT_STATUS_KEY_PREFIX = RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX;
+    private static final String SEAT_LAST_UPDATE_KEY_PREFIX = RedisKeyGenerator.SEAT_LAST_UPDATE_KEY_PREFIX;
+    private static final String SEAT_HOLDS_KEY_PREFIX = RedisKeyGenerator.SEAT_HOLDS_KEY_PREFIX;
+    private static final String SEAT_STATE_KEY_PREFIX = RedisKeyGenerator.SEAT_STATE_KEY_PREFIX;
+    private static final String SEAT_HOLDERS_KEY_PREFIX = RedisKeyGenerator.SEAT_HOLDERS_KEY_PREFIX;
+    private static final String SEAT_ORDINAL_KEY_PREFIX = RedisKeyGenerator.SEAT_ORDINAL_KEY_PREFIX;
+    private static final String SEAT_COUNTS_KEY_PREFIX = RedisKeyGenerator.SEAT_COUNTS_KEY_PREFIX;
+    private static final String SEAT_GROUPS_KEY_PREFIX = RedisKeyGenerator.SEAT_GROUPS_KEY_PREFIX;
+    private static final String SEAT_EXPIRY_KEY_PREFIX = RedisKeyGenerator.SEAT_EXPIRY_KEY_PREFIX;
+    private static final String SEAT_SEQ_KEY_PREFIX = RedisKeyGenerator.SEAT_SEQ_KEY_PREFIX;
+    private static final String SEAT_CHANGES_KEY_PREFIX = RedisKeyGenerator.SEAT_CHANGES_KEY_PREFIX;
+    private static final String SEAT_ENGINE_FENCE_KEY_PREFIX = RedisKeyGenerator.SEAT_ENGINE_FENCE_KEY_PREFIX;
+
+    private final RedissonClient redissonClient;
+    private final SeatLuaScripts seatLuaScripts;
+    private final SeatProperties seatProperties;
+    private final SeatShardRouter seatShardRouter;
+    private final RedisCodecs redisCodecs;
+
+    // transition.lua ARGV[5] 적용 방식
+    private static final String MODE_PARTIAL = "0";
+    private static final String MODE_ATOMIC = "1";
+    private static final String MODE_VALIDATE = "2";
+
+    /**
+     * 단일 좌석 임시 선점 스크립트 실행
+     *
+     * @param reserved            저장할 선점 상태 (expiresAt 으로 만료 휠에 등록)
+     * @param now                 선점 시각 (만료 여부 판단 기준)
+     * @param maxSeatCount        사용자당 최대 선점 좌석 수
+     * @param lastUpdateTtlMillis 마지막 업데이트 시간 키 TTL (ms)
+     * @return 스크립트 실행 결과
+     */
+    public SeatScriptResult reserve(SeatStatus reserved, LocalDateTime now, int maxSeatCount,
+                                    long lastUpdateTtlMillis) {
+        Long concertId = reserved.getConcertId();
+        Long concertSeatId = reserved.getSeatId();
+        int shard = seatShardRouter.shardOf(concertId, concertSeatId);
+        int heldElsewhere = seatShardRouter.isSharded(concertId)
+                ? countHeldOutside(findHeldSeatIdsByShard(concertId, reserved.getUserId()), shard, Set.of(concertSeatId))
+                : 0;
+
+        List<Object> keys = List.of(
+                seatShardRouter.key(SEAT_STATUS_KEY_PREFIX, concertId, shard),
+                seatShardRouter.key(SEAT_EXPIRY_KEY_PREFIX, concertId, shard),
+                seatShardRouter.key(SEAT_LAST_UPDATE_KEY_PREFIX, concertId, shard),
+                seatShardRouter.key(SEAT_HOLDS_KEY_PREFIX, concertId, shard),
+                seatShardRouter.key(SEAT_STATE_KEY_PREFIX, concertId, shard),
+                seatShardRouter.key(SEAT_HOLDERS_KEY_PREFIX, concertId, shard),
+                seatShardRouter.key(SEAT_ORDINAL_KEY_PREFIX, concertId, shard),
+                seatShardRouter.key(SEAT_COUNTS_KEY_PREFIX, concertId, shard),
+                seatShardRouter.key(SEAT_GROUPS_KEY_PREFIX, concertId, shard),
+                seatShardRouter.key(SEAT_SEQ_KEY_PREFIX, concertId, shard),
+                seatShardRouter.key(SEAT_CHANGES_KEY_PREFIX, concertId, shard)
+        );
+
+        List<Object> reply = script().eval(RScript.Mode.READ_WRITE, seatLuaScripts.reserve(), RScript.ReturnType.MULTI,
+                keys,
+                concertSeatId.toString(),
+                reserved.getUserId().toString(),
+                encode(reserved),
+                formatTime(now),
+                String.valueOf(maxSeatCount - heldElsewhere),
+                String.valueOf(SeatExpiryWheel.score(reserved.getExpiresAt())),
+                String.valueOf(lastUpdateTtlMillis),
+                SeatCompactStateStore.encodeHolder(reserved),
+                changeLogMaxLength());
+
+        return withHeldElsewhere(SeatScriptResult.from(reply), heldElsewhere);
+    }
+
+    /**
+     * 복원용 선점 재기록 (저널/스냅샷 복원)
+     * - 선점 스크립트로 기록하므로 현재 BOOKED/다른 사용자 선점 좌석은 건너뜀 (선점 개수 제한은 적용하지 않음)
+     * - 영구 선점(만료 시각 없음)은 임시 만료 시각으로 선점한 뒤 LOCK_PERMANENT 전이로 되돌림
+     *
+     * @param hold                되살릴 선점 상태 (expiresAt 이 null 이면 영구 선점)
+     * @param now                 복원 시각
+     * @param holdTtlMinutes      영구 선점을 기록할 때 쓰는 임시 선점 유지 시간 (분)
+     * @param lastUpdateTtlMillis 마지막 업데이트 시간 키 TTL (ms)
+     * @return 선점 스크립트 실행 결과
+     */
+    public SeatScriptResult replayHold(SeatStatus hold, LocalDateTime now, long holdTtlMinutes,
+                                       long lastUpdateTtlMillis) {
+        boolean permanent = hold.getExpiresAt() == null;
+        SeatStatus reserved = SeatStatus.builder()
+                .id(hold.getConcertId() + "-" + hold.getSeatId())
+                .concertId(hold.getConcertId())
+                .seatId(hold.getSeatId())
+                .status(SeatStatus.SeatStatusEnum.RESERVED)
+                .userId(hold.getUserId())
+                .reservedAt(hold.getReservedAt() != null ? hold.getReservedAt() : now)
+                .expiresAt(permanent ? now.plusMinutes(holdTtlMinutes) : hold.getExpiresAt())
+                .seatInfo(hold.getSeatInfo())
+                .build();
+
+        SeatScriptResult result = reserve(reserved, now, Integer.MAX_VALUE, lastUpdateTtlMillis);
+        if (result.isSuccess() && permanent) {
+            transition(SeatTransition.LOCK_PERMANENT, hold.getConcertId(), List.of(hold.getSeatId()),
+                    hold.getUserId(), true, null, lastUpdateTtlMillis);
+        }
+        return result;
+    }
+
+    /**
+     * 다중 좌석 일괄 선점 스크립트 실행 (All-or-Nothing)
+     * - 좌석 전체 검증 후 모두 기록하거나, 하나라도 실패하면 아무것도 기록하지 않음
+     * - 샤딩한 콘서트에서 좌석이 여러 샤드에 걸치면 샤드별로 차례로 선점하고,
+     *   중간 샤드가 실패하면 앞 샤드에서 새로 선점한 좌석을 기록한 값 그대로일 때만 AVAILABLE로 되돌린 뒤 실패 결과 반환
+     *
+     * @param concertId           콘서트 ID
+     * @param userId              사용자 ID
+     * @param reservedSeats       저장할 선점 상태 목록 (좌석 ID 중복 없음, 만료 시각 동일)
+     * @param now                 선점 시각 (만료 여부 판단 기준)
+     * @param maxSeatCount        사용자당 최대 선점 좌석 수
+     * @param expiresAt           선점 만료 시각 (만료 휠 점수)
+     * @param lastUpdateTtlMillis 마지막 업데이트 시간 키 TTL (ms)
+     * @return 스크립트 실행 결과
+     */
+    public SeatScriptResult reserveMany(Long concertId, Long userId, List<SeatStatus> reservedSeats,
+                                        LocalDateTime now, int maxSeatCount,
+                                        LocalDateTime expiresAt, long lastUpdateTtlMillis) {
+        if (!seatShardRouter.isSharded(concertId)) {
+            return reserveManyInShard(concertId, 0, userId, reservedSeats, now, maxSeatCount,
+                    expiresAt, lastUpdateTtlMillis);
+        }
+
+        Map<Integer, List<Long>> heldByShard = findHeldSeatIdsByShard(concertId, userId);
+        Set<Long> requested = new HashSet<>();
+        reservedSeats.forEach(seat -> requested.add(seat.getSeatId()));
+
+        Map<Integer, List<SeatStatus>> byShard =
+                seatShardRouter.groupByShard(concertId, reservedSeats, SeatStatus::getSeatId);
+        List<SeatStatus> newlyReserved = new ArrayList<>();
+        List<String> kept = new ArrayList<>();
+        Map<Long, Long> seqs = new LinkedHashMap<>();
+
+        for (Map.Entry<Integer, List<SeatStatus>> entry : byShard.entrySet()) {
+            int shard = entry.getKey();
+            // 다른 샤드의 기존 선점(요청 좌석 제외) + 다른 샤드로 요청한 좌석 수만큼 이 샤드의 제한을 줄임
+            int heldElsewhere = countHeldOutside(heldByShard, shard, requested);
+            int requestedElsewhere = reservedSeats.size() - entry.getValue().size();
+
+            SeatScriptResult result = withHeldElsewhere(reserveManyInShard(concertId, shard, userId, entry.getValue(),
+                    now, maxSeatCount - heldElsewhere - requestedElsewhere, expiresAt, lastUpdateTtlMillis), heldElsewhere);
+
+            if (!result.isSuccess()) {
+                revertNewlyReserved(newlyReserved, lastUpdateTtlMillis);
+                return result;
+            }
+
+            Set<String> keptInShard = new HashSet<>(Arrays.asList(result.payload().split(",")));
+            keptInShard.remove("");
+            kept.addAll(keptInShard);
+            seqs.putAll(result.seqs());
+            entry.getValue().stream()
+                    .filter(seat -> !keptInShard.contains(seat.getSeatId().toString()))
+                    .forEach(newlyReserved::add);
+        }
+
+        return new SeatScriptResult(SeatScriptResult.Outcome.OK, String.join(",", kept), seqs);
+    }
+
+    private SeatScriptResult reserveManyInShard(Long concertId, int shard, Long userId, List<SeatStatus> reservedSeats,
+                                                LocalDateTime now, int maxSeatCount,
+                                                LocalDateTime expiresAt, long lastUpdateTtlMillis) {
+        List<Object> keys = shardKeys(concertId, shard);
+
+        List<Object> args = new ArrayList<>(6 + reservedSeats.size() * 3);
+        args.add(userId.toString());
+        args.add(formatTime(now));
+        args.add(String.valueOf(maxSeatCount));
+        args.add(String.valueOf(SeatExpiryWheel.score(expiresAt)));
+        args.add(String.valueOf(lastUpdateTtlMillis));
+        args.add(changeLogMaxLength());
+
+        for (SeatStatus reserved : reservedSeats) {
+            args.add(reserved.getSeatId().toString());
+            args.add(encode(reserved));
+            args.add(SeatCompactStateStore.encodeHolder(reserved));
+        }
+
+        List<Object> reply = script().eval(RScript.Mode.READ_WRITE, seatLuaScripts.reserveMany(), RScript.ReturnType.MULTI,
+                keys, args.toArray());
+
+        return SeatScriptResult.from(reply);
+    }
+
+    /**
+     * 단일 좌석 상태 저장 스크립트 실행
+     * - 상태 저장과 사용자별 선점 인덱스/압축 저장소/만료 휠 동기화, 마지막 업데이트 시간 갱신을 한 번에 처리
+     *
+     * @param seatStatus          저장할 좌석 상태
+     * @param lastUpdateTtlMillis 마지막 업데이트 시간 키 TTL (ms)
+     * @return 스크립트 실행 결과 (변경 로그 순번 포함)
+     */
+    public SeatScriptResult put(SeatStatus seatStatus, long lastUpdateTtlMillis) {
+        return put(seatStatus, lastUpdateTtlMillis, "");
+    }
+
+    /**
+     * 펜싱 토큰을 확인하는 단일 좌석 상태 저장 (단일 기록자 엔진 전용)
+     * - 샤드의 펜싱 키 값이 토큰과 다르면(다른 노드가 소유권을 넘겨받음) 저장하지 않고 FENCED 반환
+     *
+     * @param fenceToken 엔진이 소유권을 얻을 때 기록한 토큰 (빈 문자열이면 확인하지 않음)
+     * @return OK 또는 FENCED
+     */
+    public SeatScriptResult put(SeatStatus seatStatus, long lastUpdateTtlMillis, String fenceToken) {
+        return put(seatStatus, lastUpdateTtlMillis, fenceToken, "");
+    }
+
+    // expectedRaw: 보상 기록 시 현재 값이 이 값일 때만 저장 (빈 문자열이면 확인하지 않음)
+    private SeatScriptResult put(SeatStatus seatStatus, long lastUpdateTtlMillis, String fenceToken,
+                                 String expectedRaw) {
+        Long concertId = seatStatus.getConcertId();
+        int shard = seatShardRouter.shardOf(concertId, seatStatus.getSeatId());
+
+        List<Object> keys = shardKeys(concertId, shard);
+        keys.add(seatShardRouter.key(SEAT_ENGINE_FENCE_KEY_PREFIX, concertId, shard));
+
+        String holderId = seatStatus.isReserved() && seatStatus.getUserId() != null
+                ? seatStatus.getUserId().toString() : "";
+        String expiryScore = seatStatus.isReserved() && seatStatus.getExpiresAt() != null
+                ? String.valueOf(SeatExpiryWheel.score(seatStatus.getExpiresAt())) : "";
+
+        List<Object> reply = script().eval(RScript.Mode.READ_WRITE, seatLuaScripts.put(), RScript.ReturnType.MULTI,
+                keys,
+                seatStatus.getSeatId().toString(),
+                encode(seatStatus),
+                seatStatus.getStatus().name(),
+                holderId,
+                formatTime(LocalDateTime.now()),
+                String.valueOf(lastUpdateTtlMillis),
+                SeatCompactStateStore.encodeHolder(seatStatus),
+                expiryScore,
+                changeLogMaxLength(),
+                fenceToken,
+                expectedRaw);
+
+        return SeatScriptResult.from(reply);
+    }
+
+    /**
+     * 단일 기록자 엔진 펜싱 토큰 기록 (모든 샤드)
+     * - 소유권을 얻은 엔진이 상태를 읽기 전에 호출하여, 이전 소유 노드의 늦은 기록을 put 스크립트에서 거부하게 함
+     */
+    public void fence(Long concertId, String fenceToken) {
+        RBatch batch = redissonClient.createBatch();
+        for (String fenceKey : seatShardRouter.keys(SEAT_ENGINE_FENCE_KEY_PREFIX, concertId)) {
+            batch.<String>getBucket(fenceKey, StringCodec.INSTANCE).setAsync(fenceToken);
+        }
+        batch.execute();
+    }
+
+    /**
+     * 다중 좌석 상태 전이 스크립트 실행
+     * - 좌석별 검증, 새 상태 계산, 저장, 인덱스/압축 저장소/만료 휠 갱신을 한 번의 호출로 처리
+     * - 샤딩한 콘서트에서 좌석이 여러 샤드에 걸치면 샤드별로 실행 후 요청 순서대로 결과 병합
+     *   (전체 적용이면 먼저 모든 샤드를 검증만 하고, 모두 통과했을 때만 샤드별로 적용.
+     *    검증 후 적용 사이에 다른 요청이 좌석을 바꿔 뒤 샤드가 거부하면, 앞 샤드의 변경을 이전 값으로 되돌림)
+     *
+     * @param transition          전이 종류
+     * @param concertId           콘서트 ID
+     * @param seatIds             대상 좌석 ID 목록
+     * @param userId              요청 사용자 ID (소유자 검증이 필요 없으면 null)
+     * @param atomic              true면 한 좌석이라도 실패 시 아무것도 적용하지 않음
+     * @param restoreExpiresAt    RESTORE 시 새 만료 시각 (null이면 영구 선점)
+     * @param lastUpdateTtlMillis 마지막 업데이트 시간 키 TTL (ms)
+     * @return 좌석별 전이 결과
+     */
+    public SeatTransitionResult transition(SeatTransition transition, Long concertId, List<Long> seatIds,
+                                           Long userId, boolean atomic,
+                                           LocalDateTime restoreExpiresAt, long lastUpdateTtlMillis) {
+        String mode = atomic ? MODE_ATOMIC : MODE_PARTIAL;
+        Map<Integer, List<Long>> byShard = seatShardRouter.groupByShard(concertId, seatIds, seatId -> seatId);
+
+        if (byShard.size() <= 1) {
+            int shard = byShard.isEmpty() ? 0 : byShard.keySet().iterator().next();
+            return toTransitionResult(transition, seatIds, evalTransition(transition, concertId, shard, seatIds,
+                    userId, mode, restoreExpiresAt, lastUpdateTtlMillis));
+        }
+
+        Map<Long, SeatTransitionResult.SeatOutcome> outcomes = new HashMap<>(seatIds.size() * 2);
+
+        if (atomic) {
+            boolean rejected = false;
+            for (Map.Entry<Integer, List<Long>> entry : byShard.entrySet()) {
+                List<Object> reply = evalTransition(transition, concertId, entry.getKey(), entry.getValue(),
+                        userId, MODE_VALIDATE, restoreExpiresAt, lastUpdateTtlMillis);
+                rejected |= !"VALIDATED".equals(String.valueOf(reply.get(0)));
+                toTransitionResult(transition, entry.getValue(), reply).seats()
+                        .forEach(outcome -> outcomes.put(outcome.seatId(), outcome));
+            }
+            if (rejected) {
+                return mergeOutcomes(transition, false, seatIds, outcomes);
+            }
+        }
+
+        boolean applied = true;
+        List<AppliedSeat> appliedSeats = new ArrayList<>();
+        for (Map.Entry<Integer, List<Long>> entry : byShard.entrySet()) {
+            List<Object> reply = evalTransition(transition, concertId, entry.getKey(), entry.getValue(),
+                    userId, mode, restoreExpiresAt, lastUpdateTtlMillis);
+            SeatTransitionResult shardResult = toTransitionResult(transition, entry.getValue(), reply);
+            applied &= shardResult.applied();
+            shardResult.seats().forEach(outcome -> outcomes.put(outcome.seatId(), outcome));
+
+            if (atomic && !shardResult.applied()) {
+                // 검증과 적용 사이에 다른 요청이 좌석을 바꾼 경우: 앞 샤드에서 바꾼 좌석을 되돌리고 전체 거부
+                log.warn("샤드 간 좌석 전이 중 일부 샤드 적용 거부, 앞 샤드 변경 되돌림: transition={}, concertId={}, seatIds={}",
+                        transition, concertId, seatIds);
+                revertApplied(appliedSeats, lastUpdateTtlMillis);
+                appliedSeats.forEach(seat -> outcomes.computeIfPresent(seat.seatId(),
+                        (seatId, outcome) -> new SeatTransitionResult.SeatOutcome(seatId, outcome.code(), outcome.previous(), null)));
+                return mergeOutcomes(transition, false, seatIds, outcomes);
+            }
+            for (int i = 0; i < entry.getValue().size(); i++) {
+                SeatTransitionResult.SeatOutcome outcome = shardResult.seats().get(i);
+                if (outcome.isChanged()) {
+                    appliedSeats.add(new AppliedSeat(outcome.seatId(), outcome.previous(), String.valueOf(reply.get(1 + i * 4 + 2))));
+                }
+            }
+        }
+
+        return mergeOutcomes(transition, applied, seatIds, outcomes);
+    }
+
+    private List<Object> evalTransition(SeatTransition transition, Long concertId, int shard, List<Long> seatIds,
+                                        Long userId, String mode,
+                                        LocalDateTime restoreExpiresAt, long lastUpdateTtlMillis) {
+        List<Object> keys = shardKeys(concertId, shard);
+
+        List<Object> args = new ArrayList<>(8 + seatIds.size());
+        args.add(transition.name());
+        args.add(userId != null ? userId.toString() : "");
+        args.add(formatTime(LocalDateTime.now()));
+        args.add(String.valueOf(lastUpdateTtlMillis));
+        args.add(mode);
+        args.add(restoreExpiresAt != null ? formatTime(restoreExpiresAt) : "");
+        args.add(restoreExpiresAt != null ? String.valueOf(SeatExpiryWheel.score(restoreExpiresAt)) : "");
+        args.add(changeLogMaxLength());
+
+        for (Long seatId : seatIds) {
+            args.add(seatId.toString());
+        }
+
+        return script().eval(RScript.Mode.READ_WRITE, seatLuaScripts.transition(), RScript.ReturnType.MULTI,
+                keys, args.toArray());
+    }
+
+    private static SeatTransitionResult mergeOutcomes(SeatTransition transition, boolean applied, List<Long> seatIds,
+                                                      Map<Long, SeatTransitionResult.SeatOutcome> outcomes) {
+        return new SeatTransitionResult(transition, applied, seatIds.stream().map(outcomes::get).toList());
+    }
+
+    /**
+     * 다중 선점 중간 실패 시 앞 샤드에서 새로 선점한 좌석을 AVAILABLE로 되돌림 (보상)
+     * - 현재 값이 이번 요청이 기록한 선점 값 그대로인 좌석만 되돌림 (그 사이 변경된 좌석은 유지)
+     */
+    private void revertNewlyReserved(List<SeatStatus> newlyReserved, long lastUpdateTtlMillis) {
+        for (SeatStatus reserved : newlyReserved) {
+            SeatStatus available = SeatStatus.builder()
+                    .id(reserved.getId())
+                    .concertId(reserved.getConcertId())
+                    .seatId(reserved.getSeatId())
+                    .status(SeatStatus.SeatStatusEnum.AVAILABLE)
+                    .seatInfo(reserved.getSeatInfo())
+                    .build();
+            compensate(available, encode(reserved), lastUpdateTtlMillis);
+        }
+    }
+
+    /**
+     * 샤드 간 전체 적용 전이 중간 거부 시 앞 샤드에서 바꾼 좌석을 이전 값으로 되돌림 (보상)
+     * - 현재 값이 전이 스크립트가 기록한 값 그대로인 좌석만 되돌림 (그 사이 변경된 좌석은 유지)
+     */
+    private void revertApplied(List<AppliedSeat> appliedSeats, long lastUpdateTtlMillis) {
+        for (AppliedSeat seat : appliedSeats) {
+            compensate(seat.previous(), seat.currentRaw(), lastUpdateTtlMillis);
+        }
+    }
+
+    // 전이 스크립트가 바꾼 좌석의 이전 상태와 기록한 값 (스크립트가 인코딩한 원문 그대로 비교)
+    private record AppliedSeat(Long seatId, SeatStatus previous, String currentRaw) {
+    }
+
+    private void compensate(SeatStatus restored, String expectedRaw, long lastUpdateTtlMillis) {
+        try {
+            SeatScriptResult result = put(restored, lastUpdateTtlMillis, "", expectedRaw);
+            if (!result.isSuccess()) {
+                log.warn("좌석 보상 기록 생략 (다른 요청이 먼저 변경): concertId={}, seatId={}, outcome={}",
+                        restored.getConcertId(), restored.getSeatId(), result.outcome());
+            }
+        } catch (Exception e) {
+            // 되돌리지 못한 선점은 만료 시 자동 해제됨
+            log.error("좌석 보상 기록 실패: concertId={}, seatId={}",
+                    restored.getConcertId(), restored.getSeatId(), e);
+        }
+    }
+
+    /**
+     * 초기화 임시 키를 운영 키로 원자적으로 교체 (샤드 하나)
+     * - 운영 캐시가 있으면 진행 중인 선점/예매 불가 좌석을 같은 스크립트에서 새 캐시로 이어 붙임
+     *   (새 값이 AVAILABLE 인 좌석만, 선점 인덱스/압축 상태/집계/만료 휠 포함 → 교체 직후 선점이 풀려 보이지 않음)
+     * - 예매 불가 좌석 후보는 스크립트 밖에서 운영 해시를 청크 단위로 훑어(HSCAN) 좌석 ID만 넘김
+     *   (스크립트는 후보/선점 좌석만 읽으므로 대형 공연에서도 Redis를 좌석 수만큼 붙잡지 않음)
+     *
+     * @param concertId    콘서트 ID
+     * @param shard        샤드 번호
+     * @param stagedToLive 임시 키 → 운영 키
+     * @param clearKeys    교체와 함께 삭제할 운영 키 (이어 붙인 좌석의 선점 인덱스/만료 휠은 교체 후 다시 기록)
+     * @param carryHolds   운영 캐시의 선점/예매 불가 좌석 이어 붙이기 여부
+     * @return 교체 결과
+     */
+    public SeatSwapResult swap(Long concertId, int shard, Map<String, String> stagedToLive, List<String> clearKeys,
+                               boolean carryHolds) {
+        List<Object> keys = new ArrayList<>(stagedToLive.size() * 2 + clearKeys.size() + 8);
+        stagedToLive.forEach((stagedKey, liveKey) -> {
+            keys.add(stagedKey);
+            keys.add(liveKey);
+        });
+        keys.addAll(clearKeys);
+        if (carryHolds) {
+            keys.add(seatShardRouter.key(SEAT_STATUS_KEY_PREFIX, concertId, shard));
+            keys.add(seatShardRouter.key(SEAT_STATE_KEY_PREFIX, concertId, shard));
+            keys.add(seatShardRouter.key(SEAT_HOLDERS_KEY_PREFIX, concertId, shard));
+            keys.add(seatShardRouter.key(SEAT_ORDINAL_KEY_PREFIX, concertId, shard));
+            keys.add(seatShardRouter.key(SEAT_COUNTS_KEY_PREFIX, concertId, shard));
+            keys.add(seatShardRouter.key(SEAT_GROUPS_KEY_PREFIX, concertId, shard));
+            keys.add(seatShardRouter.key(SEAT_HOLDS_KEY_PREFIX, concertId, shard));
+            keys.add(seatShardRouter.key(SEAT_EXPIRY_KEY_PREFIX, concertId, shard));
+        }
+
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(stagedToLive.size()));
+        args.add(String.valueOf(clearKeys.size()));
+        args.add(carryHolds ? "1" : "0");
+        if (carryHolds) {
+            args.addAll(findUnavailableSeatIds(concertId, shard));
+        }
+
+        List<Object> reply = script().eval(RScript.Mode.READ_WRITE, seatLuaScripts.swap(), RScript.ReturnType.MULTI,
+                keys, args.toArray());
+        if (reply == null || reply.size() != 3) {
+            throw new IllegalStateException("좌석 캐시 교체 스크립트 응답 형식이 올바르지 않습니다: " + reply);
+        }
+        return new SeatSwapResult(toLong(reply.get(0)), toLong(reply.get(1)), toLong(reply.get(2)) == 1L);
+    }
+
+    /**
+     * 운영 좌석 해시에서 예매 불가(UNAVAILABLE) 좌석 ID 수집 (샤드 하나)
+     * - 좌석 수 집계에 예매 불가 좌석이 없으면 해시를 읽지 않음 (집계가 없으면 확인할 수 없으므로 훑음)
+     * - HSCAN 으로 초기화 청크 크기만큼씩 읽으므로 한 번에 Redis를 오래 붙잡지 않음
+     *   (수집 후 교체 전에 바뀐 좌석은 스크립트가 현재 값을 다시 확인해 예매 불가일 때만 이어 붙임)
+     */
+    private List<String> findUnavailableSeatIds(Long concertId, int shard) {
+        String statusKey = seatShardRouter.key(SEAT_STATUS_KEY_PREFIX, concertId, shard);
+        RMap<String, String> counts = redissonClient.getMap(
+                seatShardRouter.key(SEAT_COUNTS_KEY_PREFIX, concertId, shard), StringCodec.INSTANCE);
+
+        String unavailable = counts.get("status:" + SeatStatus.SeatStatusEnum.UNAVAILABLE.name());
+        if ((unavailable == null || Long.parseLong(unavailable) <= 0) && counts.isExists()) {
+            return List.of();
+        }
+
+        List<String> seatIds = new ArrayList<>();
+        int chunkSize = Math.max(1, seatProperties.getCache().getInitChunkSize());
+        RMap<String, String> statuses = redissonClient.getMap(statusKey, StringCodec.INSTANCE);
+        for (Map.Entry<String, String> entry : statuses.entrySet(chunkSize)) {
+            try {
+                if (decode(entry.getValue()).getStatus() == SeatStatus.SeatStatusEnum.UNAVAILABLE) {
+                    seatIds.add(entry.getKey());
+                }
+            } catch (Exception e) {
+                // 읽을 수 없는 값은 이어 붙이지 않음 (초기화가 손상된 캐시를 고치는 경로)
+                log.debug("좌석 값 해석 실패로 예매 불가 확인 생략: concertId={}, seatId={}", concertId, entry.getKey());
+            }
+        }
+        return seatIds;
+    }
+
+    /**
+     * put / reserve_many / transition 스크립트 공통 KEYS (샤드 하나의 키)
+     * - status, last_update, holds, state, holders, ordinal, counts, groups, expiry, seq, changes 순서
+     */
+    private List<Object> shardKeys(Long concertId, int shard) {
+        List<Object> keys = new ArrayList<>(11);
+        keys.add(seatShardRouter.key(SEAT_STATUS_KEY_PREFIX, concertId, shard));
+        keys.add(seatShardRouter.key(SEAT_LAST_UPDATE_KEY_PREFIX, concertId, shard));
+        keys.add(seatShardRouter.key(SEAT_HOLDS_KEY_PREFIX, concertId, shard));
+        keys.add(seatShardRouter.key(SEAT_STATE_KEY_PREFIX, concertId, shard));
+        keys.add(seatShardRouter.key(SEAT_HOLDERS_KEY_PREFIX, concertId, shard));
+        keys.add(seatShardRouter.key(SEAT_ORDINAL_KEY_PREFIX, concertId, shard));
+        keys.add(seatShardRouter.key(SEAT_COUNTS_KEY_PREFIX, concertId, shard));
+        keys.add(seatShardRouter.key(SEAT_GROUPS_KEY_PREFIX, concertId, shard));
+        keys.add(seatShardRouter.key(SEAT_EXPIRY_KEY_PREFIX, concertId, shard));
+        keys.add(seatShardRouter.key(SEAT_SEQ_KEY_PREFIX, concertId, shard));
+        keys.add(seatShardRouter.key(SEAT_CHANGES_KEY_PREFIX, concertId, shard));
+        return keys;
+    }
+
+    private String changeLogMaxLength() {
+        return String.valueOf(seatProperties.getChangeLog().getMaxLength());
+    }
+
+    private SeatTransitionResult toTransitionResult(SeatTransition transition, List<Long> seatIds, List<Object> reply) {
+        if (reply == null || reply.size() != 1 + seatIds.size() * 4) {
+            throw new IllegalStateException("좌석 전이 스크립트 응답 형식이 올바르지 않습니다: " + reply);
+        }
+
+        boolean applied = "APPLIED".equals(String.valueOf(reply.get(0)));
+        List<SeatTransitionResult.SeatOutcome> outcomes = new ArrayList<>(seatIds.size());
+
+        for (int i = 0; i < seatIds.size(); i++) {
+            int base = 1 + i * 4;
+            SeatTransitionResult.Code code = SeatTransitionResult.Code.valueOf(String.valueOf(reply.get(base)));
+            String seq = String.valueOf(reply.get(base + 3));
+            outcomes.add(new SeatTransitionResult.SeatOutcome(
+                    seatIds.get(i),
+                    code,
+                    decodeOrNull(reply.get(base + 1)),
+                    decodeOrNull(reply.get(base + 2)),
+                    seq.isEmpty() ? 0L : Long.parseLong(seq)));
+        }
+
+        return new SeatTransitionResult(transition, applied, outcomes);
+    }
+
+    private SeatStatus decodeOrNull(Object raw) {
+        if (raw == null) {
+            return null;
+        }
+        String value = raw.toString();
+        return value.isEmpty() ? null : decode(value);
+    }
+
+    /**
+     * 콘서트 전체 좌석 상태 해시 조회 (샤딩한 콘서트는 샤드별 해시를 한 번의 배치로 읽어 병합)
+     * - 상태 전이 스크립트가 검증에 쓰는 값 그대로이므로 예매 완료 좌석의 userId 도 포함
+     *
+     * @return 좌석 ID → 좌석 상태 (캐시가 없으면 빈 Map)
+     */
+    public Map<Long, SeatStatus> readAll(Long concertId) {
+        List<String> statusKeys = seatShardRouter.keys(SEAT_STATUS_KEY_PREFIX, concertId);
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<Map<String, SeatStatus>>> futures = new ArrayList<>(statusKeys.size());
+        for (String statusKey : statusKeys) {
+            futures.add(batch.<String, SeatStatus>getMap(statusKey, codec()).readAllMapAsync());
+        }
+        batch.execute();
+
+        Map<Long, SeatStatus> seats = new HashMap<>();
+        for (RFuture<Map<String, SeatStatus>> future : futures) {
+            future.toCompletableFuture().join().forEach((seatId, seat) -> seats.put(Long.valueOf(seatId), seat));
+        }
+        return seats;
+    }
+
+    /**
+     * 사용자별 선점 인덱스에서 선점 좌석 ID 목록 조회
+     * - 해시 필드 하나만 읽으므로 콘서트 전체 좌석 수와 무관
+     *
+     * @return 선점 좌석 ID 목록 (없으면 빈 리스트)
+     */
+    public List<Long> findHeldSeatIds(Long concertId, Long userId) {
+        if (!seatShardRouter.isSharded(concertId)) {
+            RMap<String, String> holds = redissonClient.getMap(
+                    seatShardRouter.key(SEAT_HOLDS_KEY_PREFIX, concertId, 0), StringCodec.INSTANCE);
+            return parseHoldList(holds.get(userId.toString()));
+        }
+        return findHeldSeatIdsByShard(concertId, userId).values().stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    /**
+     * 샤드별 사용자 선점 좌석 ID (모든 샤드의 선점 인덱스를 한 번의 배치로 조회)
+     */
+    private Map<Integer, List<Long>> findHeldSeatIdsByShard(Long concertId, Long userId) {
+        List<String> holdsKeys = seatShardRouter.keys(SEAT_HOLDS_KEY_PREFIX, concertId);
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<String>> futures = new ArrayList<>(holdsKeys.size());
+        for (String holdsKey : holdsKeys) {
+            futures.add(batch.<String, String>getMap(holdsKey, StringCodec.INSTANCE).getAsync(userId.toString()));
+        }
+        batch.execute();
+
+        Map<Integer, List<Long>> heldByShard = new LinkedHashMap<>();
+        for (int shard = 0; shard < futures.size(); shard++) {
+            List<Long> held = parseHoldList(futures.get(shard).toCompletableFuture().join());
+            if (!held.isEmpty()) {
+                heldByShard.put(shard, held);
+            }
+        }
+        return heldByShard;
+    }
+
+    // 지정한 샤드 밖의 선점 좌석 수 (제외 좌석 제외)
+    private static int countHeldOutside(Map<Integer, List<Long>> heldByShard, int shard, Collection<Long> excludedSeatIds) {
+        int held = 0;
+        for (Map.Entry<Integer, List<Long>> entry : heldByShard.entrySet()) {
+            if (entry.getKey() == shard) {
+                continue;
+            }
+            for (Long seatId : entry.getValue()) {
+                if (!excludedSeatIds.contains(seatId)) {
+                    held++;
+                }
+            }
+        }
+        return held;
+    }
+
+    // 샤드 스크립트의 선점 개수 응답에 다른 샤드 선점 수를 더해 콘서트 전체 기준으로 맞춤
+    private static SeatScriptResult withHeldElsewhere(SeatScriptResult result, int heldElsewhere) {
+        if (heldElsewhere == 0 || result.outcome() != SeatScriptResult.Outcome.LIMIT_EXCEEDED) {
+            return result;
+        }
+        return new SeatScriptResult(result.outcome(),
+                String.valueOf(Long.parseLong(result.payload()) + heldElsewhere));
+    }
+
+    private static List<Long> parseHoldList(String value) {
+        if (value == null || value.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    /**
+     * SeatStatus를 RMap 저장 형식으로 직렬화
+     */
+    public String encode(SeatStatus seatStatus) {
+        ByteBuf buf = null;
+        try {
+            buf = codec().getMapValueEncoder().encode(seatStatus);
+            return buf.toString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("좌석 상태 직렬화 실패: seatId=" + seatStatus.getSeatId(), e);
+        } finally {
+            if (buf != null) {
+                buf.release();
+            }
+        }
+    }
+
+    /**
+     * RMap 저장 형식의 값을 SeatStatus로 역직렬화
+     */
+    public SeatStatus decode(String raw) {
+        ByteBuf buf = Unpooled.wrappedBuffer(raw.getBytes(StandardCharsets.UTF_8));
+        try {
+            return (SeatStatus) codec().getMapValueDecoder().decode(buf, new State());
+        } catch (IOException e) {
+            throw new IllegalStateException("좌석 상태 역직렬화 실패", e);
+        } finally {
+            buf.release();
+        }
+    }
+
+    /**
+     * 스크립트/Redis 저장용 시각 문자열 (ISO_LOCAL_DATE_TIME)
+     */
+    public static String formatTime(LocalDateTime time) {
+        return time.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    private static long toLong(Object value) {
+        return Long.parseLong(String.valueOf(value));
+    }
+
+    private RScript script() {
+        return redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    private Codec codec() {
+        return redisCodecs.seatStatus();
+    }
+}
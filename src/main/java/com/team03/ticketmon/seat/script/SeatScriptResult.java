@@ -0,0 +1,62 @@
+package com.team03.ticketmon.seat.script;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 Lua 스크립트 실행 결과
+ *
+ * @param outcome 결과 코드 (스크립트가 반환한 첫 번째 값)
+ * @param payload 부가 정보 (기존 좌석 값, 현재 선점 개수 등, 없으면 빈 문자열)
+ * @param seqs    기록한 좌석별 변경 로그 순번 (좌석 ID → 순번, 기록하지 않았으면 빈 Map)
+ */
+public record SeatScriptResult(Outcome outcome, String payload, Map<Long, Long> seqs) {
+
+    public SeatScriptResult(Outcome outcome, String payload) {
+        this(outcome, payload, Map.of());
+    }
+
+    /**
+     * 스크립트 결과 코드
+     */
+    public enum Outcome {
+        OK,             // 처리 완료 (다중 선점 시 payload: 이미 선점 중이어서 유지된 좌석 ID 목록)
+        NOT_FOUND,      // 캐시에 없는 좌석 (payload: 좌석 ID)
+        ALREADY_HELD,   // 동일 사용자가 이미 선점 중 (payload: 기존 좌석 값)
+        BOOKED,         // 이미 예매 완료된 좌석 (다중 선점 시 payload: 좌석 ID)
+        UNAVAILABLE,    // 예매 불가 좌석 (다중 선점 시 payload: 좌석 ID)
+        TAKEN,          // 다른 사용자가 선점 중 (다중 선점 시 payload: 좌석 ID)
+        LIMIT_EXCEEDED, // 사용자별 최대 선점 개수 초과 (payload: 현재 선점 개수)
+        CACHE_MISSING,  // 좌석 캐시가 비어 있음 (초기화 필요)
+        FENCED,         // 펜싱 토큰 불일치 (단일 기록자 엔진 소유권을 다른 노드가 넘겨받음, 기록하지 않음)
+        STALE           // 보상 기록 시 현재 값이 기대한 값과 다름 (다른 요청이 먼저 변경, payload: 현재 값)
+    }
+
+    public boolean isSuccess() {
+        return outcome == Outcome.OK;
+    }
+
+    /**
+     * 좌석 변경에 붙은 변경 로그 순번 (기록하지 않았거나 알 수 없으면 0)
+     */
+    public long seqOf(Long seatId) {
+        return seqs.getOrDefault(seatId, 0L);
+    }
+
+    /**
+     * 스크립트 응답({코드, 부가정보, [좌석 ID, 변경 순번]...})을 결과 객체로 변환
+     */
+    static SeatScriptResult from(List<Object> reply) {
+        if (reply == null || reply.isEmpty()) {
+            throw new IllegalStateException("좌석 스크립트 응답이 비어 있습니다.");
+        }
+        Outcome outcome = Outcome.valueOf(String.valueOf(reply.get(0)));
+        String payload = reply.size() > 1 && reply.get(1) != null ? String.valueOf(reply.get(1)) : "";
+        Map<Long, Long> seqs = new LinkedHashMap<>();
+        for (int i = 2; i + 1 < reply.size(); i += 2) {
+            seqs.put(Long.valueOf(String.valueOf(reply.get(i))), Long.valueOf(String.valueOf(reply.get(i + 1))));
+        }
+        return new SeatScriptResult(outcome, payload, seqs);
+    }
+}
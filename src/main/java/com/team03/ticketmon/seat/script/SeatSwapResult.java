@@ -0,0 +1,11 @@
+package com.team03.ticketmon.seat.script;
+
+/**
+ * 좌석 캐시 교체 결과 (샤드 하나)
+ *
+ * @param swappedKeys  임시 키에서 운영 키로 교체된 키 개수
+ * @param carriedSeats 운영 캐시에서 새 캐시로 이어 붙인 선점/예매 불가 좌석 수
+ * @param liveExisted  교체 전 운영 좌석 상태 해시가 있었는지 (이어 붙이기를 요청한 경우만 확인)
+ */
+public record SeatSwapResult(long swappedKeys, long carriedSeats, boolean liveExisted) {
+}
@@ -0,0 +1,15 @@
+package com.team03.ticketmon.seat.script;
+
+/**
+ * 좌석 상태 전이 종류 (transition.lua 와 동일한 이름 사용)
+ * - 검증과 새 상태 계산은 모두 스크립트에서 수행
+ */
+public enum SeatTransition {
+    RELEASE,        // 본인 선점 해제: RESERVED → AVAILABLE
+    FORCE_RELEASE,  // 강제 해제 (권한 검증 없음): AVAILABLE 외 → AVAILABLE
+    EXPIRE,         // 만료된 선점 해제: RESERVED(만료) → AVAILABLE
+    BOOK,           // 예매 확정: RESERVED(미만료) → BOOKED
+    LOCK_PERMANENT, // 영구 선점 (결제 진행 중): RESERVED → RESERVED(expiresAt 없음)
+    RESTORE,        // 영구 선점 복원: RESERVED → RESERVED(expiresAt 재설정)
+    CANCEL          // 예매 취소: RESERVED/BOOKED → AVAILABLE
+}
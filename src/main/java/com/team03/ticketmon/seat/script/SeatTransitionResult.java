@@ -0,0 +1,90 @@
+package com.team03.ticketmon.seat.script;
+
+import com.team03.ticketmon.seat.domain.SeatStatus;
+
+import java.util.List;
+
+/**
+ * 좌석 상태 전이 결과 (다중 좌석)
+ *
+ * @param transition 요청한 전이 종류
+ * @param applied    변경 적용 여부 (전체 적용 모드에서 한 좌석이라도 실패하면 false)
+ * @param seats      좌석별 결과 (요청 순서)
+ */
+public record SeatTransitionResult(SeatTransition transition, boolean applied, List<SeatOutcome> seats) {
+
+    /**
+     * 좌석별 결과 코드
+     */
+    public enum Code {
+        OK,            // 전이 가능 (applied=true 이면 변경 완료)
+        NOOP,          // 변경할 필요 없음 (이미 해제된 좌석 등)
+        NOT_FOUND,     // 캐시에 없는 좌석
+        INVALID_STATE, // 현재 상태에서 허용되지 않는 전이
+        NOT_OWNER,     // 다른 사용자의 좌석
+        EXPIRED        // 선점이 만료된 좌석
+    }
+
+    /**
+     * 좌석별 전이 결과
+     *
+     * @param seatId   좌석 ID
+     * @param code     결과 코드
+     * @param previous 전이 전 상태 (없으면 null)
+     * @param current  전이 후 상태 (변경되지 않았으면 null)
+     * @param seq      변경에 붙은 변경 로그 순번 (변경되지 않았거나 알 수 없으면 0)
+     */
+    public record SeatOutcome(Long seatId, Code code, SeatStatus previous, SeatStatus current, long seq) {
+
+        public SeatOutcome(Long seatId, Code code, SeatStatus previous, SeatStatus current) {
+            this(seatId, code, previous, current, 0L);
+        }
+
+        public boolean isChanged() {
+            return current != null;
+        }
+
+        public boolean isFailure() {
+            return code != Code.OK && code != Code.NOOP;
+        }
+    }
+
+    /**
+     * 실제로 상태가 변경된 좌석들의 새 상태
+     */
+    public List<SeatStatus> changedSeats() {
+        return seats.stream()
+                .filter(SeatOutcome::isChanged)
+                .map(SeatOutcome::current)
+                .toList();
+    }
+
+    /**
+     * 실제로 상태가 변경된 좌석 결과
+     */
+    public List<SeatOutcome> changes() {
+        return seats.stream()
+                .filter(SeatOutcome::isChanged)
+                .toList();
+    }
+
+    /**
+     * 전이에 실패한 좌석 결과
+     */
+    public List<SeatOutcome> failures() {
+        return seats.stream()
+                .filter(SeatOutcome::isFailure)
+                .toList();
+    }
+
+    public boolean hasFailures() {
+        return seats.stream().anyMatch(SeatOutcome::isFailure);
+    }
+
+    /**
+     * 단일 좌석 전이 결과 조회
+     */
+    public SeatOutcome single() {
+        return seats.get(0);
+    }
+}
@@ -0,0 +1,180 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.exception.SeatReservationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 좌석 자동 배정 (best-available)
+ * - 노드별 좌석 점유 비트셋(SeatOccupancyIndex)에서 구역/열마다 좌석 번호를 비트 위치로 하는 빈 좌석 비트셋을 만들고,
+ *   연속으로 켜진 비트 구간에서 요청 수만큼의 인접 좌석 묶음을 찾음 (후보 좌석 상태를 Redis에서 다시 읽지 않음)
+ * - 앞 열일수록 좋은 후보로 보고, 상위 seat.allocation.candidate-spread 개 후보 중 무작위로 골라
+ *   동시에 들어온 요청이 같은 좌석에 몰리지 않도록 분산
+ * - 고른 좌석만 다중 좌석 일괄 선점(All-or-Nothing) 스크립트로 확정하고, 그 사이 다른 사용자가 먼저 선점했으면
+ *   변경분을 반영한 점유 상태로 다시 골라 seat.allocation.max-attempts 회까지 재시도
+ *
+ * ✅ 사용자가 같은 앞자리를 직접 눌러 경합하던 선점 실패/재시도를 서버 쪽 분산 배정으로 줄임
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatAllocationService {
+
+    private final SeatOccupancyIndex seatOccupancyIndex;
+    private final SeatStatusService seatStatusService;
+    private final SeatProperties seatProperties;
+
+    /**
+     * 배정 후보 (같은 열의 인접 좌석 묶음)
+     *
+     * @param rowRank     구역 안에서 열의 순서 (0이 가장 앞 열)
+     * @param sectionRank 배치도에서 구역의 순서
+     * @param ordinals    좌석 번호 순 좌석 카탈로그 순번
+     */
+    private record Block(int rowRank, int sectionRank, int[] ordinals) {
+    }
+
+    /**
+     * 조건에 맞는 인접 좌석 N개 자동 배정 후 선점
+     *
+     * @param concertId   콘서트 ID
+     * @param count       선점할 좌석 수
+     * @param grade       좌석 등급 (null이면 전체 등급)
+     * @param sectionName 구역명 (null/공백이면 전체 구역, 대소문자 무시)
+     * @param userId      사용자 ID
+     * @return 선점된 좌석 상태 목록 (좌석 번호 순)
+     * @throws BusinessException        구역을 찾을 수 없는 경우
+     * @throws SeatReservationException 인접 좌석이 없거나 선점에 실패한 경우
+     */
+    public List<SeatStatus> allocate(Long concertId, int count, SeatGrade grade, String sectionName, Long userId) {
+        int maxSeatCount = seatProperties.getReservation().getMaxSeatCount();
+        if (count < 1 || count > maxSeatCount) {
+            throw new SeatReservationException(
+                    String.format("좌석 선점은 최대 %d개까지만 가능합니다. 요청 좌석: %d개", maxSeatCount, count));
+        }
+
+        SeatOccupancyIndex.Snapshot occupancy = seatOccupancyIndex.snapshot(concertId);
+        List<SeatOccupancyIndex.Section> sections = findSections(occupancy, sectionName);
+
+        SeatProperties.Allocation allocation = seatProperties.getAllocation();
+        int maxAttempts = Math.max(1, allocation.getMaxAttempts());
+        BitSet contended = new BitSet();
+        Block lastBlock = null;
+        SeatReservationException lastFailure = null;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (lastFailure != null) {
+                occupancy = seatOccupancyIndex.snapshot(concertId);
+                BitSet free = occupancy.free();
+
+                // 직전 실패 좌석이 여전히 모두 비어 있으면 경합이 아니라 다른 이유(개수 제한 등)의 실패
+                if (Arrays.stream(lastBlock.ordinals()).allMatch(free::get)) {
+                    throw lastFailure;
+                }
+                Arrays.stream(lastBlock.ordinals()).forEach(contended::set);
+                sections = findSections(occupancy, sectionName);
+            }
+
+            List<Block> blocks = findBlocks(occupancy, sections, grade, contended, count);
+            if (blocks.isEmpty()) {
+                throw new SeatReservationException(
+                        String.format("조건에 맞는 연속된 빈 좌석 %d개를 찾을 수 없습니다.", count));
+            }
+
+            Block block = blocks.get(ThreadLocalRandom.current()
+                    .nextInt(Math.min(blocks.size(), Math.max(1, allocation.getCandidateSpread()))));
+
+            SeatCatalog.Catalog catalog = occupancy.catalog();
+            LinkedHashMap<Long, String> seatInfos = new LinkedHashMap<>();
+            for (int ordinal : block.ordinals()) {
+                seatInfos.put(catalog.seatIds()[ordinal], catalog.seatInfos()[ordinal]);
+            }
+
+            try {
+                List<SeatStatus> reserved = seatStatusService.reserveSeats(concertId, seatInfos, userId);
+                log.info("좌석 자동 배정 완료: concertId={}, userId={}, seatIds={}, attempt={}",
+                        concertId, userId, seatInfos.keySet(), attempt);
+                return reserved;
+            } catch (SeatReservationException e) {
+                log.debug("자동 배정 좌석 선점 실패. 다시 배정: concertId={}, seatIds={}, attempt={}, message={}",
+                        concertId, seatInfos.keySet(), attempt, e.getMessage());
+                lastBlock = block;
+                lastFailure = e;
+            }
+        }
+
+        log.warn("좌석 자동 배정 재시도 초과: concertId={}, userId={}, count={}, attempts={}",
+                concertId, userId, count, maxAttempts);
+        throw new SeatReservationException("좌석 경합이 많아 자동 배정에 실패했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private static List<SeatOccupancyIndex.Section> findSections(SeatOccupancyIndex.Snapshot occupancy, String sectionName) {
+        if (sectionName == null || sectionName.isBlank()) {
+            return occupancy.sections();
+        }
+        return List.of(occupancy.findSection(sectionName.trim())
+                .orElseThrow(() -> new BusinessException(ErrorCode.SEAT_NOT_FOUND,
+                        String.format("'%s' 구역을 찾을 수 없습니다.", sectionName))));
+    }
+
+    /**
+     * 열별 빈 좌석 비트셋에서 인접 좌석 묶음 찾기 (앞 열 → 배치도 구역 순 → 왼쪽 순)
+     * - 열은 점유 비트셋이 이미 앞 열 순으로 정렬해 둠
+     * - 비트 위치는 좌석 번호이므로 연속으로 켜진 비트가 곧 인접한 빈 좌석
+     * - 빈 구간 하나에서 겹치지 않게 count 개씩 잘라 후보로 사용
+     */
+    private static List<Block> findBlocks(SeatOccupancyIndex.Snapshot occupancy, List<SeatOccupancyIndex.Section> sections,
+                                          SeatGrade grade, BitSet contended, int count) {
+        SeatCatalog.Catalog catalog = occupancy.catalog();
+        BitSet free = occupancy.free();
+        List<Block> blocks = new ArrayList<>();
+
+        for (int sectionRank = 0; sectionRank < sections.size(); sectionRank++) {
+            List<SeatOccupancyIndex.Row> rows = sections.get(sectionRank).rows();
+
+            for (int rowRank = 0; rowRank < rows.size(); rowRank++) {
+                SeatOccupancyIndex.Row row = rows.get(rowRank);
+                int[] numbers = row.numbers();
+                int[] ordinals = row.ordinals();
+
+                BitSet rowFree = new BitSet();
+                for (int i = 0; i < ordinals.length; i++) {
+                    int ordinal = ordinals[i];
+                    if (free.get(ordinal) && !contended.get(ordinal)
+                            && (grade == null || grade == catalog.gradeAt(ordinal))) {
+                        rowFree.set(numbers[i]);
+                    }
+                }
+
+                for (int start = rowFree.nextSetBit(0); start >= 0; start = rowFree.nextSetBit(start)) {
+                    int end = rowFree.nextClearBit(start);
+                    for (int blockStart = start; blockStart + count <= end; blockStart += count) {
+                        int[] block = new int[count];
+                        for (int offset = 0; offset < count; offset++) {
+                            block[offset] = ordinals[Arrays.binarySearch(numbers, blockStart + offset)];
+                        }
+                        blocks.add(new Block(rowRank, sectionRank, block));
+                    }
+                    start = end;
+                }
+            }
+        }
+
+        blocks.sort(Comparator.comparingInt(Block::rowRank).thenComparingInt(Block::sectionRank));
+        return blocks;
+    }
+}
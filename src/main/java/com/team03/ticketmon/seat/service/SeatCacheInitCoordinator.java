@@ -0,0 +1,215 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 좌석 캐시 미스 초기화 단일 실행 (single-flight)
+ * - 같은 인스턴스 안에서는 콘서트별 진행 중 Future 하나를 공유해 한 요청만 DB를 읽고 나머지는 결과를 기다림
+ * - 인스턴스 간에는 워치독이 갱신하는 분산 임대(lock:seat:cache:init:{concertId})로 한 인스턴스만 초기화하고,
+ *   임대를 얻지 못한 인스턴스는 초기화 완료 표시(seat:ready:{concertId})가 생길 때까지 짧게 기다림
+ *   (샤드별 교체 도중에는 일부 샤드만 보이므로 운영 키 존재가 아니라 마지막 샤드 교체 뒤 기록하는 완료 표시로 판단)
+ * - 대기 시간(seat.cache.init-wait-millis)을 넘기면 false(준비 중)를 반환해 호출 측이 빠르게 응답하도록 함
+ * - 캐시가 있어도 다시 만드는 작업(Warm-up 교체, 스냅샷 복원)도 rebuild()로 같은 임대 아래에서 실행
+ *
+ * ✅ 캐시 만료/삭제 직후 몰리는 요청이 모두 DB 전체 조회를 일으키던 문제 방지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatCacheInitCoordinator {
+
+    private static final String SEAT_CACHE_INIT_LOCK_KEY_PREFIX = RedisKeyGenerator.SEAT_CACHE_INIT_LOCK_KEY_PREFIX;
+    private static final long REMOTE_POLL_INTERVAL_MILLIS = 50;
+
+    private final SeatCacheInitService seatCacheInitService;
+    private final RedissonClient redissonClient;
+    private final SeatProperties seatProperties;
+
+    private final Map<Long, CompletableFuture<Boolean>> inFlightInits = new ConcurrentHashMap<>();
+
+    // 통계
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong localJoinCount = new AtomicLong();
+    private final AtomicLong remoteWaitCount = new AtomicLong();
+    private final AtomicLong warmingCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    /**
+     * 캐시 미스 시 좌석 캐시 초기화 (콘서트별 단일 실행)
+     *
+     * @param concertId 콘서트 ID
+     * @return 초기화가 끝나 캐시를 읽을 수 있으면 true, 다른 요청/인스턴스가 아직 초기화 중이거나 실패했으면 false
+     */
+    public boolean initializeOnCacheMiss(Long concertId) {
+        CompletableFuture<Boolean> mine = new CompletableFuture<>();
+        CompletableFuture<Boolean> inFlight = inFlightInits.putIfAbsent(concertId, mine);
+
+        if (inFlight != null) {
+            localJoinCount.incrementAndGet();
+            return awaitLocal(concertId, inFlight);
+        }
+
+        inFlightCount.incrementAndGet();
+        try {
+            mine.complete(loadOnce(concertId));
+        } catch (Exception e) {
+            failureCount.incrementAndGet();
+            log.error("캐시 미스 좌석 캐시 초기화 실패: concertId={}", concertId, e);
+            mine.complete(false);
+        } finally {
+            inFlightInits.remove(concertId, mine);
+            inFlightCount.decrementAndGet();
+        }
+
+        return mine.join();
+    }
+
+    /**
+     * 캐시 재구성 작업을 초기화 임대 아래에서 실행 (캐시가 있어도 다시 만드는 경로: Warm-up 교체, 스냅샷 복원)
+     * - 캐시 미스 초기화와 같은 임대를 잡으므로 같은 콘서트 캐시를 두 곳에서 동시에 만들지 않음
+     *   (완료 표시는 재구성 작업이 마지막 샤드 교체 뒤 기록)
+     * - 초기화 대기 시간(seat.cache.init-wait-millis) 안에 임대를 얻지 못하면 실행하지 않고 예외
+     *
+     * @param concertId 콘서트 ID
+     * @param rebuild   임대를 잡은 동안 실행할 재구성 작업
+     * @return 재구성 작업 결과
+     * @throws BusinessException 다른 초기화가 진행 중이어서 임대를 얻지 못한 경우
+     */
+    public <T> T rebuild(Long concertId, Supplier<T> rebuild) {
+        RLock lease = lease(concertId);
+        try {
+            if (!lease.tryLock(seatProperties.getCache().getInitWaitMillis(), -1, TimeUnit.MILLISECONDS)) {
+                warmingCount.incrementAndGet();
+                throw new BusinessException(ErrorCode.SERVER_ERROR, "다른 좌석 캐시 초기화가 진행 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("좌석 캐시 초기화 임대 대기 중 인터럽트: concertId=" + concertId, e);
+        }
+
+        inFlightCount.incrementAndGet();
+        try {
+            T result = rebuild.get();
+            loadCount.incrementAndGet();
+            return result;
+        } catch (RuntimeException e) {
+            failureCount.incrementAndGet();
+            throw e;
+        } finally {
+            inFlightCount.decrementAndGet();
+            if (lease.isHeldByCurrentThread()) {
+                lease.unlock();
+            }
+        }
+    }
+
+    /**
+     * 분산 임대를 얻은 인스턴스만 DB 초기화, 나머지는 초기화 완료 대기
+     */
+    private boolean loadOnce(Long concertId) throws InterruptedException {
+        SeatProperties.Cache cache = seatProperties.getCache();
+        RLock lease = lease(concertId);
+
+        // leaseTime(-1): 워치독이 초기화가 끝날 때까지 임대를 갱신 (대형 공연 초기화가 길어져도 중복 초기화 없음,
+        // 인스턴스가 죽으면 갱신이 멈춰 워치독 시간 후 자동 해제)
+        if (!lease.tryLock(0, -1, TimeUnit.SECONDS)) {
+            remoteWaitCount.incrementAndGet();
+            log.debug("다른 인스턴스에서 좌석 캐시 초기화 중. 완료 대기: concertId={}", concertId);
+            return awaitRemote(concertId, lease, cache.getInitWaitMillis());
+        }
+
+        try {
+            // 임대를 얻는 사이 다른 인스턴스가 초기화를 끝냈을 수 있음
+            if (isCached(concertId)) {
+                return true;
+            }
+            seatCacheInitService.initializeSeatCacheFromDB(concertId);
+            loadCount.incrementAndGet();
+            return isCached(concertId);
+        } finally {
+            if (lease.isHeldByCurrentThread()) {
+                lease.unlock();
+            }
+        }
+    }
+
+    private boolean awaitLocal(Long concertId, CompletableFuture<Boolean> inFlight) {
+        try {
+            return inFlight.get(seatProperties.getCache().getInitWaitMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            warmingCount.incrementAndGet();
+            log.debug("좌석 캐시 초기화 대기 시간 초과. 준비 중 응답: concertId={}", concertId);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean awaitRemote(Long concertId, RLock lease, long waitMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + waitMillis;
+
+        while (System.currentTimeMillis() < deadline) {
+            if (isCached(concertId)) {
+                return true;
+            }
+            // 임대가 풀렸는데 완료 표시가 없으면 상대 인스턴스의 초기화가 실패/빈 결과로 끝난 것
+            if (!lease.isLocked()) {
+                return isCached(concertId);
+            }
+            Thread.sleep(REMOTE_POLL_INTERVAL_MILLIS);
+        }
+
+        warmingCount.incrementAndGet();
+        log.debug("다른 인스턴스의 좌석 캐시 초기화 대기 시간 초과. 준비 중 응답: concertId={}", concertId);
+        return isCached(concertId);
+    }
+
+    private RLock lease(Long concertId) {
+        return redissonClient.getLock(RedisKeyGenerator.concertKey(SEAT_CACHE_INIT_LOCK_KEY_PREFIX, concertId));
+    }
+
+    private boolean isCached(Long concertId) {
+        return seatCacheInitService.isCacheReady(concertId);
+    }
+
+    /**
+     * 캐시 미스 초기화 통계
+     * - inFlight: 현재 이 인스턴스에서 진행 중인 초기화 수
+     * - loads: 이 인스턴스가 실제로 초기화/재구성한 횟수
+     * - localJoins: 같은 인스턴스의 진행 중 초기화에 합류한 요청 수
+     * - remoteWaits: 다른 인스턴스의 초기화를 기다린 횟수
+     * - warmingResponses: 대기 시간 초과로 준비 중 응답(재구성은 거부)한 횟수
+     * - failures: 초기화 실패 횟수
+     */
+    public Map<String, Object> getInitStats() {
+        return Map.of(
+                "inFlight", inFlightCount.get(),
+                "loads", loadCount.get(),
+                "localJoins", localJoinCount.get(),
+                "remoteWaits", remoteWaitCount.get(),
+                "warmingResponses", warmingCount.get(),
+                "failures", failureCount.get()
+        );
+    }
+}
@@ -1,21 +1,34 @@
 package com.team03.ticketmon.seat.service;
 
+import com.team03.ticketmon._global.config.RedisCodecs;
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
-import com.team03.ticketmon.concert.domain.ConcertSeat;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
 import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.config.SeatProperties;
 import com.team03.ticketmon.seat.domain.SeatStatus;
 import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
-import com.team03.ticketmon.venue.domain.Seat;
+import com.team03.ticketmon.seat.dto.SeatCountsDTO;
+import com.team03.ticketmon.seat.script.SeatScriptExecutor;
+import com.team03.ticketmon.seat.script.SeatSwapResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RMap;
+import org.redisson.api.RBatch;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongFunction;
 
 /**
  * 좌석 상태 캐시 초기화 서비스
@@ -23,6 +36,7 @@ import java.util.Map;
  * - ID 매핑 수정: seat.getSeatId() → concertSeat.getConcertSeatId()
  * - Cache-Aside 패턴 지원
  * - 배치 처리 최적화
+ * - 청크 단위 프로젝션 조회 + 임시 키 기록 후 원자적 교체
  */
 @Slf4j
 @Service
@@ -31,115 +45,446 @@ public class SeatCacheInitService {
 
     private final RedissonClient redissonClient;
     private final ConcertSeatRepository concertSeatRepository;
+    private final SeatCompactStateStore seatCompactStateStore;
+    private final SeatCountStore seatCountStore;
+    private final SeatExpiryWheel seatExpiryWheel;
+    private final SeatChangeLog seatChangeLog;
+    private final SeatLayoutCache seatLayoutCache;
+    private final SeatCatalog seatCatalog;
+    private final SeatScriptExecutor seatScriptExecutor;
+    private final SeatProperties seatProperties;
+    private final SeatShardRouter seatShardRouter;
+    private final SeatHoldJournal seatHoldJournal;
+    private final SeatWriterRouter seatWriterRouter;
+    private final RedisCodecs redisCodecs;
     private static final String SEAT_STATUS_KEY_PREFIX = RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX;
+    private static final String SEAT_HOLDS_KEY_PREFIX = RedisKeyGenerator.SEAT_HOLDS_KEY_PREFIX;
+    private static final String SEAT_EXPIRY_KEY_PREFIX = RedisKeyGenerator.SEAT_EXPIRY_KEY_PREFIX;
+    private static final String SEAT_READY_KEY_PREFIX = RedisKeyGenerator.SEAT_READY_KEY_PREFIX;
+
+    // 해시 태그 도입 전 콘서트별 좌석 키 접두사 (접두사 + 숫자 콘서트 ID 형태로 남아 있는 키, 이전 후 삭제)
+    // 해시 태그 없이 배포된 적이 있는 좌석 상태 해시 / 마지막 업데이트 시간만 해당 (그 뒤 생긴 키는 처음부터 태그 형식)
+    public static final List<String> LEGACY_SEAT_KEY_PREFIXES = List.of(
+            SEAT_STATUS_KEY_PREFIX,
+            RedisKeyGenerator.SEAT_LAST_UPDATE_KEY_PREFIX);
 
     /**
      * ✅ 수정된 DB 기반 좌석 캐시 초기화
      * 핵심 수정: ConcertSeat ID 사용으로 ID 매핑 일관성 확보
+     * - 필요한 컬럼만 프로젝션으로 청크 단위 조회 (concertSeatId 키셋 페이지네이션) → 좌석 수와 무관하게 일정한 메모리
+     * - 청크마다 임시 키에 배치(파이프라인)로 기록한 뒤 마지막에 운영 키로 한 번에 RENAME
+     *   → 초기화 중에도 조회 측은 기존 캐시를 그대로 보고, 빈 캐시를 보고 재초기화를 유발하지 않음
+     * - 운영 캐시 위에 다시 초기화하면 진행 중인 선점/예매 불가 좌석은 교체 스크립트가 새 캐시로 이어 붙임
+     * - 샤딩한 콘서트는 좌석을 샤드별 임시 키로 나눠 기록하고 샤드마다 교체 (교체 스크립트는 샤드 슬롯 하나에서 실행)
      */
     @Transactional(readOnly = true)
-    public void initializeSeatCacheFromDB(Long concertId) {
-        log.info("DB 기반 좌석 캐시 초기화 시작: concertId={}", concertId);
+    public int initializeSeatCacheFromDB(Long concertId) {
+        return initializeSeatCacheFromDB(concertId, seatsLoaded -> { });
+    }
 
-        try {
-            // 1. DB에서 콘서트의 모든 좌석 정보 조회 (Fetch Join 적용)
-            List<ConcertSeat> concertSeats = concertSeatRepository.findByConcertIdWithDetails(concertId);
+    /**
+     * DB 기반 좌석 캐시 초기화 (진행 상황 통지)
+     *
+     * @param concertId        콘서트 ID
+     * @param progressListener 청크 기록이 끝날 때마다 지금까지 적재한 좌석 수로 호출
+     * @return 적재한 좌석 수 (좌석이 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    public int initializeSeatCacheFromDB(Long concertId, IntConsumer progressListener) {
+        int chunkSize = seatProperties.getCache().getInitChunkSize();
+        return load(concertId, "DB",
+                afterConcertSeatId -> concertSeatRepository.findCacheRowsAfter(
+                        concertId, afterConcertSeatId, PageRequest.of(0, chunkSize)),
+                progressListener,
+                () -> restoreJournaledHolds(concertId));
+    }
 
-            if (concertSeats.isEmpty()) {
-                log.warn("콘서트 좌석 데이터가 없습니다: concertId={}", concertId);
-                return;
-            }
+    /**
+     * 스냅샷 기반 좌석 캐시 초기화
+     * - DB 초기화와 같은 청크 단위 임시 키 기록 + 원자적 교체를 사용하되, 좌석 행을 DB 대신 스냅샷에서 받음
+     * - DB 조회와 같은 키셋 방식으로 concertSeatId 오름차순 정렬 후 마지막 좌석 ID 다음부터 청크를 잘라 전달
+     * - 교체 후 스냅샷에 있던 선점/예매 불가 좌석을 다시 기록 (저널 복원은 하지 않음, 운영 캐시가 있었으면 운영 캐시의 선점 유지)
+     *
+     * @param concertId 콘서트 ID
+     * @param rows      스냅샷의 좌석 행 (BOOKED 여부 포함)
+     * @param heldSeats 교체 후 다시 기록할 좌석 상태 (RESERVED/UNAVAILABLE)
+     * @return 적재한 좌석 수 (좌석이 없으면 0)
+     */
+    public int initializeSeatCacheFromSnapshot(Long concertId, List<ConcertSeatCacheRowDTO> rows,
+                                               List<SeatStatus> heldSeats) {
+        int chunkSize = seatProperties.getCache().getInitChunkSize();
+        List<ConcertSeatCacheRowDTO> sortedRows = new ArrayList<>(rows);
+        sortedRows.sort(Comparator.comparing(ConcertSeatCacheRowDTO::concertSeatId));
+
+        return load(concertId, "스냅샷",
+                afterConcertSeatId -> chunkAfter(sortedRows, afterConcertSeatId, chunkSize),
+                seatsLoaded -> { },
+                () -> replaySeats(concertId, heldSeats));
+    }
+
+    /**
+     * 청크 단위 임시 키 기록 + 샤드별 원자적 교체
+     *
+     * @param concertId        콘서트 ID
+     * @param source           로그에 남길 좌석 행 출처
+     * @param nextChunk        직전 청크의 마지막 concertSeatId 를 받아 다음 청크를 반환 (청크 크기 미만이면 마지막 청크)
+     * @param progressListener 청크 기록이 끝날 때마다 지금까지 적재한 좌석 수로 호출
+     * @param restoreHolds     교체 직후 선점을 다시 기록하고 복원한 좌석 수를 반환 (교체 전 운영 캐시가 없었을 때만 호출)
+     * @return 적재한 좌석 수 (좌석이 없으면 0)
+     */
+    private int load(Long concertId, String source, LongFunction<List<ConcertSeatCacheRowDTO>> nextChunk,
+                     IntConsumer progressListener, IntSupplier restoreHolds) {
+        log.info("{} 기반 좌석 캐시 초기화 시작: concertId={}", source, concertId);
 
-            // 2. Redis 캐시 구조 준비
-            String key = SEAT_STATUS_KEY_PREFIX + concertId;
-            RMap<String, SeatStatus> seatMap = redissonClient.getMap(key);
+        // 샤드 수 고정 (이미 캐시가 있는 콘서트는 기존 샤드 수 유지)
+        int shardCount = seatShardRouter.pin(concertId);
+        List<ShardStaging> shards = new ArrayList<>(shardCount);
 
-            // 기존 캐시 클리어
-            seatMap.clear();
+        try {
+            // 1. 샤드별 임시 키 준비 (선점 정보는 교체 시 운영 캐시의 선점만 이어 붙이고, 교체 후 저널/스냅샷의 선점을 다시 선점)
+            for (int shard = 0; shard < shardCount; shard++) {
+                shards.add(stage(concertId, shard));
+            }
 
-            // 3. 로컬 맵에 모든 좌석 상태 준비 (배치 처리 최적화)
-            Map<String, SeatStatus> batchSeatData = new HashMap<>();
+            int chunkSize = seatProperties.getCache().getInitChunkSize();
+            long afterConcertSeatId = 0L;
+            int totalCount = 0;
             int bookedCount = 0;
 
-            for (ConcertSeat concertSeat : concertSeats) {
-                try {
-                    // 4. ✅ 핵심 수정: ConcertSeat ID 사용
-                    Seat seat = concertSeat.getSeat();
-                    Long concertSeatId = concertSeat.getConcertSeatId(); // ← 수정: ConcertSeat의 ID 사용
+            // 2. 청크 단위 조회 + 임시 키 기록
+            while (true) {
+                List<ConcertSeatCacheRowDTO> rows = nextChunk.apply(afterConcertSeatId);
+                if (rows.isEmpty()) {
+                    break;
+                }
 
-                    // 5. 예매 여부 확인 (Ticket 존재 여부로 판별)
-                    boolean isBooked = concertSeat.getTicket() != null;
-                    SeatStatusEnum status = isBooked ? SeatStatusEnum.BOOKED : SeatStatusEnum.AVAILABLE;
+                List<Map<String, SeatStatus>> chunkSeatData = new ArrayList<>(shardCount);
+                List<List<SeatCountStore.SeatGroup>> chunkGroups = new ArrayList<>(shardCount);
+                for (int shard = 0; shard < shardCount; shard++) {
+                    chunkSeatData.add(new LinkedHashMap<>());
+                    chunkGroups.add(new ArrayList<>());
+                }
 
-                    if (isBooked) {
+                for (ConcertSeatCacheRowDTO row : rows) {
+                    // 예매 여부 확인 (Ticket 존재 여부로 판별)
+                    SeatStatusEnum status = row.booked() ? SeatStatusEnum.BOOKED : SeatStatusEnum.AVAILABLE;
+                    if (row.booked()) {
                         bookedCount++;
                     }
 
-                    // 6. 좌석 정보 생성
-                    String seatInfo = generateSeatInfoFromDB(seat);
-
-                    // 7. ✅ 수정된 SeatStatus 객체 생성 (ConcertSeat ID 사용)
-                    SeatStatus seatStatus = SeatStatus.builder()
-                            .id(concertId + "-" + concertSeatId)  // ← 수정
+                    // ✅ ConcertSeat ID 사용
+                    Long concertSeatId = row.concertSeatId();
+                    int shard = seatShardRouter.shardOf(concertId, concertSeatId);
+                    chunkSeatData.get(shard).put(concertSeatId.toString(), SeatStatus.builder()
+                            .id(concertId + "-" + concertSeatId)
                             .concertId(concertId)
-                            .seatId(concertSeatId)                // ← 수정: ConcertSeat ID 사용
+                            .seatId(concertSeatId)
                             .status(status)
                             .userId(null) // 초기화 시에는 선점 사용자 없음
                             .reservedAt(null)
                             .expiresAt(null)
-                            .seatInfo(seatInfo)
-                            .build();
+                            .seatInfo(generateSeatInfo(row))
+                            .build());
+
+                    // 좌석 수 집계용 구역/등급 정보
+                    chunkGroups.get(shard).add(new SeatCountStore.SeatGroup(
+                            concertSeatId,
+                            row.section() != null ? row.section() : "?",
+                            row.grade() != null ? row.grade().name() : "?",
+                            row.price(),
+                            status));
+                }
 
-                    // 8. ✅ 수정된 키 사용 (ConcertSeat ID로 저장)
-                    batchSeatData.put(concertSeatId.toString(), seatStatus); // ← 수정
+                // 3. 청크 하나를 한 번의 배치로 기록 (상태 해시 / 압축 저장소 순번 / 집계 그룹)
+                RBatch batch = redissonClient.createBatch();
+                for (int shard = 0; shard < shardCount; shard++) {
+                    Map<String, SeatStatus> shardSeatData = chunkSeatData.get(shard);
+                    if (shardSeatData.isEmpty()) {
+                        continue;
+                    }
+                    ShardStaging shardStaging = shards.get(shard);
+                    batch.<String, SeatStatus>getMap(shardStaging.statusKey(), redisCodecs.seatStatus()).putAllAsync(shardSeatData);
+                    shardStaging.staging().expireOnFirstWrite(batch, shardStaging.statusKey());
+                    shardStaging.compactWriter().add(batch, new ArrayList<>(shardSeatData.values()));
+                    shardStaging.countWriter().add(batch, chunkGroups.get(shard));
+                }
+                batch.execute();
 
-                } catch (Exception e) {
-                    log.error("좌석 상태 생성 중 오류: concertId={}, concertSeat={}",
-                            concertId, concertSeat.getConcertSeatId(), e);
-                    // 개별 좌석 오류는 스킵하고 계속 처리
+                totalCount += rows.size();
+                progressListener.accept(totalCount);
+                afterConcertSeatId = rows.get(rows.size() - 1).concertSeatId();
+                if (rows.size() < chunkSize) {
+                    break;
                 }
             }
 
-            // 9. 한 번의 Redis 호출로 모든 데이터 일괄 저장
-            if (!batchSeatData.isEmpty()) {
-                seatMap.putAll(batchSeatData);
+            if (totalCount == 0) {
+                log.warn("콘서트 좌석 데이터가 없습니다: concertId={}", concertId);
+                shards.forEach(shardStaging -> discard(shardStaging.staging()));
+                return 0;
+            }
 
-                log.info("DB 기반 좌석 캐시 초기화 완료: concertId={}, totalSeats={}, bookedSeats={}, availableSeats={}",
-                        concertId, batchSeatData.size(), bookedCount, batchSeatData.size() - bookedCount);
-            } else {
-                log.warn("처리 가능한 좌석 데이터가 없습니다: concertId={}", concertId);
+            // 4. 청크 동안 모아 둔 압축 상태/카탈로그와 집계 카운터 기록
+            RBatch finishBatch = redissonClient.createBatch();
+            for (ShardStaging shardStaging : shards) {
+                shardStaging.compactWriter().finish(finishBatch);
+                shardStaging.countWriter().finish(finishBatch);
             }
+            finishBatch.execute();
+
+            // 5. 임시 키 → 운영 키 원자적 교체 (샤드별, 운영 캐시의 선점/예매 불가 좌석은 교체와 함께 이어 붙임)
+            long carriedSeats = 0;
+            boolean liveCacheExisted = false;
+            for (ShardStaging shardStaging : shards) {
+                SeatCacheStaging staging = shardStaging.staging();
+                SeatSwapResult swapped = seatScriptExecutor.swap(concertId, shardStaging.shard(),
+                        staging.stagedToLive(), staging.clearOnSwap(), true);
+                carriedSeats += swapped.carriedSeats();
+                liveCacheExisted |= swapped.liveExisted();
+            }
+
+            // 5-1. 해시 태그 도입 전 좌석 해시(seat:status:42)의 선점/예매 불가 좌석 이전 (옛 키는 이전 후 삭제)
+            //      배포 직후 첫 초기화에서 진행 중인 선점(영구 선점 포함)을 잃지 않도록 저널 복원보다 먼저 기록
+            int restoredHolds = carryLegacySeats(concertId);
+
+            // 5-2. 유효한 선점 복원 (Redis 유실 후 재초기화해도 진행 중인 선점 유지)
+            //      운영 캐시가 있었으면 선점은 교체 때 운영 캐시에서 이미 이어 붙였으므로 건너뜀
+            //      (저널/스냅샷은 운영 캐시보다 늦으므로, 그 사이 해제된 선점을 되살리지 않도록)
+            restoredHolds += liveCacheExisted ? 0 : restoreHolds.getAsInt();
+
+            // 5-3. 초기화 완료 표시 (모든 샤드 교체와 선점 복원이 끝난 뒤에만 준비된 캐시로 봄)
+            redissonClient.getBucket(readyKey(concertId), StringCodec.INSTANCE).set(LocalDateTime.now().toString());
+
+            // 5-4. 단일 기록자 엔진이 교체된 상태를 다시 읽도록 표시 (실패해도 초기화 결과에는 영향 없음)
+            try {
+                seatWriterRouter.invalidate(concertId);
+            } catch (Exception e) {
+                log.warn("단일 기록자 좌석 엔진 무효화 실패: concertId={}, error={}", concertId, e.getMessage());
+            }
+
+            // 6. 선점 만료 스위퍼 대상으로 등록
+            seatExpiryWheel.register(concertId);
+
+            // 7. 이전 변경 로그 무효화 (기존 순번을 가진 클라이언트는 스냅샷을 다시 받음)
+            seatChangeLog.reset(concertId);
+
+            log.info("{} 기반 좌석 캐시 초기화 완료: concertId={}, totalSeats={}, bookedSeats={}, availableSeats={}, carriedSeats={}, restoredHolds={}, shards={}",
+                    source, concertId, totalCount, bookedCount, totalCount - bookedCount, carriedSeats, restoredHolds, shardCount);
+            return totalCount;
 
         } catch (Exception e) {
-            log.error("DB 기반 좌석 캐시 초기화 중 오류 발생: concertId={}", concertId, e);
+            log.error("{} 기반 좌석 캐시 초기화 중 오류 발생: concertId={}", source, concertId, e);
+            shards.forEach(shardStaging -> discard(shardStaging.staging()));
             throw new RuntimeException("좌석 캐시 초기화 실패: " + e.getMessage(), e);
         }
     }
 
     /**
-     * ✅ 내부 헬퍼 메서드: Seat 엔티티로부터 좌석 정보 생성 - seatInfo
+     * 저널에 남아 있는 유효한 선점 복원 (실패해도 초기화는 유지)
+     */
+    private int restoreJournaledHolds(Long concertId) {
+        if (!seatProperties.getJournal().isRestoreOnInit()) {
+            return 0;
+        }
+        try {
+            return seatHoldJournal.restoreActiveHolds(concertId);
+        } catch (Exception e) {
+            log.warn("저널 기반 선점 복원 실패 (초기화는 유지): concertId={}", concertId, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 스냅샷의 선점/예매 불가 좌석 재기록
+     * - 만료되지 않은 선점은 선점 스크립트로 다시 선점 (영구 선점 포함)
+     * - 예매 불가 좌석은 상태 저장 스크립트로 기록
+     */
+    private int replaySeats(Long concertId, List<SeatStatus> heldSeats) {
+        LocalDateTime now = LocalDateTime.now();
+        SeatProperties.Reservation reservation = seatProperties.getReservation();
+        long lastUpdateTtlMillis = TimeUnit.HOURS.toMillis(reservation.getLastUpdateTtlHours());
+
+        int restored = 0;
+        for (SeatStatus seat : heldSeats) {
+            try {
+                if (seat.getStatus() == SeatStatusEnum.UNAVAILABLE) {
+                    seatScriptExecutor.put(seat, lastUpdateTtlMillis);
+                    restored++;
+                } else if (seat.isReserved() && seat.getUserId() != null
+                        && (seat.getExpiresAt() == null || seat.getExpiresAt().isAfter(now))
+                        && seatScriptExecutor.replayHold(seat, now, reservation.getTtlMinutes(), lastUpdateTtlMillis).isSuccess()) {
+                    restored++;
+                }
+            } catch (Exception e) {
+                log.warn("스냅샷 좌석 상태 복원 실패: concertId={}, seatId={}", concertId, seat.getSeatId(), e);
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * 해시 태그 도입 전 좌석 키 이전
+     * - 옛 좌석 상태 해시(seat:status:42)를 청크 단위로 훑어 선점(RESERVED, 영구 선점 포함)/예매 불가 좌석을 새 캐시에 다시 기록
+     *   (선점은 선점 스크립트로 기록하므로 새 캐시에서 예매 완료/다른 사용자 선점 좌석은 건너뜀,
+     *    예매 불가는 새 캐시에서 AVAILABLE 인 좌석만 기록)
+     * - 이전 후 옛 좌석 키(상태/마지막 업데이트 시간)를 모두 삭제
+     * - 옛 상태 해시가 있는데 새 캐시가 없으면 아무것도 하지 않음 (옛 키는 다음 초기화에서 이전)
+     * - 실패해도 초기화는 유지 (옛 키는 남겨 두고 다음 이전 때 다시 시도)
+     *
+     * @return 다시 기록한 좌석 수
+     */
+    public int carryLegacySeats(Long concertId) {
+        List<String> legacyKeys = LEGACY_SEAT_KEY_PREFIXES.stream()
+                .map(prefix -> prefix + concertId)
+                .toList();
+        try {
+            if (redissonClient.getKeys().countExists(legacyKeys.toArray(String[]::new)) == 0) {
+                return 0;
+            }
+            String legacyStatusKey = SEAT_STATUS_KEY_PREFIX + concertId;
+            if (redissonClient.getKeys().countExists(legacyStatusKey) == 0) {
+                // 옮길 좌석 상태가 없으면 파생 키만 삭제
+                redissonClient.getKeys().delete(legacyKeys.toArray(String[]::new));
+                return 0;
+            }
+            if (redissonClient.getKeys().countExists(
+                    seatShardRouter.keys(SEAT_STATUS_KEY_PREFIX, concertId).toArray(String[]::new)) == 0) {
+                return 0;
+            }
+
+            // 옛 해시는 전역 JSON 코덱 형식이며, 좌석 상태 코덱이 그대로 읽음
+            List<SeatStatus> legacySeats = new ArrayList<>();
+            int chunkSize = Math.max(1, seatProperties.getCache().getInitChunkSize());
+            for (Map.Entry<String, SeatStatus> entry : redissonClient.<String, SeatStatus>getMap(
+                    legacyStatusKey, redisCodecs.seatStatus()).entrySet(chunkSize)) {
+                SeatStatus seat = entry.getValue();
+                if (seat != null && seat.getSeatId() != null
+                        && (seat.getStatus() == SeatStatusEnum.RESERVED || seat.getStatus() == SeatStatusEnum.UNAVAILABLE)) {
+                    legacySeats.add(SeatStatus.builder()
+                            .id(concertId + "-" + seat.getSeatId())
+                            .concertId(concertId)
+                            .seatId(seat.getSeatId())
+                            .status(seat.getStatus())
+                            .userId(seat.getUserId())
+                            .reservedAt(seat.getReservedAt())
+                            .expiresAt(seat.getExpiresAt())
+                            .seatInfo(seat.getSeatInfo())
+                            .build());
+                }
+            }
+
+            List<SeatStatus> carried = new ArrayList<>(legacySeats.size());
+            for (SeatStatus seat : legacySeats) {
+                if (seat.getStatus() != SeatStatusEnum.UNAVAILABLE || isAvailable(concertId, seat.getSeatId())) {
+                    carried.add(seat);
+                }
+            }
+            int restored = replaySeats(concertId, carried);
+
+            redissonClient.getKeys().delete(legacyKeys.toArray(String[]::new));
+            log.info("해시 태그 도입 전 좌석 키 이전 완료: concertId={}, legacySeats={}, restored={}",
+                    concertId, legacySeats.size(), restored);
+            return restored;
+        } catch (Exception e) {
+            log.warn("해시 태그 도입 전 좌석 키 이전 실패 (다음 이전 때 재시도): concertId={}", concertId, e);
+            return 0;
+        }
+    }
+
+    private boolean isAvailable(Long concertId, Long concertSeatId) {
+        SeatStatus current = redissonClient.<String, SeatStatus>getMap(
+                seatShardRouter.seatKey(SEAT_STATUS_KEY_PREFIX, concertId, concertSeatId), redisCodecs.seatStatus())
+                .get(concertSeatId.toString());
+        return current != null && current.getStatus() == SeatStatusEnum.AVAILABLE;
+    }
+
+    /**
+     * 샤드 하나의 임시 키와 기록기
+     */
+    private record ShardStaging(int shard,
+                                SeatCacheStaging staging,
+                                String statusKey,
+                                SeatCompactStateStore.StagedWriter compactWriter,
+                                SeatCountStore.StagedWriter countWriter) {
+    }
+
+    private ShardStaging stage(Long concertId, int shard) {
+        SeatCacheStaging staging = new SeatCacheStaging();
+        String statusKey = staging.stage(seatShardRouter.key(SEAT_STATUS_KEY_PREFIX, concertId, shard));
+        SeatCompactStateStore.StagedWriter compactWriter = seatCompactStateStore.stage(concertId, shard, staging);
+        SeatCountStore.StagedWriter countWriter = seatCountStore.stage(concertId, shard, staging);
+        staging.clearOnSwap(seatShardRouter.key(SEAT_HOLDS_KEY_PREFIX, concertId, shard));
+        staging.clearOnSwap(seatShardRouter.key(SEAT_EXPIRY_KEY_PREFIX, concertId, shard));
+        return new ShardStaging(shard, staging, statusKey, compactWriter, countWriter);
+    }
+
+    /**
+     * 실패/빈 초기화의 임시 키 정리 (운영 키는 그대로 유지)
+     */
+    private void discard(SeatCacheStaging staging) {
+        try {
+            redissonClient.getKeys().delete(staging.stagedToLive().keySet().toArray(String[]::new));
+        } catch (Exception e) {
+            log.warn("좌석 캐시 초기화 임시 키 정리 실패 (만료 시간 후 자동 삭제됨)", e);
+        }
+    }
+
+    /**
+     * 정렬된 스냅샷 행에서 afterConcertSeatId 보다 큰 첫 좌석부터 최대 chunkSize 개 반환 (이진 탐색)
      */
-    private String generateSeatInfoFromDB(Seat seat) {
-        if (seat == null) {
-            log.warn("Seat 엔티티가 null입니다. 해당 seatInfo를 null로 설정합니다.");
-            return null;
+    private static List<ConcertSeatCacheRowDTO> chunkAfter(List<ConcertSeatCacheRowDTO> sortedRows,
+                                                           long afterConcertSeatId, int chunkSize) {
+        int low = 0;
+        int high = sortedRows.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedRows.get(mid).concertSeatId() <= afterConcertSeatId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
+        return sortedRows.subList(low, Math.min(sortedRows.size(), low + chunkSize));
+    }
 
-        String section = seat.getSection() != null ? seat.getSection() : "?";
-        String seatRow = seat.getSeatRow() != null ? seat.getSeatRow() : "?";
-        Integer seatNumber = seat.getSeatNumber() != null ? seat.getSeatNumber() : 0;
+    /**
+     * ✅ 내부 헬퍼 메서드: 좌석 프로젝션으로부터 좌석 정보 생성 - seatInfo
+     */
+    private String generateSeatInfo(ConcertSeatCacheRowDTO row) {
+        String section = row.section() != null ? row.section() : "?";
+        String seatRow = row.seatRow() != null ? row.seatRow() : "?";
+        Integer seatNumber = row.seatNumber() != null ? row.seatNumber() : 0;
 
         return String.format("%s-%s-%d", section, seatRow, seatNumber);
     }
 
+    /**
+     * 초기화가 끝난 좌석 캐시인지 확인
+     * - 완료 표시는 마지막 샤드 교체 뒤에 기록하므로 일부 샤드만 교체된 중간 상태는 준비되지 않은 것으로 봄
+     * - 완료 표시가 남아 있어도 좌석 상태 해시가 모두 사라졌으면(메모리 축출 등) 준비되지 않은 것으로 봄
+     * - 완료 표시 도입 전에 만든 캐시는 한 번 다시 초기화됨 (운영 캐시의 선점은 교체 때 이어 붙임)
+     */
+    public boolean isCacheReady(Long concertId) {
+        if (redissonClient.getKeys().countExists(readyKey(concertId)) == 0) {
+            return false;
+        }
+        return redissonClient.getKeys().countExists(
+                seatShardRouter.keys(SEAT_STATUS_KEY_PREFIX, concertId).toArray(String[]::new)) > 0;
+    }
+
+    private static String readyKey(Long concertId) {
+        return RedisKeyGenerator.concertKey(SEAT_READY_KEY_PREFIX, concertId);
+    }
+
     /**
      * ✅ 개선된 캐시 상태 확인
+     * - 좌석 수는 집계 카운터에서 읽으므로 좌석 전체를 조회하지 않음
      */
     public Map<String, Object> getCacheStatus(Long concertId) {
-        String key = SEAT_STATUS_KEY_PREFIX + concertId;
-        RMap<String, SeatStatus> seatMap = redissonClient.getMap(key);
+        List<String> statusKeys = seatShardRouter.keys(SEAT_STATUS_KEY_PREFIX, concertId);
+        String key = String.join(",", statusKeys);
 
-        if (!seatMap.isExists()) {
+        if (redissonClient.getKeys().countExists(statusKeys.toArray(String[]::new)) == 0) {
             return Map.of(
                     "concertId", concertId,
                     "cacheKey", key,
@@ -148,29 +493,27 @@ public class SeatCacheInitService {
             );
         }
 
-        // 캐시 통계 계산
-        Map<String, SeatStatus> allSeats = seatMap.readAllMap();
-
-        long availableSeats = allSeats.values().stream()
-                .mapToLong(seat -> seat.getStatus() == SeatStatusEnum.AVAILABLE ? 1 : 0)
-                .sum();
-
-        long reservedSeats = allSeats.values().stream()
-                .mapToLong(seat -> seat.getStatus() == SeatStatusEnum.RESERVED ? 1 : 0)
-                .sum();
-
-        long bookedSeats = allSeats.values().stream()
-                .mapToLong(seat -> seat.getStatus() == SeatStatusEnum.BOOKED ? 1 : 0)
-                .sum();
+        // 캐시 통계 조회 (집계 카운터가 없으면 좌석 수만 해시 크기로 확인)
+        SeatCountsDTO counts = seatCountStore.read(concertId).orElse(null);
+        if (counts == null) {
+            return Map.of(
+                    "concertId", concertId,
+                    "cacheKey", key,
+                    "cacheExists", true,
+                    "totalSeats", statusKeys.stream().mapToInt(statusKey -> redissonClient.getMap(statusKey).size()).sum(),
+                    "message", "좌석 수 집계가 없습니다. 캐시를 다시 초기화해주세요.",
+                    "lastUpdated", java.time.LocalDateTime.now()
+            );
+        }
 
         Map<String, Object> status = Map.of(
                 "concertId", concertId,
                 "cacheKey", key,
                 "cacheExists", true,
-                "totalSeats", allSeats.size(),
-                "availableSeats", availableSeats,
-                "reservedSeats", reservedSeats,
-                "bookedSeats", bookedSeats,
+                "totalSeats", counts.totalSeats(),
+                "availableSeats", counts.count(SeatStatusEnum.AVAILABLE),
+                "reservedSeats", counts.count(SeatStatusEnum.RESERVED),
+                "bookedSeats", counts.count(SeatStatusEnum.BOOKED),
                 "lastUpdated", java.time.LocalDateTime.now()
         );
 
@@ -183,16 +526,26 @@ public class SeatCacheInitService {
      */
     public String clearSeatCache(Long concertId) {
         try {
-            String key = SEAT_STATUS_KEY_PREFIX + concertId;
-            RMap<String, SeatStatus> seatMap = redissonClient.getMap(key);
-
-            if (!seatMap.isExists()) {
-                log.info("삭제할 좌석 캐시가 존재하지 않음: concertId={}, key={}", concertId, key);
+            // 정적 배치도/좌석 카탈로그는 좌석 상태 캐시 유무와 관계없이 삭제 (다음 조회 시 DB에서 다시 생성)
+            seatLayoutCache.evict(concertId);
+            seatCatalog.evict(concertId);
+
+            List<String> statusKeys = seatShardRouter.keys(SEAT_STATUS_KEY_PREFIX, concertId);
+            if (redissonClient.getKeys().countExists(statusKeys.toArray(String[]::new)) == 0) {
+                log.info("삭제할 좌석 캐시가 존재하지 않음: concertId={}, keys={}", concertId, statusKeys);
+                seatShardRouter.unpin(concertId);
                 return "삭제할 캐시가 없습니다.";
             }
 
-            int seatCount = seatMap.size();
-            boolean deleted = seatMap.delete();
+            int seatCount = statusKeys.stream().mapToInt(statusKey -> redissonClient.getMap(statusKey).size()).sum();
+            boolean deleted = redissonClient.getKeys().delete(statusKeys.toArray(String[]::new)) > 0;
+            redissonClient.getKeys().delete(seatShardRouter.keys(SEAT_HOLDS_KEY_PREFIX, concertId).toArray(String[]::new));
+            redissonClient.getKeys().delete(readyKey(concertId));
+            seatCompactStateStore.delete(concertId);
+            seatCountStore.delete(concertId);
+            seatExpiryWheel.delete(concertId);
+            seatChangeLog.delete(concertId);
+            seatShardRouter.unpin(concertId);
 
             if (deleted) {
                 log.info("좌석 캐시 삭제 완료: concertId={}, deletedSeats={}", concertId, seatCount);
@@ -0,0 +1,69 @@
+package com.team03.ticketmon.seat.service;
+
+import org.redisson.api.RBatch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 좌석 캐시 초기화 임시 키 관리
+ * - 초기화 중에는 운영 키 대신 '{운영 키}:staging:{토큰}' 임시 키에 청크 단위로 기록
+ * - 모든 청크 기록이 끝나면 SeatScriptExecutor.swap()으로 임시 키를 운영 키로 한 번에 RENAME
+ *   (읽는 쪽은 이전 캐시 또는 새 캐시만 보고, 비어 있는 중간 상태를 보지 않음)
+ * - 초기화가 중간에 실패해도 임시 키는 일정 시간 뒤 자동 삭제됨
+ */
+public class SeatCacheStaging {
+
+    private static final Duration STAGING_TTL = Duration.ofMinutes(10);
+
+    private final String token = UUID.randomUUID().toString();
+    private final Map<String, String> stagedToLive = new LinkedHashMap<>();
+    private final List<String> clearOnSwap = new ArrayList<>();
+    private final Set<String> expiring = new HashSet<>();
+
+    /**
+     * 운영 키에 대응하는 임시 키 발급
+     *
+     * @param liveKey 교체될 운영 키
+     * @return 기록에 사용할 임시 키
+     */
+    public String stage(String liveKey) {
+        String stagedKey = liveKey + ":staging:" + token;
+        stagedToLive.put(stagedKey, liveKey);
+        return stagedKey;
+    }
+
+    /**
+     * 교체 시점에 함께 비울 운영 키 등록 (선점 인덱스 등 초기화 후 비어 있어야 하는 키)
+     * - 운영 캐시에서 이어 붙인 선점 좌석의 항목은 교체 스크립트가 비운 뒤 다시 기록
+     */
+    public void clearOnSwap(String liveKey) {
+        clearOnSwap.add(liveKey);
+    }
+
+    /**
+     * 임시 키 만료 시간 설정 (배치에 추가)
+     * - 임시 키에 기록하는 배치 명령 바로 뒤에 호출하며, 키마다 처음 기록할 때 한 번만 EXPIRE 추가
+     *   (같은 키에 청크마다 다시 기록해도 만료 시간은 다시 설정하지 않음)
+     */
+    public void expireOnFirstWrite(RBatch batch, String stagedKey) {
+        if (expiring.add(stagedKey)) {
+            batch.getBucket(stagedKey).expireAsync(STAGING_TTL);
+        }
+    }
+
+    public Map<String, String> stagedToLive() {
+        return Collections.unmodifiableMap(stagedToLive);
+    }
+
+    public List<String> clearOnSwap() {
+        return Collections.unmodifiableList(clearOnSwap);
+    }
+}
@@ -0,0 +1,216 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.seat.dto.SeatStaticLayoutDTO;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드별 불변 좌석 카탈로그 (콘서트별 정적 좌석 정보)
+ * - 정적 배치도(SeatLayoutCache)에서 콘서트마다 한 번 만들어 힙에 보관하고, 이후 조회는 DB/Redis 접근 없이 처리
+ * - 좌석 ID 오름차순 순번(ordinal)마다 기본형 배열에 좌석 정보/등급/구역을 담고, 좌석 ID → 순번은 이진 탐색
+ * - 선점 요청의 좌석 존재 확인, 좌석 정보 조회, 압축 좌석 상태(SeatCompactStateStore) 복원이 모두 이 카탈로그를 사용
+ *   (압축 상태의 샤드별 순번 = 샤드에 속한 좌석만 좌석 ID 오름차순으로 센 순번)
+ * - 무효화는 관리자 좌석 캐시 삭제 등 좌석 데이터 수정 시에만 수행하고, 다른 노드에는 seat:catalog:invalidate 토픽으로 알림
+ *   (수신 노드는 로컬 배치도도 함께 버려 다음 조회 때 새 배치도로 다시 만듦)
+ *
+ * ✅ 선점 요청마다 실행되던 좌석 존재 확인(DB 쿼리)과 좌석 정보 조회(@Cacheable Redis 왕복)를 로컬 배열 조회로 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatCatalog {
+
+    private static final SeatGrade[] GRADES = SeatGrade.values();
+
+    private final SeatLayoutCache seatLayoutCache;
+    private final RedissonClient redissonClient;
+
+    private final Map<Long, Catalog> catalogs = new ConcurrentHashMap<>();
+
+    /**
+     * 콘서트 좌석 카탈로그 (좌석 ID 오름차순 순번)
+     *
+     * @param seatIds   순번별 concertSeatId (오름차순)
+     * @param seatInfos 순번별 좌석 정보 (구역-열-번호)
+     * @param grades    순번별 좌석 등급 순번 (SeatGrade.ordinal, 없으면 -1)
+     * @param sections  순번별 구역 순번 (sectionNames 인덱스)
+     * @param sectionNames 배치도 구역명 (배치도 순서)
+     */
+    public record Catalog(long[] seatIds, String[] seatInfos, byte[] grades, short[] sections, String[] sectionNames) {
+
+        /**
+         * 좌석 ID → 순번 (없으면 -1)
+         */
+        public int ordinalOf(long seatId) {
+            int ordinal = Arrays.binarySearch(seatIds, seatId);
+            return ordinal >= 0 ? ordinal : -1;
+        }
+
+        public int size() {
+            return seatIds.length;
+        }
+
+        public SeatGrade gradeAt(int ordinal) {
+            return grades[ordinal] >= 0 ? GRADES[grades[ordinal]] : null;
+        }
+
+        public String sectionAt(int ordinal) {
+            return sectionNames[sections[ordinal]];
+        }
+
+        /**
+         * 샤드에 속한 좌석 수 (샤딩하지 않은 콘서트는 전체 좌석 수)
+         */
+        public int shardSize(int shard, int shardCount) {
+            if (shardCount <= 1) {
+                return seatIds.length;
+            }
+            int size = 0;
+            for (long seatId : seatIds) {
+                if (SeatShardRouter.shardOf(seatId, shardCount) == shard) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        /**
+         * 주어진 순번 다음에 오는 같은 샤드 좌석의 순번 (처음 찾을 때는 -1 전달, 없으면 size())
+         */
+        public int nextInShard(int ordinal, int shard, int shardCount) {
+            int next = ordinal + 1;
+            while (shardCount > 1 && next < seatIds.length
+                    && SeatShardRouter.shardOf(seatIds[next], shardCount) != shard) {
+                next++;
+            }
+            return next;
+        }
+    }
+
+    @PostConstruct
+    void subscribe() {
+        invalidateTopic().addListener(Long.class, (channel, concertId) -> {
+            seatLayoutCache.evictLocal(concertId);
+            if (catalogs.remove(concertId) != null) {
+                log.info("좌석 카탈로그 무효화 수신: concertId={}", concertId);
+            }
+        });
+    }
+
+    /**
+     * 콘서트 좌석 카탈로그 조회 (없으면 정적 배치도에서 한 번 생성)
+     *
+     * @throws BusinessException 콘서트를 찾을 수 없는 경우
+     */
+    public Catalog get(Long concertId) {
+        Catalog cached = catalogs.get(concertId);
+        if (cached != null) {
+            return cached;
+        }
+        return catalogs.computeIfAbsent(concertId, this::build);
+    }
+
+    /**
+     * 콘서트 좌석 카탈로그 다시 생성 (이 노드의 로컬 배치도도 함께 버림, 다른 노드에는 알리지 않음)
+     * - 압축 좌석 상태의 좌석 수가 카탈로그와 맞지 않을 때 사용
+     *
+     * @throws BusinessException 콘서트를 찾을 수 없는 경우
+     */
+    public Catalog reload(Long concertId) {
+        seatLayoutCache.evictLocal(concertId);
+        catalogs.remove(concertId);
+        return get(concertId);
+    }
+
+    /**
+     * 콘서트에 속한 좌석인지 확인 (콘서트가 없으면 false)
+     */
+    public boolean contains(Long concertId, Long concertSeatId) {
+        try {
+            return get(concertId).ordinalOf(concertSeatId) >= 0;
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.CONCERT_NOT_FOUND) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 좌석 정보 조회 (구역-열-번호, 콘서트에 속하지 않는 좌석이면 null)
+     */
+    public String getSeatInfo(Long concertId, Long concertSeatId) {
+        Catalog catalog = get(concertId);
+        int ordinal = catalog.ordinalOf(concertSeatId);
+        return ordinal >= 0 ? catalog.seatInfos()[ordinal] : null;
+    }
+
+    /**
+     * 콘서트 카탈로그 무효화 (이 노드 + 다른 노드)
+     */
+    public void evict(Long concertId) {
+        catalogs.remove(concertId);
+        try {
+            invalidateTopic().publish(concertId);
+        } catch (Exception e) {
+            log.warn("좌석 카탈로그 무효화 발행 실패: concertId={}, error={}", concertId, e.getMessage());
+        }
+    }
+
+    private Catalog build(Long concertId) {
+        SeatStaticLayoutDTO layout = seatLayoutCache.get(concertId).layout();
+
+        List<SeatStaticLayoutDTO.Seat> seats = new ArrayList<>();
+        List<Short> sectionOf = new ArrayList<>();
+        String[] sectionNames = new String[layout.sections().size()];
+        for (short section = 0; section < sectionNames.length; section++) {
+            SeatStaticLayoutDTO.Section current = layout.sections().get(section);
+            sectionNames[section] = current.sectionName();
+            for (SeatStaticLayoutDTO.Seat seat : current.seats()) {
+                seats.add(seat);
+                sectionOf.add(section);
+            }
+        }
+
+        Integer[] order = new Integer[seats.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(seats.get(a).concertSeatId(), seats.get(b).concertSeatId()));
+
+        int size = order.length;
+        long[] seatIds = new long[size];
+        String[] seatInfos = new String[size];
+        byte[] grades = new byte[size];
+        short[] sections = new short[size];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            SeatStaticLayoutDTO.Seat seat = seats.get(order[ordinal]);
+            seatIds[ordinal] = seat.concertSeatId();
+            seatInfos[ordinal] = seat.seatLabel();
+            grades[ordinal] = seat.grade() != null ? (byte) seat.grade().ordinal() : -1;
+            sections[ordinal] = sectionOf.get(order[ordinal]);
+        }
+
+        log.info("좌석 카탈로그 생성: concertId={}, seats={}", concertId, size);
+        return new Catalog(seatIds, seatInfos, grades, sections, sectionNames);
+    }
+
+    private RTopic invalidateTopic() {
+        return redissonClient.getTopic(RedisKeyGenerator.SEAT_CATALOG_INVALIDATE_TOPIC, LongCodec.INSTANCE);
+    }
+}
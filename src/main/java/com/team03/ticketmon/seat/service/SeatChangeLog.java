@@ -0,0 +1,257 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatChangesDTO;
+import com.team03.ticketmon.seat.script.SeatLuaScripts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 변경 로그
+ * - seat:seq:{concertId}: 콘서트별 좌석 변경 순번 (단조 증가)
+ * - seat:changes:{concertId}: 순번을 엔트리 ID로 쓰는 Redis Stream (seatId, status, userId), 최대 길이 제한
+ *
+ * ✅ 기록은 좌석 Lua 스크립트(common.lua appendChange)에서 좌석 상태 변경과 함께 원자적으로 처리
+ * ✅ 조회는 changes_since.lua 한 번으로 현재 순번과 변경분을 함께 읽음
+ * ✅ 샤딩한 콘서트는 샤드마다 순번/로그를 따로 가짐
+ *   - 콘서트 순번은 샤드 순번의 합 (각 샤드 순번이 단조 증가하므로 합도 단조 증가, 같으면 변경 없음)
+ *   - 변경분 조회 위치는 샤드 순번을 '.'으로 이은 커서로 주고받음 (예: "40.38.57")
+ *   - 샤드끼리 좌석이 겹치지 않으므로 샤드별 변경분을 이어 붙여도 좌석별 순서는 유지됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatChangeLog {
+
+    private static final String SEAT_SEQ_KEY_PREFIX = RedisKeyGenerator.SEAT_SEQ_KEY_PREFIX;
+    private static final String SEAT_CHANGES_KEY_PREFIX = RedisKeyGenerator.SEAT_CHANGES_KEY_PREFIX;
+    private static final String CURSOR_SEPARATOR = ".";
+
+    private final RedissonClient redissonClient;
+    private final SeatLuaScripts seatLuaScripts;
+    private final SeatShardRouter seatShardRouter;
+
+    /**
+     * 변경 로그 조회 결과
+     *
+     * @param currentSeq    조회 시점의 현재 순번
+     * @param currentCursor 조회 시점의 샤드별 순번 커서 (샤딩하지 않은 콘서트는 null)
+     * @param available     false면 요청 순번 이후 변경분이 로그에 남아 있지 않음 (스냅샷 필요)
+     * @param changes       요청 순번 이후 변경분 (순번 오름차순, 최대 limit개)
+     * @param lastSeq       이번 변경분까지 반영한 순번
+     * @param cursor        이번 변경분까지 반영한 샤드별 순번 커서 (샤딩하지 않은 콘서트는 null)
+     * @param hasMore       조회 개수 제한으로 남은 변경분이 있는지 여부
+     */
+    public record Slice(long currentSeq, String currentCursor, boolean available, List<SeatChangesDTO.Change> changes,
+                        long lastSeq, String cursor, boolean hasMore) {
+    }
+
+    /**
+     * 순번 이후 변경분 조회
+     *
+     * @param concertId 콘서트 ID
+     * @param sinceSeq  클라이언트가 마지막으로 받은 순번
+     * @param cursor    클라이언트가 마지막으로 받은 샤드별 순번 커서 (샤딩한 콘서트만 사용, 없으면 null)
+     * @param limit     최대 조회 개수
+     */
+    public Slice readSince(Long concertId, long sinceSeq, String cursor, int limit) {
+        if (!seatShardRouter.isSharded(concertId)) {
+            ShardSlice shard = parse(redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_ONLY, seatLuaScripts.changesSince(), RScript.ReturnType.MULTI,
+                    shardKeys(concertId, 0), String.valueOf(sinceSeq), String.valueOf(limit)));
+
+            List<SeatChangesDTO.Change> changes = shard.changes();
+            long lastSeq = changes.isEmpty() ? shard.currentSeq() : changes.get(changes.size() - 1).seq();
+            return new Slice(shard.currentSeq(), null, shard.available(), changes, lastSeq, null, lastSeq < shard.currentSeq());
+        }
+
+        return readSinceSharded(concertId, sinceSeq, cursor, limit);
+    }
+
+    private Slice readSinceSharded(Long concertId, long sinceSeq, String cursor, int limit) {
+        int shardCount = seatShardRouter.shardCount(concertId);
+        long[] since = parseCursor(cursor, shardCount);
+
+        // 커서가 없거나 형식이 맞지 않으면 샤드별 위치를 알 수 없으므로 순번만 비교
+        if (since == null) {
+            long[] current = currentSeqs(concertId);
+            long currentSeq = Arrays.stream(current).sum();
+            String currentCursor = formatCursor(current);
+            boolean unchanged = sinceSeq == currentSeq;
+            return new Slice(currentSeq, currentCursor, unchanged, List.of(), currentSeq, currentCursor, false);
+        }
+
+        // 모든 샤드의 변경분을 한 번의 배치로 조회 (샤드별로 limit개까지)
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<List<Object>>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            futures.add(batch.getScript(StringCodec.INSTANCE).evalAsync(
+                    RScript.Mode.READ_ONLY, seatLuaScripts.changesSince(), RScript.ReturnType.MULTI,
+                    shardKeys(concertId, shard), String.valueOf(since[shard]), String.valueOf(limit)));
+        }
+        batch.execute();
+
+        long[] current = new long[shardCount];
+        long[] last = since.clone();
+        boolean available = true;
+        boolean hasMore = false;
+        List<SeatChangesDTO.Change> changes = new ArrayList<>();
+        long seq = Arrays.stream(since).sum();
+
+        for (int shard = 0; shard < shardCount; shard++) {
+            ShardSlice slice = parse(futures.get(shard).toCompletableFuture().join());
+            current[shard] = slice.currentSeq();
+            available &= slice.available();
+
+            // 합계 limit개까지만 담고, 담은 만큼만 샤드 커서를 전진
+            for (SeatChangesDTO.Change change : slice.changes()) {
+                if (changes.size() >= limit) {
+                    break;
+                }
+                last[shard] = change.seq();
+                changes.add(new SeatChangesDTO.Change(++seq, change.seatId(), change.status(), change.userId()));
+            }
+            hasMore |= last[shard] < current[shard];
+        }
+
+        long currentSeq = Arrays.stream(current).sum();
+        String currentCursor = formatCursor(current);
+        if (!available) {
+            return new Slice(currentSeq, currentCursor, false, List.of(), currentSeq, currentCursor, false);
+        }
+        return new Slice(currentSeq, currentCursor, true, changes, Arrays.stream(last).sum(), formatCursor(last), hasMore);
+    }
+
+    /**
+     * 현재 순번 조회 (변경이 한 번도 없으면 0, 샤딩한 콘서트는 샤드 순번의 합)
+     */
+    public long currentSeq(Long concertId) {
+        return Arrays.stream(currentSeqs(concertId)).sum();
+    }
+
+    /**
+     * 순번을 지정한 값 이상으로 올림 (샤드마다, 이미 크면 그대로)
+     * - Redis 유실로 순번 키가 사라진 뒤 저널 복원 시, 새로 발급할 순번이 저널에 남은 순번보다 커지게 함
+     * - 로그는 건드리지 않으므로 올리기 전 순번을 가진 클라이언트는 로그가 잘린 것으로 보고 스냅샷을 다시 받음
+     */
+    public void advanceTo(Long concertId, long seq) {
+        if (seq <= 0) {
+            return;
+        }
+        for (String key : seatShardRouter.keys(SEAT_SEQ_KEY_PREFIX, concertId)) {
+            RAtomicLong current = redissonClient.getAtomicLong(key);
+            long value = current.get();
+            while (value < seq && !current.compareAndSet(value, seq)) {
+                value = current.get();
+            }
+        }
+    }
+
+    /**
+     * 캐시 재초기화 시 변경 로그 무효화
+     * - 순번은 유지한 채 1 올리고 로그를 비워, 이전 순번을 가진 클라이언트는 스냅샷을 다시 받도록 함
+     */
+    public void reset(Long concertId) {
+        RBatch batch = redissonClient.createBatch();
+        for (int shard = 0; shard < seatShardRouter.shardCount(concertId); shard++) {
+            batch.getAtomicLong(seatShardRouter.key(SEAT_SEQ_KEY_PREFIX, concertId, shard)).incrementAndGetAsync();
+            batch.getKeys().deleteAsync(seatShardRouter.key(SEAT_CHANGES_KEY_PREFIX, concertId, shard));
+        }
+        batch.execute();
+    }
+
+    /**
+     * 변경 로그 삭제 (좌석 캐시 삭제 시)
+     * - 로그만 지우고 순번은 남겨 1 올림 (순번을 지우면 0부터 다시 세어, 이전 순번을 가진 클라이언트가
+     *   다른 캐시 세대의 변경분을 받거나 같은 순번으로 만든 ETag가 다시 나올 수 있음)
+     */
+    public void delete(Long concertId) {
+        reset(concertId);
+    }
+
+    private long[] currentSeqs(Long concertId) {
+        List<String> keys = seatShardRouter.keys(SEAT_SEQ_KEY_PREFIX, concertId);
+        long[] seqs = new long[keys.size()];
+        if (keys.size() == 1) {
+            seqs[0] = parseSeq(redissonClient.<String>getBucket(keys.get(0), StringCodec.INSTANCE).get());
+            return seqs;
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<String>> futures = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            futures.add(batch.<String>getBucket(key, StringCodec.INSTANCE).getAsync());
+        }
+        batch.execute();
+        for (int shard = 0; shard < seqs.length; shard++) {
+            seqs[shard] = parseSeq(futures.get(shard).toCompletableFuture().join());
+        }
+        return seqs;
+    }
+
+    private List<Object> shardKeys(Long concertId, int shard) {
+        return List.of(
+                seatShardRouter.key(SEAT_SEQ_KEY_PREFIX, concertId, shard),
+                seatShardRouter.key(SEAT_CHANGES_KEY_PREFIX, concertId, shard));
+    }
+
+    /**
+     * 샤드 하나의 changes_since.lua 응답
+     */
+    private record ShardSlice(long currentSeq, boolean available, List<SeatChangesDTO.Change> changes) {
+    }
+
+    private static ShardSlice parse(List<Object> reply) {
+        long currentSeq = Long.parseLong(String.valueOf(reply.get(0)));
+        boolean available = "1".equals(String.valueOf(reply.get(1)));
+
+        List<SeatChangesDTO.Change> changes = new ArrayList<>((reply.size() - 2) / 4);
+        for (int i = 2; i + 3 < reply.size(); i += 4) {
+            String userId = String.valueOf(reply.get(i + 3));
+            changes.add(new SeatChangesDTO.Change(
+                    Long.parseLong(String.valueOf(reply.get(i))),
+                    Long.valueOf(String.valueOf(reply.get(i + 1))),
+                    SeatStatusEnum.valueOf(String.valueOf(reply.get(i + 2))),
+                    userId.isEmpty() ? null : Long.valueOf(userId)));
+        }
+
+        return new ShardSlice(currentSeq, available, changes);
+    }
+
+    private static long[] parseCursor(String cursor, int shardCount) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = cursor.split(Pattern.quote(CURSOR_SEPARATOR));
+        if (parts.length != shardCount) {
+            return null;
+        }
+        try {
+            return Arrays.stream(parts).mapToLong(Long::parseLong).toArray();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String formatCursor(long[] seqs) {
+        return Arrays.stream(seqs).mapToObj(String::valueOf).collect(Collectors.joining(CURSOR_SEPARATOR));
+    }
+
+    private static long parseSeq(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
@@ -0,0 +1,312 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 압축 좌석 상태 저장소
+ * - seat:state:{concertId}: 좌석 순번(ordinal)마다 2비트 상태 코드 (Redis BITFIELD u2 와 같은 비트 배치)
+ * - seat:holders:{concertId}: 선점(RESERVED) 좌석만 'userId|reservedAt|expiresAt' 형태로 보관
+ * - seat:ordinal:{concertId}: concertSeatId → 순번 (Lua 스크립트에서 상태 갱신 시 사용)
+ * - 순번 순서의 정적 좌석 정보(좌석 ID, seatInfo)는 노드별 좌석 카탈로그(SeatCatalog)에서 읽음
+ *   (순번 = 좌석 ID 오름차순이므로 초기화 시 같은 순서로 기록하면 카탈로그 순번과 일치)
+ *
+ * ✅ 전체 좌석 조회가 작은 GET 1회 + 선점 좌석 해시 조회(한 번의 배치 호출)와 비트 연산 복원으로 끝남
+ * ✅ 좌석 변경 시 갱신은 좌석 Lua 스크립트(common.lua writeCompact)에서 원자적으로 수행
+ * ✅ 샤딩한 콘서트는 샤드마다 위 키 묶음을 따로 가지며(순번도 샤드 안에서 부여), 전체 조회 시 샤드별 결과를 병합
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatCompactStateStore {
+
+    private static final String SEAT_STATE_KEY_PREFIX = RedisKeyGenerator.SEAT_STATE_KEY_PREFIX;
+    private static final String SEAT_HOLDERS_KEY_PREFIX = RedisKeyGenerator.SEAT_HOLDERS_KEY_PREFIX;
+    private static final String SEAT_ORDINAL_KEY_PREFIX = RedisKeyGenerator.SEAT_ORDINAL_KEY_PREFIX;
+    private static final String SEAT_CATALOG_KEY_PREFIX = RedisKeyGenerator.SEAT_CATALOG_KEY_PREFIX;
+
+    // 상태 코드 (common.lua STATUS_CODES 와 동일해야 함)
+    private static final SeatStatusEnum[] STATUS_BY_CODE = {
+            SeatStatusEnum.AVAILABLE,
+            SeatStatusEnum.RESERVED,
+            SeatStatusEnum.BOOKED,
+            SeatStatusEnum.UNAVAILABLE
+    };
+
+    private static final String HOLDER_DELIMITER = "|";
+
+    private final RedissonClient redissonClient;
+    private final SeatShardRouter seatShardRouter;
+    private final SeatCatalog seatCatalog;
+
+    /**
+     * 캐시 초기화용 압축 저장소 기록기 생성
+     * - 상태/순번 키를 임시 키로 기록하고, 선점 정보 해시는 교체 시 비움
+     *   (초기화 시점에는 선점 좌석이 없음, 카탈로그 통합 전의 seat:catalog 키도 교체 시 삭제)
+     */
+    public StagedWriter stage(Long concertId, int shard, SeatCacheStaging staging) {
+        staging.clearOnSwap(seatShardRouter.key(SEAT_HOLDERS_KEY_PREFIX, concertId, shard));
+        staging.clearOnSwap(seatShardRouter.key(SEAT_CATALOG_KEY_PREFIX, concertId, shard));
+        return new StagedWriter(staging,
+                staging.stage(seatShardRouter.key(SEAT_STATE_KEY_PREFIX, concertId, shard)),
+                staging.stage(seatShardRouter.key(SEAT_ORDINAL_KEY_PREFIX, concertId, shard)));
+    }
+
+    /**
+     * 청크 단위 압축 저장소 기록기
+     * - 좌석 전달 순서가 곧 순번이므로 호출 측에서 concertSeatId 오름차순으로 전달
+     * - 순번 해시는 청크마다 바로 기록하고, 2비트 상태(좌석당 1/4 바이트)만 모아 두었다가 마지막에 기록
+     */
+    public static final class StagedWriter {
+
+        private final SeatCacheStaging staging;
+        private final String stateKey;
+        private final String ordinalKey;
+        private byte[] state = new byte[256];
+        private int size;
+
+        private StagedWriter(SeatCacheStaging staging, String stateKey, String ordinalKey) {
+            this.staging = staging;
+            this.stateKey = stateKey;
+            this.ordinalKey = ordinalKey;
+        }
+
+        public void add(RBatch batch, List<SeatStatus> seats) {
+            Map<String, String> ordinals = new HashMap<>(seats.size() * 2);
+
+            for (SeatStatus seat : seats) {
+                int ordinal = size++;
+                if ((ordinal >> 2) >= state.length) {
+                    state = Arrays.copyOf(state, state.length * 2);
+                }
+                state[ordinal >> 2] |= (byte) (codeOf(seat.getStatus()) << shiftOf(ordinal));
+                ordinals.put(seat.getSeatId().toString(), String.valueOf(ordinal));
+            }
+
+            batch.getMap(ordinalKey, StringCodec.INSTANCE).putAllAsync(ordinals);
+            staging.expireOnFirstWrite(batch, ordinalKey);
+        }
+
+        public void finish(RBatch batch) {
+            batch.getBucket(stateKey, ByteArrayCodec.INSTANCE).setAsync(Arrays.copyOf(state, (size + 3) / 4));
+            staging.expireOnFirstWrite(batch, stateKey);
+        }
+    }
+
+    /**
+     * 압축 저장소에서 전체 좌석 상태 복원
+     *
+     * @param concertId 콘서트 ID
+     * @return 좌석 ID → 좌석 상태 (압축 저장소가 없으면 빈 맵)
+     */
+    public Map<Long, SeatStatus> readAll(Long concertId) {
+        int shardCount = seatShardRouter.shardCount(concertId);
+        List<RFuture<byte[]>> stateFutures = new ArrayList<>(shardCount);
+        List<RFuture<Map<String, String>>> holdersFutures = new ArrayList<>(shardCount);
+
+        // 모든 샤드의 상태/선점 정보를 한 번의 배치로 조회
+        RBatch batch = redissonClient.createBatch();
+        for (int shard = 0; shard < shardCount; shard++) {
+            stateFutures.add(batch.<byte[]>getBucket(
+                    seatShardRouter.key(SEAT_STATE_KEY_PREFIX, concertId, shard), ByteArrayCodec.INSTANCE).getAsync());
+            holdersFutures.add(batch.<String, String>getMap(
+                    seatShardRouter.key(SEAT_HOLDERS_KEY_PREFIX, concertId, shard), StringCodec.INSTANCE).readAllMapAsync());
+        }
+        batch.execute();
+
+        Map<Long, SeatStatus> result = new HashMap<>();
+        SeatCatalog.Catalog catalog = null;
+        for (int shard = 0; shard < shardCount; shard++) {
+            byte[] state = stateFutures.get(shard).toCompletableFuture().join();
+            if (state == null || state.length == 0) {
+                continue;
+            }
+
+            catalog = matchCatalog(concertId, catalog != null ? catalog : seatCatalog.get(concertId),
+                    shard, shardCount, state);
+            if (catalog == null) {
+                continue;
+            }
+
+            decode(concertId, state, catalog, shard, shardCount,
+                    holdersFutures.get(shard).toCompletableFuture().join(), result);
+        }
+        return result;
+    }
+
+    /**
+     * 압축 저장소를 기본형 좌석 뷰로 읽기 (좌석별 객체 생성 없음)
+     * - 2비트 상태 코드는 SeatStatusEnum 순번과 같으므로 그대로 기록하고, 선점 좌석은 사용자 ID만 파싱
+     *
+     * @return 압축 저장소에 상태가 있었는지
+     */
+    boolean readInto(Long concertId, SeatMapView.Builder view) {
+        int shardCount = seatShardRouter.shardCount(concertId);
+        List<RFuture<byte[]>> stateFutures = new ArrayList<>(shardCount);
+        List<RFuture<Map<String, String>>> holdersFutures = new ArrayList<>(shardCount);
+
+        RBatch batch = redissonClient.createBatch();
+        for (int shard = 0; shard < shardCount; shard++) {
+            stateFutures.add(batch.<byte[]>getBucket(
+                    seatShardRouter.key(SEAT_STATE_KEY_PREFIX, concertId, shard), ByteArrayCodec.INSTANCE).getAsync());
+            holdersFutures.add(batch.<String, String>getMap(
+                    seatShardRouter.key(SEAT_HOLDERS_KEY_PREFIX, concertId, shard), StringCodec.INSTANCE).readAllMapAsync());
+        }
+        batch.execute();
+
+        boolean found = false;
+        SeatCatalog.Catalog catalog = null;
+        for (int shard = 0; shard < shardCount; shard++) {
+            byte[] state = stateFutures.get(shard).toCompletableFuture().join();
+            if (state == null || state.length == 0) {
+                continue;
+            }
+
+            catalog = matchCatalog(concertId, catalog != null ? catalog : view.catalog(), shard, shardCount, state);
+            if (catalog == null) {
+                continue;
+            }
+
+            found = true;
+            Map<String, String> holders = holdersFutures.get(shard).toCompletableFuture().join();
+            int ordinal = -1;
+            for (int local = 0; (ordinal = catalog.nextInShard(ordinal, shard, shardCount)) < catalog.size(); local++) {
+                long seatId = catalog.seatIds()[ordinal];
+                int code = (state[local >> 2] >> shiftOf(local)) & 0b11;
+                int viewOrdinal = view.set(seatId, code);
+
+                if (viewOrdinal >= 0 && STATUS_BY_CODE[code] == SeatStatusEnum.RESERVED) {
+                    String holder = holders.get(String.valueOf(seatId));
+                    if (holder != null && !holder.isEmpty()) {
+                        int end = holder.indexOf(HOLDER_DELIMITER);
+                        long userId = SeatMapView.parseLong(holder, 0, end >= 0 ? end : holder.length());
+                        if (userId >= 0) {
+                            view.hold(viewOrdinal, userId);
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static void decode(Long concertId, byte[] state, SeatCatalog.Catalog catalog, int shard, int shardCount,
+                               Map<String, String> holders, Map<Long, SeatStatus> result) {
+
+        int ordinal = -1;
+        for (int local = 0; (ordinal = catalog.nextInShard(ordinal, shard, shardCount)) < catalog.size(); local++) {
+            long seatId = catalog.seatIds()[ordinal];
+            SeatStatusEnum status = STATUS_BY_CODE[(state[local >> 2] >> shiftOf(local)) & 0b11];
+
+            SeatStatus.SeatStatusBuilder builder = SeatStatus.builder()
+                    .id(concertId + "-" + seatId)
+                    .concertId(concertId)
+                    .seatId(seatId)
+                    .status(status)
+                    .seatInfo(catalog.seatInfos()[ordinal]);
+
+            if (status == SeatStatusEnum.RESERVED) {
+                applyHolder(builder, holders.get(String.valueOf(seatId)));
+            }
+            result.put(seatId, builder.build());
+        }
+    }
+
+    /**
+     * 압축 저장소 삭제
+     */
+    public void delete(Long concertId) {
+        List<String> keys = new ArrayList<>();
+        keys.addAll(seatShardRouter.keys(SEAT_STATE_KEY_PREFIX, concertId));
+        keys.addAll(seatShardRouter.keys(SEAT_HOLDERS_KEY_PREFIX, concertId));
+        keys.addAll(seatShardRouter.keys(SEAT_ORDINAL_KEY_PREFIX, concertId));
+        keys.addAll(seatShardRouter.keys(SEAT_CATALOG_KEY_PREFIX, concertId));
+        redissonClient.getKeys().delete(keys.toArray(String[]::new));
+    }
+
+    /**
+     * 선점 좌석 정보 문자열 생성 ('userId|reservedAt|expiresAt', 선점이 아니면 빈 문자열)
+     * - 영구 선점(결제 진행 중) 좌석은 expiresAt이 비어 있음
+     */
+    public static String encodeHolder(SeatStatus seatStatus) {
+        if (!seatStatus.isReserved() || seatStatus.getUserId() == null) {
+            return "";
+        }
+        return seatStatus.getUserId() + HOLDER_DELIMITER
+                + formatTime(seatStatus.getReservedAt()) + HOLDER_DELIMITER
+                + formatTime(seatStatus.getExpiresAt());
+    }
+
+    private static void applyHolder(SeatStatus.SeatStatusBuilder builder, String holder) {
+        if (holder == null || holder.isEmpty()) {
+            return;
+        }
+        String[] parts = holder.split("\\|", -1);
+        builder.userId(Long.valueOf(parts[0]))
+                .reservedAt(parseTime(parts, 1))
+                .expiresAt(parseTime(parts, 2));
+    }
+
+    /**
+     * 샤드 압축 상태와 좌석 수가 맞는 좌석 카탈로그
+     * - 맞지 않으면 카탈로그를 한 번 다시 생성해 확인하고, 그래도 다르면 null (해당 샤드는 건너뜀)
+     */
+    private SeatCatalog.Catalog matchCatalog(Long concertId, SeatCatalog.Catalog catalog, int shard, int shardCount,
+                                             byte[] state) {
+        if ((catalog.shardSize(shard, shardCount) + 3) / 4 == state.length) {
+            return catalog;
+        }
+
+        SeatCatalog.Catalog reloaded = seatCatalog.reload(concertId);
+        int shardSize = reloaded.shardSize(shard, shardCount);
+        if ((shardSize + 3) / 4 == state.length) {
+            return reloaded;
+        }
+        log.warn("압축 좌석 상태와 좌석 카탈로그의 좌석 수가 다름: concertId={}, shard={}, catalogSeats={}, stateBytes={}",
+                concertId, shard, shardSize, state.length);
+        return null;
+    }
+
+    private static int codeOf(SeatStatusEnum status) {
+        return switch (status) {
+            case AVAILABLE -> 0;
+            case RESERVED -> 1;
+            case BOOKED -> 2;
+            case UNAVAILABLE -> 3;
+        };
+    }
+
+    // Redis 비트필드는 바이트의 최상위 비트부터 채워지므로 순번 0은 첫 바이트의 상위 2비트
+    private static int shiftOf(int ordinal) {
+        return 6 - ((ordinal & 0b11) << 1);
+    }
+
+    private static String formatTime(LocalDateTime time) {
+        return time != null ? time.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : "";
+    }
+
+    private static LocalDateTime parseTime(String[] parts, int index) {
+        if (parts.length <= index || parts[index].isEmpty()) {
+            return null;
+        }
+        return LocalDateTime.parse(parts[index]);
+    }
+}
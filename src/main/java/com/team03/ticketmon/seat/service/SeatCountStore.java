@@ -0,0 +1,201 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatCountsDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 좌석 수 집계 저장소
+ * - seat:counts:{concertId}: 상태별/구역별/등급별 좌석 수 (Hash)
+ *   field: status:{상태}, section:{구역}:{상태}, grade:{등급}:{상태}, price:min, price:max
+ * - seat:groups:{concertId}: concertSeatId → '구역|등급' (Lua 스크립트에서 카운터 갱신 시 사용)
+ *
+ * ✅ 캐시 초기화 시 전체 재계산, 이후 좌석 상태가 바뀔 때마다 좌석 Lua 스크립트(common.lua countTransition)에서 원자적으로 증감
+ * ✅ 조회는 좌석 수와 무관하게 해시 하나만 읽음 (샤딩한 콘서트는 샤드별 해시를 한 번의 배치로 읽어 합산)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatCountStore {
+
+    private static final String SEAT_COUNTS_KEY_PREFIX = RedisKeyGenerator.SEAT_COUNTS_KEY_PREFIX;
+    private static final String SEAT_GROUPS_KEY_PREFIX = RedisKeyGenerator.SEAT_GROUPS_KEY_PREFIX;
+
+    private static final String STATUS_FIELD = "status:";
+    private static final String SECTION_FIELD = "section:";
+    private static final String GRADE_FIELD = "grade:";
+    private static final String MIN_PRICE_FIELD = "price:min";
+    private static final String MAX_PRICE_FIELD = "price:max";
+
+    private final RedissonClient redissonClient;
+    private final SeatShardRouter seatShardRouter;
+
+    /**
+     * 카운터 계산에 필요한 좌석별 정적 정보와 현재 상태
+     */
+    public record SeatGroup(Long seatId, String section, String grade, BigDecimal price, SeatStatusEnum status) {
+    }
+
+    /**
+     * 캐시 초기화용 집계 기록기 생성 (카운터/그룹 해시를 임시 키로 기록)
+     */
+    public StagedWriter stage(Long concertId, int shard, SeatCacheStaging staging) {
+        return new StagedWriter(staging,
+                staging.stage(seatShardRouter.key(SEAT_COUNTS_KEY_PREFIX, concertId, shard)),
+                staging.stage(seatShardRouter.key(SEAT_GROUPS_KEY_PREFIX, concertId, shard)));
+    }
+
+    /**
+     * 청크 단위 집계 기록기
+     * - 좌석별 그룹 정보는 청크마다 바로 기록하고, 카운터(상태×구역/등급 수만큼)와 최저/최고가만 모아 두었다가 마지막에 기록
+     */
+    public static final class StagedWriter {
+
+        private final SeatCacheStaging staging;
+        private final String countsKey;
+        private final String groupsKey;
+        private final Map<String, Long> counts = new HashMap<>();
+        private BigDecimal minPrice;
+        private BigDecimal maxPrice;
+
+        private StagedWriter(SeatCacheStaging staging, String countsKey, String groupsKey) {
+            this.staging = staging;
+            this.countsKey = countsKey;
+            this.groupsKey = groupsKey;
+
+            // 모든 상태 카운터를 0으로 먼저 만들어 두어 조회 시 누락 없이 보이도록 함
+            for (SeatStatusEnum status : SeatStatusEnum.values()) {
+                counts.put(STATUS_FIELD + status.name(), 0L);
+            }
+        }
+
+        public void add(RBatch batch, List<SeatGroup> seats) {
+            Map<String, String> groups = new HashMap<>(seats.size() * 2);
+
+            for (SeatGroup seat : seats) {
+                String status = seat.status().name();
+                counts.merge(STATUS_FIELD + status, 1L, Long::sum);
+                counts.merge(SECTION_FIELD + seat.section() + ":" + status, 1L, Long::sum);
+                counts.merge(GRADE_FIELD + seat.grade() + ":" + status, 1L, Long::sum);
+                groups.put(seat.seatId().toString(), seat.section() + "|" + seat.grade());
+
+                if (seat.price() != null) {
+                    minPrice = minPrice == null || seat.price().compareTo(minPrice) < 0 ? seat.price() : minPrice;
+                    maxPrice = maxPrice == null || seat.price().compareTo(maxPrice) > 0 ? seat.price() : maxPrice;
+                }
+            }
+
+            batch.getMap(groupsKey, StringCodec.INSTANCE).putAllAsync(groups);
+            staging.expireOnFirstWrite(batch, groupsKey);
+        }
+
+        public void finish(RBatch batch) {
+            Map<String, String> countValues = new HashMap<>(counts.size() + 2);
+            counts.forEach((field, count) -> countValues.put(field, count.toString()));
+            if (minPrice != null) {
+                countValues.put(MIN_PRICE_FIELD, minPrice.toPlainString());
+                countValues.put(MAX_PRICE_FIELD, maxPrice.toPlainString());
+            }
+
+            batch.getMap(countsKey, StringCodec.INSTANCE).putAllAsync(countValues);
+            staging.expireOnFirstWrite(batch, countsKey);
+        }
+    }
+
+    /**
+     * 좌석 수 집계 조회 (샤드당 해시 1회 조회)
+     *
+     * @param concertId 콘서트 ID
+     * @return 집계 정보 (카운터가 없으면 empty)
+     */
+    public Optional<SeatCountsDTO> read(Long concertId) {
+        List<Map<String, String>> shards = readShards(concertId);
+        if (shards.stream().allMatch(Map::isEmpty)) {
+            return Optional.empty();
+        }
+
+        Map<SeatStatusEnum, Long> statusCounts = new EnumMap<>(SeatStatusEnum.class);
+        Map<String, Map<SeatStatusEnum, Long>> sectionCounts = new TreeMap<>();
+        Map<String, Map<SeatStatusEnum, Long>> gradeCounts = new TreeMap<>();
+        BigDecimal minPrice = null;
+        BigDecimal maxPrice = null;
+
+        for (Map<String, String> raw : shards) {
+            raw.forEach((field, value) -> {
+                if (field.startsWith(STATUS_FIELD)) {
+                    statusCounts.merge(SeatStatusEnum.valueOf(field.substring(STATUS_FIELD.length())), Long.parseLong(value), Long::sum);
+                } else if (field.startsWith(SECTION_FIELD)) {
+                    putGroupCount(sectionCounts, field.substring(SECTION_FIELD.length()), value);
+                } else if (field.startsWith(GRADE_FIELD)) {
+                    putGroupCount(gradeCounts, field.substring(GRADE_FIELD.length()), value);
+                }
+            });
+
+            BigDecimal shardMin = parsePrice(raw.get(MIN_PRICE_FIELD));
+            BigDecimal shardMax = parsePrice(raw.get(MAX_PRICE_FIELD));
+            minPrice = shardMin != null && (minPrice == null || shardMin.compareTo(minPrice) < 0) ? shardMin : minPrice;
+            maxPrice = shardMax != null && (maxPrice == null || shardMax.compareTo(maxPrice) > 0) ? shardMax : maxPrice;
+        }
+
+        return Optional.of(new SeatCountsDTO(
+                concertId,
+                statusCounts,
+                sectionCounts,
+                gradeCounts,
+                minPrice,
+                maxPrice));
+    }
+
+    /**
+     * 집계 저장소 삭제
+     */
+    public void delete(Long concertId) {
+        List<String> keys = new ArrayList<>();
+        keys.addAll(seatShardRouter.keys(SEAT_COUNTS_KEY_PREFIX, concertId));
+        keys.addAll(seatShardRouter.keys(SEAT_GROUPS_KEY_PREFIX, concertId));
+        redissonClient.getKeys().delete(keys.toArray(String[]::new));
+    }
+
+    private List<Map<String, String>> readShards(Long concertId) {
+        List<String> keys = seatShardRouter.keys(SEAT_COUNTS_KEY_PREFIX, concertId);
+        if (keys.size() == 1) {
+            return List.of(redissonClient.<String, String>getMap(keys.get(0), StringCodec.INSTANCE).readAllMap());
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<Map<String, String>>> futures = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            futures.add(batch.<String, String>getMap(key, StringCodec.INSTANCE).readAllMapAsync());
+        }
+        batch.execute();
+        return futures.stream().map(future -> future.toCompletableFuture().join()).toList();
+    }
+
+    // '{그룹}:{상태}' 형태의 필드를 그룹별 상태 카운트로 변환 (구역명에 ':'가 있어도 마지막 ':' 기준)
+    private static void putGroupCount(Map<String, Map<SeatStatusEnum, Long>> target, String groupAndStatus, String value) {
+        int separator = groupAndStatus.lastIndexOf(':');
+        String group = groupAndStatus.substring(0, separator);
+        SeatStatusEnum status = SeatStatusEnum.valueOf(groupAndStatus.substring(separator + 1));
+        target.computeIfAbsent(group, key -> new EnumMap<>(SeatStatusEnum.class)).merge(status, Long.parseLong(value), Long::sum);
+    }
+
+    private static BigDecimal parsePrice(String value) {
+        return value != null ? new BigDecimal(value) : null;
+    }
+}
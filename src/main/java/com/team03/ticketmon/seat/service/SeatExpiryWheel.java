@@ -0,0 +1,144 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 선점 만료 휠
+ * - seat:expiry:{concertId}: 선점 좌석 ID를 만료 시각(epoch ms) 점수로 보관하는 Sorted Set
+ * - seat:{expiry_concerts}: 만료 휠을 사용하는 콘서트 ID 목록 (Set, 캐시 초기화 시 등록 / 캐시 삭제 시 제거)
+ *
+ * ✅ 등록/갱신/제거는 좌석 Lua 스크립트(common.lua scheduleExpiry)에서 좌석 상태와 함께 원자적으로 처리
+ * ✅ 만료 처리는 SeatExpirySweeper가 점수 순으로 만료된 좌석만 잘라 일괄 해제
+ *   (키스페이스 알림과 달리 재연결 중에도 유실되지 않고, 좌석별 TTL 키가 필요 없음)
+ * ✅ 샤딩한 콘서트는 샤드마다 휠을 따로 가지며, 조회 시 샤드별 만료 좌석을 모아 만료 시각 순으로 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatExpiryWheel {
+
+    private static final String SEAT_EXPIRY_KEY_PREFIX = RedisKeyGenerator.SEAT_EXPIRY_KEY_PREFIX;
+    private static final String SEAT_EXPIRY_CONCERTS_KEY = RedisKeyGenerator.SEAT_EXPIRY_CONCERTS_KEY;
+
+    private final RedissonClient redissonClient;
+    private final SeatShardRouter seatShardRouter;
+
+    /**
+     * 만료 시각이 지난 선점 좌석 ID 조회 (만료 시각 오름차순)
+     *
+     * @param concertId 콘서트 ID
+     * @param nowMillis 기준 시각 (epoch ms)
+     * @param limit     최대 조회 개수
+     * @return 만료 대상 좌석 ID 목록
+     */
+    public List<Long> findDueSeatIds(Long concertId, long nowMillis, int limit) {
+        if (!seatShardRouter.isSharded(concertId)) {
+            return wheel(concertId, 0).valueRange(0, true, nowMillis, true, 0, limit).stream()
+                    .map(Long::valueOf)
+                    .toList();
+        }
+
+        // 샤드마다 최대 limit개를 읽은 뒤 만료 시각 순으로 limit개만 반환
+        List<ScoredEntry<String>> due = new ArrayList<>();
+        for (int shard = 0; shard < seatShardRouter.shardCount(concertId); shard++) {
+            due.addAll(wheel(concertId, shard).entryRange(0, true, nowMillis, true, 0, limit));
+        }
+        return due.stream()
+                .sorted(Comparator.comparingDouble(ScoredEntry::getScore))
+                .limit(limit)
+                .map(entry -> Long.valueOf(entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * 만료 휠을 사용하는 콘서트 ID 목록
+     */
+    public List<Long> findActiveConcertIds() {
+        return concerts().readAll().stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    /**
+     * 콘서트를 스위퍼 대상으로 등록
+     */
+    public void register(Long concertId) {
+        concerts().add(concertId.toString());
+    }
+
+    /**
+     * 만료 시각이 있는 선점 좌석을 만료 휠에 채워 넣고 스위퍼 대상으로 등록 (만료 휠 도입 전 선점 보정)
+     * - 이미 등록된 좌석은 스크립트가 관리하는 점수를 유지 (ZADD NX)
+     *
+     * @param seats 콘서트 좌석 상태 (좌석 ID → 상태)
+     * @return 만료 휠에 새로 등록한 좌석 수
+     */
+    public int backfill(Long concertId, Map<Long, SeatStatus> seats) {
+        List<SeatStatus> held = seats.values().stream()
+                .filter(seat -> seat.getStatus() == SeatStatus.SeatStatusEnum.RESERVED && seat.getExpiresAt() != null)
+                .toList();
+        if (held.isEmpty()) {
+            return 0;
+        }
+
+        int added = 0;
+        for (Map.Entry<Integer, List<SeatStatus>> entry
+                : seatShardRouter.groupByShard(concertId, held, SeatStatus::getSeatId).entrySet()) {
+            Map<String, Double> scores = new HashMap<>(entry.getValue().size() * 2);
+            entry.getValue().forEach(seat -> scores.put(seat.getSeatId().toString(), (double) score(seat.getExpiresAt())));
+            added += wheel(concertId, entry.getKey()).addAllIfAbsent(scores);
+        }
+        register(concertId);
+        return added;
+    }
+
+    /**
+     * 만료 대상이 아닌 좌석을 만료 휠에서 제거 (단일 기록자 엔진이 EXPIRE 전이에서 건너뛴 좌석 정리)
+     */
+    public void unschedule(Long concertId, Collection<Long> seatIds) {
+        seatShardRouter.groupByShard(concertId, seatIds, seatId -> seatId).forEach((shard, shardSeatIds) ->
+                wheel(concertId, shard).removeAll(shardSeatIds.stream().map(String::valueOf).toList()));
+    }
+
+    /**
+     * 콘서트의 만료 휠 삭제 및 스위퍼 대상에서 제거
+     */
+    public void delete(Long concertId) {
+        redissonClient.getKeys().delete(seatShardRouter.keys(SEAT_EXPIRY_KEY_PREFIX, concertId).toArray(String[]::new));
+        concerts().remove(concertId.toString());
+    }
+
+    /**
+     * 만료 휠 점수 (epoch ms)
+     * - 선점 만료 시각(LocalDateTime)은 서버 기본 시간대 기준
+     */
+    public static long score(LocalDateTime expiresAt) {
+        return expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private RScoredSortedSet<String> wheel(Long concertId, int shard) {
+        return redissonClient.getScoredSortedSet(seatShardRouter.key(SEAT_EXPIRY_KEY_PREFIX, concertId, shard), StringCodec.INSTANCE);
+    }
+
+    private RSet<String> concerts() {
+        return redissonClient.getSet(SEAT_EXPIRY_CONCERTS_KEY, StringCodec.INSTANCE);
+    }
+}
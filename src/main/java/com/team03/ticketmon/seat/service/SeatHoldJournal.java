@@ -0,0 +1,318 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatHoldJournalEntry;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.repository.SeatHoldJournalRepository;
+import com.team03.ticketmon.seat.script.SeatScriptExecutor;
+import com.team03.ticketmon.seat.script.SeatScriptResult;
+import com.team03.ticketmon.seat.script.SeatTransitionResult;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 좌석 선점 저널 (write-behind)
+ * - 좌석 상태가 바뀌면 바뀐 뒤의 상태를 메모리 대기열에 넣기만 하고 바로 반환 (요청 경로는 DB를 기다리지 않음)
+ * - seat.journal.flush-interval-ms 마다 대기열을 seat_hold_journal 테이블에 JDBC 배치 INSERT로 기록
+ * - DB 기록이 실패하면 대기열 앞쪽에 되돌려 다음 주기에 다시 기록하고, 대기열이 가득 차면 버린 건수만 집계
+ * - Redis 데이터 유실 후 캐시를 DB에서 다시 만들 때 좌석별 마지막 기록이 유효한 선점이면 Redis에 다시 선점
+ * - 좌석별 기록 순서는 좌석 스크립트가 상태 변경과 함께 원자적으로 발급한 변경 로그 순번(seq) 기준
+ *   (대기열/INSERT 순서인 journal_id 는 노드마다 기록 주기가 달라 실제 전이 순서와 다를 수 있음)
+ *
+ * ✅ 기록 지연(lagMillis)과 대기/기록/버림/실패 건수는 getJournalStats()로 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatHoldJournal {
+
+    private static final String INSERT_SQL = "INSERT INTO seat_hold_journal " +
+            "(concert_id, concert_seat_id, seq, status, user_id, reserved_at, expires_at, seat_info, recorded_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String PRUNE_SQL = "DELETE FROM seat_hold_journal WHERE recorded_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SeatHoldJournalRepository seatHoldJournalRepository;
+    private final SeatScriptExecutor seatScriptExecutor;
+    private final SeatWriterRouter seatWriterRouter; // 단일 기록자 엔진 콘서트 무효화
+    private final SeatChangeLog seatChangeLog;
+    private final SeatProperties seatProperties;
+
+    /**
+     * DB 기록 대기 중인 좌석 상태
+     */
+    private record Pending(SeatStatus seat, long seq, LocalDateTime recordedAt, long enqueuedAtMillis) {
+    }
+
+    private final ConcurrentLinkedDeque<Pending> queue = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 통계
+    private final AtomicLong recordedCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong flushFailureCount = new AtomicLong();
+    private final AtomicLong restoredCount = new AtomicLong();
+    private final AtomicLong lastFlushAtMillis = new AtomicLong();
+
+    /**
+     * 좌석 상태 변경 기록 (대기열에 넣고 즉시 반환)
+     *
+     * @param seat 바뀐 뒤의 좌석 상태
+     * @param seq  좌석 스크립트가 이 변경에 발급한 변경 로그 순번 (알 수 없으면 0 → 같은 좌석의 다른 기록보다 앞선 것으로 봄)
+     */
+    public void record(SeatStatus seat, long seq) {
+        if (!seatProperties.getJournal().isEnabled() || seat == null) {
+            return;
+        }
+        if (queueSize.incrementAndGet() > seatProperties.getJournal().getQueueCapacity()) {
+            queueSize.decrementAndGet();
+            droppedCount.incrementAndGet();
+            log.warn("좌석 저널 대기열 초과로 기록 누락: concertId={}, seatId={}", seat.getConcertId(), seat.getSeatId());
+            return;
+        }
+        queue.offerLast(new Pending(seat, seq, LocalDateTime.now(), System.currentTimeMillis()));
+        recordedCount.incrementAndGet();
+    }
+
+    /**
+     * 선점 스크립트로 바뀐 여러 좌석 기록 (순번은 스크립트 결과에서 좌석별로 찾음)
+     */
+    public void recordAll(List<SeatStatus> seats, SeatScriptResult result) {
+        seats.forEach(seat -> record(seat, result.seqOf(seat.getSeatId())));
+    }
+
+    /**
+     * 상태 전이로 바뀐 좌석 기록
+     */
+    public void recordChanges(List<SeatTransitionResult.SeatOutcome> changes) {
+        changes.forEach(change -> record(change.current(), change.seq()));
+    }
+
+    /**
+     * 대기열을 DB로 기록 (주기 실행)
+     * - 이미 다른 스레드가 기록 중이면 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${seat.journal.flush-interval-ms:200}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 대기열을 지금 바로 DB로 기록 (복원 직전, 종료 시)
+     */
+    @PreDestroy
+    public void flushNow() {
+        flushLock.lock();
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void drain() {
+        int batchSize = seatProperties.getJournal().getFlushBatchSize();
+
+        while (true) {
+            List<Pending> batch = new ArrayList<>(batchSize);
+            Pending pending;
+            while (batch.size() < batchSize && (pending = queue.pollFirst()) != null) {
+                batch.add(pending);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            queueSize.addAndGet(-batch.size());
+
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                    SeatStatus seat = entry.seat();
+                    ps.setLong(1, seat.getConcertId());
+                    ps.setLong(2, seat.getSeatId());
+                    ps.setLong(3, entry.seq());
+                    ps.setString(4, seat.getStatus().name());
+                    ps.setObject(5, seat.getUserId());
+                    ps.setObject(6, seat.getReservedAt());
+                    ps.setObject(7, seat.getExpiresAt());
+                    ps.setString(8, seat.getSeatInfo());
+                    ps.setObject(9, entry.recordedAt());
+                });
+                flushedCount.addAndGet(batch.size());
+                lastFlushAtMillis.set(System.currentTimeMillis());
+            } catch (Exception e) {
+                // 기록 순서를 유지하도록 역순으로 앞쪽에 되돌림
+                for (int i = batch.size() - 1; i >= 0; i--) {
+                    queue.offerFirst(batch.get(i));
+                }
+                queueSize.addAndGet(batch.size());
+                flushFailureCount.incrementAndGet();
+                log.warn("좌석 저널 DB 기록 실패. 다음 주기에 재시도: pending={}, error={}", queueSize.get(), e.getMessage());
+                return;
+            }
+
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 보관 시간이 지난 저널 삭제 (매시 15분)
+     */
+    @Scheduled(cron = "0 15 * * * *")
+    public void prune() {
+        if (!seatProperties.getJournal().isEnabled()) {
+            return;
+        }
+        try {
+            LocalDateTime before = LocalDateTime.now().minusHours(seatProperties.getJournal().getRetentionHours());
+            int deleted = jdbcTemplate.update(PRUNE_SQL, before);
+            if (deleted > 0) {
+                log.info("보관 시간이 지난 좌석 저널 삭제: before={}, deleted={}", before, deleted);
+            }
+        } catch (Exception e) {
+            log.warn("좌석 저널 정리 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저널의 유효한 선점을 Redis에 다시 선점
+     * - 좌석별 마지막 기록(변경 로그 순번이 가장 큰 기록, 같으면 journal_id 가 큰 기록)이 만료되지 않은 RESERVED 인 좌석만 대상
+     * - Redis가 유실되어 변경 로그 순번이 처음부터 다시 세어지면 이후 기록이 이전 기록보다 앞선 것으로 보이므로,
+     *   복원 전에 콘서트 순번을 저널의 가장 큰 순번 이상으로 올림
+     * - 선점 스크립트로 기록하므로 현재 BOOKED/다른 사용자 선점 좌석은 건너뜀 (선점 개수 제한은 적용하지 않음)
+     * - 영구 선점(만료 시각 없음)은 선점 후 LOCK_PERMANENT 전이로 되돌림
+     * - 저널에 이미 있는 상태를 되살리는 것이므로 복원 결과는 다시 저널에 기록하지 않음
+     * - Redis를 직접 수정하므로 복원 후 단일 기록자 엔진이 상태를 다시 읽도록 무효화
+     *
+     * ✅ 저널은 운영 캐시(Redis)가 사라졌을 때만 쓰는 보조 기록
+     *    캐시 초기화는 운영 캐시가 남아 있으면 교체 스크립트가 운영 캐시의 선점을 그대로 이어 붙이고 이 복원을 호출하지 않음
+     * 📌 남는 지연 구간: flushNow()는 이 인스턴스의 대기열만 비우므로, 다른 인스턴스에서 마지막 기록 주기
+     *    (seat.journal.flush-interval-ms, DB 장애 중이면 재시도 대기분까지) 안에 바뀐 선점은 저널에 없을 수 있음
+     *    → Redis 유실 직전 그 구간의 선점은 복원되지 않거나 직전 상태로 복원됨 (인스턴스별 지연은 getJournalStats().lagMillis)
+     *
+     * @param concertId 콘서트 ID
+     * @return 복원한 좌석 수
+     */
+    public int restoreActiveHolds(Long concertId) {
+        if (!seatProperties.getJournal().isEnabled()) {
+            return 0;
+        }
+
+        // 이 인스턴스에서 아직 기록되지 않은 변경부터 반영 (다른 인스턴스의 대기열은 각자의 기록 주기에 반영됨)
+        flushNow();
+
+        LocalDateTime now = LocalDateTime.now();
+        SeatProperties.Reservation reservation = seatProperties.getReservation();
+        long lastUpdateTtlMillis = TimeUnit.HOURS.toMillis(reservation.getLastUpdateTtlHours());
+
+        // 좌석별 마지막 기록만 남김 (변경 로그 순번 순, journal_id 순으로 조회하므로 순번이 같으면 나중 행)
+        Map<Long, SeatHoldJournalEntry> latest = new LinkedHashMap<>();
+        long maxSeq = 0L;
+        for (SeatHoldJournalEntry entry : seatHoldJournalRepository.findByConcertIdAndRecordedAtAfterOrderByJournalIdAsc(
+                concertId, now.minusHours(seatProperties.getJournal().getRetentionHours()))) {
+            latest.merge(entry.getConcertSeatId(), entry,
+                    (previous, next) -> next.getSeq() >= previous.getSeq() ? next : previous);
+            maxSeq = Math.max(maxSeq, entry.getSeq());
+        }
+
+        try {
+            seatChangeLog.advanceTo(concertId, maxSeq);
+        } catch (Exception e) {
+            log.warn("좌석 변경 로그 순번 보정 실패: concertId={}, maxSeq={}, error={}", concertId, maxSeq, e.getMessage());
+        }
+
+        int restored = 0;
+        for (SeatHoldJournalEntry entry : latest.values()) {
+            if (!entry.isActiveHold(now)) {
+                continue;
+            }
+
+            SeatStatus hold = SeatStatus.builder()
+                    .concertId(concertId)
+                    .seatId(entry.getConcertSeatId())
+                    .status(SeatStatusEnum.RESERVED)
+                    .userId(entry.getUserId())
+                    .reservedAt(entry.getReservedAt())
+                    .expiresAt(entry.getExpiresAt())
+                    .seatInfo(entry.getSeatInfo())
+                    .build();
+
+            try {
+                SeatScriptResult result = seatScriptExecutor.replayHold(hold, now, reservation.getTtlMinutes(), lastUpdateTtlMillis);
+                if (!result.isSuccess()) {
+                    log.debug("저널 선점 복원 건너뜀: concertId={}, seatId={}, outcome={}",
+                            concertId, entry.getConcertSeatId(), result.outcome());
+                    continue;
+                }
+                restored++;
+            } catch (Exception e) {
+                log.warn("저널 선점 복원 실패: concertId={}, seatId={}", concertId, entry.getConcertSeatId(), e);
+            }
+        }
+
+        if (restored > 0) {
+            try {
+                seatWriterRouter.invalidate(concertId);
+            } catch (Exception e) {
+                log.warn("단일 기록자 좌석 엔진 무효화 실패: concertId={}, error={}", concertId, e.getMessage());
+            }
+        }
+
+        restoredCount.addAndGet(restored);
+        log.info("저널 기반 좌석 선점 복원 완료: concertId={}, journaledSeats={}, restored={}",
+                concertId, latest.size(), restored);
+        return restored;
+    }
+
+    /**
+     * 저널 통계 (현재 인스턴스 기준)
+     * - pending: DB 기록 대기 건수
+     * - lagMillis: 가장 오래된 대기 건이 대기열에 머문 시간 (대기 건이 없으면 0)
+     * - recorded / flushed / dropped: 대기열 추가 / DB 기록 / 대기열 초과로 버린 건수
+     * - flushFailures: DB 기록 실패 횟수
+     * - restored: 저널에서 복원한 선점 좌석 수
+     * - lastFlushAt: 마지막 DB 기록 시각 (epoch ms, 없으면 0)
+     */
+    public Map<String, Object> getJournalStats() {
+        Pending oldest = queue.peekFirst();
+        long lagMillis = oldest != null ? System.currentTimeMillis() - oldest.enqueuedAtMillis() : 0L;
+
+        return Map.of(
+                "enabled", seatProperties.getJournal().isEnabled(),
+                "pending", queueSize.get(),
+                "lagMillis", lagMillis,
+                "recorded", recordedCount.get(),
+                "flushed", flushedCount.get(),
+                "dropped", droppedCount.get(),
+                "flushFailures", flushFailureCount.get(),
+                "restored", restoredCount.get(),
+                "lastFlushAt", lastFlushAtMillis.get()
+        );
+    }
+}
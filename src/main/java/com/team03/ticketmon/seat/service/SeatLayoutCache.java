@@ -0,0 +1,235 @@
+package com.team03.ticketmon.seat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.domain.Concert;
+import com.team03.ticketmon.concert.domain.ConcertSeat;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.dto.SeatLayoutResponseDTO;
+import com.team03.ticketmon.seat.dto.SeatStaticLayoutDTO;
+import com.team03.ticketmon.venue.domain.Seat;
+import com.team03.ticketmon.venue.dto.VenueDTO;
+import com.team03.ticketmon.venue.service.VenueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정적 좌석 배치도 캐시
+ * - 좌석 위치/등급/가격은 예매가 열린 뒤 바뀌지 않으므로 콘서트별로 한 번만 DB에서 만들어 JSON 바이트로 보관
+ * - seat:layout:{concertId}: 직렬화된 정적 배치도 (노드 간 공유, 다른 노드는 DB 대신 여기서 읽음)
+ * - 노드별 로컬 캐시는 seat.layout.local-ttl-seconds 마다 Redis 바이트로 다시 확인 (DB 조회 없음)
+ * - 버전은 바이트 내용의 해시이므로 내용이 같으면 노드가 달라도 같은 ETag
+ * - 로컬 캐시는 콘서트별 적재 future 를 보관하고, 적재(Redis/DB 조회)는 맵 잠금 밖에서 한 요청만 실행
+ *   (같은 콘서트 동시 요청은 그 future 를 기다리고, 다른 콘서트 조회는 막지 않음)
+ *
+ * ✅ 배치도 조회 시 DB는 최초 1회(또는 캐시 삭제 후 1회)만 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatLayoutCache {
+
+    private static final String SEAT_LAYOUT_KEY_PREFIX = RedisKeyGenerator.SEAT_LAYOUT_KEY_PREFIX;
+
+    private final ConcertRepository concertRepository;
+    private final ConcertSeatRepository concertSeatRepository;
+    private final VenueService venueService;
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final SeatProperties seatProperties;
+
+    private final Map<Long, CompletableFuture<StaticLayout>> layouts = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 정적 배치도
+     *
+     * @param layout   역직렬화된 배치도 (실시간 상태와 합쳐 응답을 만들 때 사용)
+     * @param bytes    직렬화된 배치도 (정적 배치도 API가 그대로 응답)
+     * @param version  바이트 내용 해시 (ETag)
+     * @param loadedAt 로컬 캐시 적재 시각 (ms)
+     */
+    public record StaticLayout(SeatStaticLayoutDTO layout, byte[] bytes, String version, long loadedAt) {
+
+        public String etag() {
+            return "\"" + version + "\"";
+        }
+    }
+
+    /**
+     * 정적 배치도 조회 (로컬 → Redis → DB 순)
+     *
+     * @throws BusinessException 콘서트를 찾을 수 없는 경우
+     */
+    public StaticLayout get(Long concertId) {
+        long localTtlMillis = seatProperties.getLayout().getLocalTtlSeconds() * 1000;
+        while (true) {
+            CompletableFuture<StaticLayout> loading = new CompletableFuture<>();
+            CompletableFuture<StaticLayout> future = layouts.computeIfAbsent(concertId, id -> loading);
+            if (future == loading) {
+                // 맵 잠금 밖에서 적재하고, 실패하면 future 를 비워 다음 요청이 다시 시도
+                try {
+                    loading.complete(load(concertId));
+                } catch (RuntimeException e) {
+                    layouts.remove(concertId, loading);
+                    loading.completeExceptionally(e);
+                    throw e;
+                }
+                return loading.join();
+            }
+
+            StaticLayout cached = await(future);
+            if (System.currentTimeMillis() - cached.loadedAt() < localTtlMillis) {
+                return cached;
+            }
+            // 로컬 유지 시간이 지났으면 버리고 다시 적재 (다른 요청이 먼저 바꿨으면 그것을 사용)
+            layouts.remove(concertId, future);
+        }
+    }
+
+    /**
+     * 정적 배치도 삭제 (좌석 배치 변경, 캐시 삭제 시)
+     * - 다른 노드의 로컬 캐시는 로컬 유지 시간이 지나면 Redis 키가 없는 것을 보고 다시 만듦
+     */
+    public void evict(Long concertId) {
+        layouts.remove(concertId);
+        redissonClient.getBucket(RedisKeyGenerator.concertKey(SEAT_LAYOUT_KEY_PREFIX, concertId), ByteArrayCodec.INSTANCE).delete();
+    }
+
+    /**
+     * 이 노드의 로컬 배치도만 버림 (좌석 카탈로그 무효화 수신 시, Redis 키는 발행한 노드가 삭제)
+     */
+    public void evictLocal(Long concertId) {
+        layouts.remove(concertId);
+    }
+
+    private static StaticLayout await(CompletableFuture<StaticLayout> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private StaticLayout load(Long concertId) {
+        RBucket<byte[]> bucket = redissonClient.getBucket(RedisKeyGenerator.concertKey(SEAT_LAYOUT_KEY_PREFIX, concertId), ByteArrayCodec.INSTANCE);
+
+        try {
+            byte[] bytes = bucket.get();
+            if (bytes == null) {
+                bytes = objectMapper.writeValueAsBytes(build(concertId));
+                bucket.set(bytes, Duration.ofHours(seatProperties.getLayout().getRedisTtlHours()));
+                log.info("정적 좌석 배치도 생성: concertId={}, bytes={}", concertId, bytes.length);
+            }
+
+            SeatStaticLayoutDTO layout = objectMapper.readValue(bytes, SeatStaticLayoutDTO.class);
+            return new StaticLayout(layout, bytes, version(bytes), System.currentTimeMillis());
+
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("좌석 배치도 생성 중 오류: concertId={}", concertId, e);
+            throw new BusinessException(ErrorCode.SERVER_ERROR, "좌석 배치도 생성 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * DB에서 정적 배치도 생성 (구역명 순, 구역 안에서는 열/번호 순)
+     */
+    private SeatStaticLayoutDTO build(Long concertId) {
+        Concert concert = concertRepository.findById(concertId)
+                .orElseThrow(() -> {
+                    log.warn("콘서트를 찾을 수 없음: concertId={}", concertId);
+                    return new BusinessException(ErrorCode.CONCERT_NOT_FOUND);
+                });
+
+        // 🔧 공연장 정보가 없어도 좌석 배치도는 제공 (대체 로직)
+        VenueDTO venue;
+        try {
+            venue = venueService.getVenueByName(concert.getVenueName());
+        } catch (BusinessException e) {
+            log.warn("공연장 정보를 찾을 수 없음: venueName={}, concertId={}, error={}",
+                    concert.getVenueName(), concertId, e.getMessage());
+            venue = createFallbackVenueInfo(concert.getVenueName());
+        }
+
+        // 쿼리가 구역/열/번호 순으로 정렬해서 반환하므로 순서 유지
+        List<ConcertSeat> concertSeats = concertSeatRepository.findByConcertIdWithDetails(concertId);
+        Map<String, List<SeatStaticLayoutDTO.Seat>> seatsBySection = new LinkedHashMap<>();
+        for (ConcertSeat concertSeat : concertSeats) {
+            Seat seat = concertSeat.getSeat();
+            seatsBySection.computeIfAbsent(seat.getSection(), section -> new ArrayList<>())
+                    .add(new SeatStaticLayoutDTO.Seat(
+                            concertSeat.getConcertSeatId(),
+                            seat.getSeatId(),
+                            seat.getSeatRow(),
+                            seat.getSeatNumber(),
+                            String.format("%s-%s-%d", seat.getSection(), seat.getSeatRow(), seat.getSeatNumber()),
+                            concertSeat.getGrade(),
+                            concertSeat.getPrice()));
+        }
+
+        List<SeatStaticLayoutDTO.Section> sections = seatsBySection.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey()) // 구역명으로 정렬 (A, B, C, VIP 등)
+                .map(entry -> new SeatStaticLayoutDTO.Section(entry.getKey(), List.copyOf(entry.getValue())))
+                .toList();
+
+        return new SeatStaticLayoutDTO(concertId, SeatLayoutResponseDTO.VenueInfo.from(venue), sections);
+    }
+
+    private static String version(byte[] bytes) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+        return HexFormat.of().formatHex(digest, 0, 8);
+    }
+
+    /**
+     * 🔧 공연장 정보를 찾을 수 없을 때 사용할 대체 VenueDTO 생성
+     * 시스템의 안정성을 위해 좌석 배치도는 여전히 제공하되, 공연장 정보는 기본값 사용
+     *
+     * @param venueName 콘서트에 등록된 공연장 이름
+     * @return 대체 VenueDTO
+     */
+    private VenueDTO createFallbackVenueInfo(String venueName) {
+        log.debug("대체 공연장 정보 생성: venueName={}", venueName);
+
+        // VenueDTO의 생성자에 맞춰 임시 Venue 객체 생성 후 DTO 변환
+        // 실제로는 존재하지 않는 공연장이지만 시스템 안정성을 위해 제공
+        return new VenueDTO(new com.team03.ticketmon.venue.domain.Venue() {
+            @Override
+            public Long getVenueId() {
+                return -1L; // 임시 ID (실제 DB에 없는 값)
+            }
+
+            @Override
+            public String getName() {
+                return venueName != null ? venueName : "알 수 없는 공연장";
+            }
+
+            @Override
+            public Integer getCapacity() {
+                return 0; // 알 수 없음
+            }
+        });
+    }
+}
@@ -1,42 +1,72 @@
 package com.team03.ticketmon.seat.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.ErrorCode;
-import com.team03.ticketmon.concert.domain.Concert;
-import com.team03.ticketmon.concert.domain.ConcertSeat;
-import com.team03.ticketmon.concert.repository.ConcertRepository;
-import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatCountsDTO;
 import com.team03.ticketmon.seat.dto.SeatDetailResponseDTO;
+import com.team03.ticketmon.seat.dto.SeatLayoutColumnarDTO;
 import com.team03.ticketmon.seat.dto.SeatLayoutResponseDTO;
+import com.team03.ticketmon.seat.dto.SeatStaticLayoutDTO;
 import com.team03.ticketmon.seat.dto.SectionLayoutResponseDTO;
-import com.team03.ticketmon.venue.dto.VenueDTO;
-import com.team03.ticketmon.venue.service.VenueService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+import java.util.zip.GZIPOutputStream;
 import java.util.stream.Collectors;
 
 /**
  * 좌석 배치도 관련 비즈니스 로직 서비스
  * 기존 VenueService, ConcertSeatRepository를 활용하여
  * 실제 DB 데이터 기반의 좌석 배치도 정보를 제공
+ * - 정적 배치도는 SeatLayoutCache에서 콘서트별 1회 생성 후 재사용, 예매 상태는 Redis 실시간 상태로 덮어씀
+ *   (조회 경로에서 트랜잭션/DB 커넥션을 잡지 않음)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class SeatLayoutService {
 
-    private final ConcertRepository concertRepository;
-    private final ConcertSeatRepository concertSeatRepository;
-    private final VenueService venueService;
+    private final SeatLayoutCache seatLayoutCache;
+    private final SeatStatusService seatStatusService;
+    private final SeatChangeLog seatChangeLog;
+    private final ObjectMapper objectMapper;
+
+    // 콘서트별 열 기반 배치도 (정적 배치도 버전 + 변경 순번이 같으면 재사용)
+    private final Map<Long, ColumnarLayout> columnarLayouts = new ConcurrentHashMap<>();
+
+    /**
+     * 직렬화/압축이 끝난 열 기반 배치도
+     *
+     * @param layoutVersion 정적 배치도 버전
+     * @param seq           상태 기준 좌석 변경 순번
+     * @param json          JSON 바이트
+     * @param gzip          gzip 압축된 JSON 바이트
+     */
+    public record ColumnarLayout(String layoutVersion, long seq, byte[] json, byte[] gzip) {
+
+        public String etag() {
+            return "\"" + layoutVersion + "-" + seq + "\"";
+        }
+    }
 
     /**
      * 콘서트의 전체 좌석 배치도 조회
+     * - 정적 배치도(SeatLayoutCache) + Redis 실시간 좌석 상태를 합쳐 응답 생성 (최초 생성 이후 DB 조회 없음)
+     * - 예매 가능 여부는 실시간 상태 기준 (임시 선점 중인 좌석은 예매 불가로 표시)
      *
      * @param concertId 콘서트 ID
      * @return 좌석 배치도 정보
@@ -46,68 +76,25 @@ public class SeatLayoutService {
         log.info("좌석 배치도 조회 시작: concertId={}", concertId);
 
         try {
-            // 1. 콘서트 존재 여부 확인
-            Concert concert = concertRepository.findById(concertId)
-                    .orElseThrow(() -> {
-                        log.warn("콘서트를 찾을 수 없음: concertId={}", concertId);
-                        return new BusinessException(ErrorCode.CONCERT_NOT_FOUND);
-                    });
-
-            log.debug("콘서트 정보 조회 성공: concertId={}, title={}, venueName={}",
-                    concertId, concert.getTitle(), concert.getVenueName());
-
-            // 2. 🚀 핵심 수정: 공연장 정보 조회 (venueName으로 조회)
-            VenueDTO venue;
-            try {
-                venue = venueService.getVenueByName(concert.getVenueName());
-                log.debug("공연장 정보 조회 성공: venueName={}, venueId={}",
-                        concert.getVenueName(), venue.getVenueId());
-
-            } catch (BusinessException e) {
-                log.warn("공연장 정보를 찾을 수 없음: venueName={}, concertId={}, error={}",
-                        concert.getVenueName(), concertId, e.getMessage());
-
-                // 🔧 공연장 정보가 없어도 좌석 배치도는 제공 (대체 로직)
-                venue = createFallbackVenueInfo(concert.getVenueName());
-                log.info("대체 공연장 정보 사용: venueName={}", concert.getVenueName());
-            }
+            // 1. 정적 배치도 조회 (콘서트/공연장/좌석 정보, 캐시)
+            SeatStaticLayoutDTO layout = seatLayoutCache.get(concertId).layout();
 
-            SeatLayoutResponseDTO.VenueInfo venueInfo = SeatLayoutResponseDTO.VenueInfo.from(venue);
-
-            // 3. 콘서트의 모든 좌석 정보 조회 (Fetch Join으로 최적화됨)
-            List<ConcertSeat> concertSeats = concertSeatRepository.findByConcertIdWithDetails(concertId);
-
-            if (concertSeats.isEmpty()) {
+            if (layout.sections().isEmpty()) {
                 log.warn("콘서트에 좌석 정보가 없습니다: concertId={}", concertId);
                 // 빈 좌석 배치도 반환
-                return SeatLayoutResponseDTO.from(concertId, venueInfo, List.of());
+                return SeatLayoutResponseDTO.from(concertId, layout.venueInfo(), List.of());
             }
 
-            log.debug("좌석 정보 조회 성공: concertId={}, 총 좌석수={}", concertId, concertSeats.size());
-
-            // 4. 좌석 정보를 DTO로 변환
-            List<SeatDetailResponseDTO> seatDetails = concertSeats.stream()
-                    .map(SeatDetailResponseDTO::from)
-                    .collect(Collectors.toList());
-
-            // 5. 구역별로 그룹핑
-            Map<String, List<SeatDetailResponseDTO>> seatsBySection = seatDetails.stream()
-                    .collect(Collectors.groupingBy(
-                            SeatDetailResponseDTO::section,
-                            Collectors.toList()
-                    ));
-
-            log.debug("구역별 그룹핑 완료: concertId={}, 구역수={}, 구역={}",
-                    concertId, seatsBySection.size(), seatsBySection.keySet());
+            // 2. 실시간 좌석 상태 조회 (Redis, 좌석별 객체 없는 기본형 뷰)
+            SeatMapView liveStatus = seatStatusService.getSeatMapView(concertId);
 
-            // 6. 구역별 응답 생성 (구역명 기준 정렬)
-            List<SectionLayoutResponseDTO> sections = seatsBySection.entrySet().stream()
-                    .sorted(Map.Entry.comparingByKey()) // 구역명으로 정렬 (A, B, C, VIP 등)
-                    .map(entry -> SectionLayoutResponseDTO.from(entry.getKey(), entry.getValue()))
+            // 3. 구역별 응답 생성 (정적 배치도가 이미 구역명 순)
+            List<SectionLayoutResponseDTO> sections = layout.sections().stream()
+                    .map(section -> toSectionLayout(section, liveStatus::isAvailable))
                     .collect(Collectors.toList());
 
-            // 7. 최종 응답 생성
-            SeatLayoutResponseDTO response = SeatLayoutResponseDTO.from(concertId, venueInfo, sections);
+            // 4. 최종 응답 생성
+            SeatLayoutResponseDTO response = SeatLayoutResponseDTO.from(concertId, layout.venueInfo(), sections);
 
             log.info("좌석 배치도 조회 완료: concertId={}, 총좌석={}, 구역수={}, 예매가능률={}%",
                     concertId,
@@ -127,8 +114,159 @@ public class SeatLayoutService {
         }
     }
 
+    /**
+     * 정적 좌석 배치도 조회 (직렬화된 바이트 + 버전)
+     * - 좌석 위치/등급/가격만 담으며, 실시간 상태는 좌석 변경분 API로 받아 덮어씀
+     *
+     * @param concertId 콘서트 ID
+     * @throws BusinessException 콘서트를 찾을 수 없는 경우
+     */
+    public SeatLayoutCache.StaticLayout getStaticLayout(Long concertId) {
+        return seatLayoutCache.get(concertId);
+    }
+
+    /**
+     * 열 기반 좌석 배치도 조회 (대형 공연장용)
+     * - 좌석 변경 순번이 바뀌지 않았으면 이미 직렬화/압축해 둔 바이트를 그대로 반환
+     * - 순번이 바뀐 뒤 첫 요청만 실시간 상태를 읽어 다시 인코딩 (노드별 콘서트당 1회)
+     *
+     * @param concertId 콘서트 ID
+     * @throws BusinessException 콘서트를 찾을 수 없는 경우
+     */
+    public ColumnarLayout getColumnarLayout(Long concertId) {
+        SeatLayoutCache.StaticLayout staticLayout = seatLayoutCache.get(concertId);
+        long seq = seatChangeLog.currentSeq(concertId);
+
+        ColumnarLayout cached = columnarLayouts.get(concertId);
+        if (isCurrent(cached, staticLayout, seq)) {
+            return cached;
+        }
+
+        return columnarLayouts.compute(concertId, (id, current) -> {
+            if (isCurrent(current, staticLayout, seq)) {
+                return current;
+            }
+            return encodeColumnar(staticLayout, seq);
+        });
+    }
+
+    private boolean isCurrent(ColumnarLayout layout, SeatLayoutCache.StaticLayout staticLayout, long seq) {
+        return layout != null && layout.seq() == seq && layout.layoutVersion().equals(staticLayout.version());
+    }
+
+    /**
+     * 정적 배치도 + 실시간 상태 → 열 기반 배치도 (JSON + gzip)
+     */
+    private ColumnarLayout encodeColumnar(SeatLayoutCache.StaticLayout staticLayout, long seq) {
+        SeatStaticLayoutDTO layout = staticLayout.layout();
+        Long concertId = layout.concertId();
+        SeatMapView liveStatus = seatStatusService.getSeatMapView(concertId);
+
+        int seatCount = layout.sections().stream().mapToInt(section -> section.seats().size()).sum();
+        long[] concertSeatIds = new long[seatCount];
+        long[] seatIds = new long[seatCount];
+        int[] sectionIndexes = new int[seatCount];
+        String[] rows = new String[seatCount];
+        int[] numbers = new int[seatCount];
+        int[] gradeIndexes = new int[seatCount];
+        int[] priceIndexes = new int[seatCount];
+        StringBuilder statusCodes = new StringBuilder(seatCount);
+
+        List<String> sections = new ArrayList<>();
+        Map<String, Integer> grades = new LinkedHashMap<>();
+        Map<BigDecimal, Integer> prices = new LinkedHashMap<>();
+
+        int i = 0;
+        for (SeatStaticLayoutDTO.Section section : layout.sections()) {
+            int sectionIndex = sections.size();
+            sections.add(section.sectionName());
+
+            for (SeatStaticLayoutDTO.Seat seat : section.seats()) {
+                concertSeatIds[i] = seat.concertSeatId();
+                seatIds[i] = seat.seatId();
+                sectionIndexes[i] = sectionIndex;
+                rows[i] = seat.seatRow();
+                numbers[i] = seat.seatNumber() != null ? seat.seatNumber() : 0;
+                gradeIndexes[i] = grades.computeIfAbsent(String.valueOf(seat.grade()), grade -> grades.size());
+                priceIndexes[i] = prices.computeIfAbsent(seat.price(), price -> prices.size());
+
+                // 실시간 상태가 없는 좌석(캐시 준비 중 등)은 예매 불가로 표시
+                SeatStatusEnum status = liveStatus.statusOf(seat.concertSeatId());
+                SeatStatusEnum code = status != null ? status : SeatStatusEnum.UNAVAILABLE;
+                statusCodes.append((char) ('0' + code.ordinal()));
+                i++;
+            }
+        }
+
+        SeatLayoutColumnarDTO columnar = new SeatLayoutColumnarDTO(
+                concertId,
+                staticLayout.version(),
+                seq,
+                layout.venueInfo(),
+                sections,
+                List.copyOf(grades.keySet()),
+                List.copyOf(prices.keySet()),
+                Arrays.stream(SeatStatusEnum.values()).map(Enum::name).toList(),
+                concertSeatIds,
+                seatIds,
+                sectionIndexes,
+                rows,
+                numbers,
+                gradeIndexes,
+                priceIndexes,
+                statusCodes.toString());
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(columnar);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+
+            log.debug("열 기반 좌석 배치도 인코딩: concertId={}, seq={}, seats={}, jsonBytes={}, gzipBytes={}",
+                    concertId, seq, seatCount, json.length, compressed.size());
+            return new ColumnarLayout(staticLayout.version(), seq, json, compressed.toByteArray());
+
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.SERVER_ERROR, "좌석 배치도 인코딩 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 좌석 배치도 요약 통계 조회
+     * - 좌석 수 집계 카운터(Redis)만 읽으므로 좌석 수와 무관하게 O(1)
+     * - 예매 가능 좌석은 실시간 상태 기준 (임시 선점 중인 좌석은 예매 가능에서 제외)
+     * - 집계가 없는 경우(좌석 없음, 콘서트 없음 등)에는 전체 배치도 계산으로 대체
+     *
+     * @param concertId 콘서트 ID
+     * @return 좌석 통계 정보
+     */
+    public SeatLayoutResponseDTO.SeatStatistics getSeatLayoutSummary(Long concertId) {
+        SeatCountsDTO counts = seatStatusService.getSeatCounts(concertId);
+        long totalSeats = counts.totalSeats();
+
+        if (totalSeats == 0) {
+            log.debug("좌석 수 집계 없음, 전체 배치도로 요약 계산: concertId={}", concertId);
+            return getSeatLayout(concertId).statistics();
+        }
+
+        long availableSeats = counts.count(SeatStatusEnum.AVAILABLE);
+        double availabilityRate = (double) availableSeats / totalSeats * 100;
+
+        // 전체 배치도 통계와 동일하게 예매 불가 좌석 = 전체 - 예매 가능
+        return new SeatLayoutResponseDTO.SeatStatistics(
+                (int) totalSeats,
+                (int) availableSeats,
+                (int) (totalSeats - availableSeats),
+                Math.round(availabilityRate * 10.0) / 10.0, // 소수점 첫째자리까지
+                new SeatLayoutResponseDTO.PriceRange(
+                        counts.minPrice() != null ? counts.minPrice() : BigDecimal.ZERO,
+                        counts.maxPrice() != null ? counts.maxPrice() : BigDecimal.ZERO));
+    }
+
     /**
      * 특정 구역의 좌석 배치 조회
+     * - 정적 배치도에서 구역을 찾고 해당 구역 좌석의 실시간 상태만 Redis에서 읽어 합침 (최초 생성 이후 DB 조회 없음)
      *
      * @param concertId 콘서트 ID
      * @param sectionName 구역명 (A, B, VIP 등)
@@ -139,13 +277,7 @@ public class SeatLayoutService {
         log.info("구역별 좌석 배치도 조회: concertId={}, section={}", concertId, sectionName);
 
         try {
-            // 1. 콘서트 존재 여부 확인
-            if (!concertRepository.existsById(concertId)) {
-                log.warn("콘서트를 찾을 수 없음: concertId={}", concertId);
-                throw new BusinessException(ErrorCode.CONCERT_NOT_FOUND);
-            }
-
-            // 2. 입력값 검증
+            // 1. 입력값 검증
             if (sectionName == null || sectionName.trim().isEmpty()) {
                 log.warn("구역명이 비어있음: concertId={}", concertId);
                 throw new BusinessException(ErrorCode.INVALID_INPUT, "구역명을 입력해주세요.");
@@ -153,25 +285,17 @@ public class SeatLayoutService {
 
             String trimmedSectionName = sectionName.trim();
 
-            // 3. 해당 콘서트의 특정 구역 좌석만 조회
-            List<ConcertSeat> concertSeats = concertSeatRepository.findByConcertIdWithDetails(concertId);
+            // 2. 정적 배치도에서 구역 찾기 (콘서트가 없으면 CONCERT_NOT_FOUND)
+            SeatStaticLayoutDTO layout = seatLayoutCache.get(concertId).layout();
 
-            log.debug("전체 좌석 조회 완료: concertId={}, 총 좌석수={}", concertId, concertSeats.size());
+            SeatStaticLayoutDTO.Section section = layout.findSection(trimmedSectionName).orElse(null);
 
-            // 4. 특정 구역 필터링 (대소문자 무시)
-            List<SeatDetailResponseDTO> sectionSeats = concertSeats.stream()
-                    .filter(cs -> trimmedSectionName.equalsIgnoreCase(cs.getSeat().getSection()))
-                    .map(SeatDetailResponseDTO::from)
-                    .collect(Collectors.toList());
-
-            if (sectionSeats.isEmpty()) {
+            if (section == null || section.seats().isEmpty()) {
                 log.warn("해당 구역에 좌석이 없습니다: concertId={}, section={}", concertId, trimmedSectionName);
 
                 // 🔧 사용자 친화적 에러 메시지 (사용 가능한 구역 목록 제공)
-                List<String> availableSections = concertSeats.stream()
-                        .map(cs -> cs.getSeat().getSection())
-                        .distinct()
-                        .sorted()
+                List<String> availableSections = layout.sections().stream()
+                        .map(SeatStaticLayoutDTO.Section::sectionName)
                         .collect(Collectors.toList());
 
                 log.info("사용 가능한 구역 목록: concertId={}, sections={}", concertId, availableSections);
@@ -181,7 +305,12 @@ public class SeatLayoutService {
                                 trimmedSectionName, String.join(", ", availableSections)));
             }
 
-            SectionLayoutResponseDTO response = SectionLayoutResponseDTO.from(trimmedSectionName, sectionSeats);
+            // 3. 해당 구역 좌석의 실시간 상태만 조회해 합쳐 응답 생성
+            Map<Long, SeatStatus> liveStatus = seatStatusService.getSeatStatuses(concertId, section.concertSeatIds());
+            SectionLayoutResponseDTO response = toSectionLayout(section, concertSeatId -> {
+                SeatStatus status = liveStatus.get(concertSeatId);
+                return status != null && status.getStatus() == SeatStatusEnum.AVAILABLE;
+            });
 
             log.info("구역별 좌석 배치도 조회 완료: concertId={}, section={}, 좌석수={}, 예매가능={}",
                     concertId, trimmedSectionName, response.totalSeats(), response.availableSeats());
@@ -201,32 +330,14 @@ public class SeatLayoutService {
     }
 
     /**
-     * 🔧 공연장 정보를 찾을 수 없을 때 사용할 대체 VenueDTO 생성
-     * 시스템의 안정성을 위해 좌석 배치도는 여전히 제공하되, 공연장 정보는 기본값 사용
-     *
-     * @param venueName 콘서트에 등록된 공연장 이름
-     * @return 대체 VenueDTO
+     * 정적 구역 배치 + 실시간 좌석 상태 → 구역 응답
+     * - 실시간 상태가 없는 좌석(캐시 준비 중 등)은 예매 불가로 표시
      */
-    private VenueDTO createFallbackVenueInfo(String venueName) {
-        log.debug("대체 공연장 정보 생성: venueName={}", venueName);
-
-        // VenueDTO의 생성자에 맞춰 임시 Venue 객체 생성 후 DTO 변환
-        // 실제로는 존재하지 않는 공연장이지만 시스템 안정성을 위해 제공
-        return new VenueDTO(new com.team03.ticketmon.venue.domain.Venue() {
-            @Override
-            public Long getVenueId() {
-                return -1L; // 임시 ID (실제 DB에 없는 값)
-            }
+    private SectionLayoutResponseDTO toSectionLayout(SeatStaticLayoutDTO.Section section, LongPredicate isAvailable) {
+        List<SeatDetailResponseDTO> seats = section.seats().stream()
+                .map(seat -> seat.toDetail(section.sectionName(), isAvailable.test(seat.concertSeatId())))
+                .collect(Collectors.toList());
 
-            @Override
-            public String getName() {
-                return venueName != null ? venueName : "알 수 없는 공연장";
-            }
-
-            @Override
-            public Integer getCapacity() {
-                return 0; // 알 수 없음
-            }
-        });
+        return SectionLayoutResponseDTO.from(section.sectionName(), seats);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,204 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+
+import java.util.Arrays;
+
+/**
+ * 콘서트 전체 좌석 상태의 기본형 배열 뷰 (읽기 전용)
+ * - 좌석 카탈로그(SeatCatalog) 순번마다 상태 1바이트 (SeatStatusEnum 순번, 실시간 상태가 없으면 -1)
+ * - 사용자가 잡고 있는 좌석(선점/예매)만 희소 테이블(순번 오름차순 int[] + 사용자 ID long[])로 보관
+ *
+ * ✅ 좌석마다 SeatStatus/LocalDateTime/박싱 Long 을 만들지 않으므로, 전체 좌석 집계/필터를 할당 없이 수행
+ * ✅ 선점 만료 시각 등 좌석별 상세 정보가 필요하면 SeatStatusService.getAllSeatStatus 사용
+ */
+public final class SeatMapView {
+
+    private static final SeatStatusEnum[] STATUSES = SeatStatusEnum.values();
+    private static final byte NO_STATUS = -1;
+
+    private final SeatCatalog.Catalog catalog;
+    private final byte[] statuses;
+    private final int[] heldOrdinals;
+    private final long[] holderIds;
+    private final int heldCount;
+
+    private SeatMapView(SeatCatalog.Catalog catalog, byte[] statuses, int[] heldOrdinals, long[] holderIds, int heldCount) {
+        this.catalog = catalog;
+        this.statuses = statuses;
+        this.heldOrdinals = heldOrdinals;
+        this.holderIds = holderIds;
+        this.heldCount = heldCount;
+    }
+
+    public int size() {
+        return statuses.length;
+    }
+
+    /**
+     * 실시간 상태가 하나도 없는지 (캐시 미초기화)
+     */
+    public boolean isEmpty() {
+        for (byte status : statuses) {
+            if (status != NO_STATUS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long seatIdAt(int ordinal) {
+        return catalog.seatIds()[ordinal];
+    }
+
+    /**
+     * 순번 좌석 상태 (실시간 상태가 없으면 null)
+     */
+    public SeatStatusEnum statusAt(int ordinal) {
+        byte status = statuses[ordinal];
+        return status != NO_STATUS ? STATUSES[status] : null;
+    }
+
+    /**
+     * 좌석 ID 기준 상태 (콘서트 좌석이 아니거나 실시간 상태가 없으면 null)
+     */
+    public SeatStatusEnum statusOf(long concertSeatId) {
+        int ordinal = catalog.ordinalOf(concertSeatId);
+        return ordinal >= 0 ? statusAt(ordinal) : null;
+    }
+
+    public boolean isAvailable(long concertSeatId) {
+        return statusOf(concertSeatId) == SeatStatusEnum.AVAILABLE;
+    }
+
+    /**
+     * 순번 좌석을 잡고 있는 사용자 ID (없으면 0)
+     */
+    public long holderAt(int ordinal) {
+        int index = Arrays.binarySearch(heldOrdinals, 0, heldCount, ordinal);
+        return index >= 0 ? holderIds[index] : 0L;
+    }
+
+    /**
+     * 상태별 좌석 수
+     */
+    public int count(SeatStatusEnum status) {
+        int count = 0;
+        byte code = (byte) status.ordinal();
+        for (byte current : statuses) {
+            if (current == code) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 사용자가 지정한 상태로 잡고 있는 좌석 수
+     */
+    public int countHeldBy(long userId, SeatStatusEnum status) {
+        int count = 0;
+        byte code = (byte) status.ordinal();
+        for (int i = 0; i < heldCount; i++) {
+            if (holderIds[i] == userId && statuses[heldOrdinals[i]] == code) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 문자열 구간의 10진수 파싱 (문자열 할당 없음, 따옴표는 건너뜀, 숫자가 없으면 -1)
+     */
+    static long parseLong(CharSequence value, int from, int to) {
+        long result = 0;
+        boolean digits = false;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                result = result * 10 + (c - '0');
+                digits = true;
+            } else if (c != '"') {
+                return -1;
+            }
+        }
+        return digits ? result : -1;
+    }
+
+    static Builder builder(SeatCatalog.Catalog catalog) {
+        return new Builder(catalog);
+    }
+
+    /**
+     * 뷰 생성기 (저장소 읽기 경로에서만 사용)
+     */
+    static final class Builder {
+
+        private final SeatCatalog.Catalog catalog;
+        private final byte[] statuses;
+        private int[] heldOrdinals = new int[16];
+        private long[] holderIds = new long[16];
+        private int heldCount;
+        private boolean sorted = true;
+
+        private Builder(SeatCatalog.Catalog catalog) {
+            this.catalog = catalog;
+            this.statuses = new byte[catalog.size()];
+            Arrays.fill(statuses, NO_STATUS);
+        }
+
+        SeatCatalog.Catalog catalog() {
+            return catalog;
+        }
+
+        /**
+         * 좌석 상태 기록 (카탈로그에 없는 좌석이면 무시하고 -1 반환)
+         *
+         * @return 좌석 순번
+         */
+        int set(long concertSeatId, int statusOrdinal) {
+            int ordinal = catalog.ordinalOf(concertSeatId);
+            if (ordinal >= 0) {
+                statuses[ordinal] = (byte) statusOrdinal;
+            }
+            return ordinal;
+        }
+
+        void hold(int ordinal, long userId) {
+            if (heldCount == heldOrdinals.length) {
+                heldOrdinals = Arrays.copyOf(heldOrdinals, heldCount * 2);
+                holderIds = Arrays.copyOf(holderIds, heldCount * 2);
+            }
+            if (heldCount > 0 && heldOrdinals[heldCount - 1] > ordinal) {
+                sorted = false;
+            }
+            heldOrdinals[heldCount] = ordinal;
+            holderIds[heldCount] = userId;
+            heldCount++;
+        }
+
+        SeatMapView build() {
+            if (!sorted) {
+                sortHolders();
+            }
+            return new SeatMapView(catalog, statuses, heldOrdinals, holderIds, heldCount);
+        }
+
+        // 해시 순서로 읽은 선점 정보를 순번 오름차순으로 정렬 (선점 좌석 수만큼만)
+        private void sortHolders() {
+            long[] packed = new long[heldCount];
+            for (int i = 0; i < heldCount; i++) {
+                packed[i] = ((long) heldOrdinals[i] << 32) | i;
+            }
+            Arrays.sort(packed);
+
+            long[] sortedHolders = new long[heldCount];
+            for (int i = 0; i < heldCount; i++) {
+                int source = (int) packed[i];
+                heldOrdinals[i] = (int) (packed[i] >>> 32);
+                sortedHolders[i] = holderIds[source];
+            }
+            System.arraycopy(sortedHolders, 0, holderIds, 0, heldCount);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatChangesDTO;
+import com.team03.ticketmon.seat.dto.SeatStaticLayoutDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드별 좌석 점유 비트셋 (자동 배정용)
+ * - 콘서트마다 좌석 카탈로그(SeatCatalog) 순번을 비트 위치로 하는 빈 좌석(AVAILABLE) 비트셋을 힙에 보관
+ * - 처음 한 번(그리고 변경 로그가 잘렸거나 캐시가 재초기화됐을 때만) 좌석 맵 뷰(압축 저장소)에서 전체를 채우고,
+ *   이후 조회마다 변경 로그(SeatChangeLog)의 마지막 순번 이후 변경분만 반영
+ * - 구역 → 열(앞 열 순) → 좌석 번호 → 카탈로그 순번 배치는 정적 배치도에서 카탈로그마다 한 번 만듦
+ *   (카탈로그가 무효화되어 새로 만들어지면 비트셋도 새로 채움)
+ *
+ * ✅ 자동 배정 요청마다 후보 좌석 전체를 Redis에서 읽던 조회를 변경분 조회 한 번으로 대체
+ * ✅ 만료됐지만 아직 해제되지 않은 선점은 만료 휠이 해제할 때까지 점유로 봄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatOccupancyIndex {
+
+    // 한 번에 읽을 변경분 수, 이 횟수만큼 읽어도 남아 있으면 전체를 다시 채움
+    private static final int CHANGE_LIMIT = 1000;
+    private static final int MAX_CHANGE_ROUNDS = 4;
+
+    /**
+     * 열 순서 (앞 열이 먼저)
+     * - 숫자 열은 숫자 크기 순 ("2" → "10"), 그 밖의 열은 길이 → 사전 순 ("Z" → "AA", "A2" → "A10")
+     * - 배치도 좌석은 DB에서 열 이름 문자열 순으로 오므로 그대로 쓰면 "10" 열이 "2" 열보다 앞 열로 취급됨
+     */
+    static final Comparator<String> ROW_ORDER = Comparator
+            .comparing((String row) -> !isNumericRow(row))
+            .thenComparing(SeatOccupancyIndex::rowSortKey, Comparator.comparingInt(String::length)
+                    .thenComparing(Comparator.naturalOrder()));
+
+    private final SeatCatalog seatCatalog;
+    private final SeatLayoutCache seatLayoutCache;
+    private final SeatStatusService seatStatusService;
+    private final SeatChangeLog seatChangeLog;
+    private final SeatShardRouter seatShardRouter;
+
+    private final Map<Long, Occupancy> occupancies = new ConcurrentHashMap<>();
+
+    /**
+     * 열 하나의 좌석 (좌석 번호 오름차순)
+     *
+     * @param name     열 이름
+     * @param numbers  좌석 번호
+     * @param ordinals 좌석 카탈로그 순번
+     */
+    public record Row(String name, int[] numbers, int[] ordinals) {
+    }
+
+    /**
+     * 구역 하나의 열 (앞 열 순)
+     */
+    public record Section(String name, List<Row> rows) {
+    }
+
+    /**
+     * 조회 시점의 점유 상태
+     *
+     * @param catalog  좌석 카탈로그
+     * @param sections 배치도 구역 순 구역별 열 배치
+     * @param free     빈 좌석 비트셋 복사본 (카탈로그 순번)
+     */
+    public record Snapshot(SeatCatalog.Catalog catalog, List<Section> sections, BitSet free) {
+
+        /**
+         * 구역명으로 구역 찾기 (대소문자 무시)
+         */
+        public Optional<Section> findSection(String sectionName) {
+            return sections.stream()
+                    .filter(section -> section.name().equalsIgnoreCase(sectionName))
+                    .findFirst();
+        }
+    }
+
+    private static final class Occupancy {
+
+        private final SeatCatalog.Catalog catalog;
+        private final List<Section> sections;
+        private final BitSet free;
+        private boolean loaded;
+        private long seq;
+        private String cursor;
+
+        private Occupancy(SeatCatalog.Catalog catalog, List<Section> sections) {
+            this.catalog = catalog;
+            this.sections = sections;
+            this.free = new BitSet(catalog.size());
+        }
+    }
+
+    /**
+     * 최신 점유 상태 조회 (마지막 조회 이후 변경분만 반영)
+     *
+     * @throws BusinessException 콘서트를 찾을 수 없는 경우
+     */
+    public Snapshot snapshot(Long concertId) {
+        SeatCatalog.Catalog catalog = seatCatalog.get(concertId);
+        Occupancy occupancy = occupancies.get(concertId);
+        if (occupancy == null || occupancy.catalog != catalog) {
+            // 배치 생성(배치도 조회)은 맵 잠금 밖에서 하고, 같은 카탈로그로 먼저 만든 것이 있으면 그대로 사용
+            Occupancy built = new Occupancy(catalog, buildSections(concertId, catalog));
+            occupancy = occupancies.compute(concertId,
+                    (id, current) -> current != null && current.catalog == catalog ? current : built);
+        }
+
+        synchronized (occupancy) {
+            sync(concertId, occupancy);
+            return new Snapshot(catalog, occupancy.sections, (BitSet) occupancy.free.clone());
+        }
+    }
+
+    /**
+     * 변경 로그 반영 (로그가 잘렸거나 남은 변경분이 너무 많으면 전체를 다시 채움)
+     */
+    private void sync(Long concertId, Occupancy occupancy) {
+        if (!occupancy.loaded) {
+            reload(concertId, occupancy);
+            return;
+        }
+
+        for (int round = 0; round < MAX_CHANGE_ROUNDS; round++) {
+            SeatChangeLog.Slice slice = seatChangeLog.readSince(concertId, occupancy.seq, occupancy.cursor, CHANGE_LIMIT);
+            if (!slice.available()) {
+                reload(concertId, occupancy);
+                return;
+            }
+
+            for (SeatChangesDTO.Change change : slice.changes()) {
+                int ordinal = occupancy.catalog.ordinalOf(change.seatId());
+                if (ordinal >= 0) {
+                    occupancy.free.set(ordinal, change.status() == SeatStatusEnum.AVAILABLE);
+                }
+            }
+            occupancy.seq = slice.lastSeq();
+            occupancy.cursor = slice.cursor();
+            if (!slice.hasMore()) {
+                return;
+            }
+        }
+        reload(concertId, occupancy);
+    }
+
+    /**
+     * 좌석 맵 뷰에서 전체 점유 상태를 다시 채움
+     * - 순번을 먼저 읽고 뷰를 읽으므로, 그 사이 변경분은 다음 조회에서 한 번 더 반영될 뿐 빠지지 않음
+     */
+    private void reload(Long concertId, Occupancy occupancy) {
+        if (seatShardRouter.isSharded(concertId)) {
+            SeatChangeLog.Slice head = seatChangeLog.readSince(concertId, -1, null, 0);
+            occupancy.seq = head.currentSeq();
+            occupancy.cursor = head.currentCursor();
+        } else {
+            occupancy.seq = seatChangeLog.currentSeq(concertId);
+            occupancy.cursor = null;
+        }
+
+        SeatMapView view = seatStatusService.getSeatMapView(concertId);
+        occupancy.free.clear();
+        int size = Math.min(view.size(), occupancy.catalog.size());
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (view.statusAt(ordinal) == SeatStatusEnum.AVAILABLE) {
+                occupancy.free.set(ordinal);
+            }
+        }
+        occupancy.loaded = !view.isEmpty();
+        log.debug("좌석 점유 비트셋 채움: concertId={}, free={}, seq={}", concertId, occupancy.free.cardinality(), occupancy.seq);
+    }
+
+    /**
+     * 정적 배치도 → 구역별 열 배치 (카탈로그에 없는 좌석/번호 없는 좌석은 제외)
+     */
+    private List<Section> buildSections(Long concertId, SeatCatalog.Catalog catalog) {
+        SeatStaticLayoutDTO layout = seatLayoutCache.get(concertId).layout();
+        List<Section> sections = new ArrayList<>(layout.sections().size());
+
+        for (SeatStaticLayoutDTO.Section section : layout.sections()) {
+            Map<String, List<SeatStaticLayoutDTO.Seat>> seatsByRow = new LinkedHashMap<>();
+            for (SeatStaticLayoutDTO.Seat seat : section.seats()) {
+                if (seat.seatNumber() != null && seat.seatNumber() >= 0
+                        && catalog.ordinalOf(seat.concertSeatId()) >= 0) {
+                    seatsByRow.computeIfAbsent(String.valueOf(seat.seatRow()), row -> new ArrayList<>()).add(seat);
+                }
+            }
+
+            List<String> rowNames = new ArrayList<>(seatsByRow.keySet());
+            rowNames.sort(ROW_ORDER);
+            List<Row> rows = new ArrayList<>(rowNames.size());
+            for (String rowName : rowNames) {
+                List<SeatStaticLayoutDTO.Seat> seats = seatsByRow.get(rowName);
+                seats.sort(Comparator.comparingInt(SeatStaticLayoutDTO.Seat::seatNumber));
+                int[] numbers = new int[seats.size()];
+                int[] ordinals = new int[seats.size()];
+                for (int i = 0; i < numbers.length; i++) {
+                    numbers[i] = seats.get(i).seatNumber();
+                    ordinals[i] = catalog.ordinalOf(seats.get(i).concertSeatId());
+                }
+                rows.add(new Row(rowName, numbers, ordinals));
+            }
+            sections.add(new Section(section.sectionName(), List.copyOf(rows)));
+        }
+        return List.copyOf(sections);
+    }
+
+    private static boolean isNumericRow(String row) {
+        return !row.isEmpty() && row.chars().allMatch(ch -> ch >= '0' && ch <= '9');
+    }
+
+    // 숫자 열은 앞자리 0을 떼어 길이 → 사전 순 비교가 곧 숫자 크기 순이 되도록 함 ("007" → "7")
+    private static String rowSortKey(String row) {
+        if (!isNumericRow(row)) {
+            return row;
+        }
+        String stripped = row.replaceFirst("^0+", "");
+        return stripped.isEmpty() ? "0" : stripped;
+    }
+}
@@ -328,13 +328,18 @@ public class SeatPollingSessionManager {
         response.put("updateTime", event.timestamp());
         response.put("eventType", "SEAT_STATUS_CHANGE");
         
-        Map<String, Object> seatUpdate = new HashMap<>();
-        seatUpdate.put("seatId", event.seatId());
-        seatUpdate.put("status", event.status().toString());
-        seatUpdate.put("userId", event.userId()); // null 값 허용
-        seatUpdate.put("seatInfo", event.seatInfo());
-        
-        response.put("seatUpdates", List.of(seatUpdate));
+        // 일괄 변경 이벤트는 변경된 좌석 전체를 한 번에 전달
+        List<Map<String, Object>> seatUpdates = new ArrayList<>();
+        for (SeatUpdateEventDTO.SeatChange change : event.seatChanges()) {
+            Map<String, Object> seatUpdate = new HashMap<>();
+            seatUpdate.put("seatId", change.seatId());
+            seatUpdate.put("status", change.status().toString());
+            seatUpdate.put("userId", change.userId()); // null 값 허용
+            seatUpdate.put("seatInfo", change.seatInfo());
+            seatUpdates.add(seatUpdate);
+        }
+
+        response.put("seatUpdates", seatUpdates);
         response.put("serverTime", LocalDateTime.now());
         
         return response;
@@ -0,0 +1,171 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 좌석 상태 샤드 라우터
+ * - 샤드 수가 1인 콘서트(기본): 모든 좌석 키가 {concertId} 태그 하나를 공유 (기존 키 그대로)
+ * - 샤드 수가 N인 콘서트: 좌석은 concertSeatId mod N 번째 샤드에 속하고,
+ *   샤드마다 좌석 키 묶음(status, state, holds, counts, expiry, seq, changes ...)을 {concertId:shard} 태그로 따로 가짐
+ * - 샤드 수는 캐시 초기화 시 seat:shards:{concertId} 에 고정하고, 캐시가 있는 동안은 설정이 바뀌어도 고정 값을 사용
+ *   (노드별로 로컬에 보관하고, 캐시 삭제 시 seat:catalog:invalidate 토픽으로 다른 노드의 로컬 값도 버림)
+ *
+ * ✅ 한 좌석의 스크립트는 자기 샤드 슬롯 하나에서만 실행되므로 원자성 유지
+ * ✅ 초대형 공연의 읽기/쓰기가 N개 슬롯(클러스터 노드)으로 분산되고, 전체 조회는 샤드별 배치 조회 후 병합
+ * ✅ 샤드 수는 seat.shard.counts 로 콘서트별 지정 (지정한 공연만 분산 조회 비용을 부담)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatShardRouter {
+
+    private final SeatProperties seatProperties;
+    private final RedissonClient redissonClient;
+
+    // 콘서트별 고정 샤드 수 (Redis 고정 값의 로컬 사본)
+    private final Map<Long, Integer> pinnedCounts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        invalidateTopic().addListener(Long.class, (channel, concertId) -> pinnedCounts.remove(concertId));
+    }
+
+    /**
+     * 콘서트의 샤드 수 (1 이상)
+     * - 캐시 초기화 시 고정한 값이 있으면 그 값, 없으면(초기화 전) 설정 값
+     */
+    public int shardCount(Long concertId) {
+        Integer pinned = pinnedCounts.get(concertId);
+        if (pinned != null) {
+            return pinned;
+        }
+        String stored = pinnedCount(concertId).get();
+        if (stored == null) {
+            return configuredCount(concertId);
+        }
+        int count = Math.max(1, Integer.parseInt(stored));
+        pinnedCounts.put(concertId, count);
+        return count;
+    }
+
+    /**
+     * 캐시 초기화 전 샤드 수 고정
+     * - 이미 고정된 값이 있으면 그대로 사용 (캐시가 남아 있는 콘서트는 설정 변경을 적용하지 않음)
+     *
+     * @return 고정된 샤드 수
+     */
+    public int pin(Long concertId) {
+        int configured = configuredCount(concertId);
+        RBucket<String> bucket = pinnedCount(concertId);
+        bucket.setIfAbsent(String.valueOf(configured));
+        String stored = bucket.get();
+        int count = stored != null ? Math.max(1, Integer.parseInt(stored)) : configured;
+        if (count != configured) {
+            log.warn("좌석 캐시가 있는 콘서트의 샤드 수 설정 변경은 적용하지 않음 (캐시 삭제 후 재초기화 필요): concertId={}, pinned={}, configured={}",
+                    concertId, count, configured);
+        }
+        pinnedCounts.put(concertId, count);
+        return count;
+    }
+
+    /**
+     * 샤드 수 고정 해제 (좌석 캐시 삭제 후 호출, 다음 초기화부터 설정 값 적용)
+     */
+    public void unpin(Long concertId) {
+        pinnedCount(concertId).delete();
+        pinnedCounts.remove(concertId);
+        invalidateTopic().publish(concertId);
+    }
+
+    public boolean isSharded(Long concertId) {
+        return shardCount(concertId) > 1;
+    }
+
+    /**
+     * 좌석이 속한 샤드 번호
+     */
+    public int shardOf(Long concertId, Long concertSeatId) {
+        return shardOf(concertSeatId, shardCount(concertId));
+    }
+
+    /**
+     * 샤드 수가 정해졌을 때 좌석이 속한 샤드 번호
+     */
+    public static int shardOf(long concertSeatId, int shardCount) {
+        return (int) Math.floorMod(concertSeatId, (long) shardCount);
+    }
+
+    /**
+     * 샤드의 키 (샤딩하지 않은 콘서트는 콘서트 키)
+     */
+    public String key(String prefix, Long concertId, int shard) {
+        if (!isSharded(concertId)) {
+            return RedisKeyGenerator.concertKey(prefix, concertId);
+        }
+        return prefix + RedisKeyGenerator.shardTag(concertId, shard);
+    }
+
+    /**
+     * 좌석이 속한 샤드의 키
+     */
+    public String seatKey(String prefix, Long concertId, Long concertSeatId) {
+        return key(prefix, concertId, shardOf(concertId, concertSeatId));
+    }
+
+    /**
+     * 모든 샤드의 키 (샤드 번호 순)
+     */
+    public List<String> keys(String prefix, Long concertId) {
+        int count = shardCount(concertId);
+        List<String> keys = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            keys.add(key(prefix, concertId, shard));
+        }
+        return keys;
+    }
+
+    /**
+     * 좌석 단위 항목을 샤드별로 분류 (샤드 번호 순, 샤드 안에서는 입력 순서 유지)
+     */
+    public <T> Map<Integer, List<T>> groupByShard(Long concertId, Collection<T> items, Function<T, Long> seatIdOf) {
+        Map<Integer, List<T>> groups = new TreeMap<>();
+        for (T item : items) {
+            groups.computeIfAbsent(shardOf(concertId, seatIdOf.apply(item)), shard -> new ArrayList<>()).add(item);
+        }
+        return groups;
+    }
+
+    // 설정 값 (seat.shard.counts / default-count)
+    private int configuredCount(Long concertId) {
+        SeatProperties.Shard shard = seatProperties.getShard();
+        Integer count = shard.getCounts().get(concertId);
+        return Math.max(1, count != null ? count : shard.getDefaultCount());
+    }
+
+    private RBucket<String> pinnedCount(Long concertId) {
+        return redissonClient.getBucket(
+                RedisKeyGenerator.concertKey(RedisKeyGenerator.SEAT_SHARDS_KEY_PREFIX, concertId), StringCodec.INSTANCE);
+    }
+
+    private RTopic invalidateTopic() {
+        return redissonClient.getTopic(RedisKeyGenerator.SEAT_CATALOG_INVALIDATE_TOPIC, LongCodec.INSTANCE);
+    }
+}
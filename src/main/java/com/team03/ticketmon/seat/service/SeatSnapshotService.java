@@ -0,0 +1,408 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatStaticLayoutDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좌석 맵 로컬 스냅샷 (메모리 매핑 파일)
+ * - 콘서트별 전체 좌석 상태(선점 사용자/만료 시각 포함)와 정적 좌석 정보를 고정 길이 바이너리 레코드로 기록
+ * - {seat.snapshot.directory}/concert-{concertId}-{생성 시각 ms}.snap, 콘서트별 최근 seat.snapshot.retain 개만 보관
+ * - 임시 파일에 매핑해 기록하고 force() 후 원자적으로 이름을 바꾸므로 읽는 쪽은 완성된 파일만 봄
+ * - 복원은 최신 파일을 읽기 전용으로 매핑해 좌석 행을 만들고, DB 초기화와 같은 청크 단위 임시 키 기록 + 교체로 적재
+ *   (예매 완료 여부는 스냅샷이 아니라 DB(ConcertSeat.ticket) 기준으로 맞추고, 스냅샷에서는 선점만 되살림)
+ * - 복원 적재는 SeatCacheInitCoordinator 초기화 임대 아래에서 실행 (캐시 미스 초기화/Warm-up 과 겹치지 않음)
+ *
+ * ✅ Redis 유실 시 DB 전체 조회 없이 스냅샷 시점의 좌석 맵(선점 포함)으로 빠르게 복구
+ * ✅ 스냅샷 이후의 선점 변경은 포함되지 않으므로 응답의 ageMillis 로 얼마나 오래된 상태인지 확인
+ *
+ * 파일 형식 (v2, big-endian)
+ * - 헤더: magic(int) version(short) concertId(long) createdAt(long) seq(long) seatCount(int) stringCount(int)
+ * - 문자열 표: stringCount × [length(int) UTF-8 bytes]
+ *   (v1 은 length(unsigned short)라 64KB 이상 문자열의 길이가 잘렸음, 읽기만 지원)
+ * - 좌석 레코드: seatCount × 60 bytes
+ *   [seatId(long) status(int) userId(long) reservedAt(long) expiresAt(long)
+ *    section(int) row(int) seatNumber(int) grade(int) price(int) seatInfo(int)]
+ *   (문자열 필드는 문자열 표 번호, 값이 없으면 -1)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatSnapshotService {
+
+    private static final int MAGIC = 0x544D5353; // "TMSS"
+    private static final short VERSION = 2;
+    private static final short VERSION_SHORT_STRINGS = 1;
+    private static final int HEADER_BYTES = 4 + 2 + 8 + 8 + 8 + 4 + 4;
+    private static final int RECORD_BYTES = 8 + 4 + 8 + 8 + 8 + 4 * 6;
+    private static final int NONE = -1;
+    private static final String SUFFIX = ".snap";
+
+    private final SeatCompactStateStore seatCompactStateStore;
+    private final SeatLayoutCache seatLayoutCache;
+    private final SeatChangeLog seatChangeLog;
+    private final SeatCacheInitService seatCacheInitService;
+    private final SeatCacheInitCoordinator seatCacheInitCoordinator;
+    private final ConcertSeatRepository concertSeatRepository;
+    private final SeatProperties seatProperties;
+
+    // 통계
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong restoredCount = new AtomicLong();
+
+    /**
+     * 스냅샷 파일 하나
+     */
+    public record SnapshotFile(Path path, long createdAtMillis, long sizeBytes) {
+
+        public long ageMillis() {
+            return System.currentTimeMillis() - createdAtMillis;
+        }
+
+        public Map<String, Object> toMap() {
+            return Map.of(
+                    "file", path.getFileName().toString(),
+                    "createdAt", createdAtMillis,
+                    "ageMillis", ageMillis(),
+                    "sizeBytes", sizeBytes
+            );
+        }
+    }
+
+    /**
+     * 현재 좌석 캐시를 스냅샷 파일로 기록
+     *
+     * @param concertId 콘서트 ID
+     * @return 기록한 파일 정보 (좌석 수, 크기, 소요 시간)
+     * @throws BusinessException 좌석 캐시가 없는 경우
+     */
+    public Map<String, Object> snapshot(Long concertId) {
+        long startedAt = System.currentTimeMillis();
+
+        Map<Long, SeatStatus> seats = seatCompactStateStore.readAll(concertId);
+        if (seats.isEmpty()) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "스냅샷할 좌석 캐시가 없습니다.");
+        }
+        long seq = seatChangeLog.currentSeq(concertId);
+        Map<Long, SeatStaticLayoutDTO.Seat> layoutSeats = new HashMap<>(seats.size() * 2);
+        Map<Long, String> sections = new HashMap<>(seats.size() * 2);
+        for (SeatStaticLayoutDTO.Section section : seatLayoutCache.get(concertId).layout().sections()) {
+            for (SeatStaticLayoutDTO.Seat seat : section.seats()) {
+                layoutSeats.put(seat.concertSeatId(), seat);
+                sections.put(seat.concertSeatId(), section.sectionName());
+            }
+        }
+
+        // 문자열 표 (상태/구역/열/등급/가격/좌석 정보는 종류가 적으므로 번호로 기록)
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        List<int[]> refs = new ArrayList<>(seats.size());
+        for (SeatStatus seat : seats.values()) {
+            SeatStaticLayoutDTO.Seat layoutSeat = layoutSeats.get(seat.getSeatId());
+            refs.add(new int[]{
+                    intern(strings, seat.getStatus().name()),
+                    intern(strings, sections.get(seat.getSeatId())),
+                    intern(strings, layoutSeat != null ? layoutSeat.seatRow() : null),
+                    intern(strings, layoutSeat != null && layoutSeat.grade() != null ? layoutSeat.grade().name() : null),
+                    intern(strings, layoutSeat != null && layoutSeat.price() != null ? layoutSeat.price().toPlainString() : null),
+                    intern(strings, seat.getSeatInfo())
+            });
+        }
+
+        List<byte[]> encodedStrings = strings.keySet().stream()
+                .map(value -> value.getBytes(StandardCharsets.UTF_8))
+                .toList();
+        long size = HEADER_BYTES
+                + encodedStrings.stream().mapToLong(bytes -> 4L + bytes.length).sum()
+                + (long) RECORD_BYTES * seats.size();
+
+        try {
+            Path directory = directory();
+            Files.createDirectories(directory);
+            long createdAt = System.currentTimeMillis();
+            Path target = directory.resolve(prefix(concertId) + createdAt + SUFFIX);
+            Path temp = Files.createTempFile(directory, prefix(concertId), ".tmp");
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(MAGIC)
+                        .putShort(VERSION)
+                        .putLong(concertId)
+                        .putLong(createdAt)
+                        .putLong(seq)
+                        .putInt(seats.size())
+                        .putInt(encodedStrings.size());
+                for (byte[] bytes : encodedStrings) {
+                    buffer.putInt(bytes.length).put(bytes);
+                }
+
+                int index = 0;
+                for (SeatStatus seat : seats.values()) {
+                    SeatStaticLayoutDTO.Seat layoutSeat = layoutSeats.get(seat.getSeatId());
+                    int[] ref = refs.get(index++);
+                    buffer.putLong(seat.getSeatId())
+                            .putInt(ref[0])
+                            .putLong(seat.getUserId() != null ? seat.getUserId() : NONE)
+                            .putLong(toMillis(seat.getReservedAt()))
+                            .putLong(toMillis(seat.getExpiresAt()))
+                            .putInt(ref[1])
+                            .putInt(ref[2])
+                            .putInt(layoutSeat != null && layoutSeat.seatNumber() != null ? layoutSeat.seatNumber() : NONE)
+                            .putInt(ref[3])
+                            .putInt(ref[4])
+                            .putInt(ref[5]);
+                }
+                buffer.force();
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            prune(concertId);
+            writtenCount.incrementAndGet();
+
+            long durationMs = System.currentTimeMillis() - startedAt;
+            log.info("좌석 스냅샷 기록 완료: concertId={}, seats={}, bytes={}, seq={}, durationMs={}",
+                    concertId, seats.size(), size, seq, durationMs);
+            return Map.of(
+                    "concertId", concertId,
+                    "file", target.getFileName().toString(),
+                    "seats", seats.size(),
+                    "sizeBytes", size,
+                    "seq", seq,
+                    "durationMs", durationMs
+            );
+
+        } catch (IOException e) {
+            log.error("좌석 스냅샷 기록 실패: concertId={}", concertId, e);
+            throw new BusinessException(ErrorCode.SERVER_ERROR, "좌석 스냅샷 기록 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 최신 스냅샷으로 좌석 캐시 복원 (선점/예매 불가 좌석 포함)
+     * - 예매 완료 여부는 DB(ConcertSeat.ticket) 기준: 스냅샷 이후 예매/취소된 좌석도 DB 상태로 적재
+     * - DB에서 예매 완료된 좌석의 스냅샷 선점은 되살리지 않음
+     * - 적재는 초기화 임대 아래에서 실행하므로 다른 초기화가 진행 중이면 기다렸다가, 대기 시간을 넘기면 거부
+     *
+     * @param concertId 콘서트 ID
+     * @return 복원 결과 (스냅샷 시각/경과 시간/크기, 적재 좌석 수, 소요 시간)
+     * @throws BusinessException 스냅샷이 없거나 읽을 수 없는 경우, 다른 초기화가 끝나지 않은 경우
+     */
+    public Map<String, Object> restore(Long concertId) {
+        long startedAt = System.currentTimeMillis();
+        SnapshotFile latest = listSnapshots(concertId).stream()
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "좌석 스냅샷이 없습니다."));
+
+        List<ConcertSeatCacheRowDTO> rows;
+        List<SeatStatus> heldSeats = new ArrayList<>();
+        long seq;
+        int bookedMismatches = 0;
+        Set<Long> bookedSeatIds = new HashSet<>(concertSeatRepository.findBookedConcertSeatIds(concertId));
+
+        try (FileChannel channel = FileChannel.open(latest.path(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC) {
+                throw new BusinessException(ErrorCode.SERVER_ERROR, "좌석 스냅샷 형식이 올바르지 않습니다.");
+            }
+            short version = buffer.getShort();
+            if ((version != VERSION && version != VERSION_SHORT_STRINGS) || buffer.getLong() != concertId) {
+                throw new BusinessException(ErrorCode.SERVER_ERROR, "좌석 스냅샷 형식이 올바르지 않습니다.");
+            }
+            buffer.getLong(); // createdAt (파일 이름과 동일)
+            seq = buffer.getLong();
+            int seatCount = buffer.getInt();
+            String[] strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[version == VERSION_SHORT_STRINGS
+                        ? Short.toUnsignedInt(buffer.getShort()) : buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            rows = new ArrayList<>(seatCount);
+            for (int i = 0; i < seatCount; i++) {
+                long seatId = buffer.getLong();
+                SeatStatusEnum status = SeatStatusEnum.valueOf(strings[buffer.getInt()]);
+                long userId = buffer.getLong();
+                LocalDateTime reservedAt = toTime(buffer.getLong());
+                LocalDateTime expiresAt = toTime(buffer.getLong());
+                String section = lookup(strings, buffer.getInt());
+                String seatRow = lookup(strings, buffer.getInt());
+                int seatNumber = buffer.getInt();
+                String grade = lookup(strings, buffer.getInt());
+                String price = lookup(strings, buffer.getInt());
+                String seatInfo = lookup(strings, buffer.getInt());
+
+                boolean booked = bookedSeatIds.contains(seatId);
+                if (booked != (status == SeatStatusEnum.BOOKED)) {
+                    bookedMismatches++;
+                }
+                rows.add(new ConcertSeatCacheRowDTO(
+                        seatId,
+                        section,
+                        seatRow,
+                        seatNumber != NONE ? seatNumber : null,
+                        grade != null ? SeatGrade.valueOf(grade) : null,
+                        price != null ? new BigDecimal(price) : null,
+                        booked));
+
+                if (!booked && (status == SeatStatusEnum.RESERVED || status == SeatStatusEnum.UNAVAILABLE)) {
+                    heldSeats.add(SeatStatus.builder()
+                            .id(concertId + "-" + seatId)
+                            .concertId(concertId)
+                            .seatId(seatId)
+                            .status(status)
+                            .userId(userId != NONE ? userId : null)
+                            .reservedAt(reservedAt)
+                            .expiresAt(expiresAt)
+                            .seatInfo(seatInfo)
+                            .build());
+                }
+            }
+
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("좌석 스냅샷 읽기 실패: concertId={}, file={}", concertId, latest.path(), e);
+            throw new BusinessException(ErrorCode.SERVER_ERROR, "좌석 스냅샷을 읽는 중 오류가 발생했습니다.");
+        }
+
+        List<ConcertSeatCacheRowDTO> snapshotRows = rows;
+        int seatsLoaded = seatCacheInitCoordinator.rebuild(concertId,
+                () -> seatCacheInitService.initializeSeatCacheFromSnapshot(concertId, snapshotRows, heldSeats));
+        restoredCount.incrementAndGet();
+
+        long durationMs = System.currentTimeMillis() - startedAt;
+        log.info("좌석 스냅샷 복원 완료: concertId={}, file={}, ageMillis={}, bytes={}, seats={}, heldSeats={}, bookedMismatches={}, durationMs={}",
+                concertId, latest.path().getFileName(), latest.ageMillis(), latest.sizeBytes(),
+                seatsLoaded, heldSeats.size(), bookedMismatches, durationMs);
+
+        Map<String, Object> result = new LinkedHashMap<>(latest.toMap());
+        result.put("concertId", concertId);
+        result.put("snapshotSeq", seq);
+        result.put("seatsLoaded", seatsLoaded);
+        result.put("heldSeats", heldSeats.size());
+        result.put("bookedMismatches", bookedMismatches);
+        result.put("durationMs", durationMs);
+        return result;
+    }
+
+    /**
+     * 콘서트의 스냅샷 파일 목록 (최신 순)
+     */
+    public List<SnapshotFile> listSnapshots(Long concertId) {
+        Path directory = directory();
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        List<SnapshotFile> snapshots = new ArrayList<>();
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, prefix(concertId) + "*" + SUFFIX)) {
+            for (Path path : paths) {
+                String name = path.getFileName().toString();
+                String createdAt = name.substring(prefix(concertId).length(), name.length() - SUFFIX.length());
+                try {
+                    snapshots.add(new SnapshotFile(path, Long.parseLong(createdAt), Files.size(path)));
+                } catch (NumberFormatException | IOException e) {
+                    log.debug("좌석 스냅샷 파일 건너뜀: file={}", path, e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("좌석 스냅샷 목록 조회 실패: concertId={}", concertId, e);
+            return List.of();
+        }
+
+        snapshots.sort(Comparator.comparingLong(SnapshotFile::createdAtMillis).reversed());
+        return snapshots;
+    }
+
+    /**
+     * 콘서트의 스냅샷 현황 (최신 스냅샷의 경과 시간/크기 포함)
+     */
+    public Map<String, Object> getSnapshotInfo(Long concertId) {
+        List<SnapshotFile> snapshots = listSnapshots(concertId);
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("concertId", concertId);
+        info.put("enabled", seatProperties.getSnapshot().isEnabled());
+        info.put("directory", directory().toAbsolutePath().toString());
+        info.put("latest", snapshots.isEmpty() ? Map.of() : snapshots.get(0).toMap());
+        info.put("snapshots", snapshots.stream().map(SnapshotFile::toMap).toList());
+        info.put("written", writtenCount.get());
+        info.put("restored", restoredCount.get());
+        return info;
+    }
+
+    /**
+     * 오래된 스냅샷 정리 (최근 seat.snapshot.retain 개만 유지)
+     */
+    private void prune(Long concertId) {
+        List<SnapshotFile> snapshots = listSnapshots(concertId);
+        int retain = Math.max(1, seatProperties.getSnapshot().getRetain());
+        for (SnapshotFile snapshot : snapshots.subList(Math.min(retain, snapshots.size()), snapshots.size())) {
+            try {
+                Files.deleteIfExists(snapshot.path());
+            } catch (IOException e) {
+                log.warn("오래된 좌석 스냅샷 삭제 실패: file={}", snapshot.path(), e);
+            }
+        }
+    }
+
+    private Path directory() {
+        return Paths.get(seatProperties.getSnapshot().getDirectory());
+    }
+
+    private static String prefix(Long concertId) {
+        return "concert-" + concertId + "-";
+    }
+
+    private static int intern(Map<String, Integer> strings, String value) {
+        return value != null ? strings.computeIfAbsent(value, key -> strings.size()) : NONE;
+    }
+
+    private static String lookup(String[] strings, int index) {
+        return index != NONE ? strings[index] : null;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time != null ? SeatExpiryWheel.score(time) : NONE;
+    }
+
+    private static LocalDateTime toTime(long millis) {
+        return millis != NONE ? LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()) : null;
+    }
+}
@@ -13,6 +13,7 @@ import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -71,6 +72,37 @@ public class SeatStatusEventPublisher {
         }
     }
 
+    /**
+     * 여러 좌석의 상태 변경을 하나의 이벤트로 발행 (다중 좌석 일괄 선점 등)
+     * - 좌석 수만큼 메시지를 보내지 않고 한 번만 발행
+     *
+     * @param seatStatuses 변경된 좌석 상태 목록 (같은 콘서트)
+     */
+    public void publishSeatUpdates(List<SeatStatus> seatStatuses) {
+        if (seatStatuses == null || seatStatuses.isEmpty()) {
+            return;
+        }
+
+        if (!seatStatuses.stream().allMatch(this::isValidSeatStatus)) {
+            log.warn("유효하지 않은 SeatStatus가 포함되어 있습니다: {}", seatStatuses);
+            failedEventCount.incrementAndGet();
+            return;
+        }
+
+        try {
+            SeatUpdateEventDTO event = SeatUpdateEventDTO.fromAll(seatStatuses);
+            publishEvent(event);
+
+            log.debug("좌석 상태 일괄 이벤트 발행 성공: concertId={}, seatCount={}",
+                    event.concertId(), seatStatuses.size());
+
+        } catch (Exception e) {
+            failedEventCount.incrementAndGet();
+            log.error("좌석 상태 일괄 이벤트 발행 실패: concertId={}, seatCount={}",
+                    seatStatuses.get(0).getConcertId(), seatStatuses.size(), e);
+        }
+    }
+
     /**
      * 좌석 상태 변경 이벤트 발행 (개별 필드 기반) - 개선된 버전
      *
@@ -13,8 +13,10 @@ import org.redisson.api.listener.PatternMessageListener;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * 좌석 상태 변경 이벤트 구독 서비스 (개선된 버전)
@@ -30,6 +32,7 @@ public class SeatStatusEventSubscriber implements PatternMessageListener<CharSeq
     private final RedissonClient redissonClient;
     private final ObjectMapper objectMapper;
     private final SeatPollingSessionManager sessionManager;
+    private final SeatStatusSnapshotCache seatStatusSnapshotCache;
 
     // 구독할 채널 패턴: seat:status:update:*
     private static final String SEAT_CHANNEL_PATTERN = RedisKeyGenerator.SEAT_CHANNEL_PATTERN;
@@ -138,6 +141,12 @@ public class SeatStatusEventSubscriber implements PatternMessageListener<CharSeq
             // ✅ 핵심: 세션 매니저에 이벤트 전달
             sessionManager.notifyWaitingSessions(event);
 
+            // 공유 응답 스냅샷은 최소 갱신 간격이 지나면 다시 만들도록 표시 (변경한 사용자는 그동안 개별 응답)
+            seatStatusSnapshotCache.markChanged(concertId, event.seatChanges().stream()
+                    .map(SeatUpdateEventDTO.SeatChange::userId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet()));
+
             // 성공 카운터 증가
             processedEventCount.incrementAndGet();
 
@@ -1,17 +1,31 @@
 package com.team03.ticketmon.seat.service;
 
+import com.team03.ticketmon._global.config.RedisCodecs;
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
 import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.codec.SeatStatusCodec;
 import com.team03.ticketmon.seat.config.SeatProperties;
 import com.team03.ticketmon.seat.domain.SeatStatus;
 import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatChangesDTO;
+import com.team03.ticketmon.seat.dto.SeatCountsDTO;
+import com.team03.ticketmon.seat.dto.SeatStaticLayoutDTO;
 import com.team03.ticketmon.seat.exception.SeatReservationException;
+import com.team03.ticketmon.seat.script.SeatScriptExecutor;
+import com.team03.ticketmon.seat.script.SeatScriptResult;
+import com.team03.ticketmon.seat.script.SeatTransition;
+import com.team03.ticketmon.seat.script.SeatTransitionResult;
 import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
 import org.redisson.api.RBucket;
+import org.redisson.api.RFuture;
 import org.redisson.api.RLock;
 import org.redisson.api.RMap;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,7 +38,7 @@ import java.util.stream.Collectors;
  * Redis Hash를 활용한 좌석 상태 관리 서비스
  * ✅ 수정사항:
  * - Cache-Aside 패턴 추가 (자동 캐시 초기화)
- * - SeatCacheInitService 의존성 추가
+ * - SeatCacheInitCoordinator 의존성 추가 (캐시 미스 초기화 단일 실행)
  * - 분산 락을 활용한 원자적 좌석 선점 처리
  * - 사용자별 좌석 선점 개수 제한 (최대 6개) 추가
  * - 현재 테스트 환경임을 고려하여 선점 개수 제한을 2개로 설정
@@ -36,14 +50,25 @@ public class SeatStatusService {
 
     private final RedissonClient redissonClient;
     private final SeatStatusEventPublisher eventPublisher;
-    private final SeatCacheInitService seatCacheInitService; // ✅ 추가된 필드
+    private final SeatCacheInitCoordinator seatCacheInitCoordinator; // 캐시 미스 초기화 단일 실행
     private final SeatProperties seatProperties;
     private final ConcertSeatRepository concertSeatRepository;
+    private final SeatScriptExecutor seatScriptExecutor;
+    private final SeatCompactStateStore seatCompactStateStore;
+    private final SeatTransitionEngine seatTransitionEngine;
+    private final SeatCountStore seatCountStore;
+    private final SeatExpiryWheel seatExpiryWheel;
+    private final SeatChangeLog seatChangeLog;
+    private final SeatLayoutCache seatLayoutCache;
+    private final SeatCatalog seatCatalog;
+    private final SeatShardRouter seatShardRouter;
+    private final SeatHoldJournal seatHoldJournal; // 좌석 상태 변경 DB 저널 (write-behind)
+    private final SeatWriterRouter seatWriterRouter; // 단일 기록자 엔진 콘서트 라우팅
+    private final RedisCodecs redisCodecs;
 
     // Redis 키 패턴
     private static final String SEAT_STATUS_KEY_PREFIX = RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX;
     private static final String SEAT_LOCK_KEY_PREFIX = RedisKeyGenerator.SEAT_LOCK_KEY_PREFIX;
-    private static final String SEAT_TTL_KEY_PREFIX = RedisKeyGenerator.SEAT_TTL_KEY_PREFIX;
 
     // 업데이트 시간 추적을 위한 키
     private static final String SEAT_LAST_UPDATE_KEY_PREFIX = RedisKeyGenerator.SEAT_LAST_UPDATE_KEY_PREFIX;
@@ -52,20 +77,228 @@ public class SeatStatusService {
      * ✅ 수정된 전체 좌석 상태 조회 - Cache-Aside 패턴 적용
      */
     public Map<Long, SeatStatus> getAllSeatStatus(Long concertId) {
-        String key = SEAT_STATUS_KEY_PREFIX + concertId;
-        RMap<String, SeatStatus> seatMap = redissonClient.getMap(key);
+        if (seatProperties.getStorage().getMode() == SeatProperties.StorageMode.COMPACT) {
+            return getAllSeatStatusFromCompactStore(concertId);
+        }
 
-        Map<String, SeatStatus> rawMap = seatMap.readAllMap();
+        Map<String, SeatStatus> rawMap = readAllStatusShards(concertId);
 
         // ✅ Cache Miss 시 자동 초기화
         if (rawMap.isEmpty()) {
             log.info("좌석 캐시가 비어있음. 자동 초기화 시작: concertId={}", concertId);
-            try {
-                seatCacheInitService.initializeSeatCacheFromDB(concertId);
-                rawMap = seatMap.readAllMap(); // 재조회
+            if (seatCacheInitCoordinator.initializeOnCacheMiss(concertId)) {
+                rawMap = readAllStatusShards(concertId); // 재조회
                 log.info("좌석 캐시 자동 초기화 완료: concertId={}, 좌석수={}", concertId, rawMap.size());
-            } catch (Exception e) {
-                log.error("좌석 캐시 자동 초기화 실패: concertId={}", concertId, e);
+            } else {
+                log.warn("좌석 캐시 준비 중 또는 초기화 실패. 빈 결과 반환: concertId={}", concertId);
+            }
+        }
+
+        return rawMap.entrySet().stream()
+                .collect(Collectors.toMap(
+                        entry -> Long.valueOf(entry.getKey()),
+                        Map.Entry::getValue
+                ));
+    }
+
+    /**
+     * 전체 좌석 상태 기본형 뷰 조회 - Cache-Aside 패턴 적용
+     * - 좌석 카탈로그 순번별 상태 byte[] + 선점/예매 좌석 희소 테이블만 만들고 좌석별 SeatStatus 는 만들지 않음
+     * - 상태/사용자 ID만 필요한 전체 좌석 집계·필터(배치도, 변경분 스냅샷 등)에서 getAllSeatStatus 대신 사용
+     *
+     * @throws BusinessException 콘서트를 찾을 수 없는 경우
+     */
+    public SeatMapView getSeatMapView(Long concertId) {
+        SeatCatalog.Catalog catalog = seatCatalog.get(concertId);
+        SeatMapView view = readSeatMapView(concertId, catalog);
+
+        // ✅ Cache Miss 시 자동 초기화
+        if (view.isEmpty() && catalog.size() > 0) {
+            log.info("좌석 캐시가 비어있음. 자동 초기화 시작: concertId={}", concertId);
+            if (seatCacheInitCoordinator.initializeOnCacheMiss(concertId)) {
+                view = readSeatMapView(concertId, catalog); // 재조회
+            } else {
+                log.warn("좌석 캐시 준비 중 또는 초기화 실패. 빈 결과 반환: concertId={}", concertId);
+            }
+        }
+
+        return view;
+    }
+
+    /**
+     * 저장소 → 기본형 뷰
+     * - COMPACT 저장소: 2비트 상태 코드를 그대로 기록
+     * - 해시 저장소: 문자열 그대로 읽어 압축 레코드('S1|...')의 상태 순번/사용자 ID만 파싱
+     *   (전환 전 JSON 값이 섞여 있으면 기존 역직렬화 경로로 읽어 뷰를 만듦)
+     */
+    private SeatMapView readSeatMapView(Long concertId, SeatCatalog.Catalog catalog) {
+        SeatMapView.Builder view = SeatMapView.builder(catalog);
+
+        if (seatProperties.getStorage().getMode() == SeatProperties.StorageMode.COMPACT) {
+            seatCompactStateStore.readInto(concertId, view);
+            return view.build();
+        }
+
+        List<String> keys = seatShardRouter.keys(SEAT_STATUS_KEY_PREFIX, concertId);
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<Map<String, String>>> futures = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            futures.add(batch.<String, String>getMap(key, StringCodec.INSTANCE).readAllMapAsync());
+        }
+        batch.execute();
+
+        for (RFuture<Map<String, String>> future : futures) {
+            for (Map.Entry<String, String> entry : future.toCompletableFuture().join().entrySet()) {
+                if (!applyCompactRecord(view, entry.getKey(), entry.getValue())) {
+                    return toSeatMapView(catalog, readAllStatusShards(concertId).values());
+                }
+            }
+        }
+        return view.build();
+    }
+
+    /**
+     * 압축 레코드 'S1|{상태 순번}|{concertId}|{seatId}|{userId}|...' 에서 상태/사용자 ID만 뷰에 기록
+     *
+     * @return 압축 레코드가 아니면(JSON) false
+     */
+    private static boolean applyCompactRecord(SeatMapView.Builder view, String field, String value) {
+        if (!value.startsWith(SeatStatusCodec.PREFIX)) {
+            return false;
+        }
+
+        int statusEnd = value.indexOf('|', SeatStatusCodec.PREFIX.length());
+        int concertEnd = statusEnd >= 0 ? value.indexOf('|', statusEnd + 1) : -1;
+        int seatEnd = concertEnd >= 0 ? value.indexOf('|', concertEnd + 1) : -1;
+        int userEnd = seatEnd >= 0 ? value.indexOf('|', seatEnd + 1) : -1;
+        if (userEnd < 0) {
+            return true; // 손상된 레코드는 건너뜀
+        }
+
+        long status = SeatMapView.parseLong(value, SeatStatusCodec.PREFIX.length(), statusEnd);
+        long seatId = SeatMapView.parseLong(field, 0, field.length());
+        if (status < 0 || seatId < 0) {
+            return true;
+        }
+
+        int ordinal = view.set(seatId, (int) status);
+        long userId = SeatMapView.parseLong(value, seatEnd + 1, userEnd);
+        if (ordinal >= 0 && userId >= 0) {
+            view.hold(ordinal, userId);
+        }
+        return true;
+    }
+
+    private static SeatMapView toSeatMapView(SeatCatalog.Catalog catalog, Collection<SeatStatus> seats) {
+        SeatMapView.Builder view = SeatMapView.builder(catalog);
+        for (SeatStatus seat : seats) {
+            int ordinal = view.set(seat.getSeatId(), seat.getStatus().ordinal());
+            if (ordinal >= 0 && seat.getUserId() != null) {
+                view.hold(ordinal, seat.getUserId());
+            }
+        }
+        return view.build();
+    }
+
+    /**
+     * 전체 좌석 상태 해시 조회 (샤딩한 콘서트는 샤드별 해시를 한 번의 배치로 읽어 병합)
+     */
+    private Map<String, SeatStatus> readAllStatusShards(Long concertId) {
+        List<String> keys = seatShardRouter.keys(SEAT_STATUS_KEY_PREFIX, concertId);
+        if (keys.size() == 1) {
+            return redissonClient.<String, SeatStatus>getMap(keys.get(0), redisCodecs.seatStatus()).readAllMap();
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<Map<String, SeatStatus>>> futures = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            futures.add(batch.<String, SeatStatus>getMap(key, redisCodecs.seatStatus()).readAllMapAsync());
+        }
+        batch.execute();
+
+        Map<String, SeatStatus> merged = new HashMap<>();
+        futures.forEach(future -> merged.putAll(future.toCompletableFuture().join()));
+        return merged;
+    }
+
+    /**
+     * 지정한 좌석 필드만 조회 (샤딩한 콘서트는 샤드별 HMGET을 한 번의 배치로 처리)
+     */
+    private Map<String, SeatStatus> readStatusFields(Long concertId, Collection<Long> concertSeatIds) {
+        if (!seatShardRouter.isSharded(concertId)) {
+            Set<String> fields = concertSeatIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.toSet());
+            return redissonClient.<String, SeatStatus>getMap(
+                    RedisKeyGenerator.concertKey(SEAT_STATUS_KEY_PREFIX, concertId), redisCodecs.seatStatus()).getAll(fields);
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<Map<String, SeatStatus>>> futures = new ArrayList<>();
+        seatShardRouter.groupByShard(concertId, concertSeatIds, seatId -> seatId).forEach((shard, seatIds) -> {
+            Set<String> fields = seatIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.toSet());
+            futures.add(batch.<String, SeatStatus>getMap(
+                    seatShardRouter.key(SEAT_STATUS_KEY_PREFIX, concertId, shard), redisCodecs.seatStatus()).getAllAsync(fields));
+        });
+        batch.execute();
+
+        Map<String, SeatStatus> merged = new HashMap<>();
+        futures.forEach(future -> merged.putAll(future.toCompletableFuture().join()));
+        return merged;
+    }
+
+    /**
+     * 좌석 상태 해시가 하나라도 있는지 (캐시 초기화 여부)
+     */
+    private boolean isStatusCached(Long concertId) {
+        return redissonClient.getKeys().countExists(
+                seatShardRouter.keys(SEAT_STATUS_KEY_PREFIX, concertId).toArray(String[]::new)) > 0;
+    }
+
+    /**
+     * 압축 저장소 기반 전체 좌석 상태 조회 (seat.storage.mode=COMPACT)
+     * - 2비트 상태 문자열 GET + 선점 좌석 정보 조회를 한 번의 배치로 처리
+     * - 좌석 정보(seatInfo)는 정적 카탈로그에서 채우므로 좌석별 JSON 역직렬화 없음
+     */
+    private Map<Long, SeatStatus> getAllSeatStatusFromCompactStore(Long concertId) {
+        Map<Long, SeatStatus> seats = seatCompactStateStore.readAll(concertId);
+
+        if (seats.isEmpty()) {
+            log.info("압축 좌석 저장소가 비어있음. 자동 초기화 시작: concertId={}", concertId);
+            if (seatCacheInitCoordinator.initializeOnCacheMiss(concertId)) {
+                seats = seatCompactStateStore.readAll(concertId);
+                log.info("압축 좌석 저장소 자동 초기화 완료: concertId={}, 좌석수={}", concertId, seats.size());
+            } else {
+                log.warn("압축 좌석 저장소 준비 중 또는 초기화 실패. 빈 결과 반환: concertId={}", concertId);
+            }
+        }
+
+        return seats;
+    }
+
+    /**
+     * 지정한 좌석들의 상태만 조회 - Cache-Aside 패턴 적용
+     * - seat:status:{concertId} 해시에서 HMGET 한 번으로 해당 좌석 필드만 읽음 (전체 해시 조회 없음)
+     *
+     * @param concertId      콘서트 ID
+     * @param concertSeatIds 조회할 콘서트 좌석 ID 목록
+     * @return 좌석 ID → 상태 (캐시에 없는 좌석은 제외)
+     */
+    public Map<Long, SeatStatus> getSeatStatuses(Long concertId, Collection<Long> concertSeatIds) {
+        if (concertSeatIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, SeatStatus> rawMap = readStatusFields(concertId, concertSeatIds);
+
+        if (rawMap.isEmpty() && !isStatusCached(concertId)) {
+            log.info("좌석 일부 조회 시 캐시 비어있음. 초기화 시도: concertId={}, seats={}", concertId, concertSeatIds.size());
+            if (seatCacheInitCoordinator.initializeOnCacheMiss(concertId)) {
+                rawMap = readStatusFields(concertId, concertSeatIds); // 재조회
+            } else {
+                log.warn("좌석 일부 조회 시 캐시 준비 중 또는 초기화 실패: concertId={}", concertId);
             }
         }
 
@@ -76,23 +309,46 @@ public class SeatStatusService {
                 ));
     }
 
+    /**
+     * 구역 단위 좌석 상태 조회
+     * - 구역 소속 좌석은 정적 배치도(SeatLayoutCache)에서, 상태는 해당 좌석만 Redis에서 조회
+     *
+     * @param concertId   콘서트 ID
+     * @param sectionName 구역명 (대소문자 무시)
+     * @return 해당 구역 좌석 상태 (정적 배치도의 열/번호 순)
+     * @throws BusinessException 구역을 찾을 수 없는 경우
+     */
+    public List<SeatStatus> getSectionSeatStatus(Long concertId, String sectionName) {
+        SeatStaticLayoutDTO.Section section = seatLayoutCache.get(concertId).layout()
+                .findSection(sectionName == null ? "" : sectionName.trim())
+                .orElseThrow(() -> new BusinessException(ErrorCode.SEAT_NOT_FOUND,
+                        String.format("'%s' 구역을 찾을 수 없습니다.", sectionName)));
+
+        List<Long> concertSeatIds = section.concertSeatIds();
+        Map<Long, SeatStatus> statuses = getSeatStatuses(concertId, concertSeatIds);
+
+        return concertSeatIds.stream()
+                .map(statuses::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * ✅ 수정된 개별 좌석 상태 조회 - Cache-Aside 패턴 적용
      */
     public Optional<SeatStatus> getSeatStatus(Long concertId, Long concertSeatId) {
-        String key = SEAT_STATUS_KEY_PREFIX + concertId;
-        RMap<String, SeatStatus> seatMap = redissonClient.getMap(key);
+        String key = seatShardRouter.seatKey(SEAT_STATUS_KEY_PREFIX, concertId, concertSeatId);
+        RMap<String, SeatStatus> seatMap = redissonClient.getMap(key, redisCodecs.seatStatus());
 
         SeatStatus status = seatMap.get(concertSeatId.toString());
 
         // ✅ 캐시에 없고 전체 캐시도 비어있으면 초기화 시도
-        if (status == null && seatMap.size() == 0) {
+        if (status == null && !isStatusCached(concertId)) {
             log.info("개별 좌석 조회 시 캐시 비어있음. 초기화 시도: concertId={}, concertSeatId={}", concertId, concertSeatId);
-            try {
-                seatCacheInitService.initializeSeatCacheFromDB(concertId);
+            if (seatCacheInitCoordinator.initializeOnCacheMiss(concertId)) {
                 status = seatMap.get(concertSeatId.toString()); // 재조회
-            } catch (Exception e) {
-                log.error("개별 좌석 조회 시 캐시 초기화 실패: concertId={}, concertSeatId={}", concertId, concertSeatId, e);
+            } else {
+                log.warn("개별 좌석 조회 시 캐시 준비 중 또는 초기화 실패: concertId={}, concertSeatId={}", concertId, concertSeatId);
             }
         }
 
@@ -102,17 +358,15 @@ public class SeatStatusService {
     /**
      * 좌석 상태 업데이트 (기본 버전)
      * - Redis Hash에 좌석 상태 저장
+     * - 사용자별 선점 인덱스와 마지막 업데이트 시간을 같은 스크립트에서 함께 갱신
      * - 실시간 이벤트 발행으로 다른 사용자들에게 변경사항 알림
      */
     public void updateSeatStatus(SeatStatus seatStatus) {
-        String key = SEAT_STATUS_KEY_PREFIX + seatStatus.getConcertId();
-        RMap<String, SeatStatus> seatMap = redissonClient.getMap(key);
-
-        // 1. Redis에 좌석 상태 저장
-        seatMap.put(seatStatus.getSeatId().toString(), seatStatus);
-
-        // 2. 마지막 업데이트 시간 갱신
-        updateLastUpdateTime(seatStatus.getConcertId());
+        // 1~2. 좌석 상태 저장 + 선점 인덱스 동기화 + 마지막 업데이트 시간 갱신 (원자적 처리)
+        SeatScriptResult result = seatScriptExecutor.put(seatStatus,
+                TimeUnit.HOURS.toMillis(seatProperties.getReservation().getLastUpdateTtlHours()));
+        seatHoldJournal.record(seatStatus, result.seqOf(seatStatus.getSeatId()));
+        invalidateSingleWriter(seatStatus.getConcertId());
 
         // 3. 실시간 이벤트 발행 (실패해도 좌석 상태 저장에는 영향 없음)
         try {
@@ -126,41 +380,6 @@ public class SeatStatusService {
                 seatStatus.getConcertId(), seatStatus.getSeatId(), seatStatus.getStatus());
     }
 
-    /**
-     * 좌석 TTL 키 생성
-     */
-    private void createSeatTTLKey(Long concertId, Long concertSeatId) {
-        try {
-            String ttlKey = SEAT_TTL_KEY_PREFIX + concertId + ":" + concertSeatId;
-            RBucket<String> bucket = redissonClient.getBucket(ttlKey);
-
-            bucket.set("reserved", seatProperties.getReservation().getTtlMinutes(), TimeUnit.MINUTES);
-            log.debug("좌석 TTL 키 생성: key={}, ttl={}분", ttlKey, seatProperties.getReservation().getTtlMinutes());
-
-        } catch (Exception e) {
-            log.error("좌석 TTL 키 생성 실패: concertId={}, concertSeatId={}", concertId, concertSeatId, e);
-        }
-    }
-
-    /**
-     * 좌석 TTL 키 삭제
-     */
-    private void removeSeatTTLKey(Long concertId, Long concertSeatId) {
-        try {
-            String ttlKey = SEAT_TTL_KEY_PREFIX + concertId + ":" + concertSeatId;
-            RBucket<String> bucket = redissonClient.getBucket(ttlKey);
-
-            boolean deleted = bucket.delete();
-            if (deleted) {
-                log.debug("좌석 TTL 키 삭제 완료: key={}", ttlKey);
-            } else {
-                log.debug("좌석 TTL 키 삭제 시도 - 키가 존재하지 않음: key={}", ttlKey);
-            }
-
-        } catch (Exception e) {
-            log.error("좌석 TTL 키 삭제 실패: concertId={}, concertSeatId={}", concertId, concertSeatId, e);
-        }
-    }
 
     /**
      * ✅ 사용자별 좌석 선점 개수 검증
@@ -199,8 +418,9 @@ public class SeatStatusService {
      * 좌석 임시 선점 메서드 (4개 매개변수 버전)
      * - 좌석 가용성 확인과 선점 처리를 원자적으로 수행
      * - Race Condition 방지 및 중복 예약 차단
-     * - TTL 키 생성으로 자동 만료 처리 지원
+     * - 만료 휠 등록으로 자동 만료 처리 지원
      * - ✅ 사용자별 최대 6개 좌석 선점 제한 추가
+     * - Redis 만 사용하므로 트랜잭션 없음 (JDBC 커넥션을 잡지 않음, DB 저널은 SeatHoldJournal 이 비동기 기록)
      *
      * @param concertId     콘서트 ID
      * @param concertSeatId 좌석 ID (ConcertSeat ID)
@@ -209,9 +429,14 @@ public class SeatStatusService {
      * @return 선점된 좌석 상태
      * @throws SeatReservationException 좌석 선점 실패 시
      */
-    @Transactional
     public SeatStatus reserveSeat(Long concertId, Long concertSeatId, Long userId, String seatInfo) {
-        String lockKey = SEAT_LOCK_KEY_PREFIX + concertId + ":" + concertSeatId;
+        // 단일 기록자 엔진 콘서트는 분산 락 없이 소유 노드의 기록 스레드에서 처리
+        if (seatProperties.getReservation().getMode() == SeatProperties.ReservationMode.SCRIPT
+                || seatWriterRouter.isSingleWriter(concertId)) {
+            return reserveSeatWithScript(concertId, concertSeatId, userId, seatInfo);
+        }
+
+        String lockKey = seatShardRouter.seatKey(SEAT_LOCK_KEY_PREFIX, concertId, concertSeatId) + ":" + concertSeatId;
         RLock lock = redissonClient.getLock(lockKey);
 
         try {
@@ -237,6 +462,11 @@ public class SeatStatusService {
                     throw new SeatReservationException("이미 예매 완료된 좌석입니다.");
                 }
 
+                // 예매 불가 좌석 (스크립트 방식과 같이 거부)
+                if (seat.getStatus() == SeatStatusEnum.UNAVAILABLE) {
+                    throw new SeatReservationException("예매할 수 없는 좌석입니다.");
+                }
+
                 // 현재 선점 중인 좌석 (만료 여부 확인)
                 if (seat.getStatus() == SeatStatusEnum.RESERVED) {
                     if (!seat.isExpired()) {
@@ -254,6 +484,13 @@ public class SeatStatusService {
                         // 만료된 선점은 아래에서 새로 선점 처리
                     }
                 }
+            } else if (isStatusCached(concertId)) {
+                // 캐시에 없는 좌석은 스크립트 방식과 같이 거부 (put.lua가 순번/구역 없는 좌석을 만들지 않도록)
+                log.warn("존재하지 않는 좌석 선점 시도: concertId={}, concertSeatId={}, userId={}",
+                        concertId, concertSeatId, userId);
+                throw new SeatReservationException("존재하지 않는 좌석입니다.");
+            } else {
+                throw new SeatReservationException("좌석 정보를 준비 중입니다. 잠시 후 다시 시도해주세요.");
             }
 
             // ✅ 2. 사용자별 좌석 선점 개수 제한 검증 (새로 추가된 로직)
@@ -274,12 +511,9 @@ public class SeatStatusService {
                     .seatInfo(seatInfo)
                     .build();
 
-            // 4. Redis에 저장 및 이벤트 발행 (기존 번호 3에서 4로 변경)
+            // 4. Redis에 저장 및 이벤트 발행 (만료 휠 등록도 같은 스크립트에서 처리)
             updateSeatStatus(reserved);
 
-            // 5. TTL 키 생성 (자동 만료 지원) (기존 번호 4에서 5로 변경)
-            createSeatTTLKey(concertId, concertSeatId);
-
             log.info("좌석 선점 완료: concertId={}, concertSeatId={}, userId={}, expiresAt={}, seatInfo={}",
                     concertId, concertSeatId, userId, expiresAt, seatInfo);
 
@@ -298,147 +532,434 @@ public class SeatStatusService {
     }
 
     /**
-     * 좌석 선점 해제 (AVAILABLE로 변경)
+     * 캐시 미스 시 좌석 캐시 초기화 (단일 실행)
+     * - 다른 요청/인스턴스가 초기화 중이라 대기 시간 안에 끝나지 않으면 준비 중 예외로 빠르게 응답
      */
-    public void releaseSeat(Long concertId, Long concertSeatId, Long userId) {
-        Optional<SeatStatus> currentStatus = getSeatStatus(concertId, concertSeatId);
-
-        if (!currentStatus.isPresent()) {
-            log.warn("존재하지 않는 좌석 해제 시도: concertId={}, concertSeatId={}, userId={}",
-                    concertId, concertSeatId, userId);
-            throw new SeatReservationException("존재하지 않는 좌석입니다.");
-        }
-
-        SeatStatus currentSeat = currentStatus.get();
-
-        // 1. 좌석 상태가 RESERVED인지 확인
-        if (!currentSeat.isReserved()) {
-            log.warn("선점되지 않은 좌석 해제 시도: concertId={}, concertSeatId={}, userId={}, currentStatus={}",
-                    concertId, concertSeatId, userId, currentSeat.getStatus());
-            throw new SeatReservationException("선점되지 않은 좌석은 해제할 수 없습니다. 현재 상태: " + currentSeat.getStatus());
+    private void requireSeatCacheReady(Long concertId) {
+        if (!seatCacheInitCoordinator.initializeOnCacheMiss(concertId)) {
+            throw new SeatReservationException("좌석 정보를 준비 중입니다. 잠시 후 다시 시도해주세요.");
         }
+    }
 
-        // 2. 해제 요청 사용자가 선점한 사용자와 일치하는지 확인
-        if (!userId.equals(currentSeat.getUserId())) {
-            log.warn("권한 없는 좌석 해제 시도: concertId={}, concertSeatId={}, requestUserId={}, reservedUserId={}",
-                    concertId, concertSeatId, userId, currentSeat.getUserId());
-            throw new SeatReservationException("다른 사용자가 선점한 좌석은 해제할 수 없습니다.");
-        }
+    /**
+     * 좌석 임시 선점 - Lua 스크립트 방식 (seat.reservation.mode=SCRIPT)
+     * - 분산 락 없이 가용성 확인, 선점 개수 제한, 상태 저장, 만료 휠 등록, 업데이트 시간 갱신을
+     *   스크립트 1회 호출(1 round trip)로 원자적으로 처리
+     * - 캐시가 비어 있으면 DB 기반 초기화 후 한 번 재시도
+     * - 이벤트 발행은 스크립트 성공 후 수행 (실패해도 선점 결과에는 영향 없음)
+     */
+    private SeatStatus reserveSeatWithScript(Long concertId, Long concertSeatId, Long userId, String seatInfo) {
+        SeatProperties.Reservation reservation = seatProperties.getReservation();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusMinutes(reservation.getTtlMinutes());
 
-        // 3. 검증 통과 시 좌석 해제 처리
-        SeatStatus updatedStatus = SeatStatus.builder()
+        SeatStatus reserved = SeatStatus.builder()
                 .id(concertId + "-" + concertSeatId)
                 .concertId(concertId)
                 .seatId(concertSeatId)
-                .status(SeatStatusEnum.AVAILABLE)
-                .userId(null)
-                .reservedAt(null)
-                .expiresAt(null)
-                .seatInfo(currentSeat.getSeatInfo())
+                .status(SeatStatusEnum.RESERVED)
+                .userId(userId)
+                .reservedAt(now)
+                .expiresAt(expiresAt)
+                .seatInfo(seatInfo)
                 .build();
 
-        updateSeatStatus(updatedStatus);
+        long lastUpdateTtlMillis = TimeUnit.HOURS.toMillis(reservation.getLastUpdateTtlHours());
 
-        // 4. TTL 키 삭제 (불필요한 만료 이벤트 방지)
-        removeSeatTTLKey(concertId, concertSeatId);
+        SeatScriptResult result = runReserve(
+                reserved, now, reservation.getMaxSeatCount(), lastUpdateTtlMillis);
 
-        log.info("좌석 선점 해제 완료: concertId={}, concertSeatId={}, userId={}", concertId, concertSeatId, userId);
+        if (result.outcome() == SeatScriptResult.Outcome.CACHE_MISSING) {
+            log.info("좌석 선점 시 캐시 비어있음. 초기화 후 재시도: concertId={}, concertSeatId={}", concertId, concertSeatId);
+            requireSeatCacheReady(concertId);
+            result = runReserve(
+                    reserved, now, reservation.getMaxSeatCount(), lastUpdateTtlMillis);
+        }
+
+        switch (result.outcome()) {
+            case OK -> {
+                seatHoldJournal.record(reserved, result.seqOf(concertSeatId));
+                try {
+                    eventPublisher.publishSeatUpdate(reserved);
+                } catch (Exception e) {
+                    log.warn("좌석 상태 이벤트 발행 실패 (서비스 계속 진행): concertId={}, seatId={}",
+                            concertId, concertSeatId, e);
+                }
+                log.info("좌석 선점 완료 (스크립트): concertId={}, concertSeatId={}, userId={}, expiresAt={}, seatInfo={}",
+                        concertId, concertSeatId, userId, expiresAt, seatInfo);
+                return reserved;
+            }
+            case ALREADY_HELD -> {
+                log.info("동일 사용자의 좌석 재선점 요청: concertId={}, concertSeatId={}, userId={}",
+                        concertId, concertSeatId, userId);
+                return seatScriptExecutor.decode(result.payload());
+            }
+            case NOT_FOUND -> {
+                log.warn("존재하지 않는 좌석 선점 시도: concertId={}, concertSeatId={}, userId={}",
+                        concertId, concertSeatId, userId);
+                throw new SeatReservationException("존재하지 않는 좌석입니다.");
+            }
+            case BOOKED -> throw new SeatReservationException("이미 예매 완료된 좌석입니다.");
+            case UNAVAILABLE -> throw new SeatReservationException("예매할 수 없는 좌석입니다.");
+            case TAKEN -> throw new SeatReservationException("다른 사용자가 선점 중인 좌석입니다.");
+            case LIMIT_EXCEEDED -> {
+                int maxSeatCount = reservation.getMaxSeatCount();
+                log.warn("사용자 좌석 선점 개수 제한 초과: userId={}, concertId={}, currentCount={}, maxLimit={}",
+                        userId, concertId, result.payload(), maxSeatCount);
+                throw new SeatReservationException(
+                        String.format("좌석 선점은 최대 %d개까지만 가능합니다. 현재 선점 좌석: %s개",
+                                maxSeatCount, result.payload()));
+            }
+            default -> {
+                log.error("좌석 선점 스크립트 처리 실패: concertId={}, concertSeatId={}, outcome={}",
+                        concertId, concertSeatId, result.outcome());
+                throw new SeatReservationException("좌석 선점 처리 중 오류가 발생했습니다.");
+            }
+        }
     }
 
     /**
-     * 관리자용 좌석 강제 해제 (권한 검증 없음)
+     * 다중 좌석 일괄 임시 선점 (All-or-Nothing)
+     * - 요청한 좌석 전체를 한 번의 스크립트 호출로 검증/선점
+     * - 한 좌석이라도 선점할 수 없으면 어떤 좌석도 선점하지 않고 예외 발생
+     * - 이미 같은 사용자가 선점 중인 좌석은 기존 선점을 그대로 유지
+     * - 새로 선점된 좌석들은 하나의 이벤트로 묶어 발행
+     *
+     * @param concertId 콘서트 ID
+     * @param seatInfos 선점할 좌석 ID → 좌석 정보 (요청 순서 유지)
+     * @param userId    사용자 ID
+     * @return 선점된 좌석 상태 목록 (요청 순서)
+     * @throws SeatReservationException 좌석 중 하나라도 선점 실패 시
      */
-    public void forceReleaseSeat(Long concertId, Long concertSeatId) {
-        Optional<SeatStatus> currentStatus = getSeatStatus(concertId, concertSeatId);
+    public List<SeatStatus> reserveSeats(Long concertId, LinkedHashMap<Long, String> seatInfos, Long userId) {
+        SeatProperties.Reservation reservation = seatProperties.getReservation();
+        int maxSeatCount = reservation.getMaxSeatCount();
 
-        if (currentStatus.isPresent()) {
-            SeatStatus currentSeat = currentStatus.get();
+        if (seatInfos.isEmpty()) {
+            throw new SeatReservationException("선점할 좌석을 하나 이상 선택해야 합니다.");
+        }
+        if (seatInfos.size() > maxSeatCount) {
+            throw new SeatReservationException(
+                    String.format("좌석 선점은 최대 %d개까지만 가능합니다. 요청 좌석: %d개", maxSeatCount, seatInfos.size()));
+        }
 
-            SeatStatus updatedStatus = SeatStatus.builder()
-                    .id(concertId + "-" + concertSeatId)
-                    .concertId(concertId)
-                    .seatId(concertSeatId)
-                    .status(SeatStatusEnum.AVAILABLE)
-                    .userId(null)
-                    .reservedAt(null)
-                    .expiresAt(null)
-                    .seatInfo(currentSeat.getSeatInfo())
-                    .build();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusMinutes(reservation.getTtlMinutes());
+
+        List<SeatStatus> reservedSeats = seatInfos.entrySet().stream()
+                .map(entry -> SeatStatus.builder()
+                        .id(concertId + "-" + entry.getKey())
+                        .concertId(concertId)
+                        .seatId(entry.getKey())
+                        .status(SeatStatusEnum.RESERVED)
+                        .userId(userId)
+                        .reservedAt(now)
+                        .expiresAt(expiresAt)
+                        .seatInfo(entry.getValue())
+                        .build())
+                .collect(Collectors.toList());
 
-            updateSeatStatus(updatedStatus);
-            removeSeatTTLKey(concertId, concertSeatId);
+        long lastUpdateTtlMillis = TimeUnit.HOURS.toMillis(reservation.getLastUpdateTtlHours());
 
-            log.info("좌석 강제 해제 완료 (관리자): concertId={}, concertSeatId={}, previousUserId={}",
-                    concertId, concertSeatId, currentSeat.getUserId());
+        SeatScriptResult result = runReserveMany(
+                concertId, userId, reservedSeats, now, maxSeatCount, expiresAt, lastUpdateTtlMillis);
+
+        if (result.outcome() == SeatScriptResult.Outcome.CACHE_MISSING) {
+            log.info("다중 좌석 선점 시 캐시 비어있음. 초기화 후 재시도: concertId={}", concertId);
+            requireSeatCacheReady(concertId);
+            result = runReserveMany(
+                    concertId, userId, reservedSeats, now, maxSeatCount, expiresAt, lastUpdateTtlMillis);
+        }
+
+        switch (result.outcome()) {
+            case OK -> {
+                // 이미 선점 중이던 좌석은 기존 상태로 응답하고, 새로 선점된 좌석만 이벤트 발행
+                Set<Long> keptSeatIds = Arrays.stream(result.payload().split(","))
+                        .filter(id -> !id.isEmpty())
+                        .map(Long::valueOf)
+                        .collect(Collectors.toSet());
+
+                List<SeatStatus> newlyReserved = new ArrayList<>();
+                List<SeatStatus> responses = new ArrayList<>();
+                for (SeatStatus reserved : reservedSeats) {
+                    if (keptSeatIds.contains(reserved.getSeatId())) {
+                        responses.add(getSeatStatus(concertId, reserved.getSeatId()).orElse(reserved));
+                    } else {
+                        newlyReserved.add(reserved);
+                        responses.add(reserved);
+                    }
+                }
+
+                seatHoldJournal.recordAll(newlyReserved, result);
+                try {
+                    eventPublisher.publishSeatUpdates(newlyReserved);
+                } catch (Exception e) {
+                    log.warn("좌석 상태 일괄 이벤트 발행 실패 (서비스 계속 진행): concertId={}, seatIds={}",
+                            concertId, seatInfos.keySet(), e);
+                }
+
+                log.info("다중 좌석 선점 완료: concertId={}, userId={}, seatIds={}, kept={}, expiresAt={}",
+                        concertId, userId, seatInfos.keySet(), keptSeatIds, expiresAt);
+                return responses;
+            }
+            case NOT_FOUND -> throw new SeatReservationException(
+                    String.format("존재하지 않는 좌석입니다. 좌석 ID: %s", result.payload()));
+            case BOOKED -> throw new SeatReservationException(
+                    String.format("이미 예매 완료된 좌석입니다. 좌석 ID: %s", result.payload()));
+            case UNAVAILABLE -> throw new SeatReservationException(
+                    String.format("예매할 수 없는 좌석입니다. 좌석 ID: %s", result.payload()));
+            case TAKEN -> throw new SeatReservationException(
+                    String.format("다른 사용자가 선점 중인 좌석입니다. 좌석 ID: %s", result.payload()));
+            case LIMIT_EXCEEDED -> {
+                log.warn("다중 좌석 선점 개수 제한 초과: userId={}, concertId={}, currentCount={}, requested={}, maxLimit={}",
+                        userId, concertId, result.payload(), seatInfos.size(), maxSeatCount);
+                throw new SeatReservationException(
+                        String.format("좌석 선점은 최대 %d개까지만 가능합니다. 현재 선점 좌석: %s개, 요청 좌석: %d개",
+                                maxSeatCount, result.payload(), seatInfos.size()));
+            }
+            default -> {
+                log.error("다중 좌석 선점 스크립트 처리 실패: concertId={}, seatIds={}, outcome={}",
+                        concertId, seatInfos.keySet(), result.outcome());
+                throw new SeatReservationException("좌석 선점 처리 중 오류가 발생했습니다.");
+            }
         }
     }
 
     /**
-     * 좌석 예매 완료 처리
-     * ⚠️ 사용하지 않는 메서드
+     * 단일 좌석 선점 스크립트 실행 (단일 기록자 엔진 콘서트는 소유 노드의 기록 스레드로 전달)
      */
-    public void bookSeat(Long concertId, Long concertSeatId) {
-        Optional<SeatStatus> currentStatus = getSeatStatus(concertId, concertSeatId);
+    private SeatScriptResult runReserve(SeatStatus reserved, LocalDateTime now, int maxSeatCount,
+                                        long lastUpdateTtlMillis) {
+        if (seatWriterRouter.isSingleWriter(reserved.getConcertId())) {
+            return seatWriterRouter.reserve(reserved, now, maxSeatCount);
+        }
+        return seatScriptExecutor.reserve(reserved, now, maxSeatCount, lastUpdateTtlMillis);
+    }
 
-        if (currentStatus.isPresent() && currentStatus.get().isReserved()) {
-            SeatStatus currentSeat = currentStatus.get();
+    /**
+     * 다중 좌석 선점 스크립트 실행 (단일 기록자 엔진 콘서트는 소유 노드의 기록 스레드로 전달)
+     */
+    private SeatScriptResult runReserveMany(Long concertId, Long userId, List<SeatStatus> reservedSeats,
+                                            LocalDateTime now, int maxSeatCount, LocalDateTime expiresAt,
+                                            long lastUpdateTtlMillis) {
+        if (seatWriterRouter.isSingleWriter(concertId)) {
+            return seatWriterRouter.reserveMany(concertId, userId, reservedSeats, now, maxSeatCount);
+        }
+        return seatScriptExecutor.reserveMany(
+                concertId, userId, reservedSeats, now, maxSeatCount, expiresAt, lastUpdateTtlMillis);
+    }
 
-            if (currentSeat.isExpired()) {
-                log.warn("만료된 선점 좌석 예매 시도: concertId={}, concertSeatId={}, userId={}",
-                        concertId, concertSeatId, currentSeat.getUserId());
-                throw new SeatReservationException("선점이 만료된 좌석입니다. 다시 선점해주세요.");
+    /**
+     * 기록 스레드를 거치지 않고 Redis를 직접 수정한 뒤 단일 기록자 엔진이 상태를 다시 읽도록 표시
+     */
+    private void invalidateSingleWriter(Long concertId) {
+        try {
+            seatWriterRouter.invalidate(concertId);
+        } catch (Exception e) {
+            log.warn("단일 기록자 좌석 엔진 무효화 실패: concertId={}, error={}", concertId, e.getMessage());
+        }
+    }
+
+    /**
+     * 좌석 선점 해제 (AVAILABLE로 변경)
+     * - 상태/소유자 검증과 해제, 만료 휠 제거를 전이 엔진 한 번의 호출로 처리
+     */
+    public void releaseSeat(Long concertId, Long concertSeatId, Long userId) {
+        SeatTransitionResult.SeatOutcome outcome = seatTransitionEngine
+                .apply(SeatTransition.RELEASE, concertId, List.of(concertSeatId), userId, true)
+                .single();
+
+        switch (outcome.code()) {
+            case OK, NOOP -> log.info("좌석 선점 해제 완료: concertId={}, concertSeatId={}, userId={}",
+                    concertId, concertSeatId, userId);
+            case NOT_FOUND -> {
+                log.warn("존재하지 않는 좌석 해제 시도: concertId={}, concertSeatId={}, userId={}",
+                        concertId, concertSeatId, userId);
+                throw new SeatReservationException("존재하지 않는 좌석입니다.");
+            }
+            case NOT_OWNER -> {
+                log.warn("권한 없는 좌석 해제 시도: concertId={}, concertSeatId={}, requestUserId={}, reservedUserId={}",
+                        concertId, concertSeatId, userId, outcome.previous().getUserId());
+                throw new SeatReservationException("다른 사용자가 선점한 좌석은 해제할 수 없습니다.");
+            }
+            default -> {
+                log.warn("선점되지 않은 좌석 해제 시도: concertId={}, concertSeatId={}, userId={}, currentStatus={}",
+                        concertId, concertSeatId, userId, outcome.previous().getStatus());
+                throw new SeatReservationException("선점되지 않은 좌석은 해제할 수 없습니다. 현재 상태: " + outcome.previous().getStatus());
             }
+        }
+    }
 
-            SeatStatus bookedStatus = SeatStatus.builder()
-                    .id(concertId + "-" + concertSeatId)
-                    .concertId(concertId)
-                    .seatId(concertSeatId)
-                    .status(SeatStatusEnum.BOOKED)
-                    .userId(currentSeat.getUserId())
-                    .reservedAt(currentSeat.getReservedAt())
-                    .expiresAt(null)
-                    .seatInfo(currentSeat.getSeatInfo())
-                    .build();
+    /**
+     * 관리자용 좌석 강제 해제 (권한 검증 없음)
+     */
+    public void forceReleaseSeat(Long concertId, Long concertSeatId) {
+        SeatTransitionResult.SeatOutcome outcome = seatTransitionEngine
+                .apply(SeatTransition.FORCE_RELEASE, concertId, List.of(concertSeatId), null, false)
+                .single();
 
-            updateSeatStatus(bookedStatus);
-            removeSeatTTLKey(concertId, concertSeatId);
+        if (outcome.isChanged()) {
+            log.info("좌석 강제 해제 완료 (관리자): concertId={}, concertSeatId={}, previousUserId={}",
+                    concertId, concertSeatId, outcome.previous().getUserId());
+        }
+    }
 
+    /**
+     * 여러 좌석 강제 해제 (권한 검증 없음)
+     * - 좌석 수와 관계없이 한 번의 스크립트 호출, 한 번의 이벤트 발행
+     *
+     * @return 실제로 해제된 좌석 수
+     */
+    public int forceReleaseSeats(Long concertId, List<Long> concertSeatIds) {
+        SeatTransitionResult result = seatTransitionEngine
+                .apply(SeatTransition.FORCE_RELEASE, concertId, concertSeatIds, null, false);
+        return result.changedSeats().size();
+    }
+
+    /**
+     * 좌석 예매 완료 처리
+     */
+    public void bookSeat(Long concertId, Long concertSeatId) {
+        SeatTransitionResult.SeatOutcome outcome = seatTransitionEngine
+                .apply(SeatTransition.BOOK, concertId, List.of(concertSeatId), null, true)
+                .single();
+
+        if (outcome.code() == SeatTransitionResult.Code.OK) {
             log.info("좌석 예매 완료: concertId={}, concertSeatId={}, userId={}",
-                    concertId, concertSeatId, currentSeat.getUserId());
+                    concertId, concertSeatId, outcome.current().getUserId());
+            return;
+        }
+        throw toBookingException(concertId, outcome);
+    }
+
+    /**
+     * 여러 좌석 예매 완료 처리 (All-or-Nothing)
+     * - 모든 좌석이 예매 가능할 때만 한 번에 BOOKED로 변경
+     * - 하나라도 실패하면 어떤 좌석도 변경하지 않고, 예매할 수 없는 좌석 결과만 반환
+     *
+     * @param userId 예매자 ID (null이면 소유자 검증 생략)
+     * @return 예매하지 못한 좌석 결과 목록 (비어 있으면 전체 예매 완료)
+     */
+    public List<SeatTransitionResult.SeatOutcome> bookSeats(Long concertId, List<Long> concertSeatIds, Long userId) {
+        return bookSeats(concertId, concertSeatIds, userId, true);
+    }
+
+    /**
+     * 여러 좌석 예매 완료 처리 (Best-Effort)
+     * - 결제가 이미 완료된 뒤(웹훅 등) 호출되므로, 예매 가능한 좌석은 모두 BOOKED로 변경
+     * - 예매할 수 없는 좌석은 건너뛰고 결과로 반환 (호출 측에서 보상/수동 처리 판단)
+     *
+     * @param userId 예매자 ID (null이면 소유자 검증 생략)
+     * @return 예매하지 못한 좌석 결과 목록
+     */
+    public List<SeatTransitionResult.SeatOutcome> bookSeatsBestEffort(Long concertId, List<Long> concertSeatIds, Long userId) {
+        return bookSeats(concertId, concertSeatIds, userId, false);
+    }
 
-        } else {
-            String currentState = currentStatus.isPresent() ?
-                    currentStatus.get().getStatus().toString() : "NOT_FOUND";
+    private List<SeatTransitionResult.SeatOutcome> bookSeats(Long concertId, List<Long> concertSeatIds,
+                                                            Long userId, boolean atomic) {
+        SeatTransitionResult result = seatTransitionEngine
+                .apply(SeatTransition.BOOK, concertId, concertSeatIds, userId, atomic);
+
+        List<SeatTransitionResult.SeatOutcome> failures = result.failures();
+        failures.forEach(outcome -> log.warn("좌석 예매 불가: concertId={}, concertSeatId={}, code={}",
+                concertId, outcome.seatId(), outcome.code()));
+        if (failures.isEmpty()) {
+            log.info("좌석 일괄 예매 완료: concertId={}, seatIds={}, userId={}", concertId, concertSeatIds, userId);
+        } else if (!atomic) {
+            log.info("좌석 일괄 예매 부분 완료: concertId={}, bookedSeats={}, failedSeats={}",
+                    concertId, concertSeatIds.size() - failures.size(), failures.size());
+        }
+        return failures;
+    }
 
-            log.warn("예매 불가능한 좌석 상태: concertId={}, concertSeatId={}, currentState={}",
-                    concertId, concertSeatId, currentState);
-            throw new SeatReservationException("선점되지 않은 좌석은 예매할 수 없습니다. 현재 상태: " + currentState);
+    private SeatReservationException toBookingException(Long concertId, SeatTransitionResult.SeatOutcome outcome) {
+        switch (outcome.code()) {
+            case EXPIRED -> {
+                log.warn("만료된 선점 좌석 예매 시도: concertId={}, concertSeatId={}, userId={}",
+                        concertId, outcome.seatId(), outcome.previous().getUserId());
+                return new SeatReservationException("선점이 만료된 좌석입니다. 다시 선점해주세요.");
+            }
+            case NOT_OWNER -> {
+                log.warn("권한 없는 좌석 예매 시도: concertId={}, concertSeatId={}, reservedUserId={}",
+                        concertId, outcome.seatId(), outcome.previous().getUserId());
+                return new SeatReservationException("다른 사용자가 선점한 좌석은 예매할 수 없습니다.");
+            }
+            default -> {
+                String currentState = outcome.previous() != null ?
+                        outcome.previous().getStatus().toString() : "NOT_FOUND";
+                log.warn("예매 불가능한 좌석 상태: concertId={}, concertSeatId={}, currentState={}",
+                        concertId, outcome.seatId(), currentState);
+                return new SeatReservationException("선점되지 않은 좌석은 예매할 수 없습니다. 현재 상태: " + currentState);
+            }
         }
     }
 
     /**
-     * 만료된 선점 좌석들 정리 (시스템 운영용)
+     * 예매 취소 좌석 일괄 해제
+     * - 사용자 본인의 RESERVED/BOOKED 좌석만 AVAILABLE로 변경
+     * - 해제할 수 없는 좌석은 건너뛰고 결과로 반환 (취소 흐름은 계속 진행)
+     *
+     * @return 해제하지 못한 좌석 결과 목록
      */
-    public void cleanupExpiredReservations(Long concertId) {
-        Map<Long, SeatStatus> allSeats = getAllSeatStatus(concertId);
-        LocalDateTime now = LocalDateTime.now();
+    public List<SeatTransitionResult.SeatOutcome> cancelSeats(Long concertId, List<Long> concertSeatIds, Long userId) {
+        SeatTransitionResult result = seatTransitionEngine
+                .apply(SeatTransition.CANCEL, concertId, concertSeatIds, userId, false);
+        return result.failures();
+    }
 
-        for (SeatStatus seat : allSeats.values()) {
-            if (seat.isReserved() && seat.getExpiresAt() != null && now.isAfter(seat.getExpiresAt())) {
-                forceReleaseSeat(concertId, seat.getSeatId());
-                log.info("만료된 선점 좌석 해제: concertId={}, seatId={}, expiredUserId={}",
-                        concertId, seat.getSeatId(), seat.getUserId());
+    /**
+     * 만료된 선점 좌석들 정리 (SeatExpirySweeper / 시스템 운영용)
+     * - 만료 휠(seat:expiry:{concertId})에서 만료 시각이 지난 좌석만 배치 크기만큼 잘라 한 번의 EXPIRE 전이로 해제
+     * - 만료 여부는 스크립트에서 다시 확인하므로, 조회 이후 재선점/연장된 좌석은 해제되지 않음
+     *
+     * @return 해제된 좌석 수
+     */
+    public int cleanupExpiredReservations(Long concertId) {
+        int batchSize = seatProperties.getExpiry().getSweepBatchSize();
+        int released = 0;
+
+        while (true) {
+            List<Long> dueSeatIds = seatExpiryWheel.findDueSeatIds(concertId, System.currentTimeMillis(), batchSize);
+            if (dueSeatIds.isEmpty()) {
+                break;
+            }
+
+            SeatTransitionResult result = seatTransitionEngine
+                    .apply(SeatTransition.EXPIRE, concertId, dueSeatIds, null, false);
+
+            int changed = 0;
+            for (SeatTransitionResult.SeatOutcome outcome : result.seats()) {
+                if (outcome.isChanged()) {
+                    changed++;
+                    log.info("만료된 선점 좌석 해제: concertId={}, seatId={}, expiredUserId={}",
+                            concertId, outcome.seatId(), outcome.previous().getUserId());
+                }
+            }
+            released += changed;
+
+            // 마지막 배치이거나 해제된 좌석이 없으면(만료 직전 좌석만 남은 경우) 다음 주기에 이어서 처리
+            if (dueSeatIds.size() < batchSize || changed == 0) {
+                break;
             }
         }
+
+        return released;
     }
 
     /**
      * 특정 사용자의 선점 좌석 조회
+     * - 사용자별 선점 인덱스(seat:holds:{concertId})에서 좌석 ID만 읽은 뒤 해당 좌석만 조회
+     * - 콘서트 전체 좌석을 읽지 않으므로 좌석 수와 무관하게 사용자 선점 개수만큼만 조회
      */
     public List<SeatStatus> getUserReservedSeats(Long concertId, Long userId) {
-        Map<Long, SeatStatus> allSeats = getAllSeatStatus(concertId);
+        List<Long> heldSeatIds = seatScriptExecutor.findHeldSeatIds(concertId, userId);
+        if (heldSeatIds.isEmpty()) {
+            return List.of();
+        }
 
-        return allSeats.values().stream()
+        // 인덱스는 상태 저장과 함께 갱신되지만, 조회 시점에도 선점자를 한 번 더 확인
+        return readStatusFields(concertId, heldSeatIds).values().stream()
                 .filter(seat -> seat.isReserved() && userId.equals(seat.getUserId()))
                 .collect(Collectors.toList());
     }
@@ -448,9 +969,17 @@ public class SeatStatusService {
      */
     public LocalDateTime getLastUpdateTime(Long concertId) {
         try {
-            String key = SEAT_LAST_UPDATE_KEY_PREFIX + concertId;
-            RBucket<LocalDateTime> bucket = redissonClient.getBucket(key);
-            return bucket.get();
+            // 샤딩한 콘서트는 샤드별 마지막 업데이트 시간 중 가장 늦은 시간
+            LocalDateTime latest = null;
+            for (String key : seatShardRouter.keys(SEAT_LAST_UPDATE_KEY_PREFIX, concertId)) {
+                RBucket<String> bucket = redissonClient.getBucket(key, StringCodec.INSTANCE);
+                String value = bucket.get();
+                if (value != null) {
+                    LocalDateTime updatedAt = LocalDateTime.parse(value);
+                    latest = latest == null || updatedAt.isAfter(latest) ? updatedAt : latest;
+                }
+            }
+            return latest;
         } catch (Exception e) {
             log.warn("마지막 업데이트 시간 조회 중 오류: concertId={}", concertId, e);
             return null;
@@ -458,34 +987,88 @@ public class SeatStatusService {
     }
 
     /**
-     * 콘서트 좌석의 마지막 업데이트 시간 설정
+     * 순번 이후 좌석 변경분 조회
+     * - 변경 로그(seat:changes:{concertId})에서 sinceSeq 이후 변경만 최대 readLimit개 반환
+     * - 로그에서 이미 잘려 나간 구간이면 전체 좌석 상태를 스냅샷으로 반환
+     *   (순번을 먼저 읽고 스냅샷을 읽으므로, 그 사이 변경은 다음 요청에서 다시 받아 덮어써도 결과가 같음)
+     *
+     * @param concertId 콘서트 ID
+     * @param sinceSeq  클라이언트가 마지막으로 받은 순번 (처음이면 0)
      */
-    private void updateLastUpdateTime(Long concertId) {
-        try {
-            String key = SEAT_LAST_UPDATE_KEY_PREFIX + concertId;
-            RBucket<LocalDateTime> bucket = redissonClient.getBucket(key);
-            bucket.set(LocalDateTime.now(), seatProperties.getReservation().getLastUpdateTtlHours(), TimeUnit.HOURS);
-        } catch (Exception e) {
-            log.warn("마지막 업데이트 시간 설정 중 오류: concertId={}", concertId, e);
+    public SeatChangesDTO getSeatChangesSince(Long concertId, long sinceSeq) {
+        return getSeatChangesSince(concertId, sinceSeq, null);
+    }
+
+    /**
+     * 순번 이후 좌석 변경분 조회 (샤딩한 콘서트용 샤드별 순번 커서 포함)
+     * - 샤딩한 콘서트는 응답의 cursor 를 다음 요청에 그대로 보내야 변경분만 받을 수 있음 (없으면 변경이 있을 때 스냅샷)
+     *
+     * @param concertId 콘서트 ID
+     * @param sinceSeq  클라이언트가 마지막으로 받은 순번 (처음이면 0)
+     * @param cursor    클라이언트가 마지막으로 받은 커서 (샤딩하지 않은 콘서트는 무시)
+     */
+    public SeatChangesDTO getSeatChangesSince(Long concertId, long sinceSeq, String cursor) {
+        int limit = seatProperties.getChangeLog().getReadLimit();
+        SeatChangeLog.Slice slice = seatChangeLog.readSince(concertId, sinceSeq, cursor, limit);
+
+        if (slice.available()) {
+            return new SeatChangesDTO(concertId, sinceSeq, slice.lastSeq(), slice.cursor(), false, slice.hasMore(), slice.changes());
+        }
+
+        long snapshotSeq = slice.currentSeq();
+        // 기본형 뷰는 좌석 ID 오름차순 순번이므로 정렬 없이 순회
+        SeatMapView view = getSeatMapView(concertId);
+        List<SeatChangesDTO.Change> snapshot = new ArrayList<>(view.size());
+        for (int ordinal = 0; ordinal < view.size(); ordinal++) {
+            SeatStatusEnum status = view.statusAt(ordinal);
+            if (status != null) {
+                long userId = view.holderAt(ordinal);
+                snapshot.add(new SeatChangesDTO.Change(snapshotSeq, view.seatIdAt(ordinal), status, userId != 0 ? userId : null));
+            }
+        }
+
+        log.debug("좌석 변경 로그 범위 밖 요청. 스냅샷 반환: concertId={}, sinceSeq={}, snapshotSeq={}, seats={}",
+                concertId, sinceSeq, snapshotSeq, snapshot.size());
+        return new SeatChangesDTO(concertId, sinceSeq, snapshotSeq, slice.currentCursor(), true, false, snapshot);
+    }
+
+    /**
+     * 상태별/구역별/등급별 좌석 수 조회 - Cache-Aside 패턴 적용
+     * - 좌석 상태 변경 시 함께 갱신되는 집계 카운터를 읽으므로 좌석 수와 무관하게 해시 1회 조회
+     */
+    public SeatCountsDTO getSeatCounts(Long concertId) {
+        Optional<SeatCountsDTO> counts = seatCountStore.read(concertId);
+
+        if (counts.isEmpty()) {
+            log.info("좌석 수 집계가 비어있음. 자동 초기화 시작: concertId={}", concertId);
+            if (seatCacheInitCoordinator.initializeOnCacheMiss(concertId)) {
+                counts = seatCountStore.read(concertId);
+            } else {
+                log.warn("좌석 수 집계 준비 중 또는 초기화 실패: concertId={}", concertId);
+            }
         }
+
+        return counts.orElseGet(() -> new SeatCountsDTO(concertId, Map.of(), Map.of(), Map.of(), null, null));
     }
 
     /**
      * 현재 좌석 상태 요약 조회 (폴링용)
+     * - 좌석 수 집계 카운터 기반 (전체 좌석 조회 없음)
      */
     public Map<String, Object> getCurrentSeatStatus(Long concertId) {
         try {
-            Map<Long, SeatStatus> allSeats = getAllSeatStatus(concertId);
+            SeatCountsDTO counts = getSeatCounts(concertId);
 
-            Map<String, Long> statusCounts = allSeats.values().stream()
-                    .collect(Collectors.groupingBy(
-                            seat -> seat.getStatus().toString(),
-                            Collectors.counting()
+            Map<String, Long> statusCounts = counts.statusCounts().entrySet().stream()
+                    .filter(entry -> entry.getValue() > 0)
+                    .collect(Collectors.toMap(
+                            entry -> entry.getKey().toString(),
+                            Map.Entry::getValue
                     ));
 
             return Map.of(
                     "concertId", concertId,
-                    "totalSeats", allSeats.size(),
+                    "totalSeats", counts.totalSeats(),
                     "statusCounts", statusCounts,
                     "lastChecked", LocalDateTime.now()
             );
@@ -501,17 +1084,19 @@ public class SeatStatusService {
 
     /**
      * 캐시 → DB 백업 기능
-     * Redis 캐시에 있는 좌석 상태를 간단히 로깅만 수행
-     * (DB 구조상 캐시 상태를 직접 반영할 수 없음)
+     * - 좌석 상태 변경은 SeatHoldJournal이 seat_hold_journal 테이블에 계속 기록하므로,
+     *   여기서는 대기 중인 저널을 즉시 DB로 내보내고 캐시 상태 통계를 함께 반환
      */
     @Transactional(readOnly = true)
     public Map<String, Object> backupCacheToDatabase(Long concertId) {
         try {
             log.info("캐시 상태 확인 시작: concertId={}", concertId);
+
+            // 대기 중인 저널 즉시 기록
+            seatHoldJournal.flushNow();
             
             // Redis에서 모든 좌석 상태 조회
-            RMap<String, SeatStatus> seatMap = redissonClient.getMap(SEAT_STATUS_KEY_PREFIX + concertId);
-            Collection<SeatStatus> allSeats = seatMap.readAllValues();
+            Collection<SeatStatus> allSeats = readAllStatusShards(concertId).values();
             
             if (allSeats.isEmpty()) {
                 log.warn("확인할 캐시 데이터가 없습니다: concertId={}", concertId);
@@ -540,7 +1125,8 @@ public class SeatStatusService {
                         entry -> entry.getKey().toString(),
                         entry -> entry.getValue().intValue()
                     )),
-                "note", "DB 구조상 캐시 상태를 직접 백업할 수 없습니다. 상태 확인만 수행됩니다.",
+                "journal", seatHoldJournal.getJournalStats(),
+                "note", "선점 상태는 seat_hold_journal 테이블에 저널로 기록됩니다. 대기 중인 저널을 즉시 기록했습니다.",
                 "timestamp", LocalDateTime.now()
             );
             
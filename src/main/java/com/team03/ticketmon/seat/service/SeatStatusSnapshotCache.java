@@ -0,0 +1,257 @@
+package com.team03.ticketmon.seat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon._global.exception.SuccessResponse;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.dto.SeatStatusResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 공유 좌석 상태 응답 스냅샷 (노드별, 콘서트별)
+ * - 조회가 몰리는 전체 좌석 상태 / 폴링 즉시 응답 본문을 미리 직렬화(+gzip)해 두고, 요청은 바이트를 그대로 응답
+ * - 최소 갱신 간격(seat.status-snapshot.refresh-interval-ms) 안에서는 같은 스냅샷을 공유하고,
+ *   그 뒤 좌석 변경 이벤트를 받았거나 최대 유지 시간이 지났으면 한 요청만 다시 만들고 나머지는 이전 스냅샷으로 응답
+ *
+ * ✅ 초당 수천 건의 같은 조회가 갱신 주기마다 Redis 조회 1회 + 직렬화 1회로 줄어듦
+ * ✅ 전체 좌석 상태는 비로그인 기준(isReservedByCurrentUser=false)으로 만들고, 스냅샷 안에 좌석을 선점한 사용자의
+ *    요청만 호출 측에서 개별 응답으로 처리 (holderIds)
+ * ✅ 스냅샷을 만든 뒤 좌석을 바꾼 사용자도 자기 변경이 빠진 스냅샷을 받지 않도록 개별 응답으로 처리 (recentWrites)
+ * ✅ 만들다 실패한 응답은 저장하지 않음 (이전 스냅샷이 있으면 그대로 응답, 없으면 예외를 호출 측으로 전달)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatStatusSnapshotCache {
+
+    private final SeatStatusService seatStatusService;
+    private final SeatProperties seatProperties;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, Entry> statusEntries = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> summaryEntries = new ConcurrentHashMap<>();
+    // 콘서트 → 사용자 → 마지막 좌석 변경 이벤트 수신 시각 (System.nanoTime)
+    private final Map<Long, Map<Long, Long>> recentWrites = new ConcurrentHashMap<>();
+
+    /**
+     * 직렬화가 끝난 응답 스냅샷
+     *
+     * @param json         SuccessResponse JSON 바이트
+     * @param gzip         gzip 압축된 JSON 바이트
+     * @param holderIds    스냅샷 안에서 좌석을 선점 중인 사용자 ID (오름차순, 중복 없음)
+     * @param builtAtNanos 생성 시각 (System.nanoTime)
+     */
+    public record Snapshot(byte[] json, byte[] gzip, long[] holderIds, long builtAtNanos) {
+
+        /**
+         * 사용자가 스냅샷 안에서 좌석을 선점 중인지 (그렇다면 개별 응답 필요)
+         */
+        public boolean isHeldBy(Long userId) {
+            return userId != null && Arrays.binarySearch(holderIds, userId) >= 0;
+        }
+
+        /**
+         * 스냅샷 바이트 응답 (클라이언트가 gzip을 받으면 압축본 전송)
+         */
+        public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .contentType(MediaType.APPLICATION_JSON);
+
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+            }
+            return response.body(json);
+        }
+    }
+
+    private static final class Entry {
+        private volatile Snapshot snapshot;
+        private volatile boolean changed;
+        private volatile long lastAccessNanos;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+    }
+
+    /**
+     * 전체 좌석 상태 응답 스냅샷 (GET /api/seats/concerts/{concertId}/status)
+     */
+    public Snapshot getAllStatus(Long concertId) {
+        return get(statusEntries, concertId, this::buildAllStatus);
+    }
+
+    /**
+     * 공유 스냅샷을 그대로 응답해도 되는 사용자인지
+     * - 스냅샷 안에서 좌석을 선점 중이거나, 스냅샷을 만든 뒤 좌석을 바꾼 사용자는 개별 응답 필요
+     */
+    public boolean isSharedFor(Long concertId, Long userId, Snapshot snapshot) {
+        return !snapshot.isHeldBy(userId) && !hasWrittenSince(concertId, userId, snapshot);
+    }
+
+    /**
+     * 폴링 즉시 응답 스냅샷 (좌석 수 요약)
+     * - 공유 스냅샷을 만든 뒤 좌석을 바꾼 사용자에게는 저장하지 않는 새 요약으로 응답
+     *
+     * @throws RuntimeException 첫 요약(또는 개별 요약)을 만들지 못한 경우
+     */
+    public Snapshot getPollingSummary(Long concertId, Long userId) {
+        Snapshot shared = get(summaryEntries, concertId, this::buildPollingSummary);
+        return hasWrittenSince(concertId, userId, shared) ? buildPollingSummary(concertId) : shared;
+    }
+
+    /**
+     * 좌석 변경 이벤트 수신 시 호출 (최소 갱신 간격이 지나면 다음 요청에서 다시 만듦)
+     * - 변경한 사용자는 그 뒤 만든 스냅샷을 받을 때까지 개별 응답으로 처리
+     *
+     * @param userIds 좌석을 바꾼 사용자 ID (해제 이벤트처럼 알 수 없으면 비어 있음)
+     */
+    public void markChanged(Long concertId, Collection<Long> userIds) {
+        if (!userIds.isEmpty()) {
+            long now = System.nanoTime();
+            Map<Long, Long> writes = recentWrites.computeIfAbsent(concertId, id -> new ConcurrentHashMap<>());
+            userIds.forEach(userId -> writes.put(userId, now));
+        }
+        markChanged(concertId);
+    }
+
+    private void markChanged(Long concertId) {
+        Entry status = statusEntries.get(concertId);
+        if (status != null) {
+            status.changed = true;
+        }
+        Entry summary = summaryEntries.get(concertId);
+        if (summary != null) {
+            summary.changed = true;
+        }
+    }
+
+    /**
+     * 조회가 끊긴 콘서트 스냅샷 정리
+     */
+    @Scheduled(fixedDelay = 60000) // 1분마다 실행
+    public void evictIdle() {
+        long idleNanos = TimeUnit.SECONDS.toNanos(seatProperties.getStatusSnapshot().getIdleEvictSeconds());
+        long now = System.nanoTime();
+        statusEntries.values().removeIf(entry -> now - entry.lastAccessNanos > idleNanos);
+        summaryEntries.values().removeIf(entry -> now - entry.lastAccessNanos > idleNanos);
+        recentWrites.values().forEach(writes -> writes.values().removeIf(writtenAt -> now - writtenAt > idleNanos));
+        recentWrites.values().removeIf(Map::isEmpty);
+    }
+
+    private boolean hasWrittenSince(Long concertId, Long userId, Snapshot snapshot) {
+        if (userId == null) {
+            return false;
+        }
+        Map<Long, Long> writes = recentWrites.get(concertId);
+        Long writtenAt = writes != null ? writes.get(userId) : null;
+        return writtenAt != null && writtenAt - snapshot.builtAtNanos() >= 0;
+    }
+
+    private Snapshot get(Map<Long, Entry> entries, Long concertId, Function<Long, Snapshot> builder) {
+        Entry entry = entries.computeIfAbsent(concertId, id -> new Entry());
+        long now = System.nanoTime();
+        entry.lastAccessNanos = now;
+
+        Snapshot current = entry.snapshot;
+        if (current == null) {
+            // 첫 스냅샷은 동시에 들어온 요청이 모두 같은 결과를 기다림
+            synchronized (entry) {
+                if (entry.snapshot == null) {
+                    entry.changed = false;
+                    entry.snapshot = builder.apply(concertId);
+                }
+                return entry.snapshot;
+            }
+        }
+
+        if (!isDue(entry, current, now) || !entry.refreshing.compareAndSet(false, true)) {
+            return current;
+        }
+
+        try {
+            entry.changed = false; // 다시 만드는 동안 들어온 변경은 다음 갱신에 반영
+            entry.snapshot = builder.apply(concertId);
+        } catch (Exception e) {
+            entry.changed = true;
+            log.warn("좌석 상태 스냅샷 갱신 실패. 이전 스냅샷으로 응답: concertId={}, error={}", concertId, e.getMessage());
+        } finally {
+            entry.refreshing.set(false);
+        }
+        return entry.snapshot;
+    }
+
+    private boolean isDue(Entry entry, Snapshot snapshot, long now) {
+        SeatProperties.StatusSnapshot config = seatProperties.getStatusSnapshot();
+        long age = now - snapshot.builtAtNanos();
+        if (age < TimeUnit.MILLISECONDS.toNanos(config.getRefreshIntervalMs())) {
+            return false;
+        }
+        return entry.changed || age >= TimeUnit.MILLISECONDS.toNanos(config.getMaxAgeMs());
+    }
+
+    private Snapshot buildAllStatus(Long concertId) {
+        Map<Long, SeatStatus> seats = seatStatusService.getAllSeatStatus(concertId);
+
+        List<SeatStatusResponseDTO> responses = seats.values().stream()
+                .map(seat -> SeatStatusResponseDTO.from(seat, null))
+                .toList();
+        long[] holderIds = seats.values().stream()
+                .filter(seat -> seat.isReserved() && seat.getUserId() != null)
+                .mapToLong(SeatStatus::getUserId)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        log.debug("전체 좌석 상태 스냅샷 생성: concertId={}, seats={}, holders={}", concertId, responses.size(), holderIds.length);
+        return serialize(SuccessResponse.of("좌석 상태 조회 성공", responses), holderIds);
+    }
+
+    private Snapshot buildPollingSummary(Long concertId) {
+        Map<String, Object> seatStatus = seatStatusService.getCurrentSeatStatus(concertId);
+        LocalDateTime lastUpdateTime = seatStatusService.getLastUpdateTime(concertId);
+
+        Map<String, Object> body = Map.of(
+                "hasUpdate", true,
+                "updateTime", lastUpdateTime != null ? lastUpdateTime : LocalDateTime.now(),
+                "seatUpdates", seatStatus,
+                "message", "현재 상태 조회",
+                "concertId", concertId
+        );
+        return serialize(SuccessResponse.of("즉시 응답", body), new long[0]);
+    }
+
+    private Snapshot serialize(Object body, long[] holderIds) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            return new Snapshot(json, compressed.toByteArray(), holderIds, System.nanoTime());
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.SERVER_ERROR, "좌석 상태 스냅샷 직렬화 중 오류가 발생했습니다.");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.script.SeatScriptExecutor;
+import com.team03.ticketmon.seat.script.SeatTransition;
+import com.team03.ticketmon.seat.script.SeatTransitionResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 상태 전이 엔진
+ * - 해제/예매/강제 해제/만료/영구 선점/복원/취소를 N개 좌석에 대해 한 번의 스크립트 호출로 처리
+ * - 검증(상태, 소유자, 만료)과 새 상태 계산은 Redis 서버에서 원자적으로 수행
+ * - 상태가 바뀐 좌석들은 하나의 이벤트로 묶어 발행하고 DB 저널 대기열에 기록
+ *
+ * ✅ atomic=true: 한 좌석이라도 전이할 수 없으면 어떤 좌석도 변경하지 않음 (보상 처리 불필요)
+ * ✅ atomic=false: 전이 가능한 좌석만 변경하고 좌석별 결과 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatTransitionEngine {
+
+    private final SeatScriptExecutor seatScriptExecutor;
+    private final SeatStatusEventPublisher eventPublisher;
+    private final SeatProperties seatProperties;
+    private final SeatHoldJournal seatHoldJournal;
+    private final SeatWriterRouter seatWriterRouter;
+
+    /**
+     * 좌석 상태 전이 (RESTORE 제외)
+     *
+     * @param transition 전이 종류
+     * @param concertId  콘서트 ID
+     * @param seatIds    대상 좌석 ID 목록
+     * @param userId     요청 사용자 ID (소유자 검증 생략 시 null)
+     * @param atomic     전체 적용 여부
+     * @return 좌석별 전이 결과
+     */
+    public SeatTransitionResult apply(SeatTransition transition, Long concertId, List<Long> seatIds,
+                                      Long userId, boolean atomic) {
+        if (transition == SeatTransition.RESTORE) {
+            throw new IllegalArgumentException("RESTORE 전이는 restore()를 사용해야 합니다.");
+        }
+        return execute(transition, concertId, seatIds, userId, atomic, null);
+    }
+
+    /**
+     * 영구 선점 좌석을 일반 선점 상태로 복원
+     *
+     * @param withTtl true면 선점 유지 시간을 다시 설정, false면 영구 선점 유지
+     */
+    public SeatTransitionResult restore(Long concertId, List<Long> seatIds, Long userId,
+                                        boolean withTtl, boolean atomic) {
+        long ttlMinutes = seatProperties.getReservation().getTtlMinutes();
+        LocalDateTime expiresAt = withTtl ? LocalDateTime.now().plusMinutes(ttlMinutes) : null;
+
+        return execute(SeatTransition.RESTORE, concertId, seatIds, userId, atomic, expiresAt);
+    }
+
+    private SeatTransitionResult execute(SeatTransition transition, Long concertId, List<Long> seatIds,
+                                         Long userId, boolean atomic,
+                                         LocalDateTime restoreExpiresAt) {
+        if (seatIds.isEmpty()) {
+            return new SeatTransitionResult(transition, true, List.of());
+        }
+
+        long lastUpdateTtlMillis = TimeUnit.HOURS.toMillis(seatProperties.getReservation().getLastUpdateTtlHours());
+
+        // 단일 기록자 엔진 콘서트는 소유 노드의 기록 스레드에서 같은 규칙으로 전이
+        SeatTransitionResult result = seatWriterRouter.isSingleWriter(concertId)
+                ? seatWriterRouter.transition(transition, concertId, seatIds, userId, atomic, restoreExpiresAt)
+                : seatScriptExecutor.transition(transition, concertId, seatIds, userId, atomic,
+                        restoreExpiresAt, lastUpdateTtlMillis);
+
+        seatHoldJournal.recordChanges(result.changes());
+        publishChanges(concertId, result.changedSeats());
+
+        if (result.hasFailures()) {
+            log.info("좌석 상태 전이 일부 실패: transition={}, concertId={}, userId={}, applied={}, failures={}",
+                    transition, concertId, userId, result.applied(),
+                    result.failures().stream()
+                            .map(outcome -> outcome.seatId() + ":" + outcome.code())
+                            .toList());
+        } else {
+            log.info("좌석 상태 전이 완료: transition={}, concertId={}, userId={}, seatIds={}, changed={}",
+                    transition, concertId, userId, seatIds, result.changedSeats().size());
+        }
+        return result;
+    }
+
+    /**
+     * 변경된 좌석 이벤트 발행 (실패해도 전이 결과에는 영향 없음)
+     */
+    private void publishChanges(Long concertId, List<SeatStatus> changedSeats) {
+        if (changedSeats.isEmpty()) {
+            return;
+        }
+        try {
+            if (changedSeats.size() == 1) {
+                eventPublisher.publishSeatUpdate(changedSeats.get(0));
+            } else {
+                eventPublisher.publishSeatUpdates(changedSeats);
+            }
+        } catch (Exception e) {
+            log.warn("좌석 상태 전이 이벤트 발행 실패 (서비스 계속 진행): concertId={}, seatCount={}",
+                    concertId, changedSeats.size(), e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.domain.Concert;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 캐시 Warm-up 진행 상황 저장소
+ * - seat:warmup:run: 가장 최근 Warm-up 실행의 대상 콘서트 ID 목록 (예매 시작 시각 순)
+ * - seat:warmup:progress:{concertId}: 콘서트별 진행 상황 해시 (상태, 적재 좌석 수, 소요 시간, 오류)
+ *
+ * ✅ Warm-up은 락을 얻은 한 인스턴스에서만 실행되므로, 어느 인스턴스의 관리자 API에서도 볼 수 있도록 Redis에 기록
+ * ✅ 24시간 후 자동 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatWarmupProgressStore {
+
+    private static final String SEAT_WARMUP_RUN_KEY = RedisKeyGenerator.SEAT_WARMUP_RUN_KEY;
+    private static final String SEAT_WARMUP_PROGRESS_KEY_PREFIX = RedisKeyGenerator.SEAT_WARMUP_PROGRESS_KEY_PREFIX;
+    private static final Duration PROGRESS_TTL = Duration.ofHours(24);
+
+    public enum State {
+        QUEUED, RUNNING, DONE, FAILED, SKIPPED
+    }
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * 새 Warm-up 실행 시작 - 대상 콘서트를 QUEUED 상태로 등록
+     *
+     * @param concerts 대상 콘서트 목록 (처리 우선순위 순)
+     */
+    public void startRun(List<Concert> concerts) {
+        RBatch batch = redissonClient.createBatch();
+        batch.getList(SEAT_WARMUP_RUN_KEY, StringCodec.INSTANCE).deleteAsync();
+
+        String queuedAt = LocalDateTime.now().toString();
+        for (Concert concert : concerts) {
+            String key = RedisKeyGenerator.concertKey(SEAT_WARMUP_PROGRESS_KEY_PREFIX, concert.getConcertId());
+            Map<String, String> fields = new LinkedHashMap<>();
+            fields.put("concertId", concert.getConcertId().toString());
+            fields.put("title", String.valueOf(concert.getTitle()));
+            fields.put("bookingStartDate", String.valueOf(concert.getBookingStartDate()));
+            fields.put("state", State.QUEUED.name());
+            fields.put("seatsLoaded", "0");
+            fields.put("queuedAt", queuedAt);
+
+            batch.getKeys().deleteAsync(key);
+            batch.<String, String>getMap(key, StringCodec.INSTANCE).putAllAsync(fields);
+            batch.getMap(key, StringCodec.INSTANCE).expireAsync(PROGRESS_TTL);
+            batch.getList(SEAT_WARMUP_RUN_KEY, StringCodec.INSTANCE).addAsync(concert.getConcertId().toString());
+        }
+
+        batch.getList(SEAT_WARMUP_RUN_KEY, StringCodec.INSTANCE).expireAsync(PROGRESS_TTL);
+        batch.execute();
+    }
+
+    public void markRunning(Long concertId) {
+        progress(concertId).putAll(Map.of(
+                "state", State.RUNNING.name(),
+                "startedAt", LocalDateTime.now().toString()));
+    }
+
+    /**
+     * 청크 기록 시마다 적재 좌석 수 갱신
+     */
+    public void updateLoaded(Long concertId, int seatsLoaded) {
+        try {
+            progress(concertId).fastPut("seatsLoaded", String.valueOf(seatsLoaded));
+        } catch (Exception e) {
+            log.debug("Warm-up 진행 상황 갱신 실패 (무시): concertId={}", concertId, e);
+        }
+    }
+
+    public void markDone(Long concertId, int seatsLoaded, long durationMs) {
+        progress(concertId).putAll(Map.of(
+                "state", State.DONE.name(),
+                "seatsLoaded", String.valueOf(seatsLoaded),
+                "durationMs", String.valueOf(durationMs)));
+    }
+
+    public void markSkipped(Long concertId) {
+        progress(concertId).fastPut("state", State.SKIPPED.name());
+    }
+
+    public void markFailed(Long concertId, long durationMs, String error) {
+        progress(concertId).putAll(Map.of(
+                "state", State.FAILED.name(),
+                "durationMs", String.valueOf(durationMs),
+                "error", String.valueOf(error)));
+    }
+
+    /**
+     * 가장 최근 Warm-up 실행의 콘서트별 진행 상황 (처리 우선순위 순)
+     */
+    public List<Map<String, String>> readLatestRun() {
+        List<String> concertIds = redissonClient.<String>getList(SEAT_WARMUP_RUN_KEY, StringCodec.INSTANCE).readAll();
+        if (concertIds.isEmpty()) {
+            return List.of();
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        for (String concertId : concertIds) {
+            batch.getMap(RedisKeyGenerator.concertKey(SEAT_WARMUP_PROGRESS_KEY_PREFIX, concertId), StringCodec.INSTANCE).readAllMapAsync();
+        }
+
+        List<Map<String, String>> progress = new ArrayList<>(concertIds.size());
+        for (Object response : batch.execute().getResponses()) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> fields = (Map<String, String>) response;
+            if (!fields.isEmpty()) {
+                progress.add(fields);
+            }
+        }
+        return progress;
+    }
+
+    private RMap<String, String> progress(Long concertId) {
+        return redissonClient.getMap(RedisKeyGenerator.concertKey(SEAT_WARMUP_PROGRESS_KEY_PREFIX, concertId), StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,556 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.script.SeatScriptExecutor;
+import com.team03.ticketmon.seat.script.SeatScriptResult;
+import com.team03.ticketmon.seat.script.SeatTransition;
+import com.team03.ticketmon.seat.script.SeatTransitionResult;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 단일 기록자 좌석 엔진 (콘서트 하나)
+ * - 콘서트 좌석의 권위 있는 상태를 좌석 순번별 기본형 배열로 메모리에 보관
+ * - 선점/다중 선점/상태 전이 명령을 전용 스레드 하나에서 도착 순서대로 처리 (분산 락, 좌석별 Redis 조회 없음)
+ * - 바뀐 좌석은 좌석 상태 저장 스크립트(put)로 Redis에 기록한 뒤 메모리에 반영 → Redis가 장애 조치용 저널 역할
+ *   (조회 API, 변경 로그, 집계, 만료 휠은 기존 Redis 구조를 그대로 사용)
+ * - 소유권은 전용 스레드가 보유하는 분산 락(lock:seat:engine:{concertId})으로 보장하고,
+ *   락을 얻은 뒤 Redis 좌석 상태 해시에서 상태를 읽어 시작 (장애 조치 시 다른 노드가 같은 방식으로 넘겨받음)
+ * - 선점 좌석과 예매 완료 좌석 모두 사용자 ID를 보관 (transition.lua 처럼 예매 취소 시 소유자 검증),
+ *   사용자별 선점 개수 집계(holdsByUser)에는 선점 좌석만 포함
+ *
+ * - 소유권을 얻으면 새 펜싱 토큰을 Redis에 기록하고, 모든 기록은 put 스크립트에서 토큰을 확인
+ *   (락 임대를 넘겨 멈췄던 이전 소유 노드의 기록은 FENCED 로 거부되고, 그 노드는 즉시 소유권을 내려놓음)
+ *
+ * ✅ Redis 기록이 실패하면 메모리에 반영하지 않고, 일부만 기록됐을 수 있으므로 다음 명령에서 Redis 상태를 다시 읽음
+ * ✅ 검증 규칙은 reserve.lua / reserve_many.lua / transition.lua 와 동일
+ */
+@Slf4j
+final class SeatWriterEngine {
+
+    private static final SeatStatusEnum[] STATUSES = SeatStatusEnum.values();
+    private static final long NONE = -1L;
+
+    private final Long concertId;
+    private final RLock ownerLock;
+    private final SeatScriptExecutor seatScriptExecutor;
+    private final SeatExpiryWheel seatExpiryWheel;
+    private final ExecutorService writer;
+
+    // 좌석 순번별 상태 (seatIds 오름차순)
+    private long[] seatIds = new long[0];
+    private byte[] states = new byte[0];
+    private long[] holders = new long[0]; // 선점/예매 사용자 ID (없으면 NONE)
+    private long[] reservedAts = new long[0];
+    private long[] expiresAts = new long[0];
+    private String[] seatInfos = new String[0];
+    private final Map<Long, Set<Integer>> holdsByUser = new HashMap<>();
+
+    private boolean loaded;
+    private volatile boolean owner;
+    private String fenceToken = "";
+    private final AtomicLong commandCount = new AtomicLong();
+
+    SeatWriterEngine(Long concertId, RLock ownerLock, SeatScriptExecutor seatScriptExecutor,
+                     SeatExpiryWheel seatExpiryWheel) {
+        this.concertId = concertId;
+        this.ownerLock = ownerLock;
+        this.seatScriptExecutor = seatScriptExecutor;
+        this.seatExpiryWheel = seatExpiryWheel;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seat-writer-" + concertId);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ========== 소유권 ==========
+
+    /**
+     * 기록 스레드에서 소유 락 획득 시도 (대기 없음, 보유 중에는 Redisson 감시자가 임대를 연장)
+     */
+    boolean acquire(long timeoutMillis) {
+        return call(() -> {
+            if (!owner) {
+                owner = ownerLock.tryLock();
+                loaded = false;
+                if (owner) {
+                    fence();
+                }
+            }
+            return owner;
+        }, timeoutMillis);
+    }
+
+    /**
+     * 새 펜싱 토큰 기록 (실패하면 락을 내려놓고 소유권 획득 실패로 처리)
+     */
+    private void fence() {
+        String token = UUID.randomUUID().toString();
+        try {
+            seatScriptExecutor.fence(concertId, token);
+            fenceToken = token;
+        } catch (RuntimeException e) {
+            releaseOwnership();
+            throw e;
+        }
+    }
+
+    /**
+     * 기록 스레드에서 아직 소유 락을 보유하고 있는지 확인
+     */
+    boolean verifyOwner(long timeoutMillis) {
+        return call(() -> {
+            owner = owner && ownerLock.isHeldByCurrentThread();
+            return owner;
+        }, timeoutMillis);
+    }
+
+    boolean isOwner() {
+        return owner;
+    }
+
+    long commandCount() {
+        return commandCount.get();
+    }
+
+    /**
+     * 소유 락 해제 후 기록 스레드 종료
+     */
+    void shutdown() {
+        writer.execute(this::releaseOwnership);
+        writer.shutdown();
+    }
+
+    /**
+     * 기록 스레드에서 소유 락 해제 + 소유권/적재 상태 초기화
+     */
+    private void releaseOwnership() {
+        try {
+            if (ownerLock.isHeldByCurrentThread()) {
+                ownerLock.unlock();
+            }
+        } catch (Exception e) {
+            log.warn("단일 기록자 좌석 엔진 락 해제 실패: concertId={}, error={}", concertId, e.getMessage());
+        }
+        owner = false;
+        loaded = false;
+    }
+
+    /**
+     * 다음 명령에서 Redis 상태를 다시 읽도록 표시 (캐시 재초기화/관리자 직접 수정 후)
+     */
+    void invalidate(long timeoutMillis) {
+        call(() -> {
+            loaded = false;
+            return true;
+        }, timeoutMillis);
+    }
+
+    // ========== 명령 ==========
+
+    /**
+     * 단일 좌석 선점 (reserve.lua 와 동일한 결과 코드)
+     */
+    SeatScriptResult reserve(SeatStatus reserved, LocalDateTime now, int maxSeatCount, long lastUpdateTtlMillis,
+                             long timeoutMillis) {
+        return call(() -> {
+            if (!ensureLoaded()) {
+                return new SeatScriptResult(SeatScriptResult.Outcome.CACHE_MISSING, "");
+            }
+            long nowMillis = SeatExpiryWheel.score(now);
+            int ordinal = ordinalOf(reserved.getSeatId());
+            if (ordinal < 0) {
+                return new SeatScriptResult(SeatScriptResult.Outcome.NOT_FOUND, reserved.getSeatId().toString());
+            }
+
+            SeatScriptResult.Outcome rejected = rejectReserve(ordinal, reserved.getUserId(), nowMillis);
+            if (rejected == SeatScriptResult.Outcome.ALREADY_HELD) {
+                return new SeatScriptResult(rejected, seatScriptExecutor.encode(statusOf(ordinal)));
+            }
+            if (rejected != null) {
+                return new SeatScriptResult(rejected, "");
+            }
+
+            int held = countHeld(reserved.getUserId(), Set.of(ordinal));
+            if (held + 1 > maxSeatCount) {
+                return new SeatScriptResult(SeatScriptResult.Outcome.LIMIT_EXCEEDED, String.valueOf(held));
+            }
+
+            Map<Long, Long> seqs = write(List.of(reserved), lastUpdateTtlMillis);
+            return new SeatScriptResult(SeatScriptResult.Outcome.OK, "", seqs);
+        }, timeoutMillis);
+    }
+
+    /**
+     * 다중 좌석 일괄 선점 (reserve_many.lua 와 동일한 결과 코드, All-or-Nothing)
+     */
+    SeatScriptResult reserveMany(Long userId, List<SeatStatus> reservedSeats, LocalDateTime now, int maxSeatCount,
+                                 long lastUpdateTtlMillis, long timeoutMillis) {
+        return call(() -> {
+            if (!ensureLoaded()) {
+                return new SeatScriptResult(SeatScriptResult.Outcome.CACHE_MISSING, "");
+            }
+            long nowMillis = SeatExpiryWheel.score(now);
+            Set<Integer> requested = new HashSet<>();
+            List<Long> alreadyHeld = new ArrayList<>();
+            List<SeatStatus> toWrite = new ArrayList<>(reservedSeats.size());
+
+            // 1. 가용성 검증 (기록 전에 전체 검증)
+            for (SeatStatus reserved : reservedSeats) {
+                int ordinal = ordinalOf(reserved.getSeatId());
+                String seatId = reserved.getSeatId().toString();
+                if (ordinal < 0) {
+                    return new SeatScriptResult(SeatScriptResult.Outcome.NOT_FOUND, seatId);
+                }
+                requested.add(ordinal);
+
+                SeatScriptResult.Outcome rejected = rejectReserve(ordinal, userId, nowMillis);
+                if (rejected == SeatScriptResult.Outcome.ALREADY_HELD) {
+                    alreadyHeld.add(reserved.getSeatId());
+                } else if (rejected != null) {
+                    return new SeatScriptResult(rejected, seatId);
+                } else {
+                    toWrite.add(reserved);
+                }
+            }
+
+            // 2. 사용자별 선점 개수 검증 (요청 좌석 외의 기존 선점 + 요청 좌석 수)
+            int held = countHeld(userId, requested);
+            if (held + reservedSeats.size() > maxSeatCount) {
+                return new SeatScriptResult(SeatScriptResult.Outcome.LIMIT_EXCEEDED, String.valueOf(held));
+            }
+
+            // 3. 기록
+            Map<Long, Long> seqs = write(toWrite, lastUpdateTtlMillis);
+            return new SeatScriptResult(SeatScriptResult.Outcome.OK,
+                    String.join(",", alreadyHeld.stream().map(String::valueOf).toList()), seqs);
+        }, timeoutMillis);
+    }
+
+    /**
+     * 다중 좌석 상태 전이 (transition.lua 와 동일한 검증/결과 코드)
+     */
+    SeatTransitionResult transition(SeatTransition transition, List<Long> requestedSeatIds, Long userId,
+                                    boolean atomic, LocalDateTime restoreExpiresAt, LocalDateTime now,
+                                    long lastUpdateTtlMillis, long timeoutMillis) {
+        return call(() -> {
+            if (!ensureLoaded()) {
+                return new SeatTransitionResult(transition, false, requestedSeatIds.stream()
+                        .map(seatId -> new SeatTransitionResult.SeatOutcome(seatId, SeatTransitionResult.Code.NOT_FOUND, null, null))
+                        .toList());
+            }
+            long nowMillis = SeatExpiryWheel.score(now);
+
+            // 1. 검증
+            List<SeatTransitionResult.Code> codes = new ArrayList<>(requestedSeatIds.size());
+            boolean rejected = false;
+            for (Long seatId : requestedSeatIds) {
+                SeatTransitionResult.Code code = validate(transition, ordinalOf(seatId), userId, nowMillis);
+                codes.add(code);
+                rejected |= code != SeatTransitionResult.Code.OK && code != SeatTransitionResult.Code.NOOP;
+            }
+
+            // 2. 새 상태 계산 + 기록
+            boolean applyAll = !(atomic && rejected);
+            List<SeatStatus> previous = new ArrayList<>(requestedSeatIds.size());
+            List<SeatStatus> current = new ArrayList<>(requestedSeatIds.size());
+            List<SeatStatus> toWrite = new ArrayList<>();
+            List<Long> unschedule = new ArrayList<>();
+
+            for (int i = 0; i < requestedSeatIds.size(); i++) {
+                int ordinal = ordinalOf(requestedSeatIds.get(i));
+                SeatStatus before = ordinal >= 0 ? statusOf(ordinal) : null;
+                SeatStatus after = null;
+
+                if (applyAll && codes.get(i) == SeatTransitionResult.Code.OK) {
+                    after = next(transition, before, restoreExpiresAt);
+                    toWrite.add(after);
+                } else if (transition == SeatTransition.EXPIRE
+                        && (ordinal < 0 || states[ordinal] != SeatStatusEnum.RESERVED.ordinal() || expiresAts[ordinal] == NONE)) {
+                    // 이미 해제/확정되었거나 영구 선점으로 바뀐 좌석이 만료 휠에 남아 있으면 제거
+                    unschedule.add(requestedSeatIds.get(i));
+                }
+                previous.add(before);
+                current.add(after);
+            }
+
+            Map<Long, Long> seqs = write(toWrite, lastUpdateTtlMillis);
+            if (!unschedule.isEmpty()) {
+                seatExpiryWheel.unschedule(concertId, unschedule);
+            }
+
+            List<SeatTransitionResult.SeatOutcome> outcomes = new ArrayList<>(requestedSeatIds.size());
+            for (int i = 0; i < requestedSeatIds.size(); i++) {
+                Long seatId = requestedSeatIds.get(i);
+                outcomes.add(new SeatTransitionResult.SeatOutcome(seatId, codes.get(i), previous.get(i), current.get(i),
+                        current.get(i) != null ? seqs.getOrDefault(seatId, 0L) : 0L));
+            }
+            return new SeatTransitionResult(transition, applyAll, outcomes);
+        }, timeoutMillis);
+    }
+
+    // ========== 기록 스레드 내부 ==========
+
+    private <T> T call(Supplier<T> command, long timeoutMillis) {
+        Future<T> future = writer.submit(command::get);
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 이미 시작한 명령은 취소되지 않고 Redis 에 기록될 수 있으므로 결과를 알 수 없음으로 알림
+            future.cancel(false);
+            throw new OutcomeUnknownException("좌석 기록 스레드 응답 시간 초과: concertId=" + concertId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OutcomeUnknownException("좌석 기록 스레드 대기 중 인터럽트: concertId=" + concertId, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("좌석 기록 명령 실패: concertId=" + concertId, e.getCause());
+        } finally {
+            commandCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Redis 좌석 상태 해시에서 상태 적재 (적재 전이거나 무효화된 경우)
+     * - 압축 저장소는 선점 좌석의 사용자만 보관하므로, 예매 완료 좌석의 사용자까지 있는 상태 해시를 읽음
+     */
+    private boolean ensureLoaded() {
+        if (!owner) {
+            throw new IllegalStateException("좌석 기록 엔진 소유권이 없습니다: concertId=" + concertId);
+        }
+        if (loaded) {
+            return true;
+        }
+
+        Map<Long, SeatStatus> seats = seatScriptExecutor.readAll(concertId);
+        if (seats.isEmpty()) {
+            return false;
+        }
+
+        int size = seats.size();
+        seatIds = seats.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        states = new byte[size];
+        holders = new long[size];
+        reservedAts = new long[size];
+        expiresAts = new long[size];
+        seatInfos = new String[size];
+        holdsByUser.clear();
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            apply(ordinal, seats.get(seatIds[ordinal]));
+        }
+        loaded = true;
+        log.info("단일 기록자 좌석 엔진 상태 적재: concertId={}, seats={}", concertId, size);
+        return true;
+    }
+
+    /**
+     * 바뀐 좌석을 Redis에 기록한 뒤 메모리에 반영
+     * - 기록 중 실패하면 일부 좌석만 Redis에 반영됐을 수 있으므로 다음 명령에서 Redis 상태를 다시 읽음
+     * - 펜싱 토큰이 바뀌었으면(다른 노드가 소유권을 넘겨받음) 소유권을 내려놓고 OwnershipLostException
+     *   (앞서 기록된 좌석은 새 소유 노드가 펜싱 뒤 상태를 읽을 때 함께 읽힘)
+     *
+     * @return 좌석 ID → 변경 로그 순번
+     */
+    private Map<Long, Long> write(List<SeatStatus> changed, long lastUpdateTtlMillis) {
+        Map<Long, Long> seqs = new HashMap<>(changed.size() * 2);
+        try {
+            for (SeatStatus seat : changed) {
+                SeatScriptResult result = seatScriptExecutor.put(seat, lastUpdateTtlMillis, fenceToken);
+                if (result.outcome() == SeatScriptResult.Outcome.FENCED) {
+                    log.warn("단일 기록자 좌석 엔진 펜싱으로 기록 거부, 소유권 반납: concertId={}", concertId);
+                    releaseOwnership();
+                    throw new OwnershipLostException(concertId);
+                }
+                seqs.putAll(result.seqs());
+            }
+        } catch (RuntimeException e) {
+            loaded = false;
+            throw e;
+        }
+        for (SeatStatus seat : changed) {
+            apply(ordinalOf(seat.getSeatId()), seat);
+        }
+        return seqs;
+    }
+
+    private void apply(int ordinal, SeatStatus seat) {
+        long previousHolder = holders[ordinal];
+        if (states[ordinal] == SeatStatusEnum.RESERVED.ordinal() && previousHolder != NONE) {
+            Set<Integer> previousHolds = holdsByUser.get(previousHolder);
+            if (previousHolds != null) {
+                previousHolds.remove(ordinal);
+                if (previousHolds.isEmpty()) {
+                    holdsByUser.remove(previousHolder);
+                }
+            }
+        }
+
+        // 예매 완료 좌석도 사용자를 유지 (CANCEL 소유자 검증), 사용자별 선점 개수에는 선점 좌석만 포함
+        boolean owned = isHeldStatus(seat.getStatus()) && seat.getUserId() != null;
+        boolean reserved = owned && seat.getStatus() == SeatStatusEnum.RESERVED;
+        states[ordinal] = (byte) seat.getStatus().ordinal();
+        holders[ordinal] = owned ? seat.getUserId() : NONE;
+        reservedAts[ordinal] = owned && seat.getReservedAt() != null ? SeatExpiryWheel.score(seat.getReservedAt()) : NONE;
+        expiresAts[ordinal] = reserved && seat.getExpiresAt() != null ? SeatExpiryWheel.score(seat.getExpiresAt()) : NONE;
+        seatInfos[ordinal] = seat.getSeatInfo();
+
+        if (reserved) {
+            holdsByUser.computeIfAbsent(seat.getUserId(), userId -> new HashSet<>()).add(ordinal);
+        }
+    }
+
+    private SeatScriptResult.Outcome rejectReserve(int ordinal, Long userId, long nowMillis) {
+        SeatStatusEnum status = STATUSES[states[ordinal]];
+        if (status == SeatStatusEnum.BOOKED) {
+            return SeatScriptResult.Outcome.BOOKED;
+        }
+        if (status == SeatStatusEnum.UNAVAILABLE) {
+            return SeatScriptResult.Outcome.UNAVAILABLE;
+        }
+        if (status == SeatStatusEnum.RESERVED && !isExpired(ordinal, nowMillis)) {
+            return holders[ordinal] == userId ? SeatScriptResult.Outcome.ALREADY_HELD : SeatScriptResult.Outcome.TAKEN;
+        }
+        return null;
+    }
+
+    private SeatTransitionResult.Code validate(SeatTransition transition, int ordinal, Long userId, long nowMillis) {
+        if (ordinal < 0) {
+            return SeatTransitionResult.Code.NOT_FOUND;
+        }
+        SeatStatusEnum status = STATUSES[states[ordinal]];
+        boolean owns = userId != null && holders[ordinal] == userId;
+
+        return switch (transition) {
+            case RELEASE -> status != SeatStatusEnum.RESERVED ? SeatTransitionResult.Code.INVALID_STATE
+                    : !owns ? SeatTransitionResult.Code.NOT_OWNER : SeatTransitionResult.Code.OK;
+            case FORCE_RELEASE -> status == SeatStatusEnum.AVAILABLE ? SeatTransitionResult.Code.NOOP : SeatTransitionResult.Code.OK;
+            case EXPIRE -> isExpired(ordinal, nowMillis) ? SeatTransitionResult.Code.OK : SeatTransitionResult.Code.NOOP;
+            case BOOK -> status != SeatStatusEnum.RESERVED ? SeatTransitionResult.Code.INVALID_STATE
+                    : isExpired(ordinal, nowMillis) ? SeatTransitionResult.Code.EXPIRED
+                    : userId != null && !owns ? SeatTransitionResult.Code.NOT_OWNER : SeatTransitionResult.Code.OK;
+            case LOCK_PERMANENT -> status != SeatStatusEnum.RESERVED ? SeatTransitionResult.Code.INVALID_STATE
+                    : isExpired(ordinal, nowMillis) ? SeatTransitionResult.Code.EXPIRED
+                    : !owns ? SeatTransitionResult.Code.NOT_OWNER : SeatTransitionResult.Code.OK;
+            case RESTORE -> !owns ? SeatTransitionResult.Code.NOT_OWNER
+                    : status != SeatStatusEnum.RESERVED ? SeatTransitionResult.Code.INVALID_STATE : SeatTransitionResult.Code.OK;
+            case CANCEL -> status != SeatStatusEnum.RESERVED && status != SeatStatusEnum.BOOKED ? SeatTransitionResult.Code.INVALID_STATE
+                    : !owns ? SeatTransitionResult.Code.NOT_OWNER : SeatTransitionResult.Code.OK;
+        };
+    }
+
+    private SeatStatus next(SeatTransition transition, SeatStatus before, LocalDateTime restoreExpiresAt) {
+        SeatStatus.SeatStatusBuilder builder = SeatStatus.builder()
+                .id(before.getId())
+                .concertId(before.getConcertId())
+                .seatId(before.getSeatId())
+                .seatInfo(before.getSeatInfo());
+
+        return switch (transition) {
+            case BOOK -> builder.status(SeatStatusEnum.BOOKED)
+                    .userId(before.getUserId())
+                    .reservedAt(before.getReservedAt())
+                    .build();
+            case LOCK_PERMANENT, RESTORE -> builder.status(SeatStatusEnum.RESERVED)
+                    .userId(before.getUserId())
+                    .reservedAt(before.getReservedAt())
+                    .expiresAt(transition == SeatTransition.RESTORE ? restoreExpiresAt : null)
+                    .build();
+            default -> builder.status(SeatStatusEnum.AVAILABLE).build();
+        };
+    }
+
+    private boolean isExpired(int ordinal, long nowMillis) {
+        return states[ordinal] == SeatStatusEnum.RESERVED.ordinal()
+                && expiresAts[ordinal] != NONE
+                && expiresAts[ordinal] < nowMillis;
+    }
+
+    // 선점 인덱스 기준 (reserve.lua 와 같이 스위퍼가 아직 해제하지 않은 만료 선점도 포함)
+    private int countHeld(Long userId, Set<Integer> excluded) {
+        Set<Integer> held = holdsByUser.get(userId);
+        if (held == null) {
+            return 0;
+        }
+        int count = 0;
+        for (int ordinal : held) {
+            if (!excluded.contains(ordinal)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int ordinalOf(Long seatId) {
+        int ordinal = Arrays.binarySearch(seatIds, seatId);
+        return ordinal >= 0 ? ordinal : -1;
+    }
+
+    private SeatStatus statusOf(int ordinal) {
+        SeatStatusEnum status = STATUSES[states[ordinal]];
+        boolean held = isHeldStatus(status);
+        return SeatStatus.builder()
+                .id(concertId + "-" + seatIds[ordinal])
+                .concertId(concertId)
+                .seatId(seatIds[ordinal])
+                .status(status)
+                .userId(held && holders[ordinal] != NONE ? holders[ordinal] : null)
+                .reservedAt(held ? toTime(reservedAts[ordinal]) : null)
+                .expiresAt(status == SeatStatusEnum.RESERVED ? toTime(expiresAts[ordinal]) : null)
+                .seatInfo(seatInfos[ordinal])
+                .build();
+    }
+
+    // 사용자 ID를 보관하는 상태 (선점 / 예매 완료)
+    private static boolean isHeldStatus(SeatStatusEnum status) {
+        return status == SeatStatusEnum.RESERVED || status == SeatStatusEnum.BOOKED;
+    }
+
+    private static LocalDateTime toTime(long millis) {
+        return millis != NONE ? LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()) : null;
+    }
+
+    /**
+     * 기록 중 소유권을 잃음 (라우터는 소유 노드가 아닌 것으로 보고 다른 노드로 다시 전달)
+     */
+    static final class OwnershipLostException extends IllegalStateException {
+
+        OwnershipLostException(Long concertId) {
+            super("좌석 기록 엔진 소유권을 다른 노드가 넘겨받았습니다: concertId=" + concertId);
+        }
+    }
+
+    /**
+     * 명령 응답을 기다리다 시간 초과/인터럽트 (명령이 이미 실행 중이면 기록이 끝까지 진행될 수 있어 결과를 알 수 없음)
+     */
+    static final class OutcomeUnknownException extends IllegalStateException {
+
+        OutcomeUnknownException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.team03.ticketmon.seat.service;
+
+/**
+ * 단일 기록자 엔진 명령 수신 원격 인터페이스 (Redisson Remote Service)
+ * - 노드마다 seat:engine:node:{nodeId} 이름으로 등록하고, 소유 노드가 아닌 노드는 소유 노드 이름으로 명령을 전달
+ * - 명령/응답은 JSON 문자열로 주고받음 (원격 서비스 코덱의 타입 정보에 의존하지 않음)
+ */
+public interface SeatWriterRemote {
+
+    /**
+     * 명령 실행
+     *
+     * @param command JSON 으로 직렬화된 명령
+     * @return JSON 으로 직렬화된 응답
+     */
+    String execute(String command);
+}
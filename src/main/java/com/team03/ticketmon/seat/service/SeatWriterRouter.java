@@ -0,0 +1,404 @@
+package com.team03.ticketmon.seat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.exception.SeatReservationException;
+import com.team03.ticketmon.seat.script.SeatScriptExecutor;
+import com.team03.ticketmon.seat.script.SeatScriptResult;
+import com.team03.ticketmon.seat.script.SeatTransition;
+import com.team03.ticketmon.seat.script.SeatTransitionResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.RemoteInvocationOptions;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.remote.RemoteServiceAckTimeoutException;
+import org.redisson.remote.RemoteServiceTimeoutException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 단일 기록자 좌석 엔진 라우터
+ * - seat.engine.single-writer-concerts 에 지정된 콘서트의 선점/상태 전이를 콘서트 소유 노드의 기록 스레드로 보냄
+ * - 소유 노드: 콘서트 엔진 락(lock:seat:engine:{concertId})을 보유한 노드, 노드 ID는 seat:engine:owner:{concertId} 에 임대로 게시
+ * - 소유 노드가 아니면 Redisson Remote Service(seat:engine:node:{nodeId})로 명령을 전달하고 응답을 기다림
+ * - 소유 노드가 내려가면 락/노드 ID 임대가 만료된 뒤 다음 요청을 받은 노드가 락을 얻고 Redis 상태를 읽어 넘겨받음
+ *
+ * ✅ 결과 형식은 좌석 스크립트와 동일(SeatScriptResult/SeatTransitionResult)하므로 호출 측은 처리 경로만 바꿔 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatWriterRouter implements SeatWriterRemote {
+
+    private static final String SEAT_ENGINE_LOCK_KEY_PREFIX = RedisKeyGenerator.SEAT_ENGINE_LOCK_KEY_PREFIX;
+    private static final String SEAT_ENGINE_OWNER_KEY_PREFIX = RedisKeyGenerator.SEAT_ENGINE_OWNER_KEY_PREFIX;
+    private static final String SEAT_ENGINE_SERVICE_PREFIX = RedisKeyGenerator.SEAT_ENGINE_SERVICE_PREFIX;
+
+    private final RedissonClient redissonClient;
+    private final SeatScriptExecutor seatScriptExecutor;
+    private final SeatExpiryWheel seatExpiryWheel;
+    private final SeatProperties seatProperties;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Long, SeatWriterEngine> engines = new ConcurrentHashMap<>();
+
+    /**
+     * 노드 간 전달 명령
+     */
+    record Command(Type type, Long concertId, Long userId, SeatStatus seat, List<SeatStatus> seats,
+                   LocalDateTime now, Integer maxSeatCount, SeatTransition transition, List<Long> seatIds,
+                   boolean atomic, LocalDateTime restoreExpiresAt) {
+
+        enum Type {
+            RESERVE, RESERVE_MANY, TRANSITION, RELOAD
+        }
+    }
+
+    /**
+     * 노드 간 전달 응답
+     * - notOwner=true 이면 받은 노드가 소유 노드가 아님
+     * - outcomeUnknown=true 이면 소유 노드의 기록 스레드 응답 시간 초과로 기록 여부를 알 수 없음
+     */
+    record Reply(boolean notOwner, boolean outcomeUnknown, SeatScriptResult script, SeatTransitionResult transition) {
+
+        Reply(boolean notOwner, SeatScriptResult script, SeatTransitionResult transition) {
+            this(notOwner, false, script, transition);
+        }
+
+        static Reply unknown() {
+            return new Reply(false, true, null, null);
+        }
+    }
+
+    @PostConstruct
+    void registerRemote() {
+        redissonClient.getRemoteService(SEAT_ENGINE_SERVICE_PREFIX + nodeId)
+                .register(SeatWriterRemote.class, this, Math.max(1, seatProperties.getEngine().getRemoteWorkers()));
+        log.info("단일 기록자 좌석 엔진 노드 등록: nodeId={}", nodeId);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        redissonClient.getRemoteService(SEAT_ENGINE_SERVICE_PREFIX + nodeId).deregister(SeatWriterRemote.class);
+        engines.forEach((concertId, engine) -> {
+            ownerBucket(concertId).compareAndSet(nodeId, null);
+            engine.shutdown();
+        });
+        engines.clear();
+    }
+
+    /**
+     * 단일 기록자 엔진으로 처리하는 콘서트인지 확인
+     */
+    public boolean isSingleWriter(Long concertId) {
+        return seatProperties.getEngine().getSingleWriterConcerts().contains(concertId);
+    }
+
+    /**
+     * 단일 좌석 선점 (SeatScriptExecutor.reserve 와 같은 결과)
+     */
+    public SeatScriptResult reserve(SeatStatus reserved, LocalDateTime now, int maxSeatCount) {
+        Command command = new Command(Command.Type.RESERVE, reserved.getConcertId(), reserved.getUserId(),
+                reserved, null, now, maxSeatCount, null, null, false, null);
+        return dispatch(command, Reply::script);
+    }
+
+    /**
+     * 다중 좌석 일괄 선점 (SeatScriptExecutor.reserveMany 와 같은 결과)
+     */
+    public SeatScriptResult reserveMany(Long concertId, Long userId, List<SeatStatus> reservedSeats,
+                                        LocalDateTime now, int maxSeatCount) {
+        Command command = new Command(Command.Type.RESERVE_MANY, concertId, userId,
+                null, reservedSeats, now, maxSeatCount, null, null, false, null);
+        return dispatch(command, Reply::script);
+    }
+
+    /**
+     * 다중 좌석 상태 전이 (SeatScriptExecutor.transition 과 같은 결과)
+     */
+    public SeatTransitionResult transition(SeatTransition transition, Long concertId, List<Long> seatIds,
+                                           Long userId, boolean atomic, LocalDateTime restoreExpiresAt) {
+        Command command = new Command(Command.Type.TRANSITION, concertId, userId,
+                null, null, LocalDateTime.now(), null, transition, seatIds, atomic, restoreExpiresAt);
+        return dispatch(command, Reply::transition);
+    }
+
+    /**
+     * 소유 노드가 다음 명령에서 Redis 상태를 다시 읽도록 표시 (캐시 재초기화, 관리자 직접 수정 후)
+     * - 소유 노드가 없으면 아무것도 하지 않음 (다음 소유 노드는 어차피 Redis 상태를 읽어 시작)
+     */
+    public void invalidate(Long concertId) {
+        if (!isSingleWriter(concertId)) {
+            return;
+        }
+        SeatWriterEngine engine = engines.get(concertId);
+        if (engine == null && ownerBucket(concertId).get() == null) {
+            return;
+        }
+        dispatch(new Command(Command.Type.RELOAD, concertId, null, null, null, null, null, null, null, false, null),
+                Reply::notOwner);
+    }
+
+    /**
+     * 노드별 엔진 현황 (관리자 조회용)
+     */
+    public Map<String, Object> getEngineStats() {
+        List<Map<String, Object>> owned = new ArrayList<>();
+        engines.forEach((concertId, engine) -> {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("concertId", concertId);
+            stats.put("owner", engine.isOwner());
+            stats.put("commands", engine.commandCount());
+            owned.add(stats);
+        });
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("nodeId", nodeId);
+        result.put("singleWriterConcerts", seatProperties.getEngine().getSingleWriterConcerts());
+        result.put("engines", owned);
+        return result;
+    }
+
+    /**
+     * 다른 노드에서 전달된 명령 실행 (소유 노드가 아니면 notOwner 응답)
+     */
+    @Override
+    public String execute(String rawCommand) {
+        Command command = read(rawCommand, Command.class);
+        SeatWriterEngine engine = engines.get(command.concertId());
+        Reply reply = engine != null && engine.isOwner()
+                ? runLocal(engine, command)
+                : new Reply(true, null, null);
+        return write(reply);
+    }
+
+    /**
+     * 소유 노드 ID 임대 갱신 + 소유권을 잃은 엔진 정리 + 소유 노드가 없는 콘서트 선점
+     */
+    @Scheduled(fixedDelayString = "${seat.engine.owner-refresh-ms:10000}")
+    public void refreshOwnership() {
+        SeatProperties.Engine config = seatProperties.getEngine();
+
+        engines.forEach((concertId, engine) -> {
+            try {
+                if (isSingleWriter(concertId) && engine.verifyOwner(config.getCommandTimeoutMillis())) {
+                    ownerBucket(concertId).set(nodeId, Duration.ofSeconds(config.getOwnerLeaseSeconds()));
+                } else {
+                    log.info("단일 기록자 좌석 엔진 소유권 반납: concertId={}, nodeId={}", concertId, nodeId);
+                    release(concertId, engine);
+                }
+            } catch (Exception e) {
+                log.warn("단일 기록자 좌석 엔진 소유권 갱신 실패: concertId={}, error={}", concertId, e.getMessage());
+                release(concertId, engine);
+            }
+        });
+
+        for (Long concertId : config.getSingleWriterConcerts()) {
+            try {
+                if (!engines.containsKey(concertId) && ownerBucket(concertId).get() == null) {
+                    acquire(concertId);
+                }
+            } catch (Exception e) {
+                log.debug("단일 기록자 좌석 엔진 소유권 획득 시도 실패: concertId={}, error={}", concertId, e.getMessage());
+            }
+        }
+    }
+
+    // ========== 내부 처리 ==========
+
+    /**
+     * 로컬 소유 엔진 → 게시된 소유 노드로 전달 → 소유 노드가 없으면 직접 획득 순으로 처리
+     * - 전달 대상이 응답하지 않거나 소유 노드가 아니면 게시된 노드 ID를 지우고 한 번 더 시도
+     */
+    private <T> T dispatch(Command command, Function<Reply, T> extractor) {
+        Long concertId = command.concertId();
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            SeatWriterEngine engine = engines.get(concertId);
+            if (engine != null && engine.isOwner()) {
+                Reply reply = runLocal(engine, command);
+                if (!reply.notOwner()) {
+                    return extractor.apply(resolve(command, reply, null));
+                }
+                continue;
+            }
+
+            RBucket<String> owner = ownerBucket(concertId);
+            String ownerNodeId = owner.get();
+            if (ownerNodeId == null || ownerNodeId.equals(nodeId)) {
+                engine = acquire(concertId);
+                Reply reply = engine != null ? runLocal(engine, command) : null;
+                if (reply != null && !reply.notOwner()) {
+                    return extractor.apply(resolve(command, reply, null));
+                }
+                continue;
+            }
+
+            try {
+                Reply reply = forward(ownerNodeId, command);
+                if (!reply.notOwner()) {
+                    return extractor.apply(resolve(command, reply, null));
+                }
+            } catch (RemoteServiceAckTimeoutException e) {
+                // 소유 노드가 명령을 받지 않았으므로 다시 전달해도 안전
+                log.warn("단일 기록자 좌석 엔진 소유 노드 응답 없음: concertId={}, ownerNodeId={}", concertId, ownerNodeId);
+            } catch (RemoteServiceTimeoutException e) {
+                // 소유 노드가 명령을 받은 뒤 응답이 늦음 (이미 기록됐을 수 있으므로 다시 전달하지 않음)
+                return extractor.apply(resolve(command, Reply.unknown(), e));
+            }
+            owner.compareAndSet(ownerNodeId, null);
+        }
+
+        throw new SeatReservationException("좌석 처리 노드를 찾는 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    /**
+     * 처리 결과를 알 수 없는 명령의 결과 확인 (결과를 아는 응답은 그대로 반환)
+     * - 선점/다중 선점: 사용자 선점 인덱스를 다시 읽어 요청 좌석을 모두 선점하고 있으면 성공으로 응답
+     * - 그 외(선점이 확인되지 않았거나 상태 전이/재적재): 결과를 알 수 없다는 SeatReservationException
+     *   (명령이 뒤늦게 기록될 수 있으므로 실패로 단정하지 않고 선점 현황 확인을 안내)
+     */
+    private Reply resolve(Command command, Reply reply, RuntimeException cause) {
+        if (!reply.outcomeUnknown()) {
+            return reply;
+        }
+
+        Long concertId = command.concertId();
+        List<Long> requested = switch (command.type()) {
+            case RESERVE -> List.of(command.seat().getSeatId());
+            case RESERVE_MANY -> command.seats().stream().map(SeatStatus::getSeatId).toList();
+            default -> List.of();
+        };
+
+        if (!requested.isEmpty()) {
+            try {
+                if (seatScriptExecutor.findHeldSeatIds(concertId, command.userId()).containsAll(requested)) {
+                    log.warn("단일 기록자 좌석 엔진 응답 시간 초과, 선점 확인됨: concertId={}, userId={}, seatIds={}",
+                            concertId, command.userId(), requested);
+                    return new Reply(false, new SeatScriptResult(SeatScriptResult.Outcome.OK, ""), null);
+                }
+            } catch (Exception e) {
+                log.warn("단일 기록자 좌석 엔진 선점 확인 실패: concertId={}, userId={}, error={}",
+                        concertId, command.userId(), e.getMessage());
+            }
+        }
+
+        log.error("단일 기록자 좌석 엔진 처리 결과 확인 불가: concertId={}, type={}, userId={}, seatIds={}",
+                concertId, command.type(), command.userId(), requested.isEmpty() ? command.seatIds() : requested, cause);
+        throw new SeatReservationException(
+                "좌석 처리 결과를 확인하지 못했습니다. 선점 현황을 확인한 뒤 다시 시도해주세요.", cause);
+    }
+
+    private Reply runLocal(SeatWriterEngine engine, Command command) {
+        long timeoutMillis = seatProperties.getEngine().getCommandTimeoutMillis();
+        long lastUpdateTtlMillis = TimeUnit.HOURS.toMillis(seatProperties.getReservation().getLastUpdateTtlHours());
+
+        try {
+            return switch (command.type()) {
+                case RESERVE -> new Reply(false, engine.reserve(command.seat(), command.now(),
+                        command.maxSeatCount(), lastUpdateTtlMillis, timeoutMillis), null);
+                case RESERVE_MANY -> new Reply(false, engine.reserveMany(command.userId(), command.seats(),
+                        command.now(), command.maxSeatCount(), lastUpdateTtlMillis, timeoutMillis), null);
+                case TRANSITION -> new Reply(false, null, engine.transition(command.transition(), command.seatIds(),
+                        command.userId(), command.atomic(), command.restoreExpiresAt(), command.now(),
+                        lastUpdateTtlMillis, timeoutMillis));
+                case RELOAD -> {
+                    engine.invalidate(timeoutMillis);
+                    yield new Reply(false, null, null);
+                }
+            };
+        } catch (RejectedExecutionException | SeatWriterEngine.OwnershipLostException e) {
+            // 소유권 반납으로 기록 스레드가 종료된 엔진 / 기록 중 펜싱으로 소유권을 잃은 엔진
+            return new Reply(true, null, null);
+        } catch (SeatWriterEngine.OutcomeUnknownException e) {
+            // 기록 스레드 응답 시간 초과 (명령이 뒤늦게 기록될 수 있으므로 다른 노드로 다시 보내지 않음)
+            log.warn("단일 기록자 좌석 엔진 응답 시간 초과: concertId={}, type={}, error={}",
+                    command.concertId(), command.type(), e.getMessage());
+            return Reply.unknown();
+        }
+    }
+
+    private Reply forward(String ownerNodeId, Command command) {
+        long timeoutMillis = seatProperties.getEngine().getCommandTimeoutMillis();
+        SeatWriterRemote remote = redissonClient.getRemoteService(SEAT_ENGINE_SERVICE_PREFIX + ownerNodeId)
+                .get(SeatWriterRemote.class, RemoteInvocationOptions.defaults()
+                        .expectResultWithin(timeoutMillis, TimeUnit.MILLISECONDS));
+        return read(remote.execute(write(command)), Reply.class);
+    }
+
+    /**
+     * 콘서트 엔진 락 획득 시도 (성공하면 노드 ID 게시, 실패하면 엔진 정리 후 null)
+     */
+    private SeatWriterEngine acquire(Long concertId) {
+        SeatProperties.Engine config = seatProperties.getEngine();
+        SeatWriterEngine engine = engines.computeIfAbsent(concertId, id -> new SeatWriterEngine(id,
+                redissonClient.getLock(RedisKeyGenerator.concertKey(SEAT_ENGINE_LOCK_KEY_PREFIX, id)),
+                seatScriptExecutor, seatExpiryWheel));
+
+        boolean acquired;
+        try {
+            acquired = engine.acquire(config.getCommandTimeoutMillis());
+        } catch (SeatWriterEngine.OutcomeUnknownException e) {
+            // 락 획득 응답을 기다리다 시간 초과 (뒤늦게 얻은 락은 엔진 정리 시 기록 스레드에서 해제)
+            log.warn("단일 기록자 좌석 엔진 소유권 획득 응답 시간 초과: concertId={}", concertId);
+            acquired = false;
+        }
+
+        if (acquired) {
+            ownerBucket(concertId).set(nodeId, Duration.ofSeconds(config.getOwnerLeaseSeconds()));
+            log.info("단일 기록자 좌석 엔진 소유권 획득: concertId={}, nodeId={}", concertId, nodeId);
+            return engine;
+        }
+
+        release(concertId, engine);
+        return null;
+    }
+
+    private void release(Long concertId, SeatWriterEngine engine) {
+        if (engines.remove(concertId, engine)) {
+            ownerBucket(concertId).compareAndSet(nodeId, null);
+            engine.shutdown();
+        }
+    }
+
+    private RBucket<String> ownerBucket(Long concertId) {
+        return redissonClient.getBucket(
+                RedisKeyGenerator.concertKey(SEAT_ENGINE_OWNER_KEY_PREFIX, concertId), StringCodec.INSTANCE);
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("단일 기록자 엔진 명령 직렬화 실패", e);
+        }
+    }
+
+    private <T> T read(String raw, Class<T> type) {
+        try {
+            return objectMapper.readValue(raw, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("단일 기록자 엔진 명령 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+-- 좌석 선점 저널 테이블 (SeatHoldJournalEntry)
+-- prod/loadtest 프로필은 ddl-auto: validate 이므로 배포 전에 이 스크립트로 테이블과 인덱스를 먼저 생성해야 한다. (MySQL 8)
+-- - idx_seat_hold_journal_concert_journal : 복원 시 콘서트별 보관 기간 내 저널을 journal_id 순으로 조회
+--   (좌석별 마지막 기록은 seq(좌석 스크립트가 발급한 변경 로그 순번)로 고름)
+-- - idx_seat_hold_journal_recorded        : 보관 기간이 지난 저널 정리 (recorded_at 기준 DELETE)
+
+CREATE TABLE IF NOT EXISTS seat_hold_journal
+(
+    journal_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    concert_id      BIGINT       NOT NULL,
+    concert_seat_id BIGINT       NOT NULL,
+    seq             BIGINT       NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    user_id         BIGINT       NULL,
+    reserved_at     DATETIME(6)  NULL,
+    expires_at      DATETIME(6)  NULL,
+    seat_info       VARCHAR(100) NULL,
+    recorded_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (journal_id),
+    INDEX idx_seat_hold_journal_concert_journal (concert_id, journal_id),
+    INDEX idx_seat_hold_journal_recorded (recorded_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- seq 컬럼 추가 이전에 만든 테이블 (기존 행은 순번 0 → 같은 좌석의 새 기록보다 앞선 것으로 봄)
+-- ALTER TABLE seat_hold_journal ADD COLUMN seq BIGINT NOT NULL DEFAULT 0 AFTER concert_seat_id;
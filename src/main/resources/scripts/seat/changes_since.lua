@@ -0,0 +1,46 @@
+-- 좌석 변경 로그 조회
+-- 클라이언트가 마지막으로 받은 순번 이후의 변경분을 순번 오름차순으로 반환한다.
+-- 요청 순번 이후 변경분 중 일부가 이미 로그에서 잘려 나갔거나(길이 제한/캐시 재초기화),
+-- 순번이 초기화되어 요청 순번이 현재 순번보다 크면 로그로 따라잡을 수 없으므로 전체 스냅샷이 필요하다고 알린다.
+--
+-- KEYS[1] seat:seq:{concertId}
+-- KEYS[2] seat:changes:{concertId}
+-- ARGV[1] 클라이언트가 마지막으로 받은 순번
+-- ARGV[2] 최대 조회 개수
+--
+-- 반환: { 현재 순번, 로그로 따라잡기 가능 여부('1'/'0'), (순번, seatId, status, userId)* }
+
+local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+local since = tonumber(ARGV[1])
+
+if since == current then
+    return { tostring(current), '1' }
+end
+if since > current then
+    return { tostring(current), '0' }
+end
+
+local function seqOf(entryId)
+    return tonumber(string.match(entryId, '^(%d+)-'))
+end
+
+local first = redis.call('XRANGE', KEYS[2], '-', '+', 'COUNT', 1)
+if #first == 0 or seqOf(first[1][1]) > since + 1 then
+    return { tostring(current), '0' }
+end
+
+local reply = { tostring(current), '1' }
+local entries = redis.call('XRANGE', KEYS[2], (since + 1) .. '-0', '+', 'COUNT', ARGV[2])
+for _, entry in ipairs(entries) do
+    local fields = {}
+    local values = entry[2]
+    for i = 1, #values, 2 do
+        fields[values[i]] = values[i + 1]
+    end
+    reply[#reply + 1] = tostring(seqOf(entry[1]))
+    reply[#reply + 1] = fields['seatId']
+    reply[#reply + 1] = fields['status']
+    reply[#reply + 1] = fields['userId'] or ''
+end
+
+return reply
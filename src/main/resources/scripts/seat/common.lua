@@ -0,0 +1,234 @@
+-- 좌석 상태 스크립트 공통 함수
+-- 모든 좌석 스크립트 앞에 붙여서 로드된다. (SeatLuaScripts 참고)
+--
+-- seat:status:{concertId} 해시 값은 SeatStatusCodec 형식이다.
+--   JSON    : Redisson JsonJacksonCodec 으로 직렬화된 SeatStatus JSON
+--             Long 필드는 ["java.lang.Long", 1] 형태의 타입 래퍼로 기록될 수 있으므로 unwrap 으로 값만 꺼낸다.
+--   COMPACT : 'S1|{상태 순번}|{concertId}|{seatId}|{userId}|{reservedAt}|{expiresAt}|{seatInfo}' (빈 필드는 null)
+-- 두 형식을 모두 읽고, 값을 바꿔 다시 기록할 때는 읽은 값과 같은 형식을 유지한다. (encodeSeat)
+
+local function unwrap(value)
+    if value == nil or value == cjson.null then
+        return nil
+    end
+    if type(value) == 'table' and type(value[1]) == 'string' and value[2] ~= nil then
+        if value[2] == cjson.null then
+            return nil
+        end
+        return value[2]
+    end
+    return value
+end
+
+-- SeatStatusEnum 순번과 같은 순서 (압축 형식의 상태 순번)
+local SEAT_STATUS_NAMES = { [0] = 'AVAILABLE', [1] = 'RESERVED', [2] = 'BOOKED', [3] = 'UNAVAILABLE' }
+local SEAT_STATUS_ORDINALS = { AVAILABLE = 0, RESERVED = 1, BOOKED = 2, UNAVAILABLE = 3 }
+
+local function nonEmpty(value)
+    if value == nil or value == '' then
+        return nil
+    end
+    return value
+end
+
+-- 압축 형식 값은 JSON 값과 같은 필드 이름의 테이블로 풀어 전이 계산을 같은 코드로 처리한다.
+local function decodeCompactSeat(raw)
+    local status, concertId, seatId, userId, reservedAt, expiresAt, seatInfo =
+        string.match(raw, '^S1|(%d)|([^|]*)|([^|]*)|([^|]*)|([^|]*)|([^|]*)|(.*)$')
+    return {
+        status = SEAT_STATUS_NAMES[tonumber(status)],
+        concertId = nonEmpty(concertId),
+        seatId = nonEmpty(seatId),
+        userId = nonEmpty(userId),
+        reservedAt = nonEmpty(reservedAt),
+        expiresAt = nonEmpty(expiresAt),
+        seatInfo = nonEmpty(seatInfo)
+    }
+end
+
+local function encodeCompactSeat(value)
+    return 'S1|' .. SEAT_STATUS_ORDINALS[value['status']]
+        .. '|' .. (value['concertId'] or '')
+        .. '|' .. (value['seatId'] or '')
+        .. '|' .. (value['userId'] or '')
+        .. '|' .. (value['reservedAt'] or '')
+        .. '|' .. (value['expiresAt'] or '')
+        .. '|' .. (value['seatInfo'] or '')
+end
+
+local function isCompactSeat(raw)
+    return string.sub(raw, 1, 3) == 'S1|'
+end
+
+-- 저장된 값을 필드 테이블로 변환 (JSON 은 타입 정보(@class) 등 코덱 메타데이터를 그대로 유지)
+local function seatFields(raw)
+    if isCompactSeat(raw) then
+        return decodeCompactSeat(raw)
+    end
+    return cjson.decode(raw)
+end
+
+-- 필드 테이블을 원래 값과 같은 형식으로 다시 인코딩
+local function encodeSeat(raw, value)
+    if isCompactSeat(raw) then
+        return encodeCompactSeat(value)
+    end
+    return cjson.encode(value)
+end
+
+local function decodeSeat(raw)
+    if not raw then
+        return nil
+    end
+    local decoded = seatFields(raw)
+    local expiresAt = unwrap(decoded['expiresAt'])
+    if type(expiresAt) ~= 'string' then
+        expiresAt = nil
+    end
+    return {
+        status = unwrap(decoded['status']),
+        userId = tonumber(unwrap(decoded['userId'])),
+        expiresAt = expiresAt,
+        raw = raw
+    }
+end
+
+-- ISO-8601 LocalDateTime 문자열은 사전순 비교가 시간순 비교와 같다.
+-- expiresAt 이 없는 RESERVED 좌석은 영구 선점(결제 진행 중)이므로 만료되지 않는다.
+local function isExpired(seat, now)
+    return seat.status == 'RESERVED' and seat.expiresAt ~= nil and seat.expiresAt < now
+end
+
+-- 사용자별 선점 좌석 인덱스 (seat:holds:{concertId} 해시)
+-- field 는 userId, value 는 콤마로 구분된 concertSeatId 목록이다. 사용자당 선점 좌석이 몇 개뿐이므로
+-- 별도 키 대신 콘서트 단위 해시 하나에 모아 캐시 초기화 시 한 번에 삭제할 수 있게 한다.
+
+local function holdList(holdsKey, userId)
+    local value = redis.call('HGET', holdsKey, tostring(userId))
+    local seats = {}
+    if value then
+        for seatId in string.gmatch(value, '[^,]+') do
+            seats[#seats + 1] = seatId
+        end
+    end
+    return seats
+end
+
+local function saveHoldList(holdsKey, userId, seats)
+    if #seats == 0 then
+        redis.call('HDEL', holdsKey, tostring(userId))
+    else
+        redis.call('HSET', holdsKey, tostring(userId), table.concat(seats, ','))
+    end
+end
+
+local function addHold(holdsKey, userId, seatId)
+    local seats = holdList(holdsKey, userId)
+    for _, held in ipairs(seats) do
+        if held == seatId then
+            return
+        end
+    end
+    seats[#seats + 1] = seatId
+    saveHoldList(holdsKey, userId, seats)
+end
+
+local function removeHold(holdsKey, userId, seatId)
+    local seats = holdList(holdsKey, userId)
+    local remaining = {}
+    for _, held in ipairs(seats) do
+        if held ~= seatId then
+            remaining[#remaining + 1] = held
+        end
+    end
+    if #remaining ~= #seats then
+        saveHoldList(holdsKey, userId, remaining)
+    end
+end
+
+-- 좌석 값 교체 시 인덱스 동기화: 이전 선점자의 인덱스에서 제거하고, 새 값이 선점이면 새 선점자에 추가
+local function syncHold(holdsKey, seatId, previous, newStatus, newUserId)
+    if previous and previous.status == 'RESERVED' and previous.userId then
+        removeHold(holdsKey, previous.userId, seatId)
+    end
+    if newStatus == 'RESERVED' and newUserId then
+        addHold(holdsKey, newUserId, seatId)
+    end
+end
+
+-- 압축 좌석 상태 저장소
+-- seat:state:{concertId}   좌석 순번(ordinal)마다 2비트 상태 코드를 담은 비트필드 문자열
+-- seat:holders:{concertId} 선점 좌석만 'userId|reservedAt|expiresAt' 값으로 보관하는 해시
+-- seat:ordinal:{concertId} concertSeatId -> 순번 해시 (캐시 초기화 시 생성)
+-- 상태 코드는 SeatCompactStateStore 와 동일하게 유지해야 한다.
+local STATUS_CODES = { AVAILABLE = 0, RESERVED = 1, BOOKED = 2, UNAVAILABLE = 3 }
+
+local function writeCompact(stateKey, holdersKey, ordinalKey, seatId, status, holderValue)
+    local ordinal = redis.call('HGET', ordinalKey, seatId)
+    if not ordinal then
+        return
+    end
+    redis.call('BITFIELD', stateKey, 'SET', 'u2', '#' .. ordinal, STATUS_CODES[status])
+    if status == 'RESERVED' and holderValue ~= '' then
+        redis.call('HSET', holdersKey, seatId, holderValue)
+    else
+        redis.call('HDEL', holdersKey, seatId)
+    end
+end
+
+-- 좌석 수 집계
+-- seat:counts:{concertId} 상태별/구역별/등급별 좌석 수 해시
+--   field: 'status:{상태}', 'section:{구역}:{상태}', 'grade:{등급}:{상태}'
+-- seat:groups:{concertId} concertSeatId -> '구역|등급' 해시 (캐시 초기화 시 생성)
+-- 상태가 바뀔 때마다 이전 상태 카운터를 1 줄이고 새 상태 카운터를 1 늘린다.
+local function shiftCount(countsKey, section, grade, status, delta)
+    redis.call('HINCRBY', countsKey, 'status:' .. status, delta)
+    if section then
+        redis.call('HINCRBY', countsKey, 'section:' .. section .. ':' .. status, delta)
+    end
+    if grade then
+        redis.call('HINCRBY', countsKey, 'grade:' .. grade .. ':' .. status, delta)
+    end
+end
+
+local function countTransition(countsKey, groupsKey, seatId, previousStatus, newStatus)
+    if previousStatus == newStatus then
+        return
+    end
+    if redis.call('EXISTS', countsKey) == 0 then
+        return
+    end
+    local section, grade
+    local group = redis.call('HGET', groupsKey, seatId)
+    if group then
+        section, grade = string.match(group, '^(.*)|(.*)$')
+    end
+    if previousStatus then
+        shiftCount(countsKey, section, grade, previousStatus, -1)
+    end
+    if newStatus then
+        shiftCount(countsKey, section, grade, newStatus, 1)
+    end
+end
+
+-- 선점 만료 휠
+-- seat:expiry:{concertId} 선점 좌석의 만료 시각(epoch ms)을 점수로 갖는 정렬 집합
+-- 만료 시각이 있으면 등록(점수 갱신), 비어 있으면 제거한다. (SeatExpirySweeper 가 점수 순으로 만료 처리)
+local function scheduleExpiry(expiryKey, seatId, expiresAtMillis)
+    if expiresAtMillis ~= nil and expiresAtMillis ~= '' then
+        redis.call('ZADD', expiryKey, expiresAtMillis, seatId)
+    else
+        redis.call('ZREM', expiryKey, seatId)
+    end
+end
+
+-- 좌석 변경 로그
+-- seat:seq:{concertId}     콘서트별 변경 순번 (INCR, 캐시 재초기화 후에도 계속 증가)
+-- seat:changes:{concertId} 순번을 엔트리 ID('{순번}-0')로 쓰는 Redis Stream (MAXLEN ~ 으로 길이 제한)
+-- 좌석 상태가 바뀐 직후 호출해 클라이언트가 '순번 N 이후 변경분'만 받아갈 수 있게 한다.
+local function appendChange(seqKey, changesKey, maxLen, seatId, status, userId)
+    local seq = redis.call('INCR', seqKey)
+    redis.call('XADD', changesKey, 'MAXLEN', '~', maxLen, seq .. '-0',
+        'seatId', seatId, 'status', status, 'userId', userId and tostring(userId) or '')
+    return seq
+end
@@ -0,0 +1,60 @@
+-- 좌석 상태 저장 (단일 좌석)
+-- 상태 저장, 사용자별 선점 인덱스/압축 상태 저장소/만료 휠 동기화, 마지막 업데이트 시간 갱신을 원자적으로 수행한다.
+-- 상태 전이 검증은 호출하는 서비스에서 이미 끝났다고 가정한다.
+-- 단일 기록자 엔진의 기록이면 펜싱 토큰이 현재 값과 같을 때만 저장한다 (소유권을 넘겨받은 노드가 있으면 거부).
+-- 보상(되돌리기) 기록이면 현재 값이 직전에 기록한 값과 같을 때만 저장한다 (그 사이 다른 요청이 바꾼 좌석은 유지).
+--
+-- KEYS[1] seat:status:{concertId}
+-- KEYS[2] seat:last_update:{concertId}
+-- KEYS[3] seat:holds:{concertId}
+-- KEYS[4] seat:state:{concertId}
+-- KEYS[5] seat:holders:{concertId}
+-- KEYS[6] seat:ordinal:{concertId}
+-- KEYS[7] seat:counts:{concertId}
+-- KEYS[8] seat:groups:{concertId}
+-- KEYS[9] seat:expiry:{concertId}
+-- KEYS[10] seat:seq:{concertId}
+-- KEYS[11] seat:changes:{concertId}
+-- KEYS[12] seat:engine:fence:{concertId}
+-- ARGV[1] seatId
+-- ARGV[2] 저장할 SeatStatus (코덱으로 직렬화된 값)
+-- ARGV[3] 새 상태 (SeatStatusEnum 이름)
+-- ARGV[4] 새 선점자 userId (없으면 빈 문자열)
+-- ARGV[5] 현재 시각 (ISO_LOCAL_DATE_TIME)
+-- ARGV[6] 마지막 업데이트 시간 TTL (ms)
+-- ARGV[7] 압축 저장소 선점자 값 ('userId|reservedAt|expiresAt', 선점이 아니면 빈 문자열)
+-- ARGV[8] 선점 만료 시각 (epoch ms, 만료 시각이 있는 선점이 아니면 빈 문자열)
+-- ARGV[9] 변경 로그 최대 길이
+-- ARGV[10] 펜싱 토큰 (단일 기록자 엔진 기록이 아니면 빈 문자열)
+-- ARGV[11] 기대하는 현재 값 (보상 기록이 아니면 빈 문자열)
+--
+-- 반환: { 'OK', '', seatId, 변경 순번 } / 펜싱 토큰 불일치 시 { 'FENCED', '' } / 현재 값 불일치 시 { 'STALE', 현재 값 }
+
+if ARGV[10] ~= '' and redis.call('GET', KEYS[12]) ~= ARGV[10] then
+    return { 'FENCED', '' }
+end
+
+local currentRaw = redis.call('HGET', KEYS[1], ARGV[1])
+if ARGV[11] ~= '' and currentRaw ~= ARGV[11] then
+    return { 'STALE', currentRaw or '' }
+end
+
+local seatKey = KEYS[1]
+local lastUpdateKey = KEYS[2]
+local holdsKey = KEYS[3]
+
+local seatId = ARGV[1]
+local newStatus = ARGV[3]
+local newUserId = tonumber(ARGV[4])
+
+local previous = decodeSeat(currentRaw)
+
+redis.call('HSET', seatKey, seatId, ARGV[2])
+syncHold(holdsKey, seatId, previous, newStatus, newUserId)
+writeCompact(KEYS[4], KEYS[5], KEYS[6], seatId, newStatus, ARGV[7])
+countTransition(KEYS[7], KEYS[8], seatId, previous and previous.status, newStatus)
+scheduleExpiry(KEYS[9], seatId, ARGV[8])
+local seq = appendChange(KEYS[10], KEYS[11], ARGV[9], seatId, newStatus, newUserId)
+redis.call('SET', lastUpdateKey, ARGV[5], 'PX', ARGV[6])
+
+return { 'OK', '', seatId, tostring(seq) }
@@ -0,0 +1,81 @@
+-- 좌석 임시 선점 (단일 좌석)
+-- 가용성 검증, 사용자별 선점 개수 제한 검증, 상태 저장, 만료 휠 등록, 마지막 업데이트 시간 갱신을
+-- 한 번의 호출로 원자적으로 수행한다.
+--
+-- KEYS[1] seat:status:{concertId}
+-- KEYS[2] seat:expiry:{concertId}
+-- KEYS[3] seat:last_update:{concertId}
+-- KEYS[4] seat:holds:{concertId}
+-- KEYS[5] seat:state:{concertId}
+-- KEYS[6] seat:holders:{concertId}
+-- KEYS[7] seat:ordinal:{concertId}
+-- KEYS[8] seat:counts:{concertId}
+-- KEYS[9] seat:groups:{concertId}
+-- KEYS[10] seat:seq:{concertId}
+-- KEYS[11] seat:changes:{concertId}
+-- ARGV[1] seatId
+-- ARGV[2] userId
+-- ARGV[3] 저장할 SeatStatus (코덱으로 직렬화된 값)
+-- ARGV[4] 현재 시각 (ISO_LOCAL_DATE_TIME)
+-- ARGV[5] 사용자당 최대 선점 좌석 수
+-- ARGV[6] 선점 만료 시각 (epoch ms, 만료 휠 점수)
+-- ARGV[7] 마지막 업데이트 시간 TTL (ms)
+-- ARGV[8] 압축 저장소 선점자 값 ('userId|reservedAt|expiresAt')
+-- ARGV[9] 변경 로그 최대 길이
+--
+-- 반환: { 결과 코드, 부가 정보 } / 성공 시 { 'OK', '', seatId, 변경 순번 }
+
+local seatKey = KEYS[1]
+local expiryKey = KEYS[2]
+local lastUpdateKey = KEYS[3]
+local holdsKey = KEYS[4]
+
+local seatId = ARGV[1]
+local userId = tonumber(ARGV[2])
+local newValue = ARGV[3]
+local now = ARGV[4]
+local maxSeatCount = tonumber(ARGV[5])
+
+if redis.call('EXISTS', seatKey) == 0 then
+    return { 'CACHE_MISSING', '' }
+end
+
+-- 캐시가 있는데 좌석 필드가 없으면 콘서트에 없는 좌석이므로 새로 만들지 않는다.
+local current = decodeSeat(redis.call('HGET', seatKey, seatId))
+if not current then
+    return { 'NOT_FOUND', seatId }
+end
+if current.status == 'BOOKED' then
+    return { 'BOOKED', '' }
+end
+if current.status == 'UNAVAILABLE' then
+    return { 'UNAVAILABLE', '' }
+end
+if current.status == 'RESERVED' and not isExpired(current, now) then
+    if current.userId == userId then
+        return { 'ALREADY_HELD', current.raw }
+    end
+    return { 'TAKEN', '' }
+end
+
+-- 사용자별 선점 개수 확인 (선점 인덱스 기준, 대상 좌석 제외)
+local held = 0
+for _, heldSeatId in ipairs(holdList(holdsKey, userId)) do
+    if heldSeatId ~= seatId then
+        held = held + 1
+    end
+end
+
+if held >= maxSeatCount then
+    return { 'LIMIT_EXCEEDED', tostring(held) }
+end
+
+redis.call('HSET', seatKey, seatId, newValue)
+syncHold(holdsKey, seatId, current, 'RESERVED', userId)
+writeCompact(KEYS[5], KEYS[6], KEYS[7], seatId, 'RESERVED', ARGV[8])
+countTransition(KEYS[8], KEYS[9], seatId, current.status, 'RESERVED')
+scheduleExpiry(expiryKey, seatId, ARGV[6])
+local seq = appendChange(KEYS[10], KEYS[11], ARGV[9], seatId, 'RESERVED', userId)
+redis.call('SET', lastUpdateKey, now, 'PX', ARGV[7])
+
+return { 'OK', '', seatId, tostring(seq) }
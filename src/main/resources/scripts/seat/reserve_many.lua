@@ -0,0 +1,108 @@
+-- 다중 좌석 임시 선점 (All-or-Nothing)
+-- 요청한 좌석 전체의 가용성과 사용자별 선점 개수 제한을 먼저 검증하고,
+-- 하나라도 실패하면 아무것도 기록하지 않고 실패 좌석을 반환한다.
+-- 이미 같은 사용자가 선점 중인 좌석은 그대로 유지한다. (단일 선점과 동일하게 만료 시간 갱신 없음)
+--
+-- KEYS[1] seat:status:{concertId}
+-- KEYS[2] seat:last_update:{concertId}
+-- KEYS[3] seat:holds:{concertId}
+-- KEYS[4] seat:state:{concertId}
+-- KEYS[5] seat:holders:{concertId}
+-- KEYS[6] seat:ordinal:{concertId}
+-- KEYS[7] seat:counts:{concertId}
+-- KEYS[8] seat:groups:{concertId}
+-- KEYS[9] seat:expiry:{concertId}
+-- KEYS[10] seat:seq:{concertId}
+-- KEYS[11] seat:changes:{concertId}
+-- ARGV[1] userId
+-- ARGV[2] 현재 시각 (ISO_LOCAL_DATE_TIME)
+-- ARGV[3] 사용자당 최대 선점 좌석 수
+-- ARGV[4] 선점 만료 시각 (epoch ms, 만료 휠 점수)
+-- ARGV[5] 마지막 업데이트 시간 TTL (ms)
+-- ARGV[6] 변경 로그 최대 길이
+-- ARGV[7 + (i-1)*3 + 0] seatId_i
+-- ARGV[7 + (i-1)*3 + 1] 저장할 SeatStatus_i (코덱으로 직렬화된 값)
+-- ARGV[7 + (i-1)*3 + 2] 압축 저장소 선점자 값_i
+--
+-- 반환: { 결과 코드, 부가 정보 }
+--   OK             부가 정보: 이미 선점 중이어서 유지된 좌석 ID (콤마 구분), 이어서 새로 선점한 좌석마다 seatId, 변경 순번
+--   NOT_FOUND / BOOKED / UNAVAILABLE / TAKEN  부가 정보: 실패한 좌석 ID
+--   LIMIT_EXCEEDED 부가 정보: 요청 좌석을 제외한 현재 선점 개수
+
+local seatKey = KEYS[1]
+local lastUpdateKey = KEYS[2]
+local holdsKey = KEYS[3]
+
+local userId = tonumber(ARGV[1])
+local now = ARGV[2]
+local maxSeatCount = tonumber(ARGV[3])
+local seatCount = (#ARGV - 6) / 3
+
+if redis.call('EXISTS', seatKey) == 0 then
+    return { 'CACHE_MISSING', '' }
+end
+
+-- 1. 가용성 검증 (기록 전에 전체 검증)
+local requested = {}
+local currents = {}
+local alreadyHeld = {}
+for i = 1, seatCount do
+    local seatId = ARGV[7 + (i - 1) * 3]
+    requested[seatId] = true
+
+    local current = decodeSeat(redis.call('HGET', seatKey, seatId))
+    if not current then
+        return { 'NOT_FOUND', seatId }
+    end
+    if current.status == 'BOOKED' then
+        return { 'BOOKED', seatId }
+    end
+    if current.status == 'UNAVAILABLE' then
+        return { 'UNAVAILABLE', seatId }
+    end
+    if current.status == 'RESERVED' and not isExpired(current, now) then
+        if current.userId ~= userId then
+            return { 'TAKEN', seatId }
+        end
+        alreadyHeld[#alreadyHeld + 1] = seatId
+    end
+    currents[i] = current
+end
+
+-- 2. 사용자별 선점 개수 검증 (요청 좌석 외의 기존 선점 + 요청 좌석 수)
+local held = 0
+for _, heldSeatId in ipairs(holdList(holdsKey, userId)) do
+    if not requested[heldSeatId] then
+        held = held + 1
+    end
+end
+
+if held + seatCount > maxSeatCount then
+    return { 'LIMIT_EXCEEDED', tostring(held) }
+end
+
+-- 3. 기록 (이미 선점 중인 좌석은 건너뜀)
+local reply = { 'OK', table.concat(alreadyHeld, ',') }
+local keep = {}
+for _, seatId in ipairs(alreadyHeld) do
+    keep[seatId] = true
+end
+
+for i = 1, seatCount do
+    local base = 7 + (i - 1) * 3
+    local seatId = ARGV[base]
+    if not keep[seatId] then
+        redis.call('HSET', seatKey, seatId, ARGV[base + 1])
+        syncHold(holdsKey, seatId, currents[i], 'RESERVED', userId)
+        writeCompact(KEYS[4], KEYS[5], KEYS[6], seatId, 'RESERVED', ARGV[base + 2])
+        countTransition(KEYS[7], KEYS[8], seatId, currents[i].status, 'RESERVED')
+        scheduleExpiry(KEYS[9], seatId, ARGV[4])
+        local seq = appendChange(KEYS[10], KEYS[11], ARGV[6], seatId, 'RESERVED', userId)
+        reply[#reply + 1] = seatId
+        reply[#reply + 1] = tostring(seq)
+    end
+end
+
+redis.call('SET', lastUpdateKey, now, 'PX', ARGV[5])
+
+return reply
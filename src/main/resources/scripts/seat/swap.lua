@@ -0,0 +1,111 @@
+-- 좌석 캐시 교체
+-- 초기화 중 임시 키에 기록한 캐시를 운영 키로 한 번에 교체한다.
+-- 임시 키가 없으면(해당 저장소에 기록할 내용이 없었으면) 운영 키를 삭제하고,
+-- 교체 후에는 임시 키에 걸어 둔 만료 시간을 제거한다.
+--
+-- 운영 캐시가 있으면 진행 중인 선점(RESERVED)과 예매 불가(UNAVAILABLE) 좌석을 교체와 같은 스크립트 안에서 이어 붙인다.
+--   교체 직전 운영 해시에서 값을 읽어 두고, 교체 후 새 값이 AVAILABLE 인 좌석만 이전 값으로 되돌리면서
+--   선점 인덱스/압축 상태/좌석 수 집계/만료 휠을 함께 맞춘다. (DB 기준 BOOKED 좌석은 새 값 유지)
+--   → 교체 직후 선점 좌석이 AVAILABLE 로 보이는 구간이 없고, 저널에 아직 기록되지 않은 선점도 잃지 않는다.
+--   선점 좌석은 선점 인덱스에서, 예매 불가 좌석은 호출 측이 운영 해시를 청크 단위로 훑어 넘긴 좌석 ID(ARGV[4..])에서 찾는다.
+--   → 스크립트는 이어 붙일 후보 좌석만 읽고 해시 전체를 읽지 않는다.
+--
+-- KEYS[2i - 1] 임시 키_i
+-- KEYS[2i]     운영 키_i
+-- KEYS[2n + j] 교체와 함께 삭제할 운영 키_j
+-- 이어 붙이기 사용 시 마지막 8개 키 (샤드 하나의 운영 키)
+--   status, state, holders, ordinal, counts, groups, holds, expiry
+-- ARGV[1]      교체할 키 쌍 개수 n
+-- ARGV[2]      교체와 함께 삭제할 키 개수 m
+-- ARGV[3]      운영 캐시의 선점/예매 불가 좌석 이어 붙이기 여부 ('1' / '0')
+-- ARGV[4..]    예매 불가 후보 좌석 ID (이어 붙이기 사용 시, 현재 값이 예매 불가일 때만 이어 붙임)
+--
+-- 반환: { 교체된 키 개수, 이어 붙인 좌석 수, 교체 전 운영 좌석 해시 존재 여부 (1 / 0, 이어 붙이기 미사용 시 0) }
+
+local pairCount = tonumber(ARGV[1])
+local clearCount = tonumber(ARGV[2])
+local carry = ARGV[3] == '1'
+local base = 2 * pairCount + clearCount
+
+local statusKey = KEYS[base + 1]
+local stateKey = KEYS[base + 2]
+local holdersKey = KEYS[base + 3]
+local ordinalKey = KEYS[base + 4]
+local countsKey = KEYS[base + 5]
+local groupsKey = KEYS[base + 6]
+local holdsKey = KEYS[base + 7]
+local expiryKey = KEYS[base + 8]
+
+-- 1. 교체 전 운영 캐시에서 이어 붙일 좌석 수집 (좌석 ID, 값, 압축 선점자 값, 만료 점수)
+local carried = {}
+local liveExisted = carry and redis.call('EXISTS', statusKey) == 1
+if liveExisted then
+    local candidates = {}
+    local seen = {}
+    local function collect(seatId, raw)
+        if seen[seatId] or not raw then
+            return
+        end
+        seen[seatId] = true
+        -- 읽을 수 없는 값은 이어 붙이지 않음 (초기화가 손상된 캐시를 고치는 경로이므로 교체 자체는 계속)
+        local ok, seat = pcall(decodeSeat, raw)
+        if ok and (seat.status == 'RESERVED' or seat.status == 'UNAVAILABLE') then
+            candidates[#candidates + 1] = {
+                seatId = seatId,
+                raw = raw,
+                seat = seat,
+                holder = redis.call('HGET', holdersKey, seatId) or '',
+                expiry = redis.call('ZSCORE', expiryKey, seatId)
+            }
+        end
+    end
+
+    local holds = redis.call('HVALS', holdsKey)
+    for _, seats in ipairs(holds) do
+        for seatId in string.gmatch(seats, '[^,]+') do
+            collect(seatId, redis.call('HGET', statusKey, seatId))
+        end
+    end
+
+    for i = 4, #ARGV do
+        collect(ARGV[i], redis.call('HGET', statusKey, ARGV[i]))
+    end
+    carried = candidates
+end
+
+-- 2. 임시 키 → 운영 키 교체
+local swapped = 0
+for i = 1, pairCount do
+    local stagedKey = KEYS[2 * i - 1]
+    local liveKey = KEYS[2 * i]
+    if redis.call('EXISTS', stagedKey) == 1 then
+        redis.call('RENAME', stagedKey, liveKey)
+        redis.call('PERSIST', liveKey)
+        swapped = swapped + 1
+    else
+        redis.call('DEL', liveKey)
+    end
+end
+
+for i = 2 * pairCount + 1, base do
+    redis.call('DEL', KEYS[i])
+end
+
+-- 3. 새 값이 AVAILABLE 인 좌석만 이전 값으로 되돌림
+local carriedCount = 0
+for _, entry in ipairs(carried) do
+    local current = decodeSeat(redis.call('HGET', statusKey, entry.seatId))
+    if current and current.status == 'AVAILABLE' then
+        local status = entry.seat.status
+        redis.call('HSET', statusKey, entry.seatId, entry.raw)
+        syncHold(holdsKey, entry.seatId, nil, status, entry.seat.userId)
+        writeCompact(stateKey, holdersKey, ordinalKey, entry.seatId, status, entry.holder)
+        countTransition(countsKey, groupsKey, entry.seatId, 'AVAILABLE', status)
+        if status == 'RESERVED' and entry.expiry then
+            redis.call('ZADD', expiryKey, entry.expiry, entry.seatId)
+        end
+        carriedCount = carriedCount + 1
+    end
+end
+
+return { swapped, carriedCount, liveExisted and 1 or 0 }
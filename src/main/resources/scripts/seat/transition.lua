@@ -0,0 +1,209 @@
+-- 좌석 상태 전이 (다중 좌석)
+-- 좌석마다 현재 상태를 읽어 전이 가능 여부를 검증하고, 새 상태를 서버에서 계산해 저장한다.
+-- 상태 저장, 사용자별 선점 인덱스, 압축 저장소, 만료 휠, 마지막 업데이트 시간을 한 번에 갱신한다.
+--
+-- 전이 종류 (SeatTransition 과 동일)
+--   RELEASE         RESERVED(본인)            -> AVAILABLE
+--   FORCE_RELEASE   AVAILABLE 외 모든 상태     -> AVAILABLE   (AVAILABLE 은 NOOP)
+--   EXPIRE          RESERVED(만료 시각 경과)    -> AVAILABLE   (그 외 NOOP, 만료 대상이 아닌 좌석은 만료 휠에서 정리)
+--   BOOK            RESERVED(미만료, 본인*)     -> BOOKED      (*userId 가 비어 있으면 소유자 검증 생략)
+--   LOCK_PERMANENT  RESERVED(미만료, 본인)      -> RESERVED, expiresAt 제거
+--   RESTORE         RESERVED(본인)             -> RESERVED, expiresAt = ARGV[6] (비어 있으면 영구)
+--   CANCEL          RESERVED/BOOKED(본인)      -> AVAILABLE
+--
+-- KEYS[1] seat:status:{concertId}
+-- KEYS[2] seat:last_update:{concertId}
+-- KEYS[3] seat:holds:{concertId}
+-- KEYS[4] seat:state:{concertId}
+-- KEYS[5] seat:holders:{concertId}
+-- KEYS[6] seat:ordinal:{concertId}
+-- KEYS[7] seat:counts:{concertId}
+-- KEYS[8] seat:groups:{concertId}
+-- KEYS[9] seat:expiry:{concertId}
+-- KEYS[10] seat:seq:{concertId}
+-- KEYS[11] seat:changes:{concertId}
+-- ARGV[1] 전이 종류
+-- ARGV[2] 요청 사용자 ID (없으면 빈 문자열)
+-- ARGV[3] 현재 시각 (ISO_LOCAL_DATE_TIME)
+-- ARGV[4] 마지막 업데이트 시간 TTL (ms)
+-- ARGV[5] 전체 적용 여부 ('1': 하나라도 실패하면 아무것도 적용하지 않음, '0': 가능한 좌석만 적용,
+--         '2': 검증만 하고 적용하지 않음 - 여러 샤드에 걸친 전체 적용 전 사전 검증용)
+-- ARGV[6] RESTORE 시 새 만료 시각 (ISO_LOCAL_DATE_TIME, 비어 있으면 영구 선점)
+-- ARGV[7] RESTORE 시 새 만료 시각 (epoch ms, 비어 있으면 만료 휠에서 제거)
+-- ARGV[8] 변경 로그 최대 길이
+-- ARGV[8 + i] seatId_i
+--
+-- 반환: { 전체 결과, (좌석별) 결과 코드, 이전 값, 새 값, 변경 순번, ... }
+--   전체 결과: APPLIED / REJECTED / CACHE_MISSING (검증만 한 경우 통과하면 VALIDATED)
+--   좌석 결과: OK / NOOP / NOT_FOUND / INVALID_STATE / NOT_OWNER / EXPIRED
+--   변경 순번: 이 좌석 변경에 붙은 변경 로그 순번 (변경하지 않았으면 빈 문자열)
+
+local seatKey = KEYS[1]
+local lastUpdateKey = KEYS[2]
+local holdsKey = KEYS[3]
+
+local transition = ARGV[1]
+local userId = tonumber(ARGV[2])
+local now = ARGV[3]
+local atomic = ARGV[5] ~= '0'
+local validateOnly = ARGV[5] == '2'
+local restoreExpiresAt = ARGV[6]
+local restoreExpiresAtMillis = ARGV[7]
+local seatCount = #ARGV - 8
+
+local TRANSITIONS = {
+    RELEASE = true, FORCE_RELEASE = true, EXPIRE = true, BOOK = true,
+    LOCK_PERMANENT = true, RESTORE = true, CANCEL = true
+}
+if not TRANSITIONS[transition] then
+    return redis.error_reply('unknown seat transition: ' .. tostring(transition))
+end
+
+if redis.call('EXISTS', seatKey) == 0 then
+    -- 좌석 캐시가 없으면 선점도 남아 있을 수 없으므로 만료 휠도 비운다.
+    if transition == 'EXPIRE' then
+        redis.call('DEL', KEYS[9])
+    end
+    local reply = { 'CACHE_MISSING' }
+    for i = 1, seatCount do
+        reply[#reply + 1] = 'NOT_FOUND'
+        reply[#reply + 1] = ''
+        reply[#reply + 1] = ''
+        reply[#reply + 1] = ''
+    end
+    return reply
+end
+
+local function owns(seat)
+    return userId ~= nil and seat.userId == userId
+end
+
+local function validate(seat)
+    if not seat then
+        return 'NOT_FOUND'
+    end
+    if transition == 'RELEASE' then
+        if seat.status ~= 'RESERVED' then return 'INVALID_STATE' end
+        if not owns(seat) then return 'NOT_OWNER' end
+    elseif transition == 'FORCE_RELEASE' then
+        if seat.status == 'AVAILABLE' then return 'NOOP' end
+    elseif transition == 'EXPIRE' then
+        if not isExpired(seat, now) then return 'NOOP' end
+    elseif transition == 'BOOK' then
+        if seat.status ~= 'RESERVED' then return 'INVALID_STATE' end
+        if isExpired(seat, now) then return 'EXPIRED' end
+        if userId ~= nil and not owns(seat) then return 'NOT_OWNER' end
+    elseif transition == 'LOCK_PERMANENT' then
+        if seat.status ~= 'RESERVED' then return 'INVALID_STATE' end
+        if isExpired(seat, now) then return 'EXPIRED' end
+        if not owns(seat) then return 'NOT_OWNER' end
+    elseif transition == 'RESTORE' then
+        if not owns(seat) then return 'NOT_OWNER' end
+        if seat.status ~= 'RESERVED' then return 'INVALID_STATE' end
+    elseif transition == 'CANCEL' then
+        if seat.status ~= 'RESERVED' and seat.status ~= 'BOOKED' then return 'INVALID_STATE' end
+        if not owns(seat) then return 'NOT_OWNER' end
+    end
+    return 'OK'
+end
+
+-- 저장된 값을 필드 테이블로 풀어 수정하므로 JSON 의 타입 정보(@class) 등 코덱 메타데이터는 유지된다.
+local function nextValue(seat)
+    local value = seatFields(seat.raw)
+    if transition == 'BOOK' then
+        value['status'] = 'BOOKED'
+        value['expiresAt'] = nil
+    elseif transition == 'LOCK_PERMANENT' then
+        value['expiresAt'] = nil
+    elseif transition == 'RESTORE' then
+        if restoreExpiresAt ~= '' then
+            value['expiresAt'] = restoreExpiresAt
+        else
+            value['expiresAt'] = nil
+        end
+    else
+        value['status'] = 'AVAILABLE'
+        value['userId'] = nil
+        value['reservedAt'] = nil
+        value['expiresAt'] = nil
+    end
+    return value
+end
+
+local function holderOf(value)
+    if unwrap(value['status']) ~= 'RESERVED' then
+        return ''
+    end
+    local reservedAt = unwrap(value['reservedAt'])
+    local expiresAt = unwrap(value['expiresAt'])
+    return tostring(unwrap(value['userId'])) .. '|'
+        .. (type(reservedAt) == 'string' and reservedAt or '') .. '|'
+        .. (type(expiresAt) == 'string' and expiresAt or '')
+end
+
+-- 1. 검증
+local seats = {}
+local codes = {}
+local rejected = false
+for i = 1, seatCount do
+    local seat = decodeSeat(redis.call('HGET', seatKey, ARGV[8 + i]))
+    local code = validate(seat)
+    seats[i] = seat
+    codes[i] = code
+    if code ~= 'OK' and code ~= 'NOOP' then
+        rejected = true
+    end
+end
+
+-- 2. 적용
+if validateOnly then
+    local reply = { rejected and 'REJECTED' or 'VALIDATED' }
+    for i = 1, seatCount do
+        reply[#reply + 1] = codes[i]
+        reply[#reply + 1] = seats[i] and seats[i].raw or ''
+        reply[#reply + 1] = ''
+        reply[#reply + 1] = ''
+    end
+    return reply
+end
+
+local applyAll = not (atomic and rejected)
+local reply = { applyAll and 'APPLIED' or 'REJECTED' }
+local changed = false
+
+for i = 1, seatCount do
+    local seatId = ARGV[8 + i]
+    local seat = seats[i]
+    local previous = seat and seat.raw or ''
+    local current = ''
+    local seq = ''
+
+    if applyAll and codes[i] == 'OK' then
+        local value = nextValue(seat)
+        local status = unwrap(value['status'])
+        current = encodeSeat(seat.raw, value)
+
+        redis.call('HSET', seatKey, seatId, current)
+        syncHold(holdsKey, seatId, seat, status, tonumber(unwrap(value['userId'])))
+        writeCompact(KEYS[4], KEYS[5], KEYS[6], seatId, status, holderOf(value))
+        countTransition(KEYS[7], KEYS[8], seatId, seat.status, status)
+
+        scheduleExpiry(KEYS[9], seatId, transition == 'RESTORE' and restoreExpiresAtMillis or '')
+        seq = tostring(appendChange(KEYS[10], KEYS[11], ARGV[8], seatId, status, tonumber(unwrap(value['userId']))))
+        changed = true
+    elseif transition == 'EXPIRE' and (not seat or seat.status ~= 'RESERVED' or not seat.expiresAt) then
+        -- 이미 해제/확정되었거나 영구 선점으로 바뀐 좌석이 만료 휠에 남아 있으면 제거
+        scheduleExpiry(KEYS[9], seatId, '')
+    end
+
+    reply[#reply + 1] = codes[i]
+    reply[#reply + 1] = previous
+    reply[#reply + 1] = current
+    reply[#reply + 1] = seq
+end
+
+if changed then
+    redis.call('SET', lastUpdateKey, now, 'PX', ARGV[4])
+end
+
+return reply
@@ -0,0 +1,152 @@
+package com.team03.ticketmon._global.config;
+
+import com.team03.ticketmon.seat.controller.SeatQueryController;
+import com.team03.ticketmon.seat.service.SeatStatusService;
+import com.team03.ticketmon.seat.service.SeatStatusSnapshotCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Open-EntityManager-in-View 경로 제한 검증
+ * - 실제 MVC 인터셉터 체인(OpenInViewConfig)으로 요청을 보내고, 컨트롤러 안에서 EntityManager 가 요청에 묶였는지 확인
+ * - 좌석 핫 경로는 실제 SeatQueryController, 그 밖의 경로는 확인용 컨트롤러 사용
+ */
+@SpringJUnitWebConfig(OpenInViewConfigTest.Config.class)
+class OpenInViewConfigTest {
+
+    @Configuration
+    @EnableWebMvc
+    @Import({OpenInViewConfig.class, SeatQueryController.class, OpenInViewConfigTest.ProbeController.class})
+    static class Config {
+
+        @Bean
+        EntityManagerFactory entityManagerFactory() {
+            EntityManagerFactory factory = mock(EntityManagerFactory.class);
+            when(factory.createEntityManager()).thenReturn(mock(EntityManager.class));
+            return factory;
+        }
+
+        // 운영에서는 Spring Security 가 등록하는 @AuthenticationPrincipal 해석기 (비로그인이면 null)
+        @Bean
+        WebMvcConfigurer authenticationPrincipalResolver() {
+            return new WebMvcConfigurer() {
+                @Override
+                public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+                    resolvers.add(new AuthenticationPrincipalArgumentResolver());
+                }
+            };
+        }
+    }
+
+    /**
+     * OSIV 가 적용되는 경로에서 EntityManager 바인딩 여부를 기록하는 컨트롤러
+     */
+    @RestController
+    static class ProbeController {
+
+        static final AtomicReference<Boolean> bound = new AtomicReference<>();
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @GetMapping("/api/concerts/probe")
+        String probe() {
+            bound.set(TransactionSynchronizationManager.hasResource(entityManagerFactory));
+            return "ok";
+        }
+    }
+
+    @Autowired private WebApplicationContext context;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean private SeatStatusService seatStatusService;
+    @MockitoBean private SeatStatusSnapshotCache seatStatusSnapshotCache;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        ProbeController.bound.set(null);
+    }
+
+    @Test
+    @DisplayName("좌석 상태 조회 요청은 처리 중에 EntityManager 가 묶이지 않는다")
+    void seatRequestRunsWithoutEntityManager() throws Exception {
+        AtomicReference<Boolean> bound = new AtomicReference<>();
+        when(seatStatusSnapshotCache.getAllStatus(1L)).thenAnswer(invocation -> {
+            bound.set(TransactionSynchronizationManager.hasResource(entityManagerFactory));
+            return null;
+        });
+        when(seatStatusService.getAllSeatStatus(1L)).thenReturn(Map.of());
+
+        mockMvc.perform(get("/api/seats/concerts/1/status")).andExpect(status().isOk());
+
+        assertThat(bound.get()).isFalse();
+    }
+
+    @Test
+    @DisplayName("핫 경로가 아닌 요청은 기존처럼 EntityManager 가 요청 동안 묶인다")
+    void otherRequestKeepsOpenInView() throws Exception {
+        mockMvc.perform(get("/api/concerts/probe")).andExpect(status().isOk());
+
+        assertThat(ProbeController.bound.get()).isTrue();
+    }
+
+    @Test
+    @DisplayName("좌석/대기열 핫 경로 URL은 Open-EntityManager-in-View 대상에서 제외된다")
+    void hotPathsExcludedFromOpenInView() {
+        AntPathMatcher matcher = new AntPathMatcher();
+        List<String> hotPaths = List.of(
+                "/api/seats/concerts/1/seats/10/reserve",
+                "/api/seats/concerts/1/seats/10/release",
+                "/api/seats/concerts/1/status",
+                "/api/seats/concerts/1/polling",
+                "/api/queue/enter",
+                "/api/queue/status",
+                "/api/access-keys/extend",
+                "/api/concerts/1/seat-layout",
+                "/api/concerts/1/seat-layout/static");
+
+        for (String path : hotPaths) {
+            assertThat(Arrays.stream(OpenInViewConfig.CONNECTION_FREE_PATHS).anyMatch(pattern -> matcher.match(pattern, path)))
+                    .as("OSIV 제외 경로: %s", path)
+                    .isTrue();
+        }
+
+        // 콘서트 상세 등 나머지 API는 기존처럼 OSIV 적용
+        assertThat(Arrays.stream(OpenInViewConfig.CONNECTION_FREE_PATHS).anyMatch(pattern -> matcher.match(pattern, "/api/concerts/1")))
+                .isFalse();
+    }
+}
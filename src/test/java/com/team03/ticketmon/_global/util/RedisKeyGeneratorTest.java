@@ -0,0 +1,56 @@
+package com.team03.ticketmon._global.util;
+
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 키 해시 태그 검증
+ * - 같은 콘서트의 키는 Redis Cluster에서 같은 슬롯에 배치되어야 함 (Lua 스크립트/트랜잭션 CROSSSLOT 방지)
+ */
+@DisplayName("RedisKeyGenerator 단위 테스트")
+class RedisKeyGeneratorTest {
+
+    private final RedisKeyGenerator keyGenerator = new RedisKeyGenerator();
+
+    @Test
+    @DisplayName("대기열/세션/AccessKey 키는 콘서트 해시 태그를 포함한다")
+    void queueKeysAreTagged() {
+        assertThat(keyGenerator.getWaitQueueKey(42L)).isEqualTo("waitqueue:concert:{42}");
+        assertThat(keyGenerator.getActiveSessionsKey(42L)).isEqualTo("active_sessions:concert:{42}");
+        assertThat(keyGenerator.getActiveUsersCountKey(42L)).isEqualTo("active_users_count:concert:{42}");
+        assertThat(keyGenerator.getAccessKey(42L, 7L)).isEqualTo("accesskey:concert:{42}:user:7");
+        assertThat(keyGenerator.getFinalExpiryKey(42L, 7L)).isEqualTo("final_expiry:concert:{42}:user:7");
+    }
+
+    @Test
+    @DisplayName("같은 콘서트의 대기열/좌석 키는 모두 같은 슬롯에 배치된다")
+    void concertKeysShareSlot() {
+        List<String> keys = List.of(
+                keyGenerator.getWaitQueueKey(42L),
+                keyGenerator.getActiveSessionsKey(42L),
+                keyGenerator.getActiveUsersCountKey(42L),
+                keyGenerator.getAccessKey(42L, 7L),
+                keyGenerator.getFinalExpiryKey(42L, 8L),
+                RedisKeyGenerator.concertKey(RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX, 42L),
+                RedisKeyGenerator.concertKey(RedisKeyGenerator.SEAT_HOLDS_KEY_PREFIX, 42L),
+                RedisKeyGenerator.concertKey(RedisKeyGenerator.SEAT_EXPIRY_KEY_PREFIX, 42L));
+
+        int slot = SlotHash.getSlot("{42}");
+        assertThat(keys).allSatisfy(key -> assertThat(SlotHash.getSlot(key)).as(key).isEqualTo(slot));
+    }
+
+    @Test
+    @DisplayName("좌석 샤드 키는 샤드마다 별도 해시 태그를 쓴다")
+    void shardTag() {
+        assertThat(RedisKeyGenerator.shardTag(42L, 1)).isEqualTo("{42:1}");
+        assertThat(RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX + RedisKeyGenerator.shardTag(42L, 0))
+                .isEqualTo("seat:status:{42:0}");
+        assertThat(SlotHash.getSlot(RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX + RedisKeyGenerator.shardTag(42L, 3)))
+                .isEqualTo(SlotHash.getSlot(RedisKeyGenerator.SEAT_HOLDS_KEY_PREFIX + RedisKeyGenerator.shardTag(42L, 3)));
+    }
+}
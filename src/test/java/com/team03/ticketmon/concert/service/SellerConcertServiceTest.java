@@ -6,6 +6,8 @@ import com.team03.ticketmon.concert.domain.enums.ConcertStatus;
 import com.team03.ticketmon.concert.repository.SellerConcertRepository;
 import com.team03.ticketmon._global.exception.BusinessException;
 import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon.seat.service.SeatCatalog;
+import com.team03.ticketmon.seat.service.SeatLayoutCache;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -38,6 +40,15 @@ class SellerConcertServiceTest {
 	@Mock
 	private SellerConcertRepository sellerConcertRepository;
 
+	@Mock
+	private ConcertService concertService;
+
+	@Mock
+	private SeatLayoutCache seatLayoutCache;
+
+	@Mock
+	private SeatCatalog seatCatalog;
+
 	@InjectMocks
 	private SellerConcertService sellerConcertService;
 
@@ -263,6 +274,29 @@ class SellerConcertServiceTest {
 			assertThat(result.getDescription()).isEqualTo("새로운 설명만 변경");
 		}
 
+		@Test
+		@DisplayName("콘서트를 수정하면 정적 좌석 배치도와 좌석 카탈로그 무효화를 발행한다")
+		void updateEvictsSeatLayoutAndCatalog() {
+			// given
+			given(sellerConcertRepository.existsByConcertIdAndSellerId(validConcertId, validSellerId))
+				.willReturn(true);
+			given(sellerConcertRepository.findById(validConcertId))
+				.willReturn(Optional.of(testConcert));
+			given(sellerConcertRepository.save(any(Concert.class)))
+				.willReturn(testConcert);
+
+			SellerConcertUpdateDTO updateDTO = SellerConcertUpdateDTO.builder()
+				.venueName("새 공연장")
+				.build();
+
+			// when
+			sellerConcertService.updateConcert(validSellerId, validConcertId, updateDTO);
+
+			// then
+			verify(seatLayoutCache).evict(validConcertId);
+			verify(seatCatalog).evict(validConcertId);
+		}
+
 		@Test
 		@DisplayName("포스터 URL 업데이트 시 권한 검증이 정확히 수행된다")
 		void posterUpdateValidatesPermissionCorrectly() {
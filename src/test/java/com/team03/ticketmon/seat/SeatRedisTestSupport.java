@@ -0,0 +1,231 @@
+package com.team03.ticketmon.seat;
+
+import com.team03.ticketmon._global.config.RedisCodecProperties;
+import com.team03.ticketmon._global.config.RedisCodecs;
+import com.team03.ticketmon._global.config.RedissonConfig;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.dto.SeatStaticLayoutDTO;
+import com.team03.ticketmon.seat.script.SeatLuaScripts;
+import com.team03.ticketmon.seat.script.SeatScriptExecutor;
+import com.team03.ticketmon.seat.script.SeatTransition;
+import com.team03.ticketmon.seat.service.SeatCacheInitService;
+import com.team03.ticketmon.seat.service.SeatCatalog;
+import com.team03.ticketmon.seat.service.SeatChangeLog;
+import com.team03.ticketmon.seat.service.SeatCompactStateStore;
+import com.team03.ticketmon.seat.service.SeatCountStore;
+import com.team03.ticketmon.seat.service.SeatExpiryWheel;
+import com.team03.ticketmon.seat.service.SeatHoldJournal;
+import com.team03.ticketmon.seat.service.SeatLayoutCache;
+import com.team03.ticketmon.seat.service.SeatShardRouter;
+import com.team03.ticketmon.seat.service.SeatWriterRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * 좌석 Redis 스크립트/저장소 통합 테스트 공통 설정
+ * - 실제 Redis(Testcontainers) 위에서 좌석 스크립트 실행기와 저장소 컴포넌트를 그대로 사용하고, DB/배치도 쪽 협력 객체만 목으로 대체
+ *   (좌석 카탈로그는 실제 컴포넌트를 쓰고, 적재한 좌석으로 만든 정적 배치도를 목 배치도 캐시가 돌려줌)
+ * - 좌석 캐시는 스냅샷 초기화 경로(임시 키 기록 + 원자적 교체)로 채워 운영과 같은 키 구성을 만듦
+ * - 컨테이너는 테스트 실행 전체에서 하나만 띄움 (테스트 클래스마다 재사용되는 스프링 컨텍스트가 같은 Redis를 보도록)
+ */
+@ActiveProfiles("test")
+@DataRedisTest
+@Import({
+        RedissonConfig.class,
+        RedisCodecs.class,
+        SeatLuaScripts.class,
+        SeatScriptExecutor.class,
+        SeatShardRouter.class,
+        SeatCompactStateStore.class,
+        SeatCatalog.class,
+        SeatCountStore.class,
+        SeatChangeLog.class,
+        SeatExpiryWheel.class,
+        SeatCacheInitService.class,
+        SeatRedisTestSupport.Config.class
+})
+public abstract class SeatRedisTestSupport {
+
+    protected static final Long CONCERT_ID = 1L;
+    protected static final Long SHARDED_CONCERT_ID = 2L;
+    protected static final long LAST_UPDATE_TTL_MILLIS = 60_000L;
+
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    static {
+        REDIS.start();
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+        registry.add("spring.data.redis.ssl.enabled", () -> false);
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        SeatProperties seatProperties() {
+            return new SeatProperties();
+        }
+
+        // 운영 기본값과 같은 형식 (좌석 상태 COMPACT, 입장 키 JSON)
+        @Bean
+        RedisCodecProperties redisCodecProperties() {
+            return new RedisCodecProperties(RedisCodecProperties.Format.COMPACT, RedisCodecProperties.Format.JSON);
+        }
+    }
+
+    // 애플리케이션 클래스의 @EnableJpaAuditing 이 슬라이스 테스트에서도 JPA 매핑 컨텍스트를 찾으므로 목으로 대체
+    @MockitoBean(name = "jpaMappingContext") JpaMetamodelMappingContext jpaMappingContext;
+
+    @MockitoBean protected ConcertSeatRepository concertSeatRepository;
+    @MockitoBean protected SeatLayoutCache seatLayoutCache;
+    @MockitoBean protected SeatHoldJournal seatHoldJournal;
+    @MockitoBean protected SeatWriterRouter seatWriterRouter;
+
+    @Autowired protected RedissonClient redissonClient;
+    @Autowired protected SeatProperties seatProperties;
+    @Autowired protected SeatShardRouter seatShardRouter;
+    @Autowired protected SeatScriptExecutor seatScriptExecutor;
+    @Autowired protected SeatCacheInitService seatCacheInitService;
+    @Autowired protected SeatCatalog seatCatalog;
+
+    @BeforeEach
+    void resetRedis() {
+        redissonClient.getKeys().flushdb();
+        seatProperties.getShard().getCounts().clear();
+        seatProperties.getCache().setInitChunkSize(1000);
+        seatShardRouter.unpin(CONCERT_ID);
+        seatShardRouter.unpin(SHARDED_CONCERT_ID);
+        seatCatalog.evict(CONCERT_ID);
+        seatCatalog.evict(SHARDED_CONCERT_ID);
+    }
+
+    /**
+     * 콘서트 샤드 수 지정 (캐시 초기화 전에 호출)
+     */
+    protected void useShards(Long concertId, int shardCount) {
+        seatProperties.getShard().getCounts().put(concertId, shardCount);
+        seatShardRouter.unpin(concertId);
+    }
+
+    /**
+     * 스냅샷 초기화 경로로 좌석 캐시 적재 (선점 없음)
+     * - 같은 좌석으로 만든 정적 배치도를 배치도 캐시 목에 등록하고 좌석 카탈로그를 비워 다음 조회 때 다시 만듦
+     */
+    protected int loadSeats(Long concertId, List<ConcertSeatCacheRowDTO> rows) {
+        Map<String, List<SeatStaticLayoutDTO.Seat>> sections = new LinkedHashMap<>();
+        for (ConcertSeatCacheRowDTO row : rows) {
+            sections.computeIfAbsent(row.section(), section -> new ArrayList<>())
+                    .add(new SeatStaticLayoutDTO.Seat(row.concertSeatId(), row.concertSeatId(), row.seatRow(),
+                            row.seatNumber(), row.section() + "-" + row.seatRow() + "-" + row.seatNumber(),
+                            row.grade(), row.price()));
+        }
+        SeatStaticLayoutDTO layout = new SeatStaticLayoutDTO(concertId, null, sections.entrySet().stream()
+                .map(entry -> new SeatStaticLayoutDTO.Section(entry.getKey(), entry.getValue()))
+                .toList());
+        when(seatLayoutCache.get(concertId))
+                .thenReturn(new SeatLayoutCache.StaticLayout(layout, new byte[0], "test", System.currentTimeMillis()));
+        seatCatalog.evict(concertId);
+
+        return seatCacheInitService.initializeSeatCacheFromSnapshot(concertId, rows, List.of());
+    }
+
+    /**
+     * DB 좌석 행 조회 목 (concertSeatId 키셋 페이지네이션 그대로 청크 단위로 돌려줌)
+     */
+    protected void givenDbRows(Long concertId, List<ConcertSeatCacheRowDTO> rows) {
+        when(concertSeatRepository.findCacheRowsAfter(eq(concertId), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> chunk(rows, invocation.getArgument(1), invocation.getArgument(2)));
+    }
+
+    protected static List<ConcertSeatCacheRowDTO> chunk(List<ConcertSeatCacheRowDTO> rows, long after, Pageable pageable) {
+        return rows.stream()
+                .filter(row -> row.concertSeatId() > after)
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    /**
+     * 선점 스크립트로 좌석 선점 (5분 뒤 만료, 선점 개수 제한 없음)
+     */
+    protected void reserveSeat(Long concertId, Long seatId, Long userId) {
+        reserveSeat(concertId, seatId, userId, LocalDateTime.now());
+    }
+
+    protected void reserveSeat(Long concertId, Long seatId, Long userId, LocalDateTime reservedAt) {
+        assertThat(seatScriptExecutor.reserve(hold(concertId, seatId, userId, reservedAt, reservedAt.plusMinutes(5)),
+                reservedAt, Integer.MAX_VALUE, LAST_UPDATE_TTL_MILLIS).isSuccess()).isTrue();
+    }
+
+    /**
+     * 좌석 하나 상태 전이 (적용되어야 함)
+     */
+    protected void transitionSeat(Long concertId, SeatTransition transition, Long seatId, Long userId) {
+        assertThat(seatScriptExecutor.transition(transition, concertId, List.of(seatId), userId, true, null,
+                LAST_UPDATE_TTL_MILLIS).applied()).isTrue();
+    }
+
+    protected static ConcertSeatCacheRowDTO row(long concertSeatId, String section, SeatGrade grade, boolean booked) {
+        return new ConcertSeatCacheRowDTO(concertSeatId, section, "1", (int) concertSeatId, grade,
+                BigDecimal.valueOf(grade == SeatGrade.VIP ? 150000 : 80000), booked);
+    }
+
+    /**
+     * 좌석 ID 범위의 예매 가능 좌석 (구역 A, R석)
+     */
+    protected static List<ConcertSeatCacheRowDTO> rows(long fromSeatId, long toSeatId) {
+        return LongStream.rangeClosed(fromSeatId, toSeatId)
+                .mapToObj(seatId -> row(seatId, "A", SeatGrade.R, false))
+                .toList();
+    }
+
+    /**
+     * 선점 스크립트에 넘길 선점 상태
+     */
+    protected static SeatStatus hold(Long concertId, Long seatId, Long userId, LocalDateTime now, LocalDateTime expiresAt) {
+        return SeatStatus.builder()
+                .id(concertId + "-" + seatId)
+                .concertId(concertId)
+                .seatId(seatId)
+                .status(SeatStatus.SeatStatusEnum.RESERVED)
+                .userId(userId)
+                .reservedAt(now)
+                .expiresAt(expiresAt)
+                .seatInfo("A-1-" + seatId)
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.team03.ticketmon.seat.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.team03.ticketmon.queue.codec.AccessKeyCodec;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import io.netty.buffer.ByteBuf;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+import org.redisson.codec.JsonJacksonCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전역 JSON 코덱(JsonJacksonCodec)과 종류별 압축 코덱 마이크로벤치마크
+ * - 값 하나의 직렬화 크기와 직렬화+역직렬화 1회 평균 시간(ns)을 측정해 로그로 출력
+ * - 측정 시간이 길고 실행 환경에 따라 값이 달라지므로 기본 test 에서는 제외 (./gradlew benchmark 로 실행)
+ * - 정확성 검증은 RedisCodecTest 에서 담당하고, 여기서는 측정 결과가 같은 값으로 복원됐는지만 확인
+ */
+@Tag("benchmark")
+class RedisCodecBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisCodecBenchmarkTest.class);
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 500_000;
+    private static final int ROUNDS = 5;
+
+    // RedissonConfig 와 같은 설정의 전역 코덱
+    private final Codec jsonCodec = new JsonJacksonCodec(new ObjectMapper()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .registerModule(new JavaTimeModule()));
+
+    private final SeatStatusCodec seatStatusCodec = new SeatStatusCodec(jsonCodec, true);
+    private final AccessKeyCodec accessKeyCodec = new AccessKeyCodec(jsonCodec, true);
+
+    private final SeatStatus reserved = SeatStatus.builder()
+            .id("42-10234")
+            .concertId(42L)
+            .seatId(10234L)
+            .status(SeatStatus.SeatStatusEnum.RESERVED)
+            .userId(98765L)
+            .reservedAt(LocalDateTime.of(2025, 7, 1, 20, 0, 1, 123_000_000))
+            .expiresAt(LocalDateTime.of(2025, 7, 1, 20, 5, 1, 123_000_000))
+            .seatInfo("VIP-A-15")
+            .build();
+
+    // JIT 가 측정 루프를 제거하지 못하도록 복원 결과를 누적
+    private long sink;
+
+    @Test
+    @DisplayName("좌석 상태 해시 값: JSON vs 압축 코덱")
+    void seatStatus() throws IOException {
+        // 좌석 상태는 해시 값으로 저장되므로 맵 값 인코더/디코더로 측정
+        Result json = measure(jsonCodec.getMapValueEncoder(), jsonCodec.getMapValueDecoder(), reserved);
+        Result compact = measure(seatStatusCodec.getMapValueEncoder(), seatStatusCodec.getMapValueDecoder(), reserved);
+        report("SeatStatus", json, compact);
+
+        assertThat(compact.bytes()).isLessThan(json.bytes());
+    }
+
+    @Test
+    @DisplayName("입장 키/최종 만료 시각: JSON vs 바이너리 코덱")
+    void accessKey() throws IOException {
+        String accessKey = UUID.randomUUID().toString();
+        Long finalExpiry = System.currentTimeMillis() + 480_000L;
+
+        report("accessKey",
+                measure(jsonCodec.getValueEncoder(), jsonCodec.getValueDecoder(), accessKey),
+                measure(accessKeyCodec.getValueEncoder(), accessKeyCodec.getValueDecoder(), accessKey));
+        report("finalExpiry",
+                measure(jsonCodec.getValueEncoder(), jsonCodec.getValueDecoder(), finalExpiry),
+                measure(accessKeyCodec.getValueEncoder(), accessKeyCodec.getValueDecoder(), finalExpiry));
+    }
+
+    private record Result(int bytes, double nanosPerOp) {
+    }
+
+    /**
+     * 직렬화+역직렬화 1회 평균 시간 (워밍업 후 ROUNDS 번 측정해 가장 빠른 값 사용)
+     */
+    private Result measure(Encoder encoder, Decoder<Object> decoder, Object value) throws IOException {
+        assertThat(roundTrip(encoder, decoder, value)).isNotNull();
+
+        for (int i = 0; i < WARMUP; i++) {
+            sink += roundTrip(encoder, decoder, value).hashCode();
+        }
+
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += roundTrip(encoder, decoder, value).hashCode();
+            }
+            best = Math.min(best, (System.nanoTime() - start) / (double) ITERATIONS);
+        }
+
+        ByteBuf encoded = encoder.encode(value);
+        try {
+            return new Result(encoded.readableBytes(), best);
+        } finally {
+            encoded.release();
+        }
+    }
+
+    private static Object roundTrip(Encoder encoder, Decoder<Object> decoder, Object value) throws IOException {
+        ByteBuf encoded = encoder.encode(value);
+        try {
+            return decoder.decode(encoded, new State());
+        } finally {
+            encoded.release();
+        }
+    }
+
+    private void report(String type, Result json, Result compact) {
+        log.info("[codec] {} JSON {} bytes {} ns/op | COMPACT {} bytes {} ns/op (sink={})",
+                String.format("%-12s", type),
+                String.format("%4d", json.bytes()), String.format("%8.1f", json.nanosPerOp()),
+                String.format("%4d", compact.bytes()), String.format("%8.1f", compact.nanosPerOp()),
+                sink & 1);
+    }
+}
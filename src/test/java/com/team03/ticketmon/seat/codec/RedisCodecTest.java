@@ -0,0 +1,137 @@
+package com.team03.ticketmon.seat.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.team03.ticketmon.queue.codec.AccessKeyCodec;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import io.netty.buffer.ByteBuf;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.codec.JsonJacksonCodec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전역 JSON 코덱(JsonJacksonCodec)과 종류별 압축 코덱 비교
+ * - 압축 코덱이 같은 값으로 복원되고 JSON 보다 작게 저장되는지 확인
+ * - 압축 코덱이 이전 JSON 값을 그대로 읽는지(전환 경로) 확인
+ * - 크기/시간 측정은 RedisCodecBenchmarkTest 에서 담당 (./gradlew benchmark)
+ */
+class RedisCodecTest {
+
+    // RedissonConfig 와 같은 설정의 전역 코덱
+    private final Codec jsonCodec = new JsonJacksonCodec(new ObjectMapper()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .registerModule(new JavaTimeModule()));
+
+    private final SeatStatusCodec seatStatusCodec = new SeatStatusCodec(jsonCodec, true);
+    private final AccessKeyCodec accessKeyCodec = new AccessKeyCodec(jsonCodec, true);
+
+    private final SeatStatus reserved = SeatStatus.builder()
+            .id("42-10234")
+            .concertId(42L)
+            .seatId(10234L)
+            .status(SeatStatus.SeatStatusEnum.RESERVED)
+            .userId(98765L)
+            .reservedAt(LocalDateTime.of(2025, 7, 1, 20, 0, 1, 123_000_000))
+            .expiresAt(LocalDateTime.of(2025, 7, 1, 20, 5, 1, 123_000_000))
+            .seatInfo("VIP-A-15")
+            .build();
+
+    @Test
+    @DisplayName("좌석 상태: 압축 코덱이 JSON 보다 작고 같은 값으로 복원된다")
+    void seatStatusCodecComparison() throws IOException {
+        SeatStatus decoded = (SeatStatus) roundTrip(seatStatusCodec, reserved);
+        assertSameSeat(decoded, reserved);
+        assertThat(encodedSize(seatStatusCodec, reserved)).isLessThan(encodedSize(jsonCodec, reserved));
+    }
+
+    @Test
+    @DisplayName("좌석 상태: 압축 코덱이 기존 JSON 값과 따옴표로 감싼 필드를 읽는다")
+    void seatStatusCodecReadsLegacyJson() throws IOException {
+        ByteBuf legacyValue = jsonCodec.getMapValueEncoder().encode(reserved);
+        ByteBuf legacyField = jsonCodec.getMapKeyEncoder().encode("10234");
+        try {
+            SeatStatus decoded = (SeatStatus) seatStatusCodec.getMapValueDecoder().decode(legacyValue, new State());
+            Object field = seatStatusCodec.getMapKeyDecoder().decode(legacyField, new State());
+
+            assertSameSeat(decoded, reserved);
+            assertThat(field).isEqualTo("10234");
+        } finally {
+            legacyValue.release();
+            legacyField.release();
+        }
+    }
+
+    @Test
+    @DisplayName("좌석 상태: 해시 필드는 JSON/압축 형식 모두 스크립트와 같은 따옴표 없는 좌석 ID 로 기록한다")
+    void seatStatusFieldIsPlainInBothModes() throws IOException {
+        for (SeatStatusCodec codec : List.of(new SeatStatusCodec(jsonCodec, false), seatStatusCodec)) {
+            ByteBuf field = codec.getMapKeyEncoder().encode("10234");
+            try {
+                assertThat(field.toString(StandardCharsets.UTF_8)).isEqualTo("10234");
+                assertThat(codec.getMapKeyDecoder().decode(field, new State())).isEqualTo("10234");
+            } finally {
+                field.release();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("입장 키: 바이너리 코덱이 JSON 보다 작고 기존 JSON 값을 읽는다")
+    void accessKeyCodecComparison() throws IOException {
+        String accessKey = UUID.randomUUID().toString();
+        Long finalExpiry = System.currentTimeMillis() + 480_000L;
+
+        assertThat(roundTrip(accessKeyCodec, accessKey)).isEqualTo(accessKey);
+        assertThat(roundTrip(accessKeyCodec, finalExpiry)).isEqualTo(finalExpiry);
+        assertThat(roundTrip(accessKeyCodec, "not-a-uuid")).isEqualTo("not-a-uuid");
+        assertThat(encodedSize(accessKeyCodec, accessKey)).isLessThan(encodedSize(jsonCodec, accessKey));
+        assertThat(encodedSize(accessKeyCodec, finalExpiry)).isLessThan(encodedSize(jsonCodec, finalExpiry));
+
+        ByteBuf legacy = jsonCodec.getValueEncoder().encode(accessKey);
+        try {
+            assertThat(accessKeyCodec.getValueDecoder().decode(legacy, new State())).isEqualTo(accessKey);
+        } finally {
+            legacy.release();
+        }
+    }
+
+    private static int encodedSize(Codec codec, Object value) throws IOException {
+        ByteBuf encoded = codec.getValueEncoder().encode(value);
+        try {
+            return encoded.readableBytes();
+        } finally {
+            encoded.release();
+        }
+    }
+
+    private static Object roundTrip(Codec codec, Object value) throws IOException {
+        ByteBuf encoded = codec.getValueEncoder().encode(value);
+        try {
+            return codec.getValueDecoder().decode(encoded, new State());
+        } finally {
+            encoded.release();
+        }
+    }
+
+    private static void assertSameSeat(SeatStatus actual, SeatStatus expected) {
+        assertThat(actual.getId()).isEqualTo(expected.getId());
+        assertThat(actual.getConcertId()).isEqualTo(expected.getConcertId());
+        assertThat(actual.getSeatId()).isEqualTo(expected.getSeatId());
+        assertThat(actual.getStatus()).isEqualTo(expected.getStatus());
+        assertThat(actual.getUserId()).isEqualTo(expected.getUserId());
+        assertThat(actual.getReservedAt()).isEqualTo(expected.getReservedAt());
+        assertThat(actual.getExpiresAt()).isEqualTo(expected.getExpiresAt());
+        assertThat(actual.getSeatInfo()).isEqualTo(expected.getSeatInfo());
+    }
+}
@@ -0,0 +1,194 @@
+package com.team03.ticketmon.seat.scheduler;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.domain.Concert;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.service.SeatCacheInitCoordinator;
+import com.team03.ticketmon.seat.service.SeatCacheInitService;
+import com.team03.ticketmon.seat.service.SeatWarmupProgressStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 좌석 캐시 Warm-up 동시 실행/진행 상황 검증
+ * - 락/초기화 임대/진행 상황/처리 완료 표시는 실제 Redis, 콘서트 조회와 좌석 캐시 초기화는 목
+ * - 콘서트 구성 (예매 시작 시각 순): 1, 2 성공 / 3 실패 / 4 이미 처리됨, 스레드 2개
+ * - 1, 2 초기화는 둘 다 시작될 때까지 서로 기다리므로 순차 실행이면 시간 초과로 실패
+ */
+class SeatCacheWarmupSchedulerTest extends SeatRedisTestSupport {
+
+    private static final int SEATS_PER_CONCERT = 1000;
+    private static final SeatProperties DEFAULTS = new SeatProperties();
+
+    private final ConcertRepository concertRepository = mock(ConcertRepository.class);
+    private final SeatCacheInitService initService = mock(SeatCacheInitService.class);
+
+    private final CountDownLatch bothRunning = new CountDownLatch(2);
+    private final List<Long> startOrder = Collections.synchronizedList(new ArrayList<>());
+    private final List<Map<String, String>> progressWhileRunning = Collections.synchronizedList(new ArrayList<>());
+
+    private SeatWarmupProgressStore progressStore;
+    private SeatCacheWarmupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        seatProperties.getCache().setWarmupParallelism(2);
+        seatProperties.getCache().setWarmupTimeoutSeconds(30);
+
+        progressStore = new SeatWarmupProgressStore(redissonClient);
+        scheduler = new SeatCacheWarmupScheduler(concertRepository, initService,
+                new SeatCacheInitCoordinator(initService, redissonClient, seatProperties), progressStore,
+                redissonClient, seatProperties);
+        scheduler.startExecutor();
+
+        LocalDateTime now = LocalDateTime.now();
+        when(concertRepository.findUpcomingBookingStarts(any(), any())).thenReturn(List.of(
+                concert(1L, now.plusMinutes(1)),
+                concert(2L, now.plusMinutes(2)),
+                concert(3L, now.plusMinutes(3)),
+                concert(4L, now.plusMinutes(4))));
+        redissonClient.getBucket(processedKey(4L)).set("processed");
+
+        when(initService.initializeSeatCacheFromDB(anyLong(), any())).thenAnswer(invocation -> {
+            Long concertId = invocation.getArgument(0);
+            IntConsumer progressListener = invocation.getArgument(1);
+            startOrder.add(concertId);
+
+            if (concertId == 3L) {
+                throw new IllegalStateException("db down");
+            }
+            progressListener.accept(SEATS_PER_CONCERT / 2);
+            bothRunning.countDown();
+            if (!bothRunning.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("다른 콘서트 초기화가 동시에 실행되지 않음");
+            }
+            if (concertId == 1L) {
+                progressWhileRunning.addAll(progressStore.readLatestRun());
+            }
+            progressListener.accept(SEATS_PER_CONCERT);
+            return SEATS_PER_CONCERT;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stopExecutor();
+        seatProperties.getCache().setWarmupParallelism(DEFAULTS.getCache().getWarmupParallelism());
+        seatProperties.getCache().setWarmupTimeoutSeconds(DEFAULTS.getCache().getWarmupTimeoutSeconds());
+        seatProperties.getCache().setInitWaitMillis(DEFAULTS.getCache().getInitWaitMillis());
+    }
+
+    @Test
+    @DisplayName("예매 시작 순으로 제한된 스레드에서 동시에 초기화하고, 콘서트별 진행 상황을 남긴다")
+    void parallelWarmupWithProgress() {
+        scheduler.autoWarmupSeatCache();
+
+        // 먼저 열리는 두 콘서트가 먼저 시작, 이미 처리된 콘서트는 초기화하지 않음
+        assertThat(startOrder).hasSize(3);
+        assertThat(startOrder.subList(0, 2)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(startOrder.get(2)).isEqualTo(3L);
+        verify(initService, never()).initializeSeatCacheFromDB(eq(4L), any());
+
+        // 실행 중에는 RUNNING + 청크 단위 적재 좌석 수
+        assertThat(progressWhileRunning).filteredOn(progress -> progress.get("concertId").equals("1"))
+                .singleElement()
+                .satisfies(progress -> {
+                    assertThat(progress).containsEntry("state", "RUNNING");
+                    assertThat(progress).containsEntry("seatsLoaded", String.valueOf(SEATS_PER_CONCERT / 2));
+                });
+
+        List<Map<String, String>> progress = progressStore.readLatestRun();
+        assertThat(progress).extracting(fields -> fields.get("concertId")).containsExactly("1", "2", "3", "4");
+        assertThat(progress).extracting(fields -> fields.get("state")).containsExactly(
+                SeatWarmupProgressStore.State.DONE.name(),
+                SeatWarmupProgressStore.State.DONE.name(),
+                SeatWarmupProgressStore.State.FAILED.name(),
+                SeatWarmupProgressStore.State.SKIPPED.name());
+        assertThat(progress.get(0))
+                .containsEntry("seatsLoaded", String.valueOf(SEATS_PER_CONCERT))
+                .containsKey("durationMs");
+        assertThat(progress.get(2)).containsEntry("error", "db down");
+
+        // 성공한 콘서트만 처리 완료 표시
+        assertThat(redissonClient.getBucket(processedKey(1L)).isExists()).isTrue();
+        assertThat(redissonClient.getBucket(processedKey(2L)).isExists()).isTrue();
+        assertThat(redissonClient.getBucket(processedKey(3L)).isExists()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 같은 콘서트 캐시를 초기화 중(초기화 임대)이면 겹쳐 초기화하지 않고 실패로 남긴다")
+    void skipConcertWhileInitLeaseHeld() throws Exception {
+        seatProperties.getCache().setInitWaitMillis(100);
+        String leaseKey = RedisKeyGenerator.concertKey(RedisKeyGenerator.SEAT_CACHE_INIT_LOCK_KEY_PREFIX, 5L);
+        Thread other = new Thread(() -> redissonClient.getLock(leaseKey).lock());
+        other.start();
+        other.join();
+        when(concertRepository.findUpcomingBookingStarts(any(), any()))
+                .thenReturn(List.of(concert(5L, LocalDateTime.now().plusMinutes(1))));
+
+        try {
+            scheduler.autoWarmupSeatCache();
+
+            verify(initService, never()).initializeSeatCacheFromDB(eq(5L), any());
+            assertThat(progressStore.readLatestRun()).singleElement()
+                    .satisfies(progress -> assertThat(progress)
+                            .containsEntry("state", SeatWarmupProgressStore.State.FAILED.name()));
+            assertThat(redissonClient.getBucket(processedKey(5L)).isExists()).isFalse();
+        } finally {
+            redissonClient.getLock(leaseKey).forceUnlock();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 Warm-up 락을 잡고 있으면 아무것도 하지 않는다")
+    void skipWhenLocked() throws Exception {
+        seatProperties.getLock().setWaitTimeSeconds(0);
+        Thread other = new Thread(() -> redissonClient.getLock(RedisKeyGenerator.WARMUP_LOCK_KEY).lock());
+        other.start();
+        other.join();
+
+        try {
+            scheduler.autoWarmupSeatCache();
+
+            verify(concertRepository, never()).findUpcomingBookingStarts(any(), any());
+            assertThat(progressStore.readLatestRun()).isEmpty();
+        } finally {
+            redissonClient.getLock(RedisKeyGenerator.WARMUP_LOCK_KEY).forceUnlock();
+            seatProperties.getLock().setWaitTimeSeconds(DEFAULTS.getLock().getWaitTimeSeconds());
+        }
+    }
+
+    private static Concert concert(Long concertId, LocalDateTime bookingStartDate) {
+        return Concert.builder()
+                .concertId(concertId)
+                .title("콘서트 " + concertId)
+                .bookingStartDate(bookingStartDate)
+                .build();
+    }
+
+    private static String processedKey(Long concertId) {
+        return RedisKeyGenerator.concertKey(RedisKeyGenerator.SEAT_PROCESSED_CONCERT_KEY_PREFIX, concertId);
+    }
+}
@@ -0,0 +1,106 @@
+package com.team03.ticketmon.seat.script;
+
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다중 좌석 일괄 선점 스크립트(reserve_many.lua) All-or-Nothing 검증
+ */
+class SeatReserveManyScriptTest extends SeatRedisTestSupport {
+
+    private static final Long USER_ID = 7L;
+    private static final Long OTHER_USER_ID = 8L;
+    private static final int MAX_SEAT_COUNT = 3;
+
+    private LocalDateTime now;
+    private LocalDateTime expiresAt;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        expiresAt = now.plusMinutes(5);
+        loadSeats(CONCERT_ID, rows(1, 5));
+    }
+
+    @Test
+    @DisplayName("요청한 좌석이 모두 비어 있으면 전부 선점한다")
+    void reserveAll() {
+        SeatScriptResult result = reserveMany(USER_ID, 1L, 2L);
+
+        assertThat(result.outcome()).isEqualTo(SeatScriptResult.Outcome.OK);
+        assertThat(result.payload()).isEmpty();
+        Map<Long, SeatStatus> seats = seatScriptExecutor.readAll(CONCERT_ID);
+        assertThat(seats.get(1L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.RESERVED);
+        assertThat(seats.get(2L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.RESERVED);
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("한 좌석이라도 다른 사용자가 선점 중이면 아무 좌석도 선점하지 않고 그 좌석을 알려준다")
+    void rejectWhenAnySeatTaken() {
+        reserveMany(OTHER_USER_ID, 3L);
+
+        SeatScriptResult result = reserveMany(USER_ID, 2L, 3L);
+
+        assertThat(result.outcome()).isEqualTo(SeatScriptResult.Outcome.TAKEN);
+        assertThat(result.payload()).isEqualTo("3");
+        assertThat(seatScriptExecutor.readAll(CONCERT_ID).get(2L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.AVAILABLE);
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 좌석이 섞여 있으면 NOT_FOUND로 전체를 거부한다")
+    void rejectWhenAnySeatMissing() {
+        SeatScriptResult result = reserveMany(USER_ID, 1L, 99L);
+
+        assertThat(result.outcome()).isEqualTo(SeatScriptResult.Outcome.NOT_FOUND);
+        assertThat(result.payload()).isEqualTo("99");
+        assertThat(seatScriptExecutor.readAll(CONCERT_ID).get(1L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("이미 본인이 선점한 좌석은 만료 시각을 바꾸지 않고 유지 좌석으로 반환한다")
+    void keepAlreadyHeldSeat() {
+        LocalDateTime firstExpiresAt = expiresAt;
+        reserveMany(USER_ID, 1L);
+
+        expiresAt = now.plusMinutes(10);
+        SeatScriptResult result = reserveMany(USER_ID, 1L, 2L);
+
+        assertThat(result.outcome()).isEqualTo(SeatScriptResult.Outcome.OK);
+        assertThat(result.payload()).isEqualTo("1");
+        Map<Long, SeatStatus> seats = seatScriptExecutor.readAll(CONCERT_ID);
+        assertThat(seats.get(1L).getExpiresAt()).isEqualTo(firstExpiresAt);
+        assertThat(seats.get(2L).getExpiresAt()).isEqualTo(expiresAt);
+    }
+
+    @Test
+    @DisplayName("기존 선점과 요청 좌석 수의 합이 제한을 넘으면 LIMIT_EXCEEDED로 전체를 거부한다")
+    void rejectOverLimit() {
+        reserveMany(USER_ID, 1L);
+
+        SeatScriptResult result = reserveMany(USER_ID, 2L, 3L, 4L);
+
+        assertThat(result.outcome()).isEqualTo(SeatScriptResult.Outcome.LIMIT_EXCEEDED);
+        assertThat(result.payload()).isEqualTo("1");
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).containsExactly(1L);
+    }
+
+    private SeatScriptResult reserveMany(Long userId, Long... seatIds) {
+        List<SeatStatus> seats = Arrays.stream(seatIds)
+                .map(seatId -> hold(CONCERT_ID, seatId, userId, now, expiresAt))
+                .toList();
+        return seatScriptExecutor.reserveMany(CONCERT_ID, userId, seats, now, MAX_SEAT_COUNT, expiresAt,
+                LAST_UPDATE_TTL_MILLIS);
+    }
+}
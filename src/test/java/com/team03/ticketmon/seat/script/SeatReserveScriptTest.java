@@ -0,0 +1,128 @@
+package com.team03.ticketmon.seat.script;
+
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단일 좌석 선점 스크립트(reserve.lua)와 사용자별 선점 인덱스 검증
+ */
+class SeatReserveScriptTest extends SeatRedisTestSupport {
+
+    private static final Long USER_ID = 7L;
+    private static final Long OTHER_USER_ID = 8L;
+    private static final int MAX_SEAT_COUNT = 2;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        List<ConcertSeatCacheRowDTO> seats = new ArrayList<>(rows(1, 5));
+        seats.add(row(6, "A", SeatGrade.R, true));
+        loadSeats(CONCERT_ID, seats);
+    }
+
+    @Test
+    @DisplayName("빈 좌석을 선점하면 상태가 RESERVED로 바뀌고 사용자 선점 인덱스에 추가된다")
+    void reserveAvailableSeat() {
+        SeatScriptResult result = reserve(1L, USER_ID);
+
+        assertThat(result.outcome()).isEqualTo(SeatScriptResult.Outcome.OK);
+        SeatStatus stored = seatScriptExecutor.readAll(CONCERT_ID).get(1L);
+        assertThat(stored.getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.RESERVED);
+        assertThat(stored.getUserId()).isEqualTo(USER_ID);
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("선점 결과에는 스크립트가 이 변경에 발급한 변경 로그 순번이 좌석별로 담긴다")
+    void reserveReturnsChangeSeq() {
+        SeatScriptResult first = reserve(1L, USER_ID);
+        SeatScriptResult second = reserve(2L, USER_ID);
+
+        assertThat(first.seqOf(1L)).isPositive();
+        assertThat(second.seqOf(2L)).isEqualTo(first.seqOf(1L) + 1);
+        assertThat(reserve(1L, OTHER_USER_ID).seqs()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 선점된 좌석은 본인이면 ALREADY_HELD, 다른 사용자면 TAKEN")
+    void reserveHeldSeat() {
+        reserve(1L, USER_ID);
+
+        SeatScriptResult again = reserve(1L, USER_ID);
+        assertThat(again.outcome()).isEqualTo(SeatScriptResult.Outcome.ALREADY_HELD);
+        assertThat(seatScriptExecutor.decode(again.payload()).getUserId()).isEqualTo(USER_ID);
+
+        assertThat(reserve(1L, OTHER_USER_ID).outcome()).isEqualTo(SeatScriptResult.Outcome.TAKEN);
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, OTHER_USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예매 완료 좌석은 BOOKED, 캐시에 없는 좌석은 NOT_FOUND를 반환하고 아무것도 기록하지 않는다")
+    void reserveBookedOrMissingSeat() {
+        assertThat(reserve(6L, USER_ID).outcome()).isEqualTo(SeatScriptResult.Outcome.BOOKED);
+
+        SeatScriptResult missing = reserve(99L, USER_ID);
+        assertThat(missing.outcome()).isEqualTo(SeatScriptResult.Outcome.NOT_FOUND);
+        assertThat(missing.payload()).isEqualTo("99");
+        assertThat(seatScriptExecutor.readAll(CONCERT_ID)).doesNotContainKey(99L);
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좌석 캐시가 없는 콘서트는 CACHE_MISSING")
+    void reserveWithoutCache() {
+        SeatScriptResult result = seatScriptExecutor.reserve(
+                hold(3L, 1L, USER_ID, now, now.plusMinutes(5)), now, MAX_SEAT_COUNT, LAST_UPDATE_TTL_MILLIS);
+
+        assertThat(result.outcome()).isEqualTo(SeatScriptResult.Outcome.CACHE_MISSING);
+    }
+
+    @Test
+    @DisplayName("선점 개수 제한은 선점 인덱스 기준이며, 해제하면 다시 선점할 수 있다")
+    void holdLimitFollowsIndex() {
+        reserve(1L, USER_ID);
+        reserve(2L, USER_ID);
+
+        SeatScriptResult exceeded = reserve(3L, USER_ID);
+        assertThat(exceeded.outcome()).isEqualTo(SeatScriptResult.Outcome.LIMIT_EXCEEDED);
+        assertThat(exceeded.payload()).isEqualTo("2");
+
+        seatScriptExecutor.transition(SeatTransition.RELEASE, CONCERT_ID, List.of(1L), USER_ID, true,
+                null, LAST_UPDATE_TTL_MILLIS);
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).containsExactly(2L);
+
+        assertThat(reserve(3L, USER_ID).outcome()).isEqualTo(SeatScriptResult.Outcome.OK);
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("만료된 선점은 다른 사용자가 새로 선점하고, 이전 선점자의 인덱스에서 빠진다")
+    void reserveExpiredHold() {
+        LocalDateTime past = now.minusMinutes(10);
+        seatScriptExecutor.reserve(hold(CONCERT_ID, 1L, USER_ID, past, past.plusMinutes(5)), past,
+                MAX_SEAT_COUNT, LAST_UPDATE_TTL_MILLIS);
+
+        assertThat(reserve(1L, OTHER_USER_ID).outcome()).isEqualTo(SeatScriptResult.Outcome.OK);
+        assertThat(seatScriptExecutor.readAll(CONCERT_ID).get(1L).getUserId()).isEqualTo(OTHER_USER_ID);
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).isEmpty();
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, OTHER_USER_ID)).containsExactly(1L);
+    }
+
+    private SeatScriptResult reserve(Long seatId, Long userId) {
+        return seatScriptExecutor.reserve(hold(CONCERT_ID, seatId, userId, now, now.plusMinutes(5)), now,
+                MAX_SEAT_COUNT, LAST_UPDATE_TTL_MILLIS);
+    }
+}
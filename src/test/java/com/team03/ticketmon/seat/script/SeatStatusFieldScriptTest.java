@@ -0,0 +1,111 @@
+package com.team03.ticketmon.seat.script;
+
+import com.team03.ticketmon._global.config.RedisCodecs;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.codec.SeatStatusCodec;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RMap;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 상태 해시 필드 형식 검증 (기본 설정인 COMPACT 값 형식)
+ * - 캐시 초기화가 기록한 필드를 선점/전이/상태 저장 스크립트가 같은 좌석 ID 로 찾는지 확인
+ */
+class SeatStatusFieldScriptTest extends SeatRedisTestSupport {
+
+    private static final Long USER_ID = 7L;
+
+    @Autowired
+    private RedisCodecs redisCodecs;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        loadSeats(CONCERT_ID, rows(1, 3));
+    }
+
+    @Test
+    @DisplayName("캐시 초기화는 해시 필드를 따옴표 없는 좌석 ID 로, 값을 압축 레코드로 기록한다")
+    void initWritesPlainFields() {
+        assertThat(redisCodecs.seatStatus().isCompactWrites()).isTrue();
+
+        RMap<String, String> raw = redissonClient.getMap(statusKey(), StringCodec.INSTANCE);
+        assertThat(raw.readAllKeySet()).containsExactlyInAnyOrder("1", "2", "3");
+        assertThat(raw.readAllValues()).allMatch(value -> value.startsWith(SeatStatusCodec.PREFIX));
+    }
+
+    @Test
+    @DisplayName("초기화한 좌석을 선점 → 해제 → 다시 선점 → 예매 확정할 수 있다")
+    void reserveReleaseBook() {
+        assertThat(reserve(1L).outcome()).isEqualTo(SeatScriptResult.Outcome.OK);
+
+        SeatTransitionResult released = transition(SeatTransition.RELEASE, 1L);
+        assertThat(released.applied()).isTrue();
+        assertThat(released.single().current().getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.AVAILABLE);
+
+        assertThat(reserve(1L).outcome()).isEqualTo(SeatScriptResult.Outcome.OK);
+        assertThat(transition(SeatTransition.BOOK, 1L).applied()).isTrue();
+
+        assertThat(seatScriptExecutor.readAll(CONCERT_ID).get(1L).getStatus())
+                .isEqualTo(SeatStatus.SeatStatusEnum.BOOKED);
+    }
+
+    @Test
+    @DisplayName("여러 좌석 선점도 초기화한 필드를 찾는다")
+    void reserveMany() {
+        LocalDateTime expiresAt = now.plusMinutes(5);
+        SeatScriptResult result = seatScriptExecutor.reserveMany(CONCERT_ID, USER_ID, List.of(
+                        hold(CONCERT_ID, 2L, USER_ID, now, expiresAt),
+                        hold(CONCERT_ID, 3L, USER_ID, now, expiresAt)),
+                now, Integer.MAX_VALUE, expiresAt, LAST_UPDATE_TTL_MILLIS);
+
+        assertThat(result.outcome()).isEqualTo(SeatScriptResult.Outcome.OK);
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("상태 저장은 기존 필드를 덮어쓰고 중복 필드를 만들지 않는다")
+    void putOverwritesSameField() {
+        SeatStatus unavailable = SeatStatus.builder()
+                .id(CONCERT_ID + "-2")
+                .concertId(CONCERT_ID)
+                .seatId(2L)
+                .status(SeatStatus.SeatStatusEnum.UNAVAILABLE)
+                .seatInfo("A-1-2")
+                .build();
+
+        seatScriptExecutor.put(unavailable, LAST_UPDATE_TTL_MILLIS);
+
+        assertThat(redissonClient.getMap(statusKey(), StringCodec.INSTANCE).size()).isEqualTo(3);
+        assertThat(seatScriptExecutor.readAll(CONCERT_ID)).hasSize(3)
+                .extractingByKey(2L)
+                .extracting(SeatStatus::getStatus)
+                .isEqualTo(SeatStatus.SeatStatusEnum.UNAVAILABLE);
+    }
+
+    private SeatScriptResult reserve(Long seatId) {
+        return seatScriptExecutor.reserve(hold(CONCERT_ID, seatId, USER_ID, now, now.plusMinutes(5)),
+                now, Integer.MAX_VALUE, LAST_UPDATE_TTL_MILLIS);
+    }
+
+    private SeatTransitionResult transition(SeatTransition transition, Long seatId) {
+        return seatScriptExecutor.transition(transition, CONCERT_ID, List.of(seatId), USER_ID, true,
+                null, LAST_UPDATE_TTL_MILLIS);
+    }
+
+    private static String statusKey() {
+        return RedisKeyGenerator.concertKey(RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX, CONCERT_ID);
+    }
+}
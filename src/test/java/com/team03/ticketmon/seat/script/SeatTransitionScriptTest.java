@@ -0,0 +1,181 @@
+package com.team03.ticketmon.seat.script;
+
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.service.SeatExpiryWheel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 상태 전이 스크립트(transition.lua) 검증
+ * - 전이별 검증/새 상태 계산, 전체 적용과 부분 적용, 선점 인덱스와 만료 휠 동기화
+ */
+class SeatTransitionScriptTest extends SeatRedisTestSupport {
+
+    private static final Long USER_ID = 7L;
+    private static final Long OTHER_USER_ID = 8L;
+
+    @Autowired
+    private SeatExpiryWheel seatExpiryWheel;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        List<ConcertSeatCacheRowDTO> seats = new ArrayList<>(rows(1, 5));
+        seats.add(row(6, "A", SeatGrade.R, true));
+        loadSeats(CONCERT_ID, seats);
+    }
+
+    @Test
+    @DisplayName("RELEASE: 본인 선점만 해제하고, 다른 사용자의 요청은 NOT_OWNER로 거부한다")
+    void release() {
+        reserve(1L, USER_ID, now, now.plusMinutes(5));
+
+        SeatTransitionResult rejected = transition(SeatTransition.RELEASE, OTHER_USER_ID, true, 1L);
+        assertThat(rejected.applied()).isFalse();
+        assertThat(rejected.single().code()).isEqualTo(SeatTransitionResult.Code.NOT_OWNER);
+        assertThat(status(1L)).isEqualTo(SeatStatus.SeatStatusEnum.RESERVED);
+
+        SeatTransitionResult released = transition(SeatTransition.RELEASE, USER_ID, true, 1L);
+        assertThat(released.applied()).isTrue();
+        assertThat(released.single().previous().getUserId()).isEqualTo(USER_ID);
+        assertThat(released.single().current().getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.AVAILABLE);
+        assertThat(released.single().current().getUserId()).isNull();
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).isEmpty();
+        assertThat(seatExpiryWheel.findDueSeatIds(CONCERT_ID, Long.MAX_VALUE, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("BOOK: 미만료 선점을 BOOKED로 확정하고, 만료된 선점은 EXPIRED로 거부한다")
+    void book() {
+        reserve(1L, USER_ID, now, now.plusMinutes(5));
+        LocalDateTime past = now.minusMinutes(10);
+        reserve(2L, USER_ID, past, past.plusMinutes(5));
+
+        SeatTransitionResult booked = transition(SeatTransition.BOOK, USER_ID, true, 1L);
+        assertThat(booked.applied()).isTrue();
+        SeatStatus current = seatScriptExecutor.readAll(CONCERT_ID).get(1L);
+        assertThat(current.getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.BOOKED);
+        assertThat(current.getUserId()).isEqualTo(USER_ID);
+        assertThat(current.getExpiresAt()).isNull();
+
+        SeatTransitionResult expired = transition(SeatTransition.BOOK, USER_ID, true, 2L);
+        assertThat(expired.applied()).isFalse();
+        assertThat(expired.single().code()).isEqualTo(SeatTransitionResult.Code.EXPIRED);
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("전체 적용은 한 좌석이라도 실패하면 아무것도 바꾸지 않고, 부분 적용은 가능한 좌석만 바꾼다")
+    void atomicAndPartial() {
+        reserve(1L, USER_ID, now, now.plusMinutes(5));
+
+        SeatTransitionResult atomic = transition(SeatTransition.RELEASE, USER_ID, true, 1L, 2L);
+        assertThat(atomic.applied()).isFalse();
+        assertThat(atomic.seats()).extracting(SeatTransitionResult.SeatOutcome::code)
+                .containsExactly(SeatTransitionResult.Code.OK, SeatTransitionResult.Code.INVALID_STATE);
+        assertThat(atomic.changedSeats()).isEmpty();
+        assertThat(status(1L)).isEqualTo(SeatStatus.SeatStatusEnum.RESERVED);
+
+        SeatTransitionResult partial = transition(SeatTransition.RELEASE, USER_ID, false, 1L, 2L);
+        assertThat(partial.applied()).isTrue();
+        assertThat(partial.changedSeats()).extracting(SeatStatus::getSeatId).containsExactly(1L);
+        assertThat(partial.failures()).extracting(SeatTransitionResult.SeatOutcome::seatId).containsExactly(2L);
+        assertThat(status(1L)).isEqualTo(SeatStatus.SeatStatusEnum.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("FORCE_RELEASE: 빈 좌석은 NOOP, 예매 완료 좌석도 AVAILABLE로 되돌린다")
+    void forceRelease() {
+        SeatTransitionResult result = transition(SeatTransition.FORCE_RELEASE, null, false, 5L, 6L);
+
+        assertThat(result.seats()).extracting(SeatTransitionResult.SeatOutcome::code)
+                .containsExactly(SeatTransitionResult.Code.NOOP, SeatTransitionResult.Code.OK);
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(status(6L)).isEqualTo(SeatStatus.SeatStatusEnum.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("EXPIRE: 만료된 선점만 해제하고, 영구 선점으로 바뀐 좌석은 만료 휠에서만 제거한다")
+    void expire() {
+        LocalDateTime past = now.minusMinutes(10);
+        reserve(1L, USER_ID, past, past.plusMinutes(5));
+        reserve(2L, OTHER_USER_ID, now, now.plusMinutes(5));
+        transition(SeatTransition.LOCK_PERMANENT, OTHER_USER_ID, true, 2L);
+
+        SeatTransitionResult result = transition(SeatTransition.EXPIRE, null, false, 1L, 2L);
+
+        assertThat(result.seats()).extracting(SeatTransitionResult.SeatOutcome::code)
+                .containsExactly(SeatTransitionResult.Code.OK, SeatTransitionResult.Code.NOOP);
+        assertThat(status(1L)).isEqualTo(SeatStatus.SeatStatusEnum.AVAILABLE);
+        assertThat(seatScriptExecutor.readAll(CONCERT_ID).get(2L).getExpiresAt()).isNull();
+        assertThat(seatExpiryWheel.findDueSeatIds(CONCERT_ID, Long.MAX_VALUE, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("LOCK_PERMANENT 후 RESTORE: 만료 시각을 지웠다가 새 만료 시각으로 다시 만료 휠에 등록한다")
+    void lockPermanentAndRestore() {
+        reserve(1L, USER_ID, now, now.plusMinutes(5));
+
+        transition(SeatTransition.LOCK_PERMANENT, USER_ID, true, 1L);
+        assertThat(seatScriptExecutor.readAll(CONCERT_ID).get(1L).getExpiresAt()).isNull();
+        assertThat(seatExpiryWheel.findDueSeatIds(CONCERT_ID, Long.MAX_VALUE, 10)).isEmpty();
+
+        LocalDateTime restoreExpiresAt = now.plusMinutes(3);
+        SeatTransitionResult restored = seatScriptExecutor.transition(SeatTransition.RESTORE, CONCERT_ID, List.of(1L),
+                USER_ID, true, restoreExpiresAt, LAST_UPDATE_TTL_MILLIS);
+
+        assertThat(restored.applied()).isTrue();
+        assertThat(seatScriptExecutor.readAll(CONCERT_ID).get(1L).getExpiresAt()).isEqualTo(restoreExpiresAt);
+        assertThat(seatExpiryWheel.findDueSeatIds(CONCERT_ID, SeatExpiryWheel.score(restoreExpiresAt), 10))
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("CANCEL: 본인의 예매 완료 좌석을 AVAILABLE로 되돌린다")
+    void cancel() {
+        reserve(1L, USER_ID, now, now.plusMinutes(5));
+        transition(SeatTransition.BOOK, USER_ID, true, 1L);
+
+        assertThat(transition(SeatTransition.CANCEL, OTHER_USER_ID, true, 1L).single().code())
+                .isEqualTo(SeatTransitionResult.Code.NOT_OWNER);
+        assertThat(transition(SeatTransition.CANCEL, USER_ID, true, 1L).applied()).isTrue();
+        assertThat(status(1L)).isEqualTo(SeatStatus.SeatStatusEnum.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 좌석은 NOT_FOUND")
+    void missingSeat() {
+        SeatTransitionResult result = transition(SeatTransition.FORCE_RELEASE, null, true, 99L);
+
+        assertThat(result.applied()).isFalse();
+        assertThat(result.single().code()).isEqualTo(SeatTransitionResult.Code.NOT_FOUND);
+    }
+
+    private void reserve(Long seatId, Long userId, LocalDateTime reservedAt, LocalDateTime expiresAt) {
+        SeatScriptResult result = seatScriptExecutor.reserve(hold(CONCERT_ID, seatId, userId, reservedAt, expiresAt),
+                reservedAt, Integer.MAX_VALUE, LAST_UPDATE_TTL_MILLIS);
+        assertThat(result.isSuccess()).isTrue();
+    }
+
+    private SeatTransitionResult transition(SeatTransition transition, Long userId, boolean atomic, Long... seatIds) {
+        return seatScriptExecutor.transition(transition, CONCERT_ID, List.of(seatIds), userId, atomic,
+                null, LAST_UPDATE_TTL_MILLIS);
+    }
+
+    private SeatStatus.SeatStatusEnum status(Long seatId) {
+        return seatScriptExecutor.readAll(CONCERT_ID).get(seatId).getStatus();
+    }
+}
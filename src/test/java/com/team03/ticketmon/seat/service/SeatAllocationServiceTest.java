@@ -0,0 +1,222 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatChangesDTO;
+import com.team03.ticketmon.seat.dto.SeatStaticLayoutDTO;
+import com.team03.ticketmon.seat.exception.SeatReservationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 좌석 자동 배정 단위 테스트
+ * - 배치도: 구역 A, 열 "1"/"10"/"2" (DB 문자열 순), 열마다 좌석 1~4 (concertSeatId = 열 × 100 + 번호)
+ * - 점유 상태는 실제 점유 비트셋(SeatOccupancyIndex)이 좌석 맵 뷰(처음 한 번)와 변경 로그(이후)에서 채움
+ * - 후보 분산은 1로 두어 가장 좋은 후보를 고르게 함
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatAllocationService 단위 테스트")
+class SeatAllocationServiceTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long USER_ID = 7L;
+    private static final List<Integer> ROWS = List.of(1, 10, 2);
+
+    @Mock
+    private SeatCatalog seatCatalog;
+
+    @Mock
+    private SeatLayoutCache seatLayoutCache;
+
+    @Mock
+    private SeatStatusService seatStatusService;
+
+    @Mock
+    private SeatChangeLog seatChangeLog;
+
+    @Mock
+    private SeatShardRouter seatShardRouter;
+
+    private SeatCatalog.Catalog catalog;
+    private SeatAllocationService seatAllocationService;
+
+    @BeforeEach
+    void setUp() {
+        SeatProperties seatProperties = new SeatProperties();
+        seatProperties.getReservation().setMaxSeatCount(4);
+        seatProperties.getAllocation().setCandidateSpread(1);
+        SeatOccupancyIndex seatOccupancyIndex = new SeatOccupancyIndex(
+                seatCatalog, seatLayoutCache, seatStatusService, seatChangeLog, seatShardRouter);
+        seatAllocationService = new SeatAllocationService(seatOccupancyIndex, seatStatusService, seatProperties);
+
+        List<SeatStaticLayoutDTO.Seat> seats = new ArrayList<>();
+        for (int row : ROWS) {
+            for (int number = 1; number <= 4; number++) {
+                long concertSeatId = row * 100L + number;
+                seats.add(new SeatStaticLayoutDTO.Seat(concertSeatId, concertSeatId, String.valueOf(row), number,
+                        "A-" + row + "-" + number, SeatGrade.R, BigDecimal.valueOf(80000)));
+            }
+        }
+        SeatStaticLayoutDTO layout = new SeatStaticLayoutDTO(CONCERT_ID, null,
+                List.of(new SeatStaticLayoutDTO.Section("A", seats)));
+        given(seatLayoutCache.get(CONCERT_ID))
+                .willReturn(new SeatLayoutCache.StaticLayout(layout, new byte[0], "v1", System.currentTimeMillis()));
+
+        long[] seatIds = seats.stream().mapToLong(SeatStaticLayoutDTO.Seat::concertSeatId).sorted().toArray();
+        byte[] grades = new byte[seatIds.length];
+        Arrays.fill(grades, (byte) SeatGrade.R.ordinal());
+        catalog = new SeatCatalog.Catalog(seatIds,
+                Arrays.stream(seatIds).mapToObj(id -> "A-" + id / 100 + "-" + id % 100).toArray(String[]::new),
+                grades, new short[seatIds.length], new String[]{"A"});
+        given(seatCatalog.get(CONCERT_ID)).willReturn(catalog);
+    }
+
+    @Test
+    @DisplayName("열은 숫자 크기 순으로 앞 열을 고른다 (\"2\" 열이 \"10\" 열보다 앞)")
+    void prefersNumericallyFrontRow() {
+        givenSeatMap(Map.of(101L, SeatStatusEnum.BOOKED, 102L, SeatStatusEnum.BOOKED,
+                103L, SeatStatusEnum.BOOKED, 104L, SeatStatusEnum.BOOKED));
+
+        allocate(2);
+
+        assertThat(reservedSeatIds(1).get(0)).containsExactly(201L, 202L);
+    }
+
+    @Test
+    @DisplayName("중간에 빈 좌석이 끊긴 구간은 건너뛰고 연속된 빈 좌석 묶음을 고른다")
+    void picksAdjacentSeats() {
+        givenSeatMap(Map.of(102L, SeatStatusEnum.BOOKED));
+
+        allocate(2);
+
+        assertThat(reservedSeatIds(1).get(0)).containsExactly(103L, 104L);
+    }
+
+    @Test
+    @DisplayName("두 번째 배정부터는 좌석 맵을 다시 읽지 않고 변경 로그 변경분만 반영한다")
+    void appliesChangeLogAfterFirstLoad() {
+        givenSeatMap(Map.of());
+        allocate(2);
+        given(seatChangeLog.readSince(CONCERT_ID, 0L, null, 1000))
+                .willReturn(changes(0L, 2L, change(1L, 101L, SeatStatusEnum.RESERVED), change(2L, 102L, SeatStatusEnum.RESERVED)));
+
+        allocate(2);
+
+        assertThat(reservedSeatIds(2).get(1)).containsExactly(103L, 104L);
+        verify(seatStatusService, times(1)).getSeatMapView(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("고른 좌석을 다른 사용자가 먼저 선점하면 변경분을 반영하고 그 좌석을 빼고 다시 배정한다")
+    void retriesOnContention() {
+        givenSeatMap(Map.of());
+        given(seatChangeLog.readSince(CONCERT_ID, 0L, null, 1000))
+                .willReturn(changes(0L, 1L, change(1L, 101L, SeatStatusEnum.RESERVED)));
+        given(seatStatusService.reserveSeats(eq(CONCERT_ID), any(), eq(USER_ID)))
+                .willThrow(new SeatReservationException("이미 선점된 좌석"))
+                .willReturn(List.of());
+
+        allocate(2);
+
+        List<List<Long>> attempts = reservedSeatIds(2);
+        assertThat(attempts.get(0)).containsExactly(101L, 102L);
+        assertThat(attempts.get(1)).containsExactly(103L, 104L);
+    }
+
+    @Test
+    @DisplayName("선점 실패 후에도 고른 좌석이 모두 비어 있으면 경합이 아니므로 실패를 그대로 던진다")
+    void rethrowsNonContentionFailure() {
+        SeatReservationException failure = new SeatReservationException("선점 개수 초과");
+        givenSeatMap(Map.of());
+        given(seatChangeLog.readSince(CONCERT_ID, 0L, null, 1000)).willReturn(changes(0L, 0L));
+        given(seatStatusService.reserveSeats(eq(CONCERT_ID), any(), eq(USER_ID))).willThrow(failure);
+
+        assertThatThrownBy(() -> allocate(2)).isSameAs(failure);
+        verify(seatStatusService, times(1)).reserveSeats(eq(CONCERT_ID), any(), eq(USER_ID));
+    }
+
+    @Test
+    @DisplayName("변경 로그가 잘렸으면 좌석 맵에서 점유 상태를 다시 채운다")
+    void reloadsWhenChangeLogTruncated() {
+        givenSeatMap(Map.of());
+        allocate(2);
+        given(seatChangeLog.readSince(CONCERT_ID, 0L, null, 1000))
+                .willReturn(new SeatChangeLog.Slice(5L, null, false, List.of(), 5L, null, false));
+
+        allocate(2);
+
+        verify(seatStatusService, times(2)).getSeatMapView(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("연속된 빈 좌석이 없거나 요청 수가 제한을 넘으면 선점하지 않는다")
+    void rejectsWithoutBlock() {
+        Map<Long, SeatStatusEnum> booked = new HashMap<>();
+        for (int row : ROWS) {
+            booked.put(row * 100L + 2, SeatStatusEnum.BOOKED);
+            booked.put(row * 100L + 4, SeatStatusEnum.BOOKED);
+        }
+        givenSeatMap(booked);
+
+        assertThatThrownBy(() -> allocate(2)).isInstanceOf(SeatReservationException.class);
+        assertThatThrownBy(() -> allocate(5)).isInstanceOf(SeatReservationException.class);
+        verify(seatStatusService, never()).reserveSeats(any(), any(), any());
+        verify(seatStatusService, never()).getSeatStatuses(any(), any());
+    }
+
+    private void allocate(int count) {
+        seatAllocationService.allocate(CONCERT_ID, count, null, null, USER_ID);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Long>> reservedSeatIds(int attempts) {
+        ArgumentCaptor<LinkedHashMap<Long, String>> seatInfos = ArgumentCaptor.forClass(LinkedHashMap.class);
+        verify(seatStatusService, times(attempts)).reserveSeats(eq(CONCERT_ID), seatInfos.capture(), eq(USER_ID));
+        return seatInfos.getAllValues().stream()
+                .map(infos -> List.copyOf(infos.keySet()))
+                .toList();
+    }
+
+    /**
+     * 처음 채울 때 읽는 좌석 맵 (지정하지 않은 좌석은 AVAILABLE, 변경 로그 순번 0)
+     */
+    private void givenSeatMap(Map<Long, SeatStatusEnum> overrides) {
+        SeatMapView.Builder view = SeatMapView.builder(catalog);
+        for (long seatId : catalog.seatIds()) {
+            view.set(seatId, overrides.getOrDefault(seatId, SeatStatusEnum.AVAILABLE).ordinal());
+        }
+        given(seatStatusService.getSeatMapView(CONCERT_ID)).willReturn(view.build());
+        given(seatChangeLog.currentSeq(CONCERT_ID)).willReturn(0L);
+    }
+
+    private static SeatChangeLog.Slice changes(long sinceSeq, long lastSeq, SeatChangesDTO.Change... changes) {
+        return new SeatChangeLog.Slice(lastSeq, null, true, List.of(changes), Math.max(sinceSeq, lastSeq), null, false);
+    }
+
+    private static SeatChangesDTO.Change change(long seq, long seatId, SeatStatusEnum status) {
+        return new SeatChangesDTO.Change(seq, seatId, status, status == SeatStatusEnum.AVAILABLE ? null : 8L);
+    }
+}
@@ -0,0 +1,138 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 좌석 캐시 미스 초기화 단일 실행 검증
+ * - 두 코디네이터 인스턴스가 같은 Redis 를 보면 서로 다른 인스턴스처럼 분산 임대를 다툼
+ * - 첫 청크 조회를 래치로 붙잡아 초기화가 진행 중인 동안의 동시 요청을 재현
+ */
+class SeatCacheInitCoordinatorTest extends SeatRedisTestSupport {
+
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    private SeatCacheInitCoordinator coordinator;
+    private SeatCacheInitCoordinator otherInstance;
+
+    @BeforeEach
+    void setUp() {
+        seatProperties.getCache().setInitWaitMillis(10_000);
+        coordinator = new SeatCacheInitCoordinator(seatCacheInitService, redissonClient, seatProperties);
+        otherInstance = new SeatCacheInitCoordinator(seatCacheInitService, redissonClient, seatProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 인스턴스의 동시 요청은 한 번만 DB를 읽고 모두 같은 결과를 받는다")
+    void singleFlightWithinInstance() throws Exception {
+        givenSlowDbRows(CONCERT_ID, rows(1, 5));
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> coordinator.initializeOnCacheMiss(CONCERT_ID)));
+        }
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+        verify(concertSeatRepository, times(1)).findCacheRowsAfter(eq(CONCERT_ID), eq(0L), any(Pageable.class));
+        assertThat(coordinator.getInitStats())
+                .containsEntry("loads", 1L)
+                .containsEntry("localJoins", 7L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스는 초기화가 끝나 완료 표시가 생길 때까지 기다린 뒤 true를 받는다")
+    void remoteWaitsForCompletion() throws Exception {
+        givenSlowDbRows(CONCERT_ID, rows(1, 5));
+
+        Future<Boolean> loader = executor.submit(() -> coordinator.initializeOnCacheMiss(CONCERT_ID));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Boolean> waiter = executor.submit(() -> otherInstance.initializeOnCacheMiss(CONCERT_ID));
+
+        Thread.sleep(200);
+        assertThat(waiter.isDone()).isFalse();
+        release.countDown();
+
+        assertThat(loader.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(waiter.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(otherInstance.getInitStats())
+                .containsEntry("loads", 0L)
+                .containsEntry("remoteWaits", 1L);
+    }
+
+    @Test
+    @DisplayName("샤드 하나만 교체된 중간 상태(완료 표시 없음)는 초기화된 캐시로 보지 않는다")
+    void partialShardsAreNotCached() {
+        useShards(SHARDED_CONCERT_ID, 3);
+        givenDbRows(SHARDED_CONCERT_ID, rows(1, 6));
+        redissonClient.getMap(seatShardRouter.key(RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX, SHARDED_CONCERT_ID, 0),
+                StringCodec.INSTANCE).fastPut("1", "{partial");
+
+        assertThat(seatCacheInitService.isCacheReady(SHARDED_CONCERT_ID)).isFalse();
+        assertThat(coordinator.initializeOnCacheMiss(SHARDED_CONCERT_ID)).isTrue();
+
+        assertThat(coordinator.getInitStats()).containsEntry("loads", 1L);
+        assertThat(seatScriptExecutor.readAll(SHARDED_CONCERT_ID)).hasSize(6);
+        assertThat(seatCacheInitService.isCacheReady(SHARDED_CONCERT_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시를 삭제하면 완료 표시도 지워진다")
+    void clearRemovesMarker() {
+        loadSeats(CONCERT_ID, rows(1, 3));
+        assertThat(seatCacheInitService.isCacheReady(CONCERT_ID)).isTrue();
+
+        seatCacheInitService.clearSeatCache(CONCERT_ID);
+
+        assertThat(seatCacheInitService.isCacheReady(CONCERT_ID)).isFalse();
+    }
+
+    /**
+     * 첫 청크 조회에서 release 래치가 풀릴 때까지 멈추는 DB 조회
+     */
+    private void givenSlowDbRows(Long concertId, List<ConcertSeatCacheRowDTO> seats) {
+        when(concertSeatRepository.findCacheRowsAfter(eq(concertId), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    long after = invocation.getArgument(1);
+                    if (after == 0L) {
+                        loading.countDown();
+                        release.await(10, TimeUnit.SECONDS);
+                    }
+                    return chunk(seats, after, invocation.getArgument(2));
+                });
+    }
+}
@@ -0,0 +1,239 @@
+package com.team03.ticketmon.seat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.dto.SeatCountsDTO;
+import com.team03.ticketmon.seat.script.SeatTransition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RMap;
+import org.redisson.api.options.KeysScanOptions;
+import org.redisson.codec.JsonJacksonCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 좌석 캐시 초기화 검증
+ * - 청크 단위 임시 키 기록 → 원자적 교체가 좌석 행 순서/청크 크기와 무관하게 모든 좌석을 적재하는지 확인
+ * - 교체 후 임시 키가 남지 않고, 운영 캐시의 선점/예매 불가 좌석이 새 캐시로 이어지는지 확인
+ */
+class SeatCacheInitServiceTest extends SeatRedisTestSupport {
+
+    private static final Long USER_ID = 7L;
+
+    @Autowired
+    private SeatExpiryWheel seatExpiryWheel;
+
+    @Autowired
+    private SeatCompactStateStore seatCompactStateStore;
+
+    @Autowired
+    private SeatCountStore seatCountStore;
+
+    @Test
+    @DisplayName("스냅샷 행이 정렬되어 있지 않아도 청크 커서를 따라 모든 좌석을 적재한다")
+    void snapshotRowsInAnyOrder() {
+        seatProperties.getCache().setInitChunkSize(2);
+        List<ConcertSeatCacheRowDTO> seats = new ArrayList<>(rows(1, 6));
+        seats.add(row(7, "B", SeatGrade.VIP, true));
+        Collections.reverse(seats);
+
+        int loaded = loadSeats(CONCERT_ID, seats);
+
+        assertThat(loaded).isEqualTo(7);
+        Map<Long, SeatStatus> cached = seatScriptExecutor.readAll(CONCERT_ID);
+        assertThat(cached).containsOnlyKeys(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(cached.get(7L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.BOOKED);
+        assertThat(cached.get(7L).getSeatInfo()).isEqualTo("B-1-7");
+    }
+
+    @Test
+    @DisplayName("교체가 끝나면 임시 키가 남지 않는다 (샤딩한 콘서트 포함)")
+    void noStagingKeysAfterSwap() {
+        seatProperties.getCache().setInitChunkSize(2);
+        useShards(SHARDED_CONCERT_ID, 3);
+
+        loadSeats(CONCERT_ID, rows(1, 5));
+        loadSeats(SHARDED_CONCERT_ID, rows(1, 5));
+
+        List<String> stagingKeys = new ArrayList<>();
+        redissonClient.getKeys().getKeys(KeysScanOptions.defaults().pattern("*:staging:*")).forEach(stagingKeys::add);
+        assertThat(stagingKeys).isEmpty();
+        assertThat(seatScriptExecutor.readAll(SHARDED_CONCERT_ID)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("운영 캐시 위에 재초기화해도 진행 중인 선점과 예매 불가 좌석은 인덱스/만료 휠/집계와 함께 이어진다")
+    void reinitializeCarriesLiveHolds() {
+        loadSeats(CONCERT_ID, rows(1, 5));
+        LocalDateTime now = LocalDateTime.now();
+        for (long seatId = 1; seatId <= 2; seatId++) {
+            seatScriptExecutor.reserve(hold(CONCERT_ID, seatId, USER_ID, now, now.plusMinutes(5)), now,
+                    Integer.MAX_VALUE, LAST_UPDATE_TTL_MILLIS);
+        }
+        seatScriptExecutor.put(unavailable(3L), LAST_UPDATE_TTL_MILLIS);
+
+        loadSeats(CONCERT_ID, rows(1, 5));
+
+        Map<Long, SeatStatus> cached = seatScriptExecutor.readAll(CONCERT_ID);
+        assertThat(cached.get(1L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.RESERVED);
+        assertThat(cached.get(1L).getUserId()).isEqualTo(USER_ID);
+        assertThat(cached.get(3L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.UNAVAILABLE);
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(seatExpiryWheel.findDueSeatIds(CONCERT_ID, Long.MAX_VALUE, 10)).containsExactlyInAnyOrder(1L, 2L);
+        Map<Long, SeatStatus> compact = seatCompactStateStore.readAll(CONCERT_ID);
+        assertThat(compact.get(1L).getUserId()).isEqualTo(USER_ID);
+        assertThat(compact.get(3L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.UNAVAILABLE);
+
+        SeatCountsDTO counts = seatCountStore.read(CONCERT_ID).orElseThrow();
+        assertThat(counts.count(SeatStatus.SeatStatusEnum.RESERVED)).isEqualTo(2);
+        assertThat(counts.count(SeatStatus.SeatStatusEnum.UNAVAILABLE)).isEqualTo(1);
+        assertThat(counts.count(SeatStatus.SeatStatusEnum.AVAILABLE)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예매 불가 좌석은 운영 해시를 청크 단위로 훑어 찾고, 집계가 없어도 이어 붙인다")
+    void reinitializeCarriesUnavailableScannedInChunks() {
+        seatProperties.getCache().setInitChunkSize(2);
+        loadSeats(CONCERT_ID, rows(1, 7));
+        seatScriptExecutor.put(unavailable(3L), LAST_UPDATE_TTL_MILLIS);
+        seatScriptExecutor.put(unavailable(6L), LAST_UPDATE_TTL_MILLIS);
+        redissonClient.getKeys().delete(
+                RedisKeyGenerator.concertKey(RedisKeyGenerator.SEAT_COUNTS_KEY_PREFIX, CONCERT_ID));
+
+        loadSeats(CONCERT_ID, rows(1, 7));
+
+        Map<Long, SeatStatus> cached = seatScriptExecutor.readAll(CONCERT_ID);
+        assertThat(cached.get(3L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.UNAVAILABLE);
+        assertThat(cached.get(6L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.UNAVAILABLE);
+        assertThat(cached.get(5L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.AVAILABLE);
+        assertThat(seatCountStore.read(CONCERT_ID).orElseThrow().count(SeatStatus.SeatStatusEnum.UNAVAILABLE))
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("해시 태그 없는 옛 좌석 해시의 선점/예매 불가 좌석을 새 캐시로 옮기고 옛 키를 삭제한다")
+    void initializeCarriesLegacySeats() {
+        LocalDateTime now = LocalDateTime.now();
+        String legacyStatusKey = RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX + CONCERT_ID;
+        String legacyLastUpdateKey = RedisKeyGenerator.SEAT_LAST_UPDATE_KEY_PREFIX + CONCERT_ID;
+        // 해시 태그 도입 전 노드가 쓰던 전역 JSON 코덱 그대로 기록
+        ObjectMapper legacyMapper = new ObjectMapper()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .registerModule(new JavaTimeModule());
+        RMap<String, SeatStatus> legacy = redissonClient.getMap(legacyStatusKey, new JsonJacksonCodec(legacyMapper));
+        legacy.put("2", hold(CONCERT_ID, 2L, USER_ID, now, now.plusMinutes(5)));
+        legacy.put("4", hold(CONCERT_ID, 4L, USER_ID, now, null));
+        legacy.put("5", unavailable(5L));
+        redissonClient.getBucket(legacyLastUpdateKey).set(System.currentTimeMillis());
+
+        loadSeats(CONCERT_ID, rows(1, 6));
+
+        Map<Long, SeatStatus> cached = seatScriptExecutor.readAll(CONCERT_ID);
+        assertThat(cached.get(2L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.RESERVED);
+        assertThat(cached.get(4L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.RESERVED);
+        assertThat(cached.get(5L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.UNAVAILABLE);
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).containsExactlyInAnyOrder(2L, 4L);
+        assertThat(redissonClient.getKeys().countExists(legacyStatusKey, legacyLastUpdateKey)).isZero();
+    }
+
+    @Test
+    @DisplayName("재초기화 시 DB 기준 예매 완료 좌석은 운영 캐시의 선점을 이어 붙이지 않는다")
+    void reinitializeKeepsBookedFromSource() {
+        useShards(SHARDED_CONCERT_ID, 2);
+        loadSeats(SHARDED_CONCERT_ID, rows(1, 4));
+        LocalDateTime now = LocalDateTime.now();
+        for (long seatId = 1; seatId <= 2; seatId++) {
+            seatScriptExecutor.reserve(hold(SHARDED_CONCERT_ID, seatId, USER_ID, now, now.plusMinutes(5)), now,
+                    Integer.MAX_VALUE, LAST_UPDATE_TTL_MILLIS);
+        }
+
+        List<ConcertSeatCacheRowDTO> seats = new ArrayList<>(rows(2, 4));
+        seats.add(row(1, "A", SeatGrade.R, true));
+        loadSeats(SHARDED_CONCERT_ID, seats);
+
+        Map<Long, SeatStatus> cached = seatScriptExecutor.readAll(SHARDED_CONCERT_ID);
+        assertThat(cached.get(1L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.BOOKED);
+        assertThat(cached.get(2L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.RESERVED);
+        assertThat(seatScriptExecutor.findHeldSeatIds(SHARDED_CONCERT_ID, USER_ID)).containsExactly(2L);
+        assertThat(seatExpiryWheel.findDueSeatIds(SHARDED_CONCERT_ID, Long.MAX_VALUE, 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("운영 캐시가 있으면 저널/스냅샷 선점 복원을 건너뛰어 그 사이 해제된 선점을 되살리지 않는다")
+    void reinitializeSkipsReplayOverLiveCache() {
+        givenDbRows(CONCERT_ID, rows(1, 5));
+        loadSeats(CONCERT_ID, rows(1, 5));
+        LocalDateTime now = LocalDateTime.now();
+        seatScriptExecutor.reserve(hold(CONCERT_ID, 1L, USER_ID, now, now.plusMinutes(5)), now,
+                Integer.MAX_VALUE, LAST_UPDATE_TTL_MILLIS);
+        seatScriptExecutor.transition(SeatTransition.RELEASE, CONCERT_ID, List.of(1L), USER_ID, true,
+                null, LAST_UPDATE_TTL_MILLIS);
+
+        // 해제 전에 남긴 스냅샷으로 다시 초기화
+        seatCacheInitService.initializeSeatCacheFromSnapshot(CONCERT_ID, rows(1, 5),
+                List.of(hold(CONCERT_ID, 1L, USER_ID, now, now.plusMinutes(5))));
+        seatCacheInitService.initializeSeatCacheFromDB(CONCERT_ID);
+
+        assertThat(seatScriptExecutor.readAll(CONCERT_ID).get(1L).getStatus())
+                .isEqualTo(SeatStatus.SeatStatusEnum.AVAILABLE);
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).isEmpty();
+        verify(seatHoldJournal, never()).restoreActiveHolds(anyLong());
+    }
+
+    @Test
+    @DisplayName("운영 캐시가 없으면(Redis 유실) 교체 후 저널에서 선점을 복원한다")
+    void restoreFromJournalWithoutLiveCache() {
+        givenDbRows(CONCERT_ID, rows(1, 5));
+
+        seatCacheInitService.initializeSeatCacheFromDB(CONCERT_ID);
+
+        verify(seatHoldJournal).restoreActiveHolds(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("DB 초기화는 직전 청크의 마지막 좌석 ID를 커서로 넘겨 다음 청크를 조회한다")
+    void dbChunksFollowCursor() {
+        seatProperties.getCache().setInitChunkSize(2);
+        givenDbRows(CONCERT_ID, rows(1, 5));
+
+        int loaded = seatCacheInitService.initializeSeatCacheFromDB(CONCERT_ID);
+
+        assertThat(loaded).isEqualTo(5);
+        assertThat(seatScriptExecutor.readAll(CONCERT_ID)).hasSize(5);
+        verify(concertSeatRepository).findCacheRowsAfter(eq(CONCERT_ID), eq(0L), any(Pageable.class));
+        verify(concertSeatRepository).findCacheRowsAfter(eq(CONCERT_ID), eq(2L), any(Pageable.class));
+        verify(concertSeatRepository).findCacheRowsAfter(eq(CONCERT_ID), eq(4L), any(Pageable.class));
+        verify(concertSeatRepository, times(3)).findCacheRowsAfter(eq(CONCERT_ID), anyLong(), any(Pageable.class));
+    }
+
+    private static SeatStatus unavailable(Long seatId) {
+        return SeatStatus.builder()
+                .id(CONCERT_ID + "-" + seatId)
+                .concertId(CONCERT_ID)
+                .seatId(seatId)
+                .status(SeatStatus.SeatStatusEnum.UNAVAILABLE)
+                .seatInfo("A-1-" + seatId)
+                .build();
+    }
+}
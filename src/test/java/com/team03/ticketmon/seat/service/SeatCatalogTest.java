@@ -0,0 +1,202 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.seat.dto.SeatStaticLayoutDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.LongCodec;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 좌석 카탈로그 단위 테스트
+ * - 배치도: 구역 B(좌석 4, 2), 구역 A(좌석 3, 1) — 배치도 순서와 좌석 ID 순서가 다르도록 구성
+ * - 좌석 2는 등급 없음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatCatalog 단위 테스트")
+class SeatCatalogTest {
+
+    private static final Long CONCERT_ID = 1L;
+
+    @Mock
+    private SeatLayoutCache seatLayoutCache;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic invalidateTopic;
+
+    private SeatCatalog seatCatalog;
+
+    @BeforeEach
+    void setUp() {
+        seatCatalog = new SeatCatalog(seatLayoutCache, redissonClient);
+    }
+
+    @Test
+    @DisplayName("순번은 구역과 관계없이 좌석 ID 오름차순이고, 순번별 좌석 정보/등급/구역이 맞는다")
+    void buildOrdersBySeatId() {
+        givenLayout();
+
+        SeatCatalog.Catalog catalog = seatCatalog.get(CONCERT_ID);
+
+        assertThat(catalog.size()).isEqualTo(4);
+        assertThat(catalog.seatIds()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(catalog.seatInfos()).containsExactly("A-1-1", "B-1-2", "A-1-3", "B-1-4");
+        assertThat(catalog.sectionNames()).containsExactly("B", "A");
+        assertThat(catalog.sectionAt(0)).isEqualTo("A");
+        assertThat(catalog.sectionAt(1)).isEqualTo("B");
+        assertThat(catalog.gradeAt(0)).isEqualTo(SeatGrade.R);
+        assertThat(catalog.gradeAt(1)).isNull();
+        assertThat(catalog.gradeAt(3)).isEqualTo(SeatGrade.VIP);
+        assertThat(catalog.ordinalOf(3L)).isEqualTo(2);
+        assertThat(catalog.ordinalOf(99L)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("샤드별 순번은 같은 샤드 좌석만 좌석 ID 오름차순으로 따라가고, 샤딩하지 않으면 전체 순번과 같다")
+    void shardOrdinals() {
+        givenLayout();
+        SeatCatalog.Catalog catalog = seatCatalog.get(CONCERT_ID);
+
+        assertThat(catalog.shardSize(0, 1)).isEqualTo(4);
+        assertThat(catalog.nextInShard(-1, 0, 1)).isZero();
+        assertThat(catalog.nextInShard(3, 0, 1)).isEqualTo(4);
+
+        // 샤드 2개: 0 → 좌석 2, 4 (순번 1, 3) / 1 → 좌석 1, 3 (순번 0, 2)
+        assertThat(catalog.shardSize(0, 2)).isEqualTo(2);
+        assertThat(catalog.nextInShard(-1, 0, 2)).isEqualTo(1);
+        assertThat(catalog.nextInShard(1, 0, 2)).isEqualTo(3);
+        assertThat(catalog.nextInShard(3, 0, 2)).isEqualTo(4);
+        assertThat(catalog.nextInShard(-1, 1, 2)).isZero();
+        assertThat(catalog.nextInShard(0, 1, 2)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다시 생성하면 로컬 배치도를 버리고 새 카탈로그를 만들며, 다른 노드에는 알리지 않는다")
+    void reloadRebuildsLocally() {
+        givenLayout();
+        SeatCatalog.Catalog first = seatCatalog.get(CONCERT_ID);
+
+        SeatCatalog.Catalog reloaded = seatCatalog.reload(CONCERT_ID);
+
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(seatCatalog.get(CONCERT_ID)).isSameAs(reloaded);
+        verify(seatLayoutCache).evictLocal(CONCERT_ID);
+        verify(redissonClient, never()).getTopic(any(), any());
+    }
+
+    @Test
+    @DisplayName("카탈로그는 콘서트마다 한 번만 만들고, 좌석 정보 조회는 배치도를 다시 읽지 않는다")
+    void buildOnce() {
+        givenLayout();
+
+        assertThat(seatCatalog.get(CONCERT_ID)).isSameAs(seatCatalog.get(CONCERT_ID));
+        assertThat(seatCatalog.getSeatInfo(CONCERT_ID, 4L)).isEqualTo("B-1-4");
+        assertThat(seatCatalog.getSeatInfo(CONCERT_ID, 99L)).isNull();
+        assertThat(seatCatalog.contains(CONCERT_ID, 2L)).isTrue();
+        assertThat(seatCatalog.contains(CONCERT_ID, 99L)).isFalse();
+
+        verify(seatLayoutCache, times(1)).get(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("콘서트가 없으면 contains는 false, 그 밖의 오류는 그대로 던진다")
+    void containsWhenConcertMissing() {
+        given(seatLayoutCache.get(CONCERT_ID)).willThrow(new BusinessException(ErrorCode.CONCERT_NOT_FOUND));
+        given(seatLayoutCache.get(2L)).willThrow(new BusinessException(ErrorCode.SERVER_ERROR));
+
+        assertThat(seatCatalog.contains(CONCERT_ID, 1L)).isFalse();
+        assertThatThrownBy(() -> seatCatalog.contains(2L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SERVER_ERROR);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다른 노드에 알리고, 다음 조회 때 배치도에서 다시 만든다")
+    void evictRebuilds() {
+        givenLayout();
+        givenTopic();
+        SeatCatalog.Catalog first = seatCatalog.get(CONCERT_ID);
+
+        seatCatalog.evict(CONCERT_ID);
+
+        verify(invalidateTopic).publish(CONCERT_ID);
+        assertThat(seatCatalog.get(CONCERT_ID)).isNotSameAs(first);
+        verify(seatLayoutCache, times(2)).get(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("무효화 발행이 실패해도 로컬 카탈로그는 버린다")
+    void evictWhenPublishFails() {
+        givenLayout();
+        givenTopic();
+        seatCatalog.get(CONCERT_ID);
+        given(invalidateTopic.publish(CONCERT_ID)).willThrow(new IllegalStateException("redis down"));
+
+        seatCatalog.evict(CONCERT_ID);
+        seatCatalog.get(CONCERT_ID);
+
+        verify(seatLayoutCache, times(2)).get(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("무효화 메시지를 받으면 로컬 배치도와 카탈로그를 함께 버린다")
+    @SuppressWarnings("unchecked")
+    void invalidateMessage() {
+        givenLayout();
+        givenTopic();
+        seatCatalog.subscribe();
+        ArgumentCaptor<MessageListener<Long>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(invalidateTopic).addListener(eq(Long.class), listener.capture());
+        seatCatalog.get(CONCERT_ID);
+
+        listener.getValue().onMessage(RedisKeyGenerator.SEAT_CATALOG_INVALIDATE_TOPIC, CONCERT_ID);
+        seatCatalog.get(CONCERT_ID);
+
+        verify(seatLayoutCache).evictLocal(CONCERT_ID);
+        verify(seatLayoutCache, times(2)).get(CONCERT_ID);
+    }
+
+    private void givenLayout() {
+        SeatStaticLayoutDTO layout = new SeatStaticLayoutDTO(CONCERT_ID, null, List.of(
+                new SeatStaticLayoutDTO.Section("B", List.of(seat(4L, "B", SeatGrade.VIP), seat(2L, "B", null))),
+                new SeatStaticLayoutDTO.Section("A", List.of(seat(3L, "A", SeatGrade.R), seat(1L, "A", SeatGrade.R)))));
+        given(seatLayoutCache.get(CONCERT_ID))
+                .willReturn(new SeatLayoutCache.StaticLayout(layout, new byte[0], "v1", System.currentTimeMillis()));
+    }
+
+    private void givenTopic() {
+        given(redissonClient.getTopic(eq(RedisKeyGenerator.SEAT_CATALOG_INVALIDATE_TOPIC), any(LongCodec.class)))
+                .willReturn(invalidateTopic);
+    }
+
+    private static SeatStaticLayoutDTO.Seat seat(Long concertSeatId, String section, SeatGrade grade) {
+        return new SeatStaticLayoutDTO.Seat(concertSeatId, concertSeatId, "1", concertSeatId.intValue(),
+                section + "-1-" + concertSeatId, grade, BigDecimal.valueOf(80000));
+    }
+}
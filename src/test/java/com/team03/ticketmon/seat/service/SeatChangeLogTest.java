@@ -0,0 +1,153 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatChangesDTO;
+import com.team03.ticketmon.seat.script.SeatTransition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 변경 로그 검증
+ * - 스크립트가 좌석 변경마다 순번을 올려 기록하고, 순번/커서 이후 변경분을 개수 제한에 맞춰 이어 읽을 수 있는지 확인
+ * - 로그로 따라잡을 수 없는 경우(재초기화, 순번 역전)에는 스냅샷이 필요하다고 알리는지 확인
+ */
+class SeatChangeLogTest extends SeatRedisTestSupport {
+
+    private static final Long USER_ID = 7L;
+
+    @Autowired
+    private SeatChangeLog seatChangeLog;
+
+    @Test
+    @DisplayName("좌석 변경마다 순번이 1씩 오르고, 순번 이후 변경분을 순서대로 반환한다")
+    void readSince() {
+        loadSeats(CONCERT_ID, rows(1, 5));
+        long base = seatChangeLog.currentSeq(CONCERT_ID);
+
+        reserveSeat(CONCERT_ID, 1L, USER_ID);
+        reserveSeat(CONCERT_ID, 2L, USER_ID);
+        release(CONCERT_ID, 1L);
+
+        SeatChangeLog.Slice slice = seatChangeLog.readSince(CONCERT_ID, base, null, 10);
+        assertThat(slice.available()).isTrue();
+        assertThat(slice.currentSeq()).isEqualTo(base + 3);
+        assertThat(slice.changes()).containsExactly(
+                new SeatChangesDTO.Change(base + 1, 1L, SeatStatusEnum.RESERVED, USER_ID),
+                new SeatChangesDTO.Change(base + 2, 2L, SeatStatusEnum.RESERVED, USER_ID),
+                new SeatChangesDTO.Change(base + 3, 1L, SeatStatusEnum.AVAILABLE, null));
+        assertThat(slice.lastSeq()).isEqualTo(base + 3);
+        assertThat(slice.hasMore()).isFalse();
+
+        SeatChangeLog.Slice upToDate = seatChangeLog.readSince(CONCERT_ID, base + 3, null, 10);
+        assertThat(upToDate.available()).isTrue();
+        assertThat(upToDate.changes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("개수 제한에 걸리면 hasMore와 마지막 반영 순번을 돌려주고, 그 순번부터 이어 읽을 수 있다")
+    void readSinceWithLimit() {
+        loadSeats(CONCERT_ID, rows(1, 5));
+        long base = seatChangeLog.currentSeq(CONCERT_ID);
+        for (long seatId = 1; seatId <= 3; seatId++) {
+            reserveSeat(CONCERT_ID, seatId, USER_ID);
+        }
+
+        SeatChangeLog.Slice first = seatChangeLog.readSince(CONCERT_ID, base, null, 2);
+        assertThat(first.changes()).extracting(SeatChangesDTO.Change::seatId).containsExactly(1L, 2L);
+        assertThat(first.lastSeq()).isEqualTo(base + 2);
+        assertThat(first.hasMore()).isTrue();
+
+        SeatChangeLog.Slice next = seatChangeLog.readSince(CONCERT_ID, first.lastSeq(), null, 2);
+        assertThat(next.changes()).extracting(SeatChangesDTO.Change::seatId).containsExactly(3L);
+        assertThat(next.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("재초기화로 로그가 비워지거나 요청 순번이 현재 순번보다 크면 로그로 따라잡을 수 없다")
+    void unavailableAfterReset() {
+        loadSeats(CONCERT_ID, rows(1, 5));
+        long base = seatChangeLog.currentSeq(CONCERT_ID);
+        reserveSeat(CONCERT_ID, 1L, USER_ID);
+
+        seatChangeLog.reset(CONCERT_ID);
+
+        assertThat(seatChangeLog.currentSeq(CONCERT_ID)).isEqualTo(base + 2);
+        SeatChangeLog.Slice stale = seatChangeLog.readSince(CONCERT_ID, base + 1, null, 10);
+        assertThat(stale.available()).isFalse();
+        assertThat(stale.changes()).isEmpty();
+        assertThat(seatChangeLog.readSince(CONCERT_ID, base + 10, null, 10).available()).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시 삭제로 로그를 지워도 순번은 0으로 돌아가지 않고, 이전 순번으로는 따라잡을 수 없다")
+    void deleteKeepsSequence() {
+        loadSeats(CONCERT_ID, rows(1, 5));
+        reserveSeat(CONCERT_ID, 1L, USER_ID);
+        long before = seatChangeLog.currentSeq(CONCERT_ID);
+
+        seatChangeLog.delete(CONCERT_ID);
+
+        assertThat(seatChangeLog.currentSeq(CONCERT_ID)).isGreaterThan(before);
+        SeatChangeLog.Slice stale = seatChangeLog.readSince(CONCERT_ID, before, null, 10);
+        assertThat(stale.available()).isFalse();
+        assertThat(stale.changes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("샤딩한 콘서트는 샤드별 순번 커서로 변경분을 나눠 읽고, 마지막 커서가 현재 커서와 같아진다")
+    void readSinceAcrossShards() {
+        useShards(SHARDED_CONCERT_ID, 3);
+        loadSeats(SHARDED_CONCERT_ID, rows(1, 6));
+        SeatChangeLog.Slice start = seatChangeLog.readSince(SHARDED_CONCERT_ID, 0, null, 10);
+        long base = start.currentSeq();
+        String cursor = start.currentCursor();
+        assertThat(cursor.split("\\.")).hasSize(3);
+
+        for (long seatId = 1; seatId <= 4; seatId++) {
+            reserveSeat(SHARDED_CONCERT_ID, seatId, USER_ID);
+        }
+
+        List<Long> seatIds = new ArrayList<>();
+        SeatChangeLog.Slice first = seatChangeLog.readSince(SHARDED_CONCERT_ID, base, cursor, 3);
+        assertThat(first.changes()).hasSize(3);
+        assertThat(first.changes()).extracting(SeatChangesDTO.Change::seq).containsExactly(base + 1, base + 2, base + 3);
+        assertThat(first.hasMore()).isTrue();
+        first.changes().forEach(change -> seatIds.add(change.seatId()));
+
+        SeatChangeLog.Slice next = seatChangeLog.readSince(SHARDED_CONCERT_ID, first.lastSeq(), first.cursor(), 3);
+        assertThat(next.hasMore()).isFalse();
+        assertThat(next.cursor()).isEqualTo(next.currentCursor());
+        assertThat(next.lastSeq()).isEqualTo(base + 4);
+        next.changes().forEach(change -> seatIds.add(change.seatId()));
+
+        assertThat(seatIds).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("샤딩한 콘서트에서 커서 없이 조회하면 순번이 같을 때만 최신으로 본다")
+    void readSinceAcrossShardsWithoutCursor() {
+        useShards(SHARDED_CONCERT_ID, 3);
+        loadSeats(SHARDED_CONCERT_ID, rows(1, 6));
+        long base = seatChangeLog.currentSeq(SHARDED_CONCERT_ID);
+
+        assertThat(seatChangeLog.readSince(SHARDED_CONCERT_ID, base, null, 10).available()).isTrue();
+
+        reserveSeat(SHARDED_CONCERT_ID, 1L, USER_ID);
+
+        SeatChangeLog.Slice slice = seatChangeLog.readSince(SHARDED_CONCERT_ID, base, null, 10);
+        assertThat(slice.available()).isFalse();
+        assertThat(slice.currentSeq()).isEqualTo(base + 1);
+    }
+
+    private void release(Long concertId, Long seatId) {
+        seatScriptExecutor.transition(SeatTransition.RELEASE, concertId, List.of(seatId), USER_ID, true, null,
+                LAST_UPDATE_TTL_MILLIS);
+    }
+}
@@ -0,0 +1,90 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.script.SeatTransition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 압축 좌석 상태 저장소 검증
+ * - 스크립트가 함께 갱신한 압축 상태(2비트 상태 + 선점 정보)가 좌석 상태 해시와 같은 결과로 복원되는지 확인
+ */
+class SeatCompactStateStoreTest extends SeatRedisTestSupport {
+
+    private static final Long USER_ID = 7L;
+
+    @Autowired
+    private SeatCompactStateStore seatCompactStateStore;
+
+    @Test
+    @DisplayName("선점/영구 선점/예매 확정 후에도 압축 저장소 복원 결과가 좌석 상태 해시와 같다")
+    void readAllMatchesStatusHash() {
+        prepare(CONCERT_ID);
+
+        assertMatchesStatusHash(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("샤딩한 콘서트는 샤드별 압축 상태를 병합해 같은 결과를 복원한다")
+    void readAllMatchesStatusHashAcrossShards() {
+        useShards(SHARDED_CONCERT_ID, 3);
+        prepare(SHARDED_CONCERT_ID);
+
+        assertMatchesStatusHash(SHARDED_CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("삭제하면 압축 저장소에서 아무 좌석도 복원되지 않는다")
+    void delete() {
+        prepare(CONCERT_ID);
+
+        seatCompactStateStore.delete(CONCERT_ID);
+
+        assertThat(seatCompactStateStore.readAll(CONCERT_ID)).isEmpty();
+    }
+
+    /**
+     * 좌석 9개(마지막 바이트가 일부만 차도록) 적재 후 상태별 좌석을 하나씩 만듦
+     * - 1: 선점, 2: 영구 선점, 3: 예매 확정, 4: 선점 후 해제, 9: 초기 예매 완료
+     */
+    private void prepare(Long concertId) {
+        List<ConcertSeatCacheRowDTO> seats = new ArrayList<>(rows(1, 8));
+        seats.add(row(9, "B", SeatGrade.VIP, true));
+        loadSeats(concertId, seats);
+
+        for (long seatId = 1; seatId <= 4; seatId++) {
+            reserveSeat(concertId, seatId, USER_ID);
+        }
+        transitionSeat(concertId, SeatTransition.LOCK_PERMANENT, 2L, USER_ID);
+        transitionSeat(concertId, SeatTransition.BOOK, 3L, USER_ID);
+        transitionSeat(concertId, SeatTransition.RELEASE, 4L, USER_ID);
+    }
+
+    private void assertMatchesStatusHash(Long concertId) {
+        Map<Long, SeatStatus> expected = seatScriptExecutor.readAll(concertId);
+        Map<Long, SeatStatus> actual = seatCompactStateStore.readAll(concertId);
+
+        assertThat(actual).hasSize(9).containsOnlyKeys(expected.keySet());
+        expected.forEach((seatId, seat) -> {
+            SeatStatus restored = actual.get(seatId);
+            assertThat(restored.getStatus()).as("seat %d status", seatId).isEqualTo(seat.getStatus());
+            if (seat.isReserved()) {
+                assertThat(restored.getUserId()).as("seat %d userId", seatId).isEqualTo(seat.getUserId());
+                assertThat(restored.getReservedAt()).as("seat %d reservedAt", seatId).isEqualTo(seat.getReservedAt());
+                assertThat(restored.getExpiresAt()).as("seat %d expiresAt", seatId).isEqualTo(seat.getExpiresAt());
+            }
+        });
+        assertThat(actual.get(3L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.BOOKED);
+        assertThat(actual.get(2L).getExpiresAt()).isNull();
+    }
+}
@@ -0,0 +1,105 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatCountsDTO;
+import com.team03.ticketmon.seat.script.SeatTransition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 수 집계 카운터 검증
+ * - 초기화 시 기록한 상태별/구역별/등급별 좌석 수를 선점/확정/해제 스크립트가 함께 갱신하는지 확인
+ */
+class SeatCountStoreTest extends SeatRedisTestSupport {
+
+    private static final Long USER_ID = 7L;
+
+    @Autowired
+    private SeatCountStore seatCountStore;
+
+    private List<ConcertSeatCacheRowDTO> seats;
+
+    @BeforeEach
+    void setUp() {
+        // 구역 A: R석 4개, 구역 B: VIP 2개(그중 1개 예매 완료)
+        seats = new ArrayList<>(rows(1, 4));
+        seats.add(row(5, "B", SeatGrade.VIP, false));
+        seats.add(row(6, "B", SeatGrade.VIP, true));
+    }
+
+    @Test
+    @DisplayName("초기화 직후 상태별/구역별/등급별 좌석 수와 가격 범위를 기록한다")
+    void countsAfterInit() {
+        loadSeats(CONCERT_ID, seats);
+
+        SeatCountsDTO counts = read(CONCERT_ID);
+        assertThat(counts.totalSeats()).isEqualTo(6);
+        assertThat(counts.count(SeatStatusEnum.AVAILABLE)).isEqualTo(5);
+        assertThat(counts.count(SeatStatusEnum.BOOKED)).isEqualTo(1);
+        assertThat(counts.availableInSection("A")).isEqualTo(4);
+        assertThat(counts.availableInSection("B")).isEqualTo(1);
+        assertThat(counts.availableInGrade("VIP")).isEqualTo(1);
+        assertThat(counts.minPrice()).isEqualByComparingTo(BigDecimal.valueOf(80000));
+        assertThat(counts.maxPrice()).isEqualByComparingTo(BigDecimal.valueOf(150000));
+    }
+
+    @Test
+    @DisplayName("선점 → 확정, 선점 → 해제를 거치면 카운터가 상태 이동만큼 바뀌고 전체 좌석 수는 유지된다")
+    void countsFollowTransitions() {
+        loadSeats(CONCERT_ID, seats);
+        reserveSeat(CONCERT_ID, 1L, USER_ID);
+        reserveSeat(CONCERT_ID, 5L, USER_ID);
+
+        SeatCountsDTO held = read(CONCERT_ID);
+        assertThat(held.count(SeatStatusEnum.RESERVED)).isEqualTo(2);
+        assertThat(held.availableInSection("A")).isEqualTo(3);
+        assertThat(held.availableInGrade("VIP")).isZero();
+
+        transitionSeat(CONCERT_ID, SeatTransition.BOOK, 1L, USER_ID);
+        transitionSeat(CONCERT_ID, SeatTransition.RELEASE, 5L, USER_ID);
+
+        SeatCountsDTO counts = read(CONCERT_ID);
+        assertThat(counts.totalSeats()).isEqualTo(6);
+        assertThat(counts.count(SeatStatusEnum.RESERVED)).isZero();
+        assertThat(counts.count(SeatStatusEnum.BOOKED)).isEqualTo(2);
+        assertThat(counts.count(SeatStatusEnum.AVAILABLE)).isEqualTo(4);
+        assertThat(counts.availableInSection("A")).isEqualTo(3);
+        assertThat(counts.availableInGrade("VIP")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("샤딩한 콘서트는 샤드별 카운터를 합산한다")
+    void countsAcrossShards() {
+        useShards(SHARDED_CONCERT_ID, 3);
+        loadSeats(SHARDED_CONCERT_ID, seats);
+        reserveSeat(SHARDED_CONCERT_ID, 2L, USER_ID);
+        reserveSeat(SHARDED_CONCERT_ID, 4L, USER_ID);
+
+        SeatCountsDTO counts = read(SHARDED_CONCERT_ID);
+        assertThat(counts.totalSeats()).isEqualTo(6);
+        assertThat(counts.count(SeatStatusEnum.RESERVED)).isEqualTo(2);
+        assertThat(counts.availableInSection("A")).isEqualTo(2);
+        assertThat(counts.maxPrice()).isEqualByComparingTo(BigDecimal.valueOf(150000));
+    }
+
+    @Test
+    @DisplayName("좌석 캐시가 없으면 집계도 없다")
+    void noCounts() {
+        assertThat(seatCountStore.read(CONCERT_ID)).isEmpty();
+    }
+
+    private SeatCountsDTO read(Long concertId) {
+        return seatCountStore.read(concertId).orElseThrow();
+    }
+}
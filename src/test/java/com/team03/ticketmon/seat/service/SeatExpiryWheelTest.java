@@ -0,0 +1,112 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.script.SeatTransition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 선점 만료 휠 검증
+ * - 선점 스크립트가 만료 시각을 점수로 등록하고, 해제 시 제거하며, 스위퍼는 만료 시각이 지난 좌석만 순서대로 가져가는지 확인
+ */
+class SeatExpiryWheelTest extends SeatRedisTestSupport {
+
+    private static final Long USER_ID = 7L;
+
+    @Autowired
+    private SeatExpiryWheel seatExpiryWheel;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 선점 좌석만 만료 시각 오름차순으로 최대 limit개 반환한다")
+    void findDueSeatIds() {
+        loadSeats(CONCERT_ID, rows(1, 5));
+        reserve(CONCERT_ID, 1L, now.minusMinutes(1));
+        reserve(CONCERT_ID, 2L, now.minusMinutes(3));
+        reserve(CONCERT_ID, 3L, now.minusMinutes(2));
+        reserve(CONCERT_ID, 4L, now.plusMinutes(5));
+
+        long nowMillis = SeatExpiryWheel.score(now);
+        assertThat(seatExpiryWheel.findDueSeatIds(CONCERT_ID, nowMillis, 10)).containsExactly(2L, 3L, 1L);
+        assertThat(seatExpiryWheel.findDueSeatIds(CONCERT_ID, nowMillis, 2)).containsExactly(2L, 3L);
+        assertThat(seatExpiryWheel.findActiveConcertIds()).contains(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("해제된 좌석은 만료 휠에서 빠진다")
+    void releasedSeatLeavesWheel() {
+        loadSeats(CONCERT_ID, rows(1, 5));
+        reserve(CONCERT_ID, 1L, now.minusMinutes(1));
+        reserve(CONCERT_ID, 2L, now.minusMinutes(1));
+
+        seatScriptExecutor.transition(SeatTransition.RELEASE, CONCERT_ID, List.of(1L), USER_ID, true, null,
+                LAST_UPDATE_TTL_MILLIS);
+
+        assertThat(seatExpiryWheel.findDueSeatIds(CONCERT_ID, SeatExpiryWheel.score(now), 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("샤딩한 콘서트는 샤드별 만료 좌석을 합쳐 만료 시각 순으로 반환한다")
+    void findDueSeatIdsAcrossShards() {
+        useShards(SHARDED_CONCERT_ID, 3);
+        loadSeats(SHARDED_CONCERT_ID, rows(1, 6));
+        reserve(SHARDED_CONCERT_ID, 4L, now.minusMinutes(1));
+        reserve(SHARDED_CONCERT_ID, 5L, now.minusMinutes(3));
+        reserve(SHARDED_CONCERT_ID, 6L, now.minusMinutes(2));
+
+        assertThat(seatExpiryWheel.findDueSeatIds(SHARDED_CONCERT_ID, SeatExpiryWheel.score(now), 2))
+                .containsExactly(5L, 6L);
+    }
+
+    @Test
+    @DisplayName("보정 등록은 이미 있는 좌석의 점수를 유지하고 없는 좌석만 추가한다")
+    void backfillKeepsExistingScores() {
+        loadSeats(CONCERT_ID, rows(1, 5));
+        reserve(CONCERT_ID, 1L, now.minusMinutes(1));
+
+        int added = seatExpiryWheel.backfill(CONCERT_ID, Map.of(
+                1L, hold(CONCERT_ID, 1L, USER_ID, now, now.plusMinutes(30)),
+                2L, hold(CONCERT_ID, 2L, USER_ID, now, now.minusMinutes(2)),
+                3L, SeatStatus.builder().concertId(CONCERT_ID).seatId(3L)
+                        .status(SeatStatus.SeatStatusEnum.AVAILABLE).build()));
+
+        assertThat(added).isEqualTo(1);
+        assertThat(seatExpiryWheel.findDueSeatIds(CONCERT_ID, SeatExpiryWheel.score(now), 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("삭제하면 만료 휠과 스위퍼 대상 등록이 함께 사라진다")
+    void delete() {
+        loadSeats(CONCERT_ID, rows(1, 5));
+        reserve(CONCERT_ID, 1L, now.minusMinutes(1));
+
+        seatExpiryWheel.delete(CONCERT_ID);
+
+        assertThat(seatExpiryWheel.findDueSeatIds(CONCERT_ID, Long.MAX_VALUE, 10)).isEmpty();
+        assertThat(seatExpiryWheel.findActiveConcertIds()).doesNotContain(CONCERT_ID);
+    }
+
+    /**
+     * 만료 시각이 지정한 시각이 되도록 그 5분 전에 선점
+     */
+    private void reserve(Long concertId, Long seatId, LocalDateTime expiresAt) {
+        LocalDateTime reservedAt = expiresAt.minusMinutes(5);
+        assertThat(seatScriptExecutor.reserve(hold(concertId, seatId, USER_ID, reservedAt, expiresAt), reservedAt,
+                Integer.MAX_VALUE, LAST_UPDATE_TTL_MILLIS).isSuccess()).isTrue();
+    }
+}
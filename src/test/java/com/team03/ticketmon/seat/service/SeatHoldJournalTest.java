@@ -0,0 +1,246 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatHoldJournalEntry;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.repository.SeatHoldJournalRepository;
+import com.team03.ticketmon.seat.script.SeatScriptExecutor;
+import com.team03.ticketmon.seat.script.SeatScriptResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 좌석 선점 저널 단위 테스트
+ * - 대기열 배치 기록(실패 시 순서 유지 재시도, 용량 초과 시 버림)과 좌석별 마지막 기록(변경 로그 순번) 기준 선점 복원 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatHoldJournal 단위 테스트")
+class SeatHoldJournalTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long USER_ID = 7L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private SeatHoldJournalRepository seatHoldJournalRepository;
+
+    @Mock
+    private SeatScriptExecutor seatScriptExecutor;
+
+    @Mock
+    private SeatWriterRouter seatWriterRouter;
+
+    @Mock
+    private SeatChangeLog seatChangeLog;
+
+    private SeatProperties seatProperties;
+    private SeatHoldJournal seatHoldJournal;
+
+    @BeforeEach
+    void setUp() {
+        seatProperties = new SeatProperties();
+        seatHoldJournal = new SeatHoldJournal(jdbcTemplate, seatHoldJournalRepository, seatScriptExecutor,
+                seatWriterRouter, seatChangeLog, seatProperties);
+    }
+
+    @Test
+    @DisplayName("대기열을 배치 크기 단위로 나눠 기록 순서대로 DB에 기록한다")
+    void drainInBatches() throws Exception {
+        seatProperties.getJournal().setFlushBatchSize(2);
+        List<Long> flushed = captureFlushedSeatIds(false);
+
+        recordSeats(1L, 2L, 3L);
+        seatHoldJournal.flushNow();
+
+        assertThat(flushed).containsExactly(1L, 2L, 3L);
+        assertThat(seatHoldJournal.getJournalStats())
+                .containsEntry("pending", 0)
+                .containsEntry("flushed", 3L);
+    }
+
+    @Test
+    @DisplayName("DB 기록이 실패하면 대기열 앞쪽에 순서대로 되돌리고 다음 기록에서 다시 기록한다")
+    void requeueOnFailure() throws Exception {
+        List<Long> flushed = captureFlushedSeatIds(true);
+
+        recordSeats(1L, 2L, 3L);
+        seatHoldJournal.flushNow();
+
+        assertThat(flushed).isEmpty();
+        assertThat(seatHoldJournal.getJournalStats())
+                .containsEntry("pending", 3)
+                .containsEntry("flushFailures", 1L);
+
+        recordSeats(4L);
+        seatHoldJournal.flushNow();
+
+        assertThat(flushed).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(seatHoldJournal.getJournalStats()).containsEntry("pending", 0);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기록을 버리고 건수만 집계한다")
+    void dropWhenQueueFull() {
+        seatProperties.getJournal().setQueueCapacity(2);
+
+        recordSeats(1L, 2L, 3L);
+
+        assertThat(seatHoldJournal.getJournalStats())
+                .containsEntry("pending", 2)
+                .containsEntry("dropped", 1L);
+    }
+
+    @Test
+    @DisplayName("좌석별 마지막 기록이 유효한 선점인 좌석만 다시 선점하고 기록자 엔진을 무효화한다")
+    void restoreLatestActiveHolds() {
+        LocalDateTime now = LocalDateTime.now();
+        given(seatHoldJournalRepository.findByConcertIdAndRecordedAtAfterOrderByJournalIdAsc(eq(CONCERT_ID), any()))
+                .willReturn(List.of(
+                        entry(1L, 1L, SeatStatusEnum.RESERVED, now.plusMinutes(5)),
+                        entry(2L, 2L, SeatStatusEnum.RESERVED, now.plusMinutes(5)),
+                        entry(1L, 3L, SeatStatusEnum.AVAILABLE, null),
+                        entry(3L, 4L, SeatStatusEnum.RESERVED, now.minusMinutes(1)),
+                        entry(4L, 5L, SeatStatusEnum.RESERVED, null)));
+        given(seatScriptExecutor.replayHold(any(), any(), anyLong(), anyLong()))
+                .willReturn(new SeatScriptResult(SeatScriptResult.Outcome.OK, ""));
+
+        int restored = seatHoldJournal.restoreActiveHolds(CONCERT_ID);
+
+        assertThat(restored).isEqualTo(2);
+        ArgumentCaptor<SeatStatus> holds = ArgumentCaptor.forClass(SeatStatus.class);
+        verify(seatScriptExecutor, times(2)).replayHold(holds.capture(), any(), anyLong(), anyLong());
+        assertThat(holds.getAllValues()).extracting(SeatStatus::getSeatId).containsExactly(2L, 4L);
+        assertThat(holds.getAllValues()).allSatisfy(hold -> {
+            assertThat(hold.getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+            assertThat(hold.getUserId()).isEqualTo(USER_ID);
+        });
+        assertThat(holds.getAllValues().get(1).getExpiresAt()).isNull();
+        verify(seatWriterRouter).invalidate(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("노드별 기록 주기 차이로 DB 기록 순서가 뒤바뀌어도 변경 로그 순번이 큰 기록을 좌석의 마지막 상태로 본다")
+    void restoreOrdersBySeqNotJournalId() {
+        LocalDateTime now = LocalDateTime.now();
+        // 좌석 1: 해제(순번 8) 뒤 다시 선점(순번 10)했지만 선점 기록이 먼저 DB에 들어감
+        // 좌석 2: 선점(순번 9) 뒤 해제(순번 11)했지만 해제 기록이 먼저 DB에 들어감
+        given(seatHoldJournalRepository.findByConcertIdAndRecordedAtAfterOrderByJournalIdAsc(eq(CONCERT_ID), any()))
+                .willReturn(List.of(
+                        entry(1L, 10L, SeatStatusEnum.RESERVED, now.plusMinutes(5)),
+                        entry(2L, 11L, SeatStatusEnum.AVAILABLE, null),
+                        entry(1L, 8L, SeatStatusEnum.AVAILABLE, null),
+                        entry(2L, 9L, SeatStatusEnum.RESERVED, now.plusMinutes(5))));
+        given(seatScriptExecutor.replayHold(any(), any(), anyLong(), anyLong()))
+                .willReturn(new SeatScriptResult(SeatScriptResult.Outcome.OK, ""));
+
+        int restored = seatHoldJournal.restoreActiveHolds(CONCERT_ID);
+
+        assertThat(restored).isEqualTo(1);
+        ArgumentCaptor<SeatStatus> holds = ArgumentCaptor.forClass(SeatStatus.class);
+        verify(seatScriptExecutor).replayHold(holds.capture(), any(), anyLong(), anyLong());
+        assertThat(holds.getValue().getSeatId()).isEqualTo(1L);
+        // Redis 유실로 순번이 처음부터 다시 세어져도 이후 기록이 저널의 기록보다 뒤에 오도록 순번을 올림
+        verify(seatChangeLog).advanceTo(CONCERT_ID, 11L);
+    }
+
+    @Test
+    @DisplayName("저널을 끄면 기록도 복원도 하지 않는다")
+    void disabled() {
+        seatProperties.getJournal().setEnabled(false);
+
+        recordSeats(1L);
+
+        assertThat(seatHoldJournal.restoreActiveHolds(CONCERT_ID)).isZero();
+        assertThat(seatHoldJournal.getJournalStats()).containsEntry("recorded", 0L);
+        verifyNoInteractions(jdbcTemplate, seatHoldJournalRepository, seatScriptExecutor, seatChangeLog);
+        verify(seatWriterRouter, never()).invalidate(anyLong());
+    }
+
+    private void recordSeats(Long... seatIds) {
+        for (Long seatId : seatIds) {
+            seatHoldJournal.record(SeatStatus.builder()
+                    .concertId(CONCERT_ID)
+                    .seatId(seatId)
+                    .status(SeatStatusEnum.RESERVED)
+                    .userId(USER_ID)
+                    .build(), seatId);
+        }
+    }
+
+    /**
+     * 배치 INSERT 에 넘어간 좌석 ID를 기록 순서대로 수집 (failFirst 면 첫 호출은 실패)
+     */
+    @SuppressWarnings("unchecked")
+    private List<Long> captureFlushedSeatIds(boolean failFirst) throws Exception {
+        List<Long> flushed = new ArrayList<>();
+        PreparedStatement ps = mock(PreparedStatement.class);
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0, Integer.class) == 2) {
+                flushed.add(invocation.getArgument(1, Long.class));
+            }
+            return null;
+        }).when(ps).setLong(anyInt(), anyLong());
+
+        boolean[] failed = {!failFirst};
+        willAnswer(invocation -> {
+            if (!failed[0]) {
+                failed[0] = true;
+                throw new IllegalStateException("db down");
+            }
+            Collection<Object> batch = invocation.getArgument(1);
+            ParameterizedPreparedStatementSetter<Object> setter = invocation.getArgument(3);
+            for (Object entry : batch) {
+                setter.setValues(ps, entry);
+            }
+            return new int[0][];
+        }).given(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        return flushed;
+    }
+
+    private static SeatHoldJournalEntry entry(Long seatId, long seq, SeatStatusEnum status, LocalDateTime expiresAt) {
+        SeatHoldJournalEntry entry = BeanUtils.instantiateClass(SeatHoldJournalEntry.class);
+        ReflectionTestUtils.setField(entry, "concertId", CONCERT_ID);
+        ReflectionTestUtils.setField(entry, "concertSeatId", seatId);
+        ReflectionTestUtils.setField(entry, "seq", seq);
+        ReflectionTestUtils.setField(entry, "status", status);
+        ReflectionTestUtils.setField(entry, "userId", status == SeatStatusEnum.RESERVED ? USER_ID : null);
+        ReflectionTestUtils.setField(entry, "reservedAt", LocalDateTime.now());
+        ReflectionTestUtils.setField(entry, "expiresAt", expiresAt);
+        ReflectionTestUtils.setField(entry, "seatInfo", "A-1-" + seatId);
+        return entry;
+    }
+}
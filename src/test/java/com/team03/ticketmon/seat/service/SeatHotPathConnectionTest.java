@@ -0,0 +1,210 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.config.RedisCodecs;
+import com.team03.ticketmon.concert.repository.ConcertSeatRepository;
+import com.team03.ticketmon.queue.adapter.QueueRedisAdapter;
+import com.team03.ticketmon.queue.service.AdmissionService;
+import com.team03.ticketmon.queue.service.WaitingQueueService;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.script.SeatScriptExecutor;
+import com.team03.ticketmon.seat.script.SeatScriptResult;
+import com.team03.ticketmon.seat.script.SeatTransition;
+import com.team03.ticketmon.seat.script.SeatTransitionResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 좌석/대기열 핫 경로가 JDBC 커넥션·트랜잭션 없이 실행되는지 검증
+ * - 실제 트랜잭션 프록시(@EnableTransactionManagement + DataSourceTransactionManager) 위에서 서비스를 호출하고,
+ *   호출마다 DataSource.getConnection() 이 한 번도 불리지 않았는지 확인
+ * - 핫 경로 메서드에 @Transactional 이 다시 붙으면 프록시가 커넥션을 빌리므로 이 테스트가 실패함
+ */
+@SpringJUnitConfig(SeatHotPathConnectionTest.Config.class)
+class SeatHotPathConnectionTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long SEAT_ID = 10L;
+    private static final Long USER_ID = 7L;
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({SeatStatusService.class, SeatLockService.class, WaitingQueueService.class})
+    static class Config {
+
+        @Bean
+        DataSource dataSource() {
+            return mock(DataSource.class);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        SeatProperties seatProperties() {
+            return new SeatProperties();
+        }
+    }
+
+    @Autowired private DataSource dataSource;
+    @Autowired private SeatProperties seatProperties;
+    @Autowired private SeatStatusService seatStatusService;
+    @Autowired private SeatLockService seatLockService;
+    @Autowired private WaitingQueueService waitingQueueService;
+
+    @MockitoBean private RedissonClient redissonClient;
+    @MockitoBean private SeatStatusEventPublisher eventPublisher;
+    @MockitoBean private SeatCacheInitCoordinator seatCacheInitCoordinator;
+    @MockitoBean private ConcertSeatRepository concertSeatRepository;
+    @MockitoBean private SeatScriptExecutor seatScriptExecutor;
+    @MockitoBean private SeatCompactStateStore seatCompactStateStore;
+    @MockitoBean private SeatTransitionEngine seatTransitionEngine;
+    @MockitoBean private SeatCountStore seatCountStore;
+    @MockitoBean private SeatExpiryWheel seatExpiryWheel;
+    @MockitoBean private SeatChangeLog seatChangeLog;
+    @MockitoBean private SeatLayoutCache seatLayoutCache;
+    @MockitoBean private SeatCatalog seatCatalog;
+    @MockitoBean private SeatShardRouter seatShardRouter;
+    @MockitoBean private SeatHoldJournal seatHoldJournal;
+    @MockitoBean private SeatWriterRouter seatWriterRouter;
+    @MockitoBean private RedisCodecs redisCodecs;
+    @MockitoBean private AdmissionService admissionService;
+    @MockitoBean private QueueRedisAdapter queueRedisAdapter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 트랜잭션이 열리면 커넥션을 돌려줘 호출 자체는 끝까지 진행되도록 함 (검증은 호출 횟수로)
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+        clearInvocations(dataSource);
+    }
+
+    @AfterEach
+    void assertNoConnectionAcquired() throws Exception {
+        verify(dataSource, never()).getConnection();
+        verify(dataSource, never()).getConnection(anyString(), anyString());
+        seatProperties.getReservation().setMode(new SeatProperties().getReservation().getMode());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(SeatProperties.ReservationMode.class)
+    @DisplayName("좌석 선점은 처리 방식(기본 LOCK / SCRIPT)과 관계없이 DB 커넥션을 빌리지 않는다")
+    void reserveSeat(SeatProperties.ReservationMode mode) throws Exception {
+        seatProperties.getReservation().setMode(mode);
+        // SCRIPT: 선점 스크립트 한 번
+        when(seatScriptExecutor.reserve(any(), any(), anyInt(), anyLong()))
+                .thenReturn(new SeatScriptResult(SeatScriptResult.Outcome.OK, ""));
+        // LOCK: 분산 락 → 현재 좌석 조회 → 선점 개수 확인 → 상태 저장 스크립트
+        when(seatScriptExecutor.put(any(), anyLong()))
+                .thenReturn(new SeatScriptResult(SeatScriptResult.Outcome.OK, ""));
+        RLock lock = mock(RLock.class);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        when(redissonClient.getLock(nullable(String.class))).thenReturn(lock);
+        givenCachedSeat();
+
+        assertThat(seatStatusService.reserveSeat(CONCERT_ID, SEAT_ID, USER_ID, "A-1-1").isReserved()).isTrue();
+
+        if (mode == SeatProperties.ReservationMode.LOCK) {
+            verify(seatScriptExecutor).put(any(), anyLong());
+            verify(lock).unlock();
+        } else {
+            verify(seatScriptExecutor).reserve(any(), any(), anyInt(), anyLong());
+        }
+    }
+
+    @Test
+    @DisplayName("좌석 선점 해제는 DB 커넥션을 빌리지 않는다")
+    void releaseSeat() {
+        when(seatTransitionEngine.apply(eq(SeatTransition.RELEASE), eq(CONCERT_ID), eq(List.of(SEAT_ID)), eq(USER_ID), eq(true)))
+                .thenReturn(new SeatTransitionResult(SeatTransition.RELEASE, true, List.of(
+                        new SeatTransitionResult.SeatOutcome(SEAT_ID, SeatTransitionResult.Code.OK, null, null))));
+
+        seatStatusService.releaseSeat(CONCERT_ID, SEAT_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("사용자 좌석 일괄 영구 선점은 DB 커넥션을 빌리지 않는다")
+    void lockAllUserSeatsPermanently() {
+        when(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).thenReturn(List.of());
+
+        assertThat(seatLockService.lockAllUserSeatsPermanently(CONCERT_ID, USER_ID)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("좌석 상태/폴링 요약 조회는 DB 커넥션을 빌리지 않는다")
+    void seatStatusAndPolling() {
+        givenCachedSeat();
+
+        assertThat(seatStatusService.getSeatStatus(CONCERT_ID, SEAT_ID)).isPresent();
+        seatStatusService.getCurrentSeatStatus(CONCERT_ID);
+        seatStatusService.getUserReservedSeats(CONCERT_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("대기열 신청/상태 조회는 DB 커넥션을 빌리지 않는다")
+    @SuppressWarnings("unchecked")
+    void queueApplyAndStatus() {
+        RScoredSortedSet<Long> queue = mock(RScoredSortedSet.class);
+        when(queue.addIfAbsent(anyLong(), eq(USER_ID))).thenReturn(true);
+        when(queue.rank(USER_ID)).thenReturn(0);
+        when(queueRedisAdapter.getQueue(CONCERT_ID)).thenReturn(queue);
+
+        RBucket<String> accessKey = mock(RBucket.class);
+        when(accessKey.get()).thenReturn("access-key");
+        when(queueRedisAdapter.getAccessKeyBucket(CONCERT_ID, USER_ID)).thenReturn(accessKey);
+
+        assertThat(waitingQueueService.apply(CONCERT_ID, USER_ID).rank()).isEqualTo(1L);
+        assertThat(waitingQueueService.getUserStatus(CONCERT_ID, USER_ID)).isNotNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenCachedSeat() {
+        RMap<String, SeatStatus> seatMap = mock(RMap.class);
+        when(seatMap.get(SEAT_ID.toString())).thenReturn(SeatStatus.builder()
+                .id(CONCERT_ID + "-" + SEAT_ID)
+                .concertId(CONCERT_ID)
+                .seatId(SEAT_ID)
+                .status(SeatStatus.SeatStatusEnum.AVAILABLE)
+                .build());
+        when(redissonClient.<String, SeatStatus>getMap(nullable(String.class), nullable(Codec.class))).thenReturn(seatMap);
+    }
+}
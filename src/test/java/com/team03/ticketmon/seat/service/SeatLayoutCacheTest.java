@@ -0,0 +1,202 @@
+package com.team03.ticketmon.seat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.domain.Concert;
+import com.team03.ticketmon.concert.domain.ConcertSeat;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.concert.repository.ConcertRepository;
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.dto.SeatStaticLayoutDTO;
+import com.team03.ticketmon.venue.domain.Seat;
+import com.team03.ticketmon.venue.service.VenueService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 정적 좌석 배치도 캐시 검증
+ * - 같은 Redis 를 보는 SeatLayoutCache 두 개를 서로 다른 노드처럼 사용
+ * - DB(콘서트/좌석 조회)와 공연장 조회만 목으로 두고 호출 횟수로 DB 조회가 최초 1회인지 확인
+ */
+class SeatLayoutCacheTest extends SeatRedisTestSupport {
+
+    private final ConcertRepository concertRepository = mock(ConcertRepository.class);
+    private final VenueService venueService = mock(VenueService.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SeatLayoutCache node;
+    private SeatLayoutCache otherNode;
+    private List<ConcertSeat> concertSeats;
+
+    @BeforeEach
+    void setUp() {
+        node = newNode();
+        otherNode = newNode();
+
+        Concert concert = Concert.builder().concertId(CONCERT_ID).venueName("테스트 공연장").build();
+        when(concertRepository.findById(CONCERT_ID)).thenReturn(Optional.of(concert));
+        when(venueService.getVenueByName(anyString())).thenThrow(new BusinessException(ErrorCode.VENUE_NOT_FOUND));
+        // 쿼리 결과는 구역/열/번호 순이지만 구역명 순서(B 가 먼저)와는 다름
+        concertSeats = List.of(
+                concertSeat(concert, 11L, "B", "1", 1, SeatGrade.R),
+                concertSeat(concert, 12L, "B", "1", 2, SeatGrade.R),
+                concertSeat(concert, 1L, "A", "1", 1, SeatGrade.VIP),
+                concertSeat(concert, 2L, "A", "2", 1, SeatGrade.VIP));
+        when(concertSeatRepository.findByConcertIdWithDetails(CONCERT_ID)).thenReturn(concertSeats);
+    }
+
+    @AfterEach
+    void resetLayoutProperties() {
+        seatProperties.getLayout().setLocalTtlSeconds(60);
+    }
+
+    @Test
+    @DisplayName("최초 조회만 DB에서 만들고, 구역명 순으로 정렬하되 구역 안의 좌석 순서는 유지한다")
+    void buildOnce() {
+        SeatLayoutCache.StaticLayout layout = node.get(CONCERT_ID);
+
+        assertThat(node.get(CONCERT_ID)).isSameAs(layout);
+        verify(concertSeatRepository, times(1)).findByConcertIdWithDetails(CONCERT_ID);
+
+        SeatStaticLayoutDTO dto = layout.layout();
+        assertThat(dto.sections()).extracting(SeatStaticLayoutDTO.Section::sectionName).containsExactly("A", "B");
+        assertThat(dto.findSection("b")).get()
+                .extracting(SeatStaticLayoutDTO.Section::concertSeatIds)
+                .isEqualTo(List.of(11L, 12L));
+        assertThat(dto.sections().get(0).seats().get(1).seatLabel()).isEqualTo("A-2-1");
+        // 공연장 정보를 못 찾으면 대체 정보로 배치도 제공
+        assertThat(dto.venueInfo().venueId()).isEqualTo(-1L);
+        assertThat(dto.venueInfo().venueName()).isEqualTo("테스트 공연장");
+
+        assertThat(layout.bytes()).isEqualTo(redisBytes());
+        assertThat(layout.etag()).isEqualTo("\"" + layout.version() + "\"");
+    }
+
+    @Test
+    @DisplayName("다른 노드는 DB 대신 Redis 바이트를 읽고 같은 ETag 를 만든다")
+    void otherNodeReadsRedis() {
+        SeatLayoutCache.StaticLayout built = node.get(CONCERT_ID);
+        SeatLayoutCache.StaticLayout shared = otherNode.get(CONCERT_ID);
+
+        verify(concertSeatRepository, times(1)).findByConcertIdWithDetails(CONCERT_ID);
+        assertThat(shared.etag()).isEqualTo(built.etag());
+        assertThat(shared.bytes()).isEqualTo(built.bytes());
+        assertThat(shared.layout()).isEqualTo(built.layout());
+    }
+
+    @Test
+    @DisplayName("로컬 유지 시간이 지나면 Redis 만 다시 확인하고, 삭제 후에는 DB에서 한 번 다시 만든다")
+    void refreshAndEvict() {
+        SeatLayoutCache.StaticLayout first = node.get(CONCERT_ID);
+        seatProperties.getLayout().setLocalTtlSeconds(0);
+
+        SeatLayoutCache.StaticLayout refreshed = node.get(CONCERT_ID);
+        assertThat(refreshed).isNotSameAs(first);
+        assertThat(refreshed.etag()).isEqualTo(first.etag());
+        verify(concertSeatRepository, times(1)).findByConcertIdWithDetails(CONCERT_ID);
+
+        node.evict(CONCERT_ID);
+        assertThat(redisBytes()).isNull();
+
+        assertThat(otherNode.get(CONCERT_ID).etag()).isEqualTo(first.etag());
+        verify(concertSeatRepository, times(2)).findByConcertIdWithDetails(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("같은 콘서트 동시 조회는 한 요청만 적재하고, 적재 중에도 다른 콘서트 조회는 막히지 않는다")
+    void loadOutsideMapLock() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(concertSeatRepository.findByConcertIdWithDetails(CONCERT_ID)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return concertSeats;
+        });
+        when(concertRepository.findById(SHARDED_CONCERT_ID)).thenReturn(Optional.of(
+                Concert.builder().concertId(SHARDED_CONCERT_ID).venueName("테스트 공연장").build()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<SeatLayoutCache.StaticLayout>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> node.get(CONCERT_ID)));
+            }
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 콘서트 1 적재가 끝나지 않았어도 콘서트 2는 바로 적재됨
+            assertThat(node.get(SHARDED_CONCERT_ID).layout().sections()).isEmpty();
+
+            release.countDown();
+            SeatLayoutCache.StaticLayout first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<SeatLayoutCache.StaticLayout> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(concertSeatRepository, times(1)).findByConcertIdWithDetails(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("콘서트가 없으면 CONCERT_NOT_FOUND 이고 Redis 에 아무것도 남기지 않는다")
+    void concertNotFound() {
+        when(concertRepository.findById(CONCERT_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> node.get(CONCERT_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CONCERT_NOT_FOUND);
+        assertThat(redisBytes()).isNull();
+        verify(concertSeatRepository, never()).findByConcertIdWithDetails(CONCERT_ID);
+    }
+
+    private SeatLayoutCache newNode() {
+        return new SeatLayoutCache(concertRepository, concertSeatRepository, venueService, redissonClient,
+                objectMapper, seatProperties);
+    }
+
+    private byte[] redisBytes() {
+        return redissonClient.<byte[]>getBucket(
+                RedisKeyGenerator.concertKey(RedisKeyGenerator.SEAT_LAYOUT_KEY_PREFIX, CONCERT_ID),
+                ByteArrayCodec.INSTANCE).get();
+    }
+
+    private static ConcertSeat concertSeat(Concert concert, Long concertSeatId, String section, String row,
+                                           int number, SeatGrade grade) {
+        Seat seat = new Seat();
+        ReflectionTestUtils.setField(seat, "seatId", concertSeatId + 100);
+        ReflectionTestUtils.setField(seat, "section", section);
+        ReflectionTestUtils.setField(seat, "seatRow", row);
+        ReflectionTestUtils.setField(seat, "seatNumber", number);
+
+        ConcertSeat concertSeat = ConcertSeat.create(concert, seat, grade,
+                BigDecimal.valueOf(grade == SeatGrade.VIP ? 150000 : 80000));
+        ReflectionTestUtils.setField(concertSeat, "concertSeatId", concertSeatId);
+        return concertSeat;
+    }
+}
@@ -0,0 +1,204 @@
+package com.team03.ticketmon.seat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.seat.controller.SeatLayoutController;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.dto.SeatLayoutColumnarDTO;
+import com.team03.ticketmon.seat.dto.SeatLayoutResponseDTO;
+import com.team03.ticketmon.seat.dto.SeatStaticLayoutDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 열 기반 좌석 배치도 왕복 검증
+ * - 정적 배치도 + 실시간 상태를 인코딩한 뒤 gzip 본문을 풀어 좌석별 값으로 되돌려 원본과 비교
+ * - 좌석 구성: 구역 A(10 VIP, 11 R, 12 VIP), 구역 B(20 R, 21 R — 실시간 상태 없음)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("열 기반 좌석 배치도 단위 테스트")
+class SeatLayoutColumnarTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final String ACCEPT_COLUMNAR = "application/json, " + SeatLayoutColumnarDTO.MEDIA_TYPE;
+
+    @Mock
+    private SeatLayoutCache seatLayoutCache;
+    @Mock
+    private SeatStatusService seatStatusService;
+    @Mock
+    private SeatChangeLog seatChangeLog;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SeatLayoutService seatLayoutService;
+    private SeatLayoutController seatLayoutController;
+
+    @BeforeEach
+    void setUp() {
+        seatLayoutService = new SeatLayoutService(seatLayoutCache, seatStatusService, seatChangeLog, objectMapper);
+        seatLayoutController = new SeatLayoutController(seatLayoutService, seatStatusService);
+
+        given(seatLayoutCache.get(CONCERT_ID)).willReturn(staticLayout());
+        given(seatStatusService.getSeatMapView(CONCERT_ID)).willReturn(liveStatus());
+    }
+
+    @Test
+    @DisplayName("gzip 본문을 풀어 사전/인덱스/상태 코드로 되돌리면 정적 배치도 + 실시간 상태와 같다")
+    void roundTrip() throws IOException {
+        given(seatChangeLog.currentSeq(CONCERT_ID)).willReturn(5L);
+
+        SeatLayoutService.ColumnarLayout layout = seatLayoutService.getColumnarLayout(CONCERT_ID);
+        assertThat(gunzip(layout.gzip())).isEqualTo(layout.json());
+
+        SeatLayoutColumnarDTO columnar = objectMapper.readValue(gunzip(layout.gzip()), SeatLayoutColumnarDTO.class);
+        assertThat(columnar.concertId()).isEqualTo(CONCERT_ID);
+        assertThat(columnar.layoutVersion()).isEqualTo("v1");
+        assertThat(columnar.seq()).isEqualTo(5L);
+
+        // 사전은 처음 나온 순서로 한 번씩만
+        assertThat(columnar.sections()).containsExactly("A", "B");
+        assertThat(columnar.grades()).containsExactly("VIP", "R");
+        assertThat(columnar.prices()).containsExactly(BigDecimal.valueOf(150000), BigDecimal.valueOf(80000));
+        assertThat(columnar.sectionIndexes()).containsExactly(0, 0, 0, 1, 1);
+        assertThat(columnar.gradeIndexes()).containsExactly(0, 1, 0, 1, 1);
+        assertThat(columnar.priceIndexes()).containsExactly(0, 1, 0, 1, 1);
+        assertThat(columnar.statusCodes()).hasSize(5);
+
+        List<String> decoded = new ArrayList<>();
+        for (int i = 0; i < columnar.concertSeatIds().length; i++) {
+            decoded.add(String.join("|",
+                    String.valueOf(columnar.concertSeatIds()[i]),
+                    columnar.sections().get(columnar.sectionIndexes()[i]),
+                    columnar.rows()[i],
+                    String.valueOf(columnar.numbers()[i]),
+                    columnar.grades().get(columnar.gradeIndexes()[i]),
+                    columnar.prices().get(columnar.priceIndexes()[i]).toPlainString(),
+                    columnar.statuses().get(columnar.statusCodes().charAt(i) - '0')));
+        }
+
+        // 실시간 상태가 없는 좌석(21)은 예매 불가
+        assertThat(decoded).containsExactly(
+                "10|A|1|1|VIP|150000|AVAILABLE",
+                "11|A|1|2|R|80000|RESERVED",
+                "12|A|2|1|VIP|150000|BOOKED",
+                "20|B|1|1|R|80000|AVAILABLE",
+                "21|B|1|2|R|80000|UNAVAILABLE");
+    }
+
+    @Test
+    @DisplayName("좌석 변경 순번이 같으면 인코딩한 바이트를 재사용하고, 바뀌면 다시 인코딩해 ETag도 바뀐다")
+    void reuseUntilSeqChanges() {
+        given(seatChangeLog.currentSeq(CONCERT_ID)).willReturn(5L, 5L, 6L);
+
+        SeatLayoutService.ColumnarLayout first = seatLayoutService.getColumnarLayout(CONCERT_ID);
+        assertThat(seatLayoutService.getColumnarLayout(CONCERT_ID)).isSameAs(first);
+
+        SeatLayoutService.ColumnarLayout changed = seatLayoutService.getColumnarLayout(CONCERT_ID);
+        assertThat(changed).isNotSameAs(first);
+        assertThat(first.etag()).isEqualTo("\"v1-5\"");
+        assertThat(changed.etag()).isEqualTo("\"v1-6\"");
+        verify(seatStatusService, times(2)).getSeatMapView(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("열 기반 형식 요청: gzip 을 받으면 압축본, 아니면 JSON 을 ETag 와 함께 응답한다")
+    void columnarResponse() {
+        given(seatChangeLog.currentSeq(CONCERT_ID)).willReturn(5L);
+        SeatLayoutService.ColumnarLayout layout = seatLayoutService.getColumnarLayout(CONCERT_ID);
+
+        ResponseEntity<?> gzip = seatLayoutController.getSeatLayout(CONCERT_ID, ACCEPT_COLUMNAR, "gzip, br", null);
+        assertThat(gzip.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getHeaders().getETag()).isEqualTo(layout.etag());
+        assertThat(gzip.getHeaders().getContentType()).hasToString(SeatLayoutColumnarDTO.MEDIA_TYPE);
+        assertThat(gzip.getHeaders().getVary()).contains(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gzip.getBody()).isSameAs(layout.gzip());
+
+        ResponseEntity<?> plain = seatLayoutController.getSeatLayout(CONCERT_ID, ACCEPT_COLUMNAR, null, null);
+        assertThat(plain.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(plain.getBody()).isSameAs(layout.json());
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 본문 없이 304, 순번이 바뀌면 다시 200")
+    void notModified() {
+        given(seatChangeLog.currentSeq(CONCERT_ID)).willReturn(5L, 5L, 6L);
+        String etag = seatLayoutService.getColumnarLayout(CONCERT_ID).etag();
+
+        ResponseEntity<?> unchanged = seatLayoutController.getSeatLayout(CONCERT_ID, ACCEPT_COLUMNAR, "gzip", etag);
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(unchanged.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(unchanged.getBody()).isNull();
+
+        ResponseEntity<?> changed = seatLayoutController.getSeatLayout(CONCERT_ID, ACCEPT_COLUMNAR, "gzip", etag);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getETag()).isEqualTo("\"v1-6\"");
+    }
+
+    @Test
+    @DisplayName("열 기반 형식을 요청하지 않으면 기존 JSON 배치도를 응답한다")
+    void defaultIsObjectJson() {
+        ResponseEntity<?> response = seatLayoutController.getSeatLayout(CONCERT_ID, "application/json", "gzip", null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        verify(seatChangeLog, times(0)).currentSeq(CONCERT_ID);
+    }
+
+    private static SeatLayoutCache.StaticLayout staticLayout() {
+        SeatStaticLayoutDTO layout = new SeatStaticLayoutDTO(CONCERT_ID,
+                new SeatLayoutResponseDTO.VenueInfo(1L, "테스트 공연장"),
+                List.of(
+                        new SeatStaticLayoutDTO.Section("A", List.of(
+                                seat(10L, "A", "1", 1, SeatGrade.VIP),
+                                seat(11L, "A", "1", 2, SeatGrade.R),
+                                seat(12L, "A", "2", 1, SeatGrade.VIP))),
+                        new SeatStaticLayoutDTO.Section("B", List.of(
+                                seat(20L, "B", "1", 1, SeatGrade.R),
+                                seat(21L, "B", "1", 2, SeatGrade.R)))));
+        return new SeatLayoutCache.StaticLayout(layout, new byte[0], "v1", System.currentTimeMillis());
+    }
+
+    private static SeatStaticLayoutDTO.Seat seat(Long concertSeatId, String section, String row, int number, SeatGrade grade) {
+        return new SeatStaticLayoutDTO.Seat(concertSeatId, concertSeatId + 100, row, number,
+                section + "-" + row + "-" + number, grade,
+                BigDecimal.valueOf(grade == SeatGrade.VIP ? 150000 : 80000));
+    }
+
+    private static SeatMapView liveStatus() {
+        long[] seatIds = {10L, 11L, 12L, 20L, 21L};
+        SeatMapView.Builder builder = SeatMapView.builder(new SeatCatalog.Catalog(
+                seatIds, new String[5], new byte[5], new short[5], new String[]{"A", "B"}));
+        builder.set(10L, SeatStatusEnum.AVAILABLE.ordinal());
+        builder.hold(builder.set(11L, SeatStatusEnum.RESERVED.ordinal()), 7L);
+        builder.hold(builder.set(12L, SeatStatusEnum.BOOKED.ordinal()), 8L);
+        builder.set(20L, SeatStatusEnum.AVAILABLE.ordinal());
+        return builder.build();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 상태 배열 뷰 단위 테스트
+ * - 카탈로그: 좌석 ID 10, 20, ... (순번 × 10 + 10)
+ */
+@DisplayName("SeatMapView 단위 테스트")
+class SeatMapViewTest {
+
+    private static final int SEAT_COUNT = 40;
+
+    private final SeatCatalog.Catalog catalog = catalog(SEAT_COUNT);
+
+    @Test
+    @DisplayName("실시간 상태를 하나도 기록하지 않으면 비어 있고, 좌석 상태는 null")
+    void emptyView() {
+        SeatMapView view = SeatMapView.builder(catalog).build();
+
+        assertThat(view.size()).isEqualTo(SEAT_COUNT);
+        assertThat(view.isEmpty()).isTrue();
+        assertThat(view.statusAt(0)).isNull();
+        assertThat(view.statusOf(10L)).isNull();
+        assertThat(view.holderAt(0)).isZero();
+    }
+
+    @Test
+    @DisplayName("좌석 ID로 기록한 상태를 순번/좌석 ID로 읽고, 카탈로그에 없는 좌석은 무시한다")
+    void setAndRead() {
+        SeatMapView.Builder builder = SeatMapView.builder(catalog);
+        assertThat(builder.set(30L, SeatStatusEnum.AVAILABLE.ordinal())).isEqualTo(2);
+        assertThat(builder.set(15L, SeatStatusEnum.BOOKED.ordinal())).isEqualTo(-1);
+
+        SeatMapView view = builder.build();
+
+        assertThat(view.isEmpty()).isFalse();
+        assertThat(view.seatIdAt(2)).isEqualTo(30L);
+        assertThat(view.statusAt(2)).isEqualTo(SeatStatusEnum.AVAILABLE);
+        assertThat(view.isAvailable(30L)).isTrue();
+        assertThat(view.isAvailable(20L)).isFalse();
+        assertThat(view.statusOf(15L)).isNull();
+    }
+
+    @Test
+    @DisplayName("순서 없이 기록한 선점 정보(초기 용량 초과)도 순번으로 선점 사용자를 찾는다")
+    void unorderedHolders() {
+        SeatMapView.Builder builder = SeatMapView.builder(catalog);
+        for (int ordinal = SEAT_COUNT - 1; ordinal >= 0; ordinal -= 2) {
+            int set = builder.set(seatId(ordinal), SeatStatusEnum.RESERVED.ordinal());
+            builder.hold(set, 1000L + ordinal);
+        }
+
+        SeatMapView view = builder.build();
+
+        for (int ordinal = 0; ordinal < SEAT_COUNT; ordinal++) {
+            long expected = ordinal % 2 == 1 ? 1000L + ordinal : 0L;
+            assertThat(view.holderAt(ordinal)).as("ordinal %d", ordinal).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("상태별 좌석 수와 사용자가 상태별로 잡고 있는 좌석 수를 센다")
+    void counts() {
+        SeatMapView.Builder builder = SeatMapView.builder(catalog);
+        for (int ordinal = 0; ordinal < 10; ordinal++) {
+            builder.set(seatId(ordinal), SeatStatusEnum.AVAILABLE.ordinal());
+        }
+        builder.hold(builder.set(seatId(3), SeatStatusEnum.RESERVED.ordinal()), 7L);
+        builder.hold(builder.set(seatId(1), SeatStatusEnum.RESERVED.ordinal()), 7L);
+        builder.hold(builder.set(seatId(5), SeatStatusEnum.BOOKED.ordinal()), 7L);
+        builder.hold(builder.set(seatId(2), SeatStatusEnum.RESERVED.ordinal()), 8L);
+
+        SeatMapView view = builder.build();
+
+        assertThat(view.count(SeatStatusEnum.AVAILABLE)).isEqualTo(6);
+        assertThat(view.count(SeatStatusEnum.RESERVED)).isEqualTo(3);
+        assertThat(view.count(SeatStatusEnum.BOOKED)).isEqualTo(1);
+        assertThat(view.countHeldBy(7L, SeatStatusEnum.RESERVED)).isEqualTo(2);
+        assertThat(view.countHeldBy(7L, SeatStatusEnum.BOOKED)).isEqualTo(1);
+        assertThat(view.countHeldBy(8L, SeatStatusEnum.RESERVED)).isEqualTo(1);
+        assertThat(view.countHeldBy(9L, SeatStatusEnum.RESERVED)).isZero();
+    }
+
+    @Test
+    @DisplayName("문자열 구간 파싱: 따옴표는 건너뛰고, 숫자가 아니거나 숫자가 없으면 -1")
+    void parseLong() {
+        String value = "{\"userId\":\"12345\",\"seq\":42,\"x\":\"\"}";
+
+        assertThat(SeatMapView.parseLong(value, 10, 17)).isEqualTo(12345L);
+        assertThat(SeatMapView.parseLong(value, 24, 26)).isEqualTo(42L);
+        assertThat(SeatMapView.parseLong(value, 31, 33)).isEqualTo(-1L);
+        assertThat(SeatMapView.parseLong(value, 0, 5)).isEqualTo(-1L);
+        assertThat(SeatMapView.parseLong("9223372036854775807", 0, 19)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    private static long seatId(int ordinal) {
+        return ordinal * 10L + 10L;
+    }
+
+    private static SeatCatalog.Catalog catalog(int size) {
+        long[] seatIds = LongStream.range(0, size).map(ordinal -> ordinal * 10L + 10L).toArray();
+        return new SeatCatalog.Catalog(seatIds, new String[size], new byte[size], new short[size], new String[]{"A"});
+    }
+}
@@ -0,0 +1,107 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.config.RedisCodecs;
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.exception.SeatReservationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 좌석 선점 처리 방식(LOCK / SCRIPT) 동작 일치 검증
+ * - 실제 Redis 캐시 위에서 SeatStatusService.reserveSeat 를 두 방식으로 호출해 같은 좌석에 같은 결과가 나오는지 확인
+ * - LOCK 방식은 분산 락 → 현재 좌석 조회 → 상태 저장 스크립트, SCRIPT 방식은 선점 스크립트 한 번
+ */
+class SeatReservationModeTest extends SeatRedisTestSupport {
+
+    private static final Long USER_ID = 7L;
+
+    @Autowired
+    private RedisCodecs redisCodecs;
+
+    private SeatStatusService seatStatusService;
+
+    @BeforeEach
+    void setUp() {
+        seatStatusService = new SeatStatusService(
+                redissonClient,
+                mock(SeatStatusEventPublisher.class),
+                mock(SeatCacheInitCoordinator.class),
+                seatProperties,
+                concertSeatRepository,
+                seatScriptExecutor,
+                mock(SeatCompactStateStore.class),
+                mock(SeatTransitionEngine.class),
+                mock(SeatCountStore.class),
+                mock(SeatExpiryWheel.class),
+                mock(SeatChangeLog.class),
+                seatLayoutCache,
+                seatCatalog,
+                seatShardRouter,
+                seatHoldJournal,
+                seatWriterRouter,
+                redisCodecs);
+        loadSeats(CONCERT_ID, rows(1, 3));
+    }
+
+    @AfterEach
+    void resetMode() {
+        seatProperties.getReservation().setMode(new SeatProperties().getReservation().getMode());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(SeatProperties.ReservationMode.class)
+    @DisplayName("캐시에 있는 빈 좌석은 처리 방식과 관계없이 선점된다")
+    void reserveAvailableSeat(SeatProperties.ReservationMode mode) {
+        seatProperties.getReservation().setMode(mode);
+
+        assertThat(seatStatusService.reserveSeat(CONCERT_ID, 1L, USER_ID, "A-1-1").isReserved()).isTrue();
+
+        SeatStatus cached = seatScriptExecutor.readAll(CONCERT_ID).get(1L);
+        assertThat(cached.getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.RESERVED);
+        assertThat(cached.getUserId()).isEqualTo(USER_ID);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(SeatProperties.ReservationMode.class)
+    @DisplayName("캐시에 없는 좌석은 처리 방식과 관계없이 상태를 저장하지 않고 존재하지 않는 좌석으로 거부한다")
+    void rejectMissingSeat(SeatProperties.ReservationMode mode) {
+        seatProperties.getReservation().setMode(mode);
+
+        assertThatThrownBy(() -> seatStatusService.reserveSeat(CONCERT_ID, 99L, USER_ID, "A-1-99"))
+                .isInstanceOf(SeatReservationException.class)
+                .hasMessage("존재하지 않는 좌석입니다.");
+        assertThat(seatScriptExecutor.readAll(CONCERT_ID)).doesNotContainKey(99L);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(SeatProperties.ReservationMode.class)
+    @DisplayName("예매 불가 좌석은 처리 방식과 관계없이 상태를 바꾸지 않고 거부한다")
+    void rejectUnavailableSeat(SeatProperties.ReservationMode mode) {
+        seatProperties.getReservation().setMode(mode);
+        seatScriptExecutor.put(SeatStatus.builder()
+                .id(CONCERT_ID + "-2")
+                .concertId(CONCERT_ID)
+                .seatId(2L)
+                .status(SeatStatus.SeatStatusEnum.UNAVAILABLE)
+                .seatInfo("A-1-2")
+                .build(), LAST_UPDATE_TTL_MILLIS);
+
+        assertThatThrownBy(() -> seatStatusService.reserveSeat(CONCERT_ID, 2L, USER_ID, "A-1-2"))
+                .isInstanceOf(SeatReservationException.class)
+                .hasMessage("예매할 수 없는 좌석입니다.");
+
+        SeatStatus cached = seatScriptExecutor.readAll(CONCERT_ID).get(2L);
+        assertThat(cached.getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.UNAVAILABLE);
+        assertThat(cached.getUserId()).isNull();
+    }
+}
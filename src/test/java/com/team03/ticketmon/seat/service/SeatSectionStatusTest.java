@@ -0,0 +1,136 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.config.RedisCodecs;
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.exception.ErrorCode;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.script.SeatScriptResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 구역 단위 좌석 상태 조회 검증
+ * - 구역 소속은 정적 배치도(목)에서, 상태는 실제 Redis 캐시에서 해당 좌석 필드만 읽음
+ * - 좌석 구성: 1~3 구역 A, 4~6 구역 B (샤드 3개 콘서트와 단일 해시 콘서트 모두 확인)
+ */
+class SeatSectionStatusTest extends SeatRedisTestSupport {
+
+    private static final Long USER_ID = 7L;
+
+    @Autowired
+    private RedisCodecs redisCodecs;
+
+    private final SeatCacheInitCoordinator seatCacheInitCoordinator = mock(SeatCacheInitCoordinator.class);
+
+    private SeatStatusService seatStatusService;
+
+    @BeforeEach
+    void setUp() {
+        seatStatusService = new SeatStatusService(
+                redissonClient,
+                mock(SeatStatusEventPublisher.class),
+                seatCacheInitCoordinator,
+                seatProperties,
+                concertSeatRepository,
+                seatScriptExecutor,
+                mock(SeatCompactStateStore.class),
+                mock(SeatTransitionEngine.class),
+                mock(SeatCountStore.class),
+                mock(SeatExpiryWheel.class),
+                mock(SeatChangeLog.class),
+                seatLayoutCache,
+                seatCatalog,
+                seatShardRouter,
+                seatHoldJournal,
+                seatWriterRouter,
+                redisCodecs);
+    }
+
+    @Test
+    @DisplayName("샤드로 나뉜 콘서트도 구역 좌석만 정적 배치도 순서대로 읽고, 구역명은 대소문자를 무시한다")
+    void shardedSectionStatus() {
+        useShards(SHARDED_CONCERT_ID, 3);
+        prepare(SHARDED_CONCERT_ID);
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(seatScriptExecutor.reserve(hold(SHARDED_CONCERT_ID, 5L, USER_ID, now, now.plusMinutes(5)),
+                now, Integer.MAX_VALUE, LAST_UPDATE_TTL_MILLIS).outcome()).isEqualTo(SeatScriptResult.Outcome.OK);
+
+        List<SeatStatus> section = seatStatusService.getSectionSeatStatus(SHARDED_CONCERT_ID, " b ");
+
+        assertThat(section).extracting(SeatStatus::getSeatId).containsExactly(6L, 4L, 5L);
+        assertThat(section).extracting(SeatStatus::getStatus).containsExactly(
+                SeatStatus.SeatStatusEnum.AVAILABLE,
+                SeatStatus.SeatStatusEnum.BOOKED,
+                SeatStatus.SeatStatusEnum.RESERVED);
+        assertThat(section.get(2).getUserId()).isEqualTo(USER_ID);
+    }
+
+    @Test
+    @DisplayName("지정한 좌석 필드만 읽고, 캐시에 없는 좌석은 결과에서 빠진다")
+    void readsRequestedFieldsOnly() {
+        prepare(CONCERT_ID);
+
+        Map<Long, SeatStatus> statuses = seatStatusService.getSeatStatuses(CONCERT_ID, List.of(2L, 4L, 99L));
+
+        assertThat(statuses).containsOnlyKeys(2L, 4L);
+        assertThat(statuses.get(4L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.BOOKED);
+        verify(seatCacheInitCoordinator, never()).initializeOnCacheMiss(any());
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 캐시 미스 초기화를 한 번 시도한 뒤 다시 읽는다")
+    void initializesOnCacheMiss() {
+        when(seatCacheInitCoordinator.initializeOnCacheMiss(CONCERT_ID)).thenAnswer(invocation -> {
+            loadSeats(CONCERT_ID, seats());
+            return true;
+        });
+
+        assertThat(seatStatusService.getSeatStatuses(CONCERT_ID, List.of(1L, 2L))).containsOnlyKeys(1L, 2L);
+        verify(seatCacheInitCoordinator).initializeOnCacheMiss(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("정적 배치도에 없는 구역은 SEAT_NOT_FOUND")
+    void unknownSection() {
+        prepare(CONCERT_ID);
+
+        assertThatThrownBy(() -> seatStatusService.getSectionSeatStatus(CONCERT_ID, "VIP"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SEAT_NOT_FOUND);
+    }
+
+    /**
+     * 좌석 캐시 적재 (정적 배치도는 행 순서대로 만들어지므로 구역 B 는 배치도 순서가 좌석 ID 순서와 다름)
+     */
+    private void prepare(Long concertId) {
+        loadSeats(concertId, seats());
+    }
+
+    private static List<ConcertSeatCacheRowDTO> seats() {
+        return List.of(
+                row(1L, "A", SeatGrade.R, false),
+                row(2L, "A", SeatGrade.R, false),
+                row(3L, "A", SeatGrade.R, false),
+                row(6L, "B", SeatGrade.VIP, false),
+                row(4L, "B", SeatGrade.VIP, true),
+                row(5L, "B", SeatGrade.VIP, false));
+    }
+}
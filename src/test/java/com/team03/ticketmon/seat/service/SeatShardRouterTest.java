@@ -0,0 +1,146 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.script.SeatScriptResult;
+import com.team03.ticketmon.seat.script.SeatTransition;
+import com.team03.ticketmon.seat.script.SeatTransitionResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 샤딩 검증
+ * - 샤드 수 고정과 키 라우팅, 샤드에 걸친 선점 개수 제한, 샤드 간 전체 적용/보상이 단일 샤드와 같은 결과를 내는지 확인
+ */
+class SeatShardRouterTest extends SeatRedisTestSupport {
+
+    private static final Long USER_ID = 7L;
+    private static final Long OTHER_USER_ID = 8L;
+    private static final int SHARD_COUNT = 3;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        useShards(SHARDED_CONCERT_ID, SHARD_COUNT);
+        loadSeats(SHARDED_CONCERT_ID, rows(1, 6));
+    }
+
+    @Test
+    @DisplayName("좌석은 seatId mod 샤드 수의 샤드 키로 라우팅되고, 샤딩하지 않은 콘서트는 콘서트 키를 쓴다")
+    void routesKeys() {
+        String prefix = RedisKeyGenerator.SEAT_STATUS_KEY_PREFIX;
+
+        assertThat(seatShardRouter.isSharded(SHARDED_CONCERT_ID)).isTrue();
+        assertThat(seatShardRouter.shardOf(SHARDED_CONCERT_ID, 4L)).isEqualTo(1);
+        assertThat(seatShardRouter.seatKey(prefix, SHARDED_CONCERT_ID, 4L)).isEqualTo(prefix + "{2:1}");
+        assertThat(seatShardRouter.keys(prefix, SHARDED_CONCERT_ID))
+                .containsExactly(prefix + "{2:0}", prefix + "{2:1}", prefix + "{2:2}");
+        assertThat(seatShardRouter.key(prefix, CONCERT_ID, 0)).isEqualTo(RedisKeyGenerator.concertKey(prefix, CONCERT_ID));
+        assertThat(redissonClient.getMap(prefix + "{2:1}").isExists()).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시를 만든 뒤 샤드 수 설정이 바뀌어도 고정된 샤드 수를 유지한다")
+    void keepsPinnedShardCount() {
+        seatProperties.getShard().getCounts().put(SHARDED_CONCERT_ID, 5);
+
+        assertThat(seatShardRouter.shardCount(SHARDED_CONCERT_ID)).isEqualTo(SHARD_COUNT);
+        assertThat(seatShardRouter.pin(SHARDED_CONCERT_ID)).isEqualTo(SHARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("선점 개수 제한은 모든 샤드의 선점을 합쳐 적용한다")
+    void holdLimitAcrossShards() {
+        assertThat(reserve(1L, USER_ID, 2).isSuccess()).isTrue();
+        assertThat(reserve(2L, USER_ID, 2).isSuccess()).isTrue();
+
+        SeatScriptResult exceeded = reserve(3L, USER_ID, 2);
+
+        assertThat(exceeded.outcome()).isEqualTo(SeatScriptResult.Outcome.LIMIT_EXCEEDED);
+        assertThat(exceeded.payload()).isEqualTo("2");
+        assertThat(seatScriptExecutor.findHeldSeatIds(SHARDED_CONCERT_ID, USER_ID)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("샤드에 걸친 전체 적용 전이는 한 샤드라도 거부하면 어느 샤드도 바꾸지 않는다")
+    void atomicTransitionAcrossShards() {
+        reserve(1L, USER_ID, 4);
+
+        SeatTransitionResult result = seatScriptExecutor.transition(SeatTransition.RELEASE, SHARDED_CONCERT_ID,
+                List.of(1L, 2L), USER_ID, true, null, LAST_UPDATE_TTL_MILLIS);
+
+        assertThat(result.applied()).isFalse();
+        assertThat(result.seats()).extracting(SeatTransitionResult.SeatOutcome::code)
+                .containsExactly(SeatTransitionResult.Code.OK, SeatTransitionResult.Code.INVALID_STATE);
+        assertThat(result.changedSeats()).isEmpty();
+        assertThat(seatScriptExecutor.readAll(SHARDED_CONCERT_ID).get(1L).getStatus())
+                .isEqualTo(SeatStatus.SeatStatusEnum.RESERVED);
+    }
+
+    @Test
+    @DisplayName("샤드에 걸친 전체 적용 전이가 모두 통과하면 요청 순서대로 결과를 병합한다")
+    void atomicTransitionAppliedAcrossShards() {
+        reserve(1L, USER_ID, 4);
+        reserve(3L, USER_ID, 4);
+
+        SeatTransitionResult result = seatScriptExecutor.transition(SeatTransition.RELEASE, SHARDED_CONCERT_ID,
+                List.of(3L, 1L), USER_ID, true, null, LAST_UPDATE_TTL_MILLIS);
+
+        assertThat(result.applied()).isTrue();
+        assertThat(result.seats()).extracting(SeatTransitionResult.SeatOutcome::seatId).containsExactly(3L, 1L);
+        assertThat(seatScriptExecutor.findHeldSeatIds(SHARDED_CONCERT_ID, USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다중 선점 중 뒤 샤드가 거부하면 앞 샤드에서 새로 선점한 좌석을 되돌린다")
+    void reserveManyCompensatesEarlierShards() {
+        reserve(4L, OTHER_USER_ID, 4);
+
+        // 샤드 0(좌석 3)을 먼저 선점한 뒤 샤드 1(좌석 4)에서 TAKEN
+        SeatScriptResult result = reserveMany(USER_ID, 4, 3L, 4L);
+
+        assertThat(result.outcome()).isEqualTo(SeatScriptResult.Outcome.TAKEN);
+        assertThat(result.payload()).isEqualTo("4");
+        Map<Long, SeatStatus> seats = seatScriptExecutor.readAll(SHARDED_CONCERT_ID);
+        assertThat(seats.get(3L).getStatus()).isEqualTo(SeatStatus.SeatStatusEnum.AVAILABLE);
+        assertThat(seats.get(4L).getUserId()).isEqualTo(OTHER_USER_ID);
+        assertThat(seatScriptExecutor.findHeldSeatIds(SHARDED_CONCERT_ID, USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다중 선점의 개수 제한도 다른 샤드의 기존 선점을 포함한다")
+    void reserveManyLimitAcrossShards() {
+        reserve(1L, USER_ID, 3);
+
+        SeatScriptResult result = reserveMany(USER_ID, 3, 2L, 3L, 5L);
+
+        assertThat(result.outcome()).isEqualTo(SeatScriptResult.Outcome.LIMIT_EXCEEDED);
+        assertThat(seatScriptExecutor.findHeldSeatIds(SHARDED_CONCERT_ID, USER_ID)).containsExactly(1L);
+        assertThat(reserveMany(USER_ID, 3, 2L, 3L).isSuccess()).isTrue();
+    }
+
+    private SeatScriptResult reserve(Long seatId, Long userId, int maxSeatCount) {
+        return seatScriptExecutor.reserve(hold(SHARDED_CONCERT_ID, seatId, userId, now, now.plusMinutes(5)), now,
+                maxSeatCount, LAST_UPDATE_TTL_MILLIS);
+    }
+
+    private SeatScriptResult reserveMany(Long userId, int maxSeatCount, Long... seatIds) {
+        LocalDateTime expiresAt = now.plusMinutes(5);
+        List<SeatStatus> seats = Arrays.stream(seatIds)
+                .map(seatId -> hold(SHARDED_CONCERT_ID, seatId, userId, now, expiresAt))
+                .toList();
+        return seatScriptExecutor.reserveMany(SHARDED_CONCERT_ID, userId, seats, now, maxSeatCount, expiresAt,
+                LAST_UPDATE_TTL_MILLIS);
+    }
+}
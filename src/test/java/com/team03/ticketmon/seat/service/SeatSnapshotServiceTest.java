@@ -0,0 +1,131 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon._global.exception.BusinessException;
+import com.team03.ticketmon._global.util.RedisKeyGenerator;
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.domain.SeatStatus.SeatStatusEnum;
+import com.team03.ticketmon.seat.script.SeatTransition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 좌석 맵 스냅샷 기록/복원 검증
+ * - 스냅샷 → Redis 유실 → 복원 후 선점(영구 선점 포함)과 정적 좌석 정보가 되살아나고, 예매 완료 여부는 DB 기준을 따르는지 확인
+ */
+@Import({SeatSnapshotService.class, SeatCacheInitCoordinator.class})
+class SeatSnapshotServiceTest extends SeatRedisTestSupport {
+
+    private static final Long USER_ID = 7L;
+
+    @Autowired
+    private SeatSnapshotService seatSnapshotService;
+
+    @TempDir
+    Path snapshotDirectory;
+
+    @BeforeEach
+    void setUp() {
+        seatProperties.getSnapshot().setDirectory(snapshotDirectory.toString());
+
+        List<ConcertSeatCacheRowDTO> seats = new ArrayList<>(rows(1, 5));
+        seats.add(row(6, "B", SeatGrade.VIP, true));
+        loadSeats(CONCERT_ID, seats);
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 복원하면 선점과 영구 선점이 되살아나고, 예매 완료 여부는 DB 기준으로 적재된다")
+    void roundTrip() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusMinutes(5);
+        reserveSeat(CONCERT_ID, 1L, USER_ID, now);
+        reserveSeat(CONCERT_ID, 2L, USER_ID, now);
+        seatScriptExecutor.transition(SeatTransition.LOCK_PERMANENT, CONCERT_ID, List.of(2L), USER_ID, true, null,
+                LAST_UPDATE_TTL_MILLIS);
+
+        Map<String, Object> written = seatSnapshotService.snapshot(CONCERT_ID);
+        assertThat(written).containsEntry("seats", 6);
+        assertThat(seatSnapshotService.listSnapshots(CONCERT_ID)).hasSize(1);
+
+        // Redis 유실 후 스냅샷 이후 좌석 3이 예매 완료된 상태로 복원
+        redissonClient.getKeys().flushdb();
+        given(concertSeatRepository.findBookedConcertSeatIds(CONCERT_ID)).willReturn(List.of(3L, 6L));
+
+        Map<String, Object> restored = seatSnapshotService.restore(CONCERT_ID);
+
+        assertThat(restored)
+                .containsEntry("seatsLoaded", 6)
+                .containsEntry("heldSeats", 2)
+                .containsEntry("bookedMismatches", 1);
+
+        Map<Long, SeatStatus> cached = seatScriptExecutor.readAll(CONCERT_ID);
+        assertThat(cached.get(1L).getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+        assertThat(cached.get(1L).getUserId()).isEqualTo(USER_ID);
+        assertThat(cached.get(1L).getExpiresAt()).isEqualTo(expiresAt.truncatedTo(ChronoUnit.MILLIS));
+        assertThat(cached.get(2L).getStatus()).isEqualTo(SeatStatusEnum.RESERVED);
+        assertThat(cached.get(2L).getExpiresAt()).isNull();
+        assertThat(cached.get(3L).getStatus()).isEqualTo(SeatStatusEnum.BOOKED);
+        assertThat(cached.get(4L).getStatus()).isEqualTo(SeatStatusEnum.AVAILABLE);
+        assertThat(cached.get(6L).getStatus()).isEqualTo(SeatStatusEnum.BOOKED);
+        assertThat(cached.get(6L).getSeatInfo()).isEqualTo("B-1-6");
+        assertThat(seatScriptExecutor.findHeldSeatIds(CONCERT_ID, USER_ID)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("64KB를 넘는 문자열도 길이가 잘리지 않고 그대로 복원된다")
+    void roundTripLongStrings() {
+        String longSection = "B".repeat(70_000);
+        List<ConcertSeatCacheRowDTO> longSeats = new ArrayList<>(rows(1, 2));
+        longSeats.add(row(3, longSection, SeatGrade.VIP, false));
+        loadSeats(CONCERT_ID, longSeats);
+        seatSnapshotService.snapshot(CONCERT_ID);
+        redissonClient.getKeys().flushdb();
+
+        assertThat(seatSnapshotService.restore(CONCERT_ID)).containsEntry("seatsLoaded", 3);
+        assertThat(seatScriptExecutor.readAll(CONCERT_ID).get(3L).getSeatInfo()).isEqualTo(longSection + "-1-3");
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 캐시를 초기화 중(초기화 임대)이면 복원 적재를 겹쳐 실행하지 않고 거부한다")
+    void restoreWaitsForInitLease() throws Exception {
+        seatSnapshotService.snapshot(CONCERT_ID);
+        long initWaitMillis = seatProperties.getCache().getInitWaitMillis();
+        seatProperties.getCache().setInitWaitMillis(100);
+        String leaseKey = RedisKeyGenerator.concertKey(RedisKeyGenerator.SEAT_CACHE_INIT_LOCK_KEY_PREFIX, CONCERT_ID);
+        Thread other = new Thread(() -> redissonClient.getLock(leaseKey).lock());
+        other.start();
+        other.join();
+
+        try {
+            assertThatThrownBy(() -> seatSnapshotService.restore(CONCERT_ID)).isInstanceOf(BusinessException.class);
+        } finally {
+            redissonClient.getLock(leaseKey).forceUnlock();
+            seatProperties.getCache().setInitWaitMillis(initWaitMillis);
+        }
+        assertThat(seatSnapshotService.restore(CONCERT_ID)).containsEntry("seatsLoaded", 6);
+    }
+
+    @Test
+    @DisplayName("좌석 캐시가 없으면 스냅샷을, 스냅샷 파일이 없으면 복원을 거부한다")
+    void rejectWithoutSource() {
+        assertThatThrownBy(() -> seatSnapshotService.snapshot(3L)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> seatSnapshotService.restore(CONCERT_ID)).isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,223 @@
+package com.team03.ticketmon.seat.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.team03.ticketmon.seat.config.SeatProperties;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 공유 좌석 상태 응답 스냅샷 단위 테스트
+ * - 기본 설정은 갱신 간격/최대 유지 시간을 길게 두고, 테스트마다 필요한 값만 0으로 바꿔 시간 경과를 흉내냄
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatStatusSnapshotCache 단위 테스트")
+class SeatStatusSnapshotCacheTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long USER_ID = 5L;
+
+    @Mock
+    private SeatStatusService seatStatusService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .registerModule(new JavaTimeModule());
+
+    private SeatProperties seatProperties;
+    private SeatStatusSnapshotCache snapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        seatProperties = new SeatProperties();
+        seatProperties.getStatusSnapshot().setRefreshIntervalMs(60_000);
+        seatProperties.getStatusSnapshot().setMaxAgeMs(60_000);
+        snapshotCache = new SeatStatusSnapshotCache(seatStatusService, seatProperties, objectMapper);
+    }
+
+    @Test
+    @DisplayName("전체 좌석 상태 스냅샷은 비로그인 기준으로 만들고, 선점 사용자를 중복 없이 오름차순으로 담는다")
+    void buildAllStatus() throws IOException {
+        given(seatStatusService.getAllSeatStatus(CONCERT_ID)).willReturn(seats());
+
+        SeatStatusSnapshotCache.Snapshot snapshot = snapshotCache.getAllStatus(CONCERT_ID);
+
+        assertThat(snapshot.holderIds()).containsExactly(7L, 8L);
+        assertThat(snapshot.isHeldBy(8L)).isTrue();
+        assertThat(snapshot.isHeldBy(9L)).isFalse();
+        assertThat(snapshot.isHeldBy(null)).isFalse();
+
+        JsonNode data = objectMapper.readTree(snapshot.json()).get("data");
+        assertThat(data).hasSize(4);
+        data.forEach(seat -> assertThat(seat.get("isReservedByCurrentUser").asBoolean()).isFalse());
+        assertThat(gunzip(snapshot.gzip())).isEqualTo(snapshot.json());
+    }
+
+    @Test
+    @DisplayName("gzip을 받는 클라이언트에는 압축본을, 아니면 JSON 원본을 응답한다")
+    void toResponse() {
+        given(seatStatusService.getAllSeatStatus(CONCERT_ID)).willReturn(seats());
+        SeatStatusSnapshotCache.Snapshot snapshot = snapshotCache.getAllStatus(CONCERT_ID);
+
+        ResponseEntity<byte[]> gzip = snapshot.toResponse("gzip, deflate");
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getBody()).isSameAs(snapshot.gzip());
+
+        ResponseEntity<byte[]> plain = snapshot.toResponse(null);
+        assertThat(plain.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(plain.getBody()).isSameAs(snapshot.json());
+        assertThat(plain.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    @DisplayName("최소 갱신 간격 안에서는 좌석 변경이 있어도 같은 스냅샷을 공유한다")
+    void shareWithinRefreshInterval() {
+        given(seatStatusService.getAllSeatStatus(CONCERT_ID)).willReturn(seats());
+
+        SeatStatusSnapshotCache.Snapshot first = snapshotCache.getAllStatus(CONCERT_ID);
+        snapshotCache.markChanged(CONCERT_ID, Set.of());
+
+        assertThat(snapshotCache.getAllStatus(CONCERT_ID)).isSameAs(first);
+        verify(seatStatusService, times(1)).getAllSeatStatus(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("갱신 간격이 지나면 좌석 변경이 있었을 때만 다시 만들고, 최대 유지 시간이 지나면 변경이 없어도 다시 만든다")
+    void refreshWhenChangedOrTooOld() {
+        given(seatStatusService.getAllSeatStatus(CONCERT_ID)).willReturn(seats());
+        seatProperties.getStatusSnapshot().setRefreshIntervalMs(0);
+
+        SeatStatusSnapshotCache.Snapshot first = snapshotCache.getAllStatus(CONCERT_ID);
+        assertThat(snapshotCache.getAllStatus(CONCERT_ID)).isSameAs(first);
+
+        snapshotCache.markChanged(CONCERT_ID, Set.of());
+        SeatStatusSnapshotCache.Snapshot changed = snapshotCache.getAllStatus(CONCERT_ID);
+        assertThat(changed).isNotSameAs(first);
+        assertThat(snapshotCache.getAllStatus(CONCERT_ID)).isSameAs(changed);
+
+        seatProperties.getStatusSnapshot().setMaxAgeMs(0);
+        assertThat(snapshotCache.getAllStatus(CONCERT_ID)).isNotSameAs(changed);
+        verify(seatStatusService, times(3)).getAllSeatStatus(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("다시 만들다 실패하면 이전 스냅샷으로 응답하고, 다음 요청에서 다시 시도한다")
+    void keepPreviousOnFailure() {
+        seatProperties.getStatusSnapshot().setRefreshIntervalMs(0);
+        given(seatStatusService.getAllSeatStatus(CONCERT_ID))
+                .willReturn(seats())
+                .willThrow(new IllegalStateException("redis down"))
+                .willReturn(seats());
+
+        SeatStatusSnapshotCache.Snapshot first = snapshotCache.getAllStatus(CONCERT_ID);
+        snapshotCache.markChanged(CONCERT_ID, Set.of());
+
+        assertThat(snapshotCache.getAllStatus(CONCERT_ID)).isSameAs(first);
+        assertThat(snapshotCache.getAllStatus(CONCERT_ID)).isNotSameAs(first);
+        verify(seatStatusService, times(3)).getAllSeatStatus(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("폴링 즉시 응답은 좌석 수 요약을 담고, 첫 조회에 실패하면 실패를 저장하지 않고 예외를 던진다")
+    void pollingSummary() throws IOException {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        given(seatStatusService.getCurrentSeatStatus(CONCERT_ID))
+                .willThrow(new IllegalStateException("redis down"))
+                .willReturn(Map.of("available", 3));
+        given(seatStatusService.getLastUpdateTime(CONCERT_ID)).willReturn(updatedAt);
+
+        assertThatThrownBy(() -> snapshotCache.getPollingSummary(CONCERT_ID, USER_ID))
+                .isInstanceOf(IllegalStateException.class);
+
+        JsonNode summary = objectMapper.readTree(snapshotCache.getPollingSummary(CONCERT_ID, USER_ID).json()).get("data");
+        assertThat(summary.get("hasUpdate").asBoolean()).isTrue();
+        assertThat(summary.get("seatUpdates").get("available").asInt()).isEqualTo(3);
+        assertThat(summary.get("updateTime").asText()).isEqualTo("2025-01-01T12:00:00");
+    }
+
+    @Test
+    @DisplayName("스냅샷을 만든 뒤 좌석을 바꾼 사용자는 다시 만든 스냅샷이 나올 때까지 공유 스냅샷을 받지 않는다")
+    void bypassForRecentWriter() {
+        given(seatStatusService.getAllSeatStatus(CONCERT_ID)).willReturn(seats());
+        given(seatStatusService.getCurrentSeatStatus(CONCERT_ID)).willReturn(Map.of("available", 3));
+        SeatStatusSnapshotCache.Snapshot shared = snapshotCache.getAllStatus(CONCERT_ID);
+        SeatStatusSnapshotCache.Snapshot summary = snapshotCache.getPollingSummary(CONCERT_ID, USER_ID);
+
+        snapshotCache.markChanged(CONCERT_ID, Set.of(USER_ID));
+
+        assertThat(snapshotCache.isSharedFor(CONCERT_ID, USER_ID, shared)).isFalse();
+        assertThat(snapshotCache.isSharedFor(CONCERT_ID, 6L, shared)).isTrue();
+        assertThat(snapshotCache.isSharedFor(CONCERT_ID, 8L, shared)).isFalse(); // 스냅샷 안의 선점 사용자
+        assertThat(snapshotCache.getPollingSummary(CONCERT_ID, USER_ID)).isNotSameAs(summary);
+        assertThat(snapshotCache.getPollingSummary(CONCERT_ID, 6L)).isSameAs(summary);
+
+        seatProperties.getStatusSnapshot().setRefreshIntervalMs(0);
+        assertThat(snapshotCache.isSharedFor(CONCERT_ID, USER_ID, snapshotCache.getAllStatus(CONCERT_ID))).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회가 끊긴 콘서트 스냅샷은 정리되어 다음 조회 때 새로 만든다")
+    void evictIdle() {
+        given(seatStatusService.getAllSeatStatus(CONCERT_ID)).willReturn(seats());
+        SeatStatusSnapshotCache.Snapshot first = snapshotCache.getAllStatus(CONCERT_ID);
+
+        snapshotCache.evictIdle();
+        assertThat(snapshotCache.getAllStatus(CONCERT_ID)).isSameAs(first);
+
+        seatProperties.getStatusSnapshot().setIdleEvictSeconds(-1);
+        snapshotCache.evictIdle();
+        assertThat(snapshotCache.getAllStatus(CONCERT_ID)).isNotSameAs(first);
+    }
+
+    private static Map<Long, SeatStatus> seats() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, SeatStatus> seats = new LinkedHashMap<>();
+        seats.put(1L, seat(1L, SeatStatus.SeatStatusEnum.RESERVED, 8L, now));
+        seats.put(2L, seat(2L, SeatStatus.SeatStatusEnum.RESERVED, 7L, now));
+        seats.put(3L, seat(3L, SeatStatus.SeatStatusEnum.RESERVED, 8L, now));
+        seats.put(4L, seat(4L, SeatStatus.SeatStatusEnum.BOOKED, 9L, null));
+        return seats;
+    }
+
+    private static SeatStatus seat(Long seatId, SeatStatus.SeatStatusEnum status, Long userId, LocalDateTime now) {
+        return SeatStatus.builder()
+                .id(CONCERT_ID + "-" + seatId)
+                .concertId(CONCERT_ID)
+                .seatId(seatId)
+                .status(status)
+                .userId(userId)
+                .reservedAt(now)
+                .expiresAt(now != null ? now.plusMinutes(5) : null)
+                .seatInfo("A-1-" + seatId)
+                .build();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
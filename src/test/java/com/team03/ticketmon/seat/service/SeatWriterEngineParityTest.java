@@ -0,0 +1,206 @@
+package com.team03.ticketmon.seat.service;
+
+import com.team03.ticketmon.concert.domain.enums.SeatGrade;
+import com.team03.ticketmon.concert.dto.ConcertSeatCacheRowDTO;
+import com.team03.ticketmon.seat.SeatRedisTestSupport;
+import com.team03.ticketmon.seat.domain.SeatStatus;
+import com.team03.ticketmon.seat.script.SeatScriptResult;
+import com.team03.ticketmon.seat.script.SeatTransition;
+import com.team03.ticketmon.seat.script.SeatTransitionResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 단일 기록자 엔진과 좌석 스크립트의 결과 일치 검증
+ * - 같은 좌석 구성의 두 콘서트에 같은 명령을 하나는 스크립트(transition.lua / reserve.lua)로, 하나는 엔진으로 실행해
+ *   좌석별 결과 코드와 저장된 상태, 선점 인덱스, 만료 휠이 같은지 비교
+ * - 좌석 구성: 1 본인 선점, 2 본인 만료 선점, 3 다른 사용자 선점, 4 본인 예매 완료, 5 빈 좌석, 6 초기 예매 완료
+ */
+class SeatWriterEngineParityTest extends SeatRedisTestSupport {
+
+    private static final Long SCRIPT_CONCERT_ID = CONCERT_ID;
+    private static final Long ENGINE_CONCERT_ID = SHARDED_CONCERT_ID;
+    private static final Long USER_ID = 7L;
+    private static final Long OTHER_USER_ID = 8L;
+    private static final List<Long> SEAT_IDS = List.of(1L, 2L, 3L, 4L, 5L, 6L, 99L);
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @Autowired
+    private SeatExpiryWheel seatExpiryWheel;
+
+    private SeatWriterEngine engine;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        // 엔진은 시각을 ms 단위로 보관하므로 비교할 시각도 ms 로 맞춤
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        prepare(SCRIPT_CONCERT_ID);
+        prepare(ENGINE_CONCERT_ID);
+
+        engine = new SeatWriterEngine(ENGINE_CONCERT_ID,
+                redissonClient.getLock("lock:seat:engine:test:" + ENGINE_CONCERT_ID), seatScriptExecutor, seatExpiryWheel);
+        assertThat(engine.acquire(TIMEOUT_MILLIS)).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @ParameterizedTest
+    @EnumSource(SeatTransition.class)
+    @DisplayName("부분 적용 전이: 엔진과 스크립트의 좌석별 결과와 저장 상태가 같다")
+    void partialTransitionParity(SeatTransition transition) {
+        LocalDateTime restoreExpiresAt = transition == SeatTransition.RESTORE ? now.plusMinutes(3) : null;
+
+        SeatTransitionResult script = seatScriptExecutor.transition(transition, SCRIPT_CONCERT_ID, SEAT_IDS, USER_ID,
+                false, restoreExpiresAt, LAST_UPDATE_TTL_MILLIS);
+        SeatTransitionResult written = engine.transition(transition, SEAT_IDS, USER_ID, false, restoreExpiresAt,
+                LocalDateTime.now(), LAST_UPDATE_TTL_MILLIS, TIMEOUT_MILLIS);
+
+        assertSameResult(script, written);
+        assertSameState();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SeatTransition.class, names = {"RELEASE", "BOOK", "CANCEL"})
+    @DisplayName("전체 적용 전이: 한 좌석이라도 실패하면 엔진도 스크립트처럼 아무것도 바꾸지 않는다")
+    void atomicTransitionParity(SeatTransition transition) {
+        SeatTransitionResult script = seatScriptExecutor.transition(transition, SCRIPT_CONCERT_ID, SEAT_IDS, USER_ID,
+                true, null, LAST_UPDATE_TTL_MILLIS);
+        SeatTransitionResult written = engine.transition(transition, SEAT_IDS, USER_ID, true, null,
+                LocalDateTime.now(), LAST_UPDATE_TTL_MILLIS, TIMEOUT_MILLIS);
+
+        assertThat(written.applied()).isFalse();
+        assertSameResult(script, written);
+        assertSameState();
+    }
+
+    @Test
+    @DisplayName("소유자 없이 BOOK 하면 엔진도 소유자 검증을 생략한다")
+    void bookWithoutOwnerParity() {
+        SeatTransitionResult script = seatScriptExecutor.transition(SeatTransition.BOOK, SCRIPT_CONCERT_ID, SEAT_IDS,
+                null, false, null, LAST_UPDATE_TTL_MILLIS);
+        SeatTransitionResult written = engine.transition(SeatTransition.BOOK, SEAT_IDS, null, false, null,
+                LocalDateTime.now(), LAST_UPDATE_TTL_MILLIS, TIMEOUT_MILLIS);
+
+        assertSameResult(script, written);
+        assertSameState();
+    }
+
+    @Test
+    @DisplayName("선점: 엔진도 스크립트와 같은 결과 코드를 반환한다")
+    void reserveParity() {
+        LocalDateTime reservedAt = LocalDateTime.now();
+        for (Long seatId : SEAT_IDS) {
+            for (Long userId : List.of(USER_ID, OTHER_USER_ID)) {
+                SeatScriptResult script = seatScriptExecutor.reserve(
+                        hold(SCRIPT_CONCERT_ID, seatId, userId, reservedAt, reservedAt.plusMinutes(5)), reservedAt,
+                        2, LAST_UPDATE_TTL_MILLIS);
+                SeatScriptResult written = engine.reserve(
+                        hold(ENGINE_CONCERT_ID, seatId, userId, reservedAt, reservedAt.plusMinutes(5)), reservedAt,
+                        2, LAST_UPDATE_TTL_MILLIS, TIMEOUT_MILLIS);
+                assertThat(written.outcome()).as("seat %d, user %d", seatId, userId).isEqualTo(script.outcome());
+            }
+        }
+        assertSameState();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 펜싱 토큰을 바꾸면 엔진의 기록은 거부되고 소유권을 내려놓는다")
+    void fencedWriteReleasesOwnership() {
+        seatScriptExecutor.fence(ENGINE_CONCERT_ID, "next-owner");
+
+        assertThatThrownBy(() -> engine.transition(SeatTransition.FORCE_RELEASE, List.of(1L), null, true, null,
+                LocalDateTime.now(), LAST_UPDATE_TTL_MILLIS, TIMEOUT_MILLIS))
+                .isInstanceOf(SeatWriterEngine.OwnershipLostException.class);
+        assertThat(engine.isOwner()).isFalse();
+        assertThat(seatScriptExecutor.readAll(ENGINE_CONCERT_ID).get(1L).getStatus())
+                .isEqualTo(SeatStatus.SeatStatusEnum.RESERVED);
+
+        SeatStatus available = SeatStatus.builder()
+                .id(ENGINE_CONCERT_ID + "-1")
+                .concertId(ENGINE_CONCERT_ID)
+                .seatId(1L)
+                .status(SeatStatus.SeatStatusEnum.AVAILABLE)
+                .seatInfo("A-1-1")
+                .build();
+        assertThat(seatScriptExecutor.put(available, LAST_UPDATE_TTL_MILLIS, "stale-owner").outcome())
+                .isEqualTo(SeatScriptResult.Outcome.FENCED);
+        assertThat(seatScriptExecutor.put(available, LAST_UPDATE_TTL_MILLIS, "next-owner").outcome())
+                .isEqualTo(SeatScriptResult.Outcome.OK);
+    }
+
+    @Test
+    @DisplayName("응답 시간 초과는 결과를 알 수 없음으로 알리고, 이미 시작한 선점은 그대로 기록된다")
+    void timeoutReportsUnknownOutcome() {
+        LocalDateTime reservedAt = LocalDateTime.now();
+
+        assertThatThrownBy(() -> engine.reserve(hold(ENGINE_CONCERT_ID, 5L, USER_ID, reservedAt, reservedAt.plusMinutes(5)),
+                reservedAt, Integer.MAX_VALUE, LAST_UPDATE_TTL_MILLIS, 0))
+                .isInstanceOf(SeatWriterEngine.OutcomeUnknownException.class);
+
+        // 기록 스레드는 명령을 끝까지 처리하므로, 호출 측은 선점 인덱스를 다시 읽어 결과를 확인해야 함
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(seatScriptExecutor.findHeldSeatIds(ENGINE_CONCERT_ID, USER_ID)).contains(5L));
+    }
+
+    private void prepare(Long concertId) {
+        List<ConcertSeatCacheRowDTO> seats = new ArrayList<>(rows(1, 5));
+        seats.add(row(6, "A", SeatGrade.R, true));
+        loadSeats(concertId, seats);
+
+        LocalDateTime past = now.minusMinutes(10);
+        reserveSeat(concertId, 1L, USER_ID, now);
+        reserveSeat(concertId, 2L, USER_ID, past);
+        reserveSeat(concertId, 3L, OTHER_USER_ID, now);
+        reserveSeat(concertId, 4L, USER_ID, now);
+        assertThat(seatScriptExecutor.transition(SeatTransition.BOOK, concertId, List.of(4L), USER_ID, true, null,
+                LAST_UPDATE_TTL_MILLIS).applied()).isTrue();
+    }
+
+    private static void assertSameResult(SeatTransitionResult script, SeatTransitionResult written) {
+        assertThat(written.applied()).isEqualTo(script.applied());
+        assertThat(written.seats()).extracting(SeatTransitionResult.SeatOutcome::code)
+                .containsExactlyElementsOf(script.seats().stream().map(SeatTransitionResult.SeatOutcome::code).toList());
+        assertThat(written.changedSeats()).extracting(SeatStatus::getSeatId)
+                .containsExactlyElementsOf(script.changedSeats().stream().map(SeatStatus::getSeatId).toList());
+    }
+
+    private void assertSameState() {
+        Map<Long, SeatStatus> script = seatScriptExecutor.readAll(SCRIPT_CONCERT_ID);
+        Map<Long, SeatStatus> written = seatScriptExecutor.readAll(ENGINE_CONCERT_ID);
+
+        assertThat(written).containsOnlyKeys(script.keySet());
+        script.forEach((seatId, expected) -> {
+            SeatStatus actual = written.get(seatId);
+            assertThat(actual.getStatus()).as("seat %d status", seatId).isEqualTo(expected.getStatus());
+            assertThat(actual.getUserId()).as("seat %d userId", seatId).isEqualTo(expected.getUserId());
+            assertThat(actual.getReservedAt()).as("seat %d reservedAt", seatId).isEqualTo(expected.getReservedAt());
+            assertThat(actual.getExpiresAt()).as("seat %d expiresAt", seatId).isEqualTo(expected.getExpiresAt());
+        });
+        for (Long userId : List.of(USER_ID, OTHER_USER_ID)) {
+            assertThat(seatScriptExecutor.findHeldSeatIds(ENGINE_CONCERT_ID, userId))
+                    .containsExactlyInAnyOrderElementsOf(seatScriptExecutor.findHeldSeatIds(SCRIPT_CONCERT_ID, userId));
+        }
+        assertThat(seatExpiryWheel.findDueSeatIds(ENGINE_CONCERT_ID, Long.MAX_VALUE, 10))
+                .containsExactlyInAnyOrderElementsOf(seatExpiryWheel.findDueSeatIds(SCRIPT_CONCERT_ID, Long.MAX_VALUE, 10));
+    }
+}